@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.bench;
+
+import com.tbg.wms.core.barcode.BarcodeZplBuilder;
+import com.tbg.wms.core.model.Lpn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds one standalone GS1-128 SSCC barcode label per LPN of a shipment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BarcodeZplBuilderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int lpnCount;
+
+    private List<BarcodeZplBuilder.BarcodeRequest> requests;
+
+    @Setup
+    public void setUp() {
+        requests = new ArrayList<>(lpnCount);
+        for (Lpn lpn : SyntheticShipments.shipment("8000141715", lpnCount).getLpns()) {
+            requests.add(new BarcodeZplBuilder.BarcodeRequest(
+                    "00" + lpn.getSscc(),
+                    BarcodeZplBuilder.Symbology.GS1_128,
+                    BarcodeZplBuilder.Orientation.PORTRAIT,
+                    812,
+                    1218,
+                    60,
+                    80,
+                    3,
+                    3,
+                    200,
+                    true,
+                    1
+            ));
+        }
+    }
+
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        for (BarcodeZplBuilder.BarcodeRequest request : requests) {
+            blackhole.consume(BarcodeZplBuilder.build(request));
+        }
+    }
+}
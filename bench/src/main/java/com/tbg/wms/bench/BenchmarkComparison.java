@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, typically from two commits.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]}.
+ * Every benchmark/parameter combination present in both files is printed with its relative
+ * change; the process exits with status 1 when any of them got slower than the threshold
+ * (10% by default).
+ */
+public final class BenchmarkComparison {
+
+    static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        List<Row> rows = compare(read(Paths.get(args[0])), read(Paths.get(args[1])));
+        int regressions = print(rows, threshold, System.out);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Pairs benchmarks by name and parameters.
+     *
+     * @param baseline JMH result array from the earlier run
+     * @param current  JMH result array from the later run
+     * @return one row per benchmark found in both runs, in current-run order
+     */
+    static List<Row> compare(JsonNode baseline, JsonNode current) {
+        Map<String, JsonNode> baselineByKey = new LinkedHashMap<>();
+        for (JsonNode result : baseline) {
+            baselineByKey.put(key(result), result);
+        }
+        List<Row> rows = new ArrayList<>();
+        for (JsonNode result : current) {
+            JsonNode before = baselineByKey.get(key(result));
+            if (before == null) {
+                continue;
+            }
+            rows.add(new Row(
+                    key(result),
+                    result.path("primaryMetric").path("scoreUnit").asText(),
+                    before.path("primaryMetric").path("score").asDouble(),
+                    result.path("primaryMetric").path("score").asDouble(),
+                    !"thrpt".equals(result.path("mode").asText())
+            ));
+        }
+        return rows;
+    }
+
+    /**
+     * Prints a comparison table.
+     *
+     * @param rows             compared benchmarks
+     * @param thresholdPercent slowdown that counts as a regression
+     * @param out              target stream
+     * @return number of regressions
+     */
+    static int print(List<Row> rows, double thresholdPercent, PrintStream out) {
+        int regressions = 0;
+        for (Row row : rows) {
+            boolean regressed = row.isRegression(thresholdPercent);
+            if (regressed) {
+                regressions++;
+            }
+            out.printf(Locale.ROOT, "%-90s %14.3f %14.3f %-8s %+8.1f%%%s%n",
+                    row.key(), row.baseline(), row.current(), row.unit(), row.changePercent(),
+                    regressed ? "  REGRESSED" : "");
+        }
+        out.printf(Locale.ROOT, "%d benchmarks compared, %d regressed by more than %.1f%%%n",
+                rows.size(), regressions, thresholdPercent);
+        return regressions;
+    }
+
+    private static JsonNode read(Path file) throws IOException {
+        JsonNode root = MAPPER.readTree(file.toFile());
+        if (root == null || !root.isArray()) {
+            throw new IOException("Not a JMH JSON result file: " + file);
+        }
+        return root;
+    }
+
+    private static String key(JsonNode result) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        String name = result.path("benchmark").asText();
+        return params.isEmpty() ? name : name + params;
+    }
+
+    /**
+     * One benchmark measured in both runs.
+     *
+     * @param key           benchmark name with its parameters
+     * @param unit          score unit
+     * @param baseline      earlier score
+     * @param current       later score
+     * @param lowerIsBetter true for time-per-operation modes
+     */
+    record Row(String key, String unit, double baseline, double current, boolean lowerIsBetter) {
+
+        /**
+         * Returns the relative change of the score; positive means the number went up.
+         */
+        double changePercent() {
+            return baseline == 0.0 ? 0.0 : (current - baseline) * 100.0 / baseline;
+        }
+
+        boolean isRegression(double thresholdPercent) {
+            double slowdown = lowerIsBetter ? changePercent() : -changePercent();
+            return slowdown > thresholdPercent;
+        }
+    }
+}
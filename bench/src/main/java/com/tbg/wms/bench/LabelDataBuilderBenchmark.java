@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.bench;
+
+import com.tbg.wms.core.label.LabelDataBuilder;
+import com.tbg.wms.core.label.LabelType;
+import com.tbg.wms.core.model.Lpn;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.sku.SkuMappingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the label field map for every LPN of a shipment.
+ * <p>
+ * The builder's SKU lookups are warm after the first iteration, which matches a preview that
+ * is rendered and then printed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelDataBuilderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int lpnCount;
+
+    private Path workDir;
+    private LabelDataBuilder builder;
+    private Shipment shipment;
+
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("wms-bench-label-data");
+        SkuMappingService skuMapping = new SkuMappingService(SyntheticShipments.writeSkuMatrix(workDir));
+        builder = new LabelDataBuilder(skuMapping, SyntheticShipments.siteConfig(), Map.of());
+        shipment = SyntheticShipments.shipment("8000141715", lpnCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticShipments.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        List<Lpn> lpns = shipment.getLpns();
+        for (int i = 0; i < lpns.size(); i++) {
+            blackhole.consume(builder.build(shipment, lpns.get(i), i, LabelType.WALMART_CANADA_GRID));
+        }
+    }
+}
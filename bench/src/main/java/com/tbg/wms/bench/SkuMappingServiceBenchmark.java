@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.bench;
+
+import com.tbg.wms.core.sku.SkuMappingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves one PRTNUM per LPN of a shipment against the synthetic SKU matrix.
+ * <p>
+ * {@code findByPrtnum} memoizes every answer, so {@link #findByPrtnumCold} gets a freshly
+ * loaded service for each invocation and measures the resolution path itself, while
+ * {@link #findByPrtnumWarm} measures the memoized steady state seen by repeat previews.
+ * Each invocation covers a whole shipment, which keeps per-invocation setup cost well below
+ * the measured work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkuMappingServiceBenchmark {
+
+    /**
+     * Shape of the looked-up PRTNUMs.
+     */
+    public enum Lookup {
+        /**
+         * PRTNUM is the TBG SKU itself.
+         */
+        HIT,
+        /**
+         * TBG SKU is embedded in a 17-digit Oracle PRTNUM.
+         */
+        EMBEDDED,
+        /**
+         * No digit segment matches any SKU.
+         */
+        MISS
+    }
+
+    @Param({"10", "1000", "10000"})
+    public int lpnCount;
+
+    @Param({"HIT", "EMBEDDED", "MISS"})
+    public Lookup lookup;
+
+    private Path workDir;
+    private Path skuMatrix;
+    private List<String> prtnums;
+    private SkuMappingService warmService;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        workDir = Files.createTempDirectory("wms-bench-sku");
+        skuMatrix = SyntheticShipments.writeSkuMatrix(workDir);
+        prtnums = new ArrayList<>(lpnCount);
+        for (int i = 0; i < lpnCount; i++) {
+            prtnums.add(switch (lookup) {
+                case HIT -> SyntheticShipments.tbgSku(i);
+                case EMBEDDED -> SyntheticShipments.prtnum(i);
+                case MISS -> SyntheticShipments.missPrtnum(i);
+            });
+        }
+        warmService = new SkuMappingService(skuMatrix);
+        for (String prtnum : prtnums) {
+            warmService.findByPrtnum(prtnum);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticShipments.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public void findByPrtnumCold(ColdService cold, Blackhole blackhole) {
+        for (String prtnum : prtnums) {
+            blackhole.consume(cold.service.findByPrtnum(prtnum));
+        }
+    }
+
+    @Benchmark
+    public void findByPrtnumWarm(Blackhole blackhole) {
+        for (String prtnum : prtnums) {
+            blackhole.consume(warmService.findByPrtnum(prtnum));
+        }
+    }
+
+    /**
+     * Service reloaded before every invocation so no PRTNUM answer is memoized yet.
+     */
+    @State(Scope.Thread)
+    public static class ColdService {
+        private SkuMappingService service;
+
+        @Setup(Level.Invocation)
+        public void load(SkuMappingServiceBenchmark shared) throws Exception {
+            service = new SkuMappingService(shared.skuMatrix);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.bench;
+
+import com.tbg.wms.core.label.SiteConfig;
+import com.tbg.wms.core.model.LineItem;
+import com.tbg.wms.core.model.Lpn;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.template.LabelTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic shipments, SKU matrices, and PRTNUMs shared by the benchmarks.
+ * <p>
+ * Every value is derived from its index, so two runs on different commits measure the same
+ * input. TBG SKUs are six digits starting with {@code 2}; PRTNUMs wrap them the way Oracle
+ * does ({@code 10048500205641000}), and miss PRTNUMs never contain a {@code 2}, so they cannot
+ * match any SKU and always take the slowest lookup path.
+ */
+public final class SyntheticShipments {
+
+    /**
+     * Distinct SKUs in the synthetic matrix; large shipments reuse them like real loads do.
+     */
+    public static final int SKU_CATALOG_SIZE = 2_000;
+
+    private static final String TEMPLATE_PATH = "config/templates/walmart-canada-label.zpl";
+    private static final LocalDate MFG_DATE = LocalDate.of(2026, 3, 2);
+    private static final LocalDateTime SHIP_DATE = LocalDateTime.of(2026, 3, 9, 6, 0);
+
+    private SyntheticShipments() {
+    }
+
+    /**
+     * Builds a shipment with one single-line LPN per index.
+     *
+     * @param shipmentId shipment identifier
+     * @param lpnCount   number of LPNs
+     * @return shipment with {@code lpnCount} LPNs
+     */
+    public static Shipment shipment(String shipmentId, int lpnCount) {
+        return shipment(shipmentId, 0, lpnCount);
+    }
+
+    /**
+     * Builds a shipment whose LPN indexes start at {@code firstLpn}, so several shipments of one
+     * carrier move do not share LPN IDs.
+     *
+     * @param shipmentId shipment identifier
+     * @param firstLpn   index of the first LPN
+     * @param lpnCount   number of LPNs
+     * @return shipment with {@code lpnCount} LPNs
+     */
+    public static Shipment shipment(String shipmentId, int firstLpn, int lpnCount) {
+        List<Lpn> lpns = new ArrayList<>(lpnCount);
+        for (int i = firstLpn; i < firstLpn + lpnCount; i++) {
+            lpns.add(lpn(shipmentId, i));
+        }
+        return new Shipment(
+                shipmentId,
+                shipmentId + "-EXT",
+                "ORD-" + shipmentId,
+                "3002",
+                "WAL-MART CANADA 7087R",
+                "6800 Maritz Dr",
+                null,
+                null,
+                "Mississauga",
+                "ON",
+                "L5W 1W2",
+                "CAN",
+                null,
+                "CARRIER",
+                "TL",
+                null,
+                null,
+                null,
+                "4500012345",
+                "7087R",
+                null,
+                null,
+                1,
+                "CMID-BENCH",
+                "PRO-BENCH",
+                "BOL-BENCH",
+                "R",
+                SHIP_DATE,
+                SHIP_DATE,
+                SHIP_DATE,
+                lpns
+        );
+    }
+
+    /**
+     * Returns the TBG SKU carried by the LPN at {@code index}.
+     *
+     * @param index LPN or catalog index
+     * @return six-digit TBG SKU
+     */
+    public static String tbgSku(int index) {
+        return String.valueOf(200_000 + Math.floorMod(index, SKU_CATALOG_SIZE));
+    }
+
+    /**
+     * Returns a full Oracle PRTNUM that embeds the SKU at {@code index}.
+     *
+     * @param index LPN or catalog index
+     * @return 17-digit PRTNUM
+     */
+    public static String prtnum(int index) {
+        return "10048500" + tbgSku(index) + "000";
+    }
+
+    /**
+     * Returns a 17-digit PRTNUM that matches no SKU in the synthetic matrix.
+     *
+     * @param index LPN index
+     * @return PRTNUM without the digit {@code 2}
+     */
+    public static String missPrtnum(int index) {
+        String digits = String.format("%09d", index).replace('2', '9');
+        return "10048" + digits + "000";
+    }
+
+    /**
+     * Writes a SKU matrix covering {@link #SKU_CATALOG_SIZE} SKUs.
+     *
+     * @param directory target directory
+     * @return written CSV file
+     * @throws IOException when the file cannot be written
+     */
+    public static Path writeSkuMatrix(Path directory) throws IOException {
+        StringBuilder csv = new StringBuilder(SKU_CATALOG_SIZE * 64);
+        csv.append("TBG SKU#,WALMART ITEM#,Item Description,check based on TBG SKU\n");
+        for (int i = 0; i < SKU_CATALOG_SIZE; i++) {
+            String description = "1.36L PL 1/6 NJ BENCH " + i;
+            csv.append(tbgSku(i)).append(',')
+                    .append(30_000_000 + i).append(',')
+                    .append(description).append(',')
+                    .append(description).append('\n');
+        }
+        Path file = directory.resolve("walmart-sku-matrix.csv");
+        Files.writeString(file, csv);
+        return file;
+    }
+
+    /**
+     * Loads the production Walmart Canada template from the repository's config directory.
+     *
+     * @return label template
+     * @throws IOException when the template cannot be read
+     */
+    public static LabelTemplate template() throws IOException {
+        Path path = Paths.get(TEMPLATE_PATH);
+        if (!Files.exists(path)) {
+            throw new IllegalStateException("ZPL template not found: " + path.toAbsolutePath()
+                    + " (run benchmarks from the repository root)");
+        }
+        return new LabelTemplate("WALMART_CANADA", Files.readString(path));
+    }
+
+    /**
+     * Returns the ship-from block printed on every label.
+     *
+     * @return site configuration
+     */
+    public static SiteConfig siteConfig() {
+        return new SiteConfig(
+                "TROPICANA PRODUCTS, INC.",
+                "20405 E Business Parkway Rd",
+                "Walnut, CA 91789"
+        );
+    }
+
+    /**
+     * Deletes a benchmark scratch directory.
+     *
+     * @param directory directory to delete, may be null
+     */
+    public static void deleteRecursively(Path directory) {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Lpn lpn(String shipmentId, int index) {
+        LineItem item = new LineItem(
+                "1", "0", prtnum(index), "1.36L TROPICANA", null,
+                "8000141715", null, "1000000001",
+                60, 6, "CS", 275.0,
+                null, null, null
+        );
+        return new Lpn(
+                String.format("LPN%08d", index),
+                shipmentId,
+                String.format("0010048500%08d", index),
+                10,
+                60,
+                275.0,
+                "DOCK" + (index % 4 + 1),
+                "LOT" + index,
+                "CLOT" + index,
+                MFG_DATE,
+                MFG_DATE.plusMonths(6),
+                List.of(item)
+        );
+    }
+}
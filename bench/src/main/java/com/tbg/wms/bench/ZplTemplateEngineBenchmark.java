@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.bench;
+
+import com.tbg.wms.core.label.LabelDataBuilder;
+import com.tbg.wms.core.label.LabelType;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.sku.SkuMappingService;
+import com.tbg.wms.core.template.LabelTemplate;
+import com.tbg.wms.core.template.ZplTemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders every label of a shipment from prebuilt field maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZplTemplateEngineBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int lpnCount;
+
+    private Path workDir;
+    private LabelTemplate template;
+    private List<Map<String, String>> labelFields;
+
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("wms-bench-zpl");
+        template = SyntheticShipments.template();
+        SkuMappingService skuMapping = new SkuMappingService(SyntheticShipments.writeSkuMatrix(workDir));
+        LabelDataBuilder builder = new LabelDataBuilder(skuMapping, SyntheticShipments.siteConfig(), Map.of());
+        Shipment shipment = SyntheticShipments.shipment("8000141715", lpnCount);
+        labelFields = new ArrayList<>(lpnCount);
+        for (int i = 0; i < lpnCount; i++) {
+            labelFields.add(builder.build(shipment, shipment.getLpns().get(i), i, LabelType.WALMART_CANADA_GRID));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticShipments.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        for (Map<String, String> fields : labelFields) {
+            blackhole.consume(ZplTemplateEngine.generate(template, fields));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.bench.SyntheticShipments;
+import com.tbg.wms.core.label.SiteConfig;
+import com.tbg.wms.core.model.PalletPlanningService;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.model.ShipmentSkuFootprint;
+import com.tbg.wms.core.print.PrinterRoutingService;
+import com.tbg.wms.core.sku.SkuMappingService;
+import com.tbg.wms.core.template.LabelTemplate;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds prepared carrier moves from synthetic shipments without a database.
+ * <p>
+ * Prepared jobs are normally created only by the workflow services, so their private
+ * constructors are reached reflectively, as the GUI test fixtures do.
+ */
+final class BenchCarrierMoves {
+
+    /**
+     * Stops per synthetic carrier move; LPNs are split evenly across one shipment per stop.
+     */
+    static final int STOPS = 4;
+
+    private BenchCarrierMoves() {
+    }
+
+    static AdvancedPrintWorkflowService.PreparedCarrierMoveJob carrierMove(
+            int lpnCount,
+            SkuMappingService skuMapping,
+            LabelTemplate template
+    ) {
+        List<AdvancedPrintWorkflowService.PreparedStopGroup> stops = new ArrayList<>(STOPS);
+        int firstLpn = 0;
+        for (int stop = 0; stop < STOPS; stop++) {
+            int stopLpns = lpnCount / STOPS + (stop < lpnCount % STOPS ? 1 : 0);
+            if (stopLpns == 0) {
+                continue;
+            }
+            Shipment shipment = SyntheticShipments.shipment("80001417" + (10 + stop), firstLpn, stopLpns);
+            firstLpn += stopLpns;
+            stops.add(stopGroup(stop + 1, stops.size() + 1, List.of(shipmentJob(shipment, skuMapping, template))));
+        }
+        return newInstance(
+                AdvancedPrintWorkflowService.PreparedCarrierMoveJob.class,
+                new Class<?>[]{String.class, List.class},
+                "CMID-BENCH",
+                stops
+        );
+    }
+
+    static LabelWorkflowService.PreparedJob shipmentJob(
+            Shipment shipment,
+            SkuMappingService skuMapping,
+            LabelTemplate template
+    ) {
+        int labels = shipment.getLpns().size();
+        PalletPlanningService.PlanResult plan = newInstance(
+                PalletPlanningService.PlanResult.class,
+                new Class<?>[]{int.class, int.class, int.class, int.class, List.class},
+                labels, labels, 0, labels, List.of()
+        );
+        return newInstance(
+                LabelWorkflowService.PreparedJob.class,
+                new Class<?>[]{
+                        String.class, Shipment.class, PrinterRoutingService.class, SiteConfig.class,
+                        SkuMappingService.class, LabelTemplate.class, Map.class,
+                        PalletPlanningService.PlanResult.class, List.class, List.class, boolean.class, String.class
+                },
+                shipment.getShipmentId(),
+                shipment,
+                null,
+                SyntheticShipments.siteConfig(),
+                skuMapping,
+                template,
+                Map.<String, ShipmentSkuFootprint>of(),
+                plan,
+                shipment.getLpns(),
+                List.of(),
+                false,
+                "DOCK1"
+        );
+    }
+
+    private static AdvancedPrintWorkflowService.PreparedStopGroup stopGroup(
+            int stopSequence,
+            int stopPosition,
+            List<LabelWorkflowService.PreparedJob> jobs
+    ) {
+        return newInstance(
+                AdvancedPrintWorkflowService.PreparedStopGroup.class,
+                new Class<?>[]{Integer.class, int.class, List.class},
+                stopSequence, stopPosition, jobs
+        );
+    }
+
+    private static <T> T newInstance(Class<T> type, Class<?>[] parameterTypes, Object... args) {
+        try {
+            Constructor<T> ctor = type.getDeclaredConstructor(parameterTypes);
+            ctor.setAccessible(true);
+            return ctor.newInstance(args);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to create " + type.getSimpleName() + " benchmark fixture.", ex);
+        }
+    }
+}
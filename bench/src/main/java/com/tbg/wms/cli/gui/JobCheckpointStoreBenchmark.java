@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.bench.SyntheticShipments;
+import com.tbg.wms.core.sku.SkuMappingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists a carrier-move checkpoint the way a print run does.
+ * <p>
+ * {@link #writeManifest} is the up-front manifest write; {@link #journalEveryTask} records one
+ * finished task per label, including any compaction the store triggers along the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobCheckpointStoreBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int lpnCount;
+
+    private Path workDir;
+    private JobCheckpointStore store;
+    private AdvancedPrintWorkflowService.JobCheckpoint checkpoint;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        workDir = Files.createTempDirectory("wms-bench-checkpoint");
+        SkuMappingService skuMapping = new SkuMappingService(SyntheticShipments.writeSkuMatrix(workDir));
+        AdvancedPrintWorkflowService.PreparedCarrierMoveJob job =
+                BenchCarrierMoves.carrierMove(lpnCount, skuMapping, SyntheticShipments.template());
+        store = new JobCheckpointStore(workDir.resolve("gui-jobs"));
+        checkpoint = new AdvancedPrintWorkflowService.JobCheckpoint();
+        checkpoint.id = "bench-" + lpnCount;
+        checkpoint.mode = AdvancedPrintWorkflowService.InputMode.CARRIER_MOVE;
+        checkpoint.sourceId = job.getCarrierMoveId();
+        checkpoint.outputDirectory = workDir.resolve("out").toString();
+        checkpoint.printerId = "DOCK1";
+        checkpoint.printerEndpoint = "10.0.0.1:9100";
+        checkpoint.createdAt = LocalDateTime.of(2026, 3, 9, 6, 0);
+        checkpoint.updatedAt = checkpoint.createdAt;
+        checkpoint.tasks = PrintTaskPlanner.buildCarrierMoveTasks(
+                job,
+                PrintTaskPlanner.collectAllCarrierMoveLabelSelections(job),
+                true
+        );
+        // A print run renders every task before the manifest holding it is written again.
+        for (AdvancedPrintWorkflowService.PrintTask task : checkpoint.tasks) {
+            task.render();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticShipments.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public void writeManifest() throws Exception {
+        store.write(checkpoint);
+    }
+
+    @Benchmark
+    public int journalEveryTask(FreshJournal journal) throws Exception {
+        for (int i = 0; i < checkpoint.tasks.size(); i++) {
+            checkpoint.markTaskDone(i);
+            store.appendTaskDone(checkpoint, i);
+        }
+        return checkpoint.nextTaskIndex;
+    }
+
+    /**
+     * Rewinds the checkpoint and truncates its journal before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class FreshJournal {
+
+        @Setup(Level.Invocation)
+        public void reset(JobCheckpointStoreBenchmark shared) throws Exception {
+            shared.checkpoint.completed = false;
+            shared.checkpoint.nextTaskIndex = 0;
+            shared.checkpoint.tasksDoneAhead.clear();
+            shared.store.write(shared.checkpoint);
+        }
+    }
+}
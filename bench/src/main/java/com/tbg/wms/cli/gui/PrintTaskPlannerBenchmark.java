@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.bench.SyntheticShipments;
+import com.tbg.wms.core.label.LabelSelectionRef;
+import com.tbg.wms.core.sku.SkuMappingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plans every print task of a carrier move with all labels and info tags selected.
+ * <p>
+ * {@link #buildCarrierMoveTasks} is planning alone, the work done between pressing Print and the
+ * first label being rendered; {@link #renderCarrierMoveTasks} adds label data, ZPL rendering,
+ * and info-tag generation for every task, the total a job spends rendering as it dispatches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrintTaskPlannerBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int lpnCount;
+
+    private Path workDir;
+    private AdvancedPrintWorkflowService.PreparedCarrierMoveJob job;
+    private List<LabelSelectionRef> selections;
+
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("wms-bench-planner");
+        SkuMappingService skuMapping = new SkuMappingService(SyntheticShipments.writeSkuMatrix(workDir));
+        job = BenchCarrierMoves.carrierMove(lpnCount, skuMapping, SyntheticShipments.template());
+        selections = PrintTaskPlanner.collectAllCarrierMoveLabelSelections(job);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticShipments.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public List<AdvancedPrintWorkflowService.PrintTask> buildCarrierMoveTasks() {
+        return PrintTaskPlanner.buildCarrierMoveTasks(job, selections, true);
+    }
+
+    @Benchmark
+    public List<AdvancedPrintWorkflowService.PrintTask> renderCarrierMoveTasks() {
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = PrintTaskPlanner.buildCarrierMoveTasks(job, selections, true);
+        for (AdvancedPrintWorkflowService.PrintTask task : tasks) {
+            task.render();
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.bench.SyntheticShipments;
+import com.tbg.wms.core.AppConfig;
+import com.tbg.wms.core.label.LabelSelectionRef;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.print.NetworkPrintService;
+import com.tbg.wms.core.print.PrintSendStatistics;
+import com.tbg.wms.core.print.PrinterConfig;
+import com.tbg.wms.core.print.ZebraPrinterSimulator;
+import com.tbg.wms.core.sku.SkuMappingService;
+import com.tbg.wms.core.template.LabelTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the real GUI print paths end to end against local Zebra simulators and reports
+ * throughput.
+ * <p>
+ * Two scenarios run back to back through the process-wide print service (so pooling and flow
+ * control follow the usual {@code PRINTER_*} settings): a routed carrier move through
+ * {@link PrintCheckpointSupport}, with its tasks split over every simulated printer and
+ * journaled as they finish, and a single shipment through {@link LabelWorkflowPrintSupport} to
+ * one printer. Each report gives labels per second sent and printed, time to the first label,
+ * peak heap, p50/p99 send latency, retries, reconnects, and labels the printers never received
+ * or received twice. The routed scenario's clock starts before its tasks are planned, so label
+ * rendering counts against time to first label.
+ * <p>
+ * Run it with {@code mvn -B -P print-harness -pl bench -am verify -DskipTests}, adding
+ * {@code -Dharness.args="--labels 5000 --printers 4 --print-time-ms 20 --disconnect-every 500"}
+ * to shape the load.
+ */
+public final class PrintThroughputHarness {
+
+    private static final long DRAIN_TIMEOUT_MS = 10 * 60 * 1000L;
+    private static final long SETTLE_NANOS = 1_000_000_000L;
+
+    private PrintThroughputHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        Path workDir = Files.createTempDirectory("wms-print-harness");
+        try {
+            List<Report> reports = run(options, SyntheticShipments.template(), workDir);
+            System.out.println(options.describe());
+            for (Report report : reports) {
+                report.print(System.out);
+            }
+        } finally {
+            SyntheticShipments.deleteRecursively(workDir);
+        }
+    }
+
+    /**
+     * Runs both scenarios against freshly started simulators.
+     *
+     * @param options  load and fault settings
+     * @param template label template to render
+     * @param workDir  scratch directory for config, checkpoints, and label files
+     * @return one report per scenario
+     */
+    static List<Report> run(Options options, LabelTemplate template, Path workDir) throws Exception {
+        List<ZebraPrinterSimulator> simulators = new ArrayList<>(options.printers());
+        try {
+            for (int i = 0; i < options.printers(); i++) {
+                simulators.add(options.configure(new ZebraPrinterSimulator()));
+            }
+            LabelWorkflowService workflow = new LabelWorkflowService(new AppConfig(), writePrinterConfig(workDir, simulators));
+            SkuMappingService skuMapping = new SkuMappingService(SyntheticShipments.writeSkuMatrix(workDir));
+
+            List<Report> reports = new ArrayList<>(2);
+            reports.add(runCheckpointScenario(options, workflow, skuMapping, template, workDir, simulators));
+            reports.add(runWorkflowScenario(options, workflow, skuMapping, template, workDir, simulators.get(0)));
+            return reports;
+        } finally {
+            for (ZebraPrinterSimulator simulator : simulators) {
+                simulator.close();
+            }
+        }
+    }
+
+    private static Report runCheckpointScenario(
+            Options options,
+            LabelWorkflowService workflow,
+            SkuMappingService skuMapping,
+            LabelTemplate template,
+            Path workDir,
+            List<ZebraPrinterSimulator> simulators
+    ) throws Exception {
+        AdvancedPrintWorkflowService.PreparedCarrierMoveJob job =
+                BenchCarrierMoves.carrierMove(options.labels(), skuMapping, template);
+        List<LabelSelectionRef> selections = PrintTaskPlanner.collectAllCarrierMoveLabelSelections(job);
+        int taskCount = PrintTaskPlanner.buildCarrierMoveTasks(job, selections, true).size();
+        PrintCheckpointSupport support = new PrintCheckpointSupport(
+                new JobCheckpointStore(workDir.resolve("checkpoints")), workflow, Integer.MAX_VALUE, 100);
+
+        return measure("PrintCheckpointSupport (routed carrier move)", workflow.printService(), simulators,
+                taskCount, () -> {
+                    List<AdvancedPrintWorkflowService.PrintTask> tasks =
+                            PrintTaskPlanner.buildCarrierMoveTasks(job, selections, true);
+                    // Contiguous blocks keep each stop's labels and tags together, as staging routing does.
+                    int blockSize = (tasks.size() + simulators.size() - 1) / simulators.size();
+                    for (int i = 0; i < tasks.size(); i++) {
+                        tasks.get(i).printerId = printerId(i / blockSize);
+                    }
+                    AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                            "harness", AdvancedPrintWorkflowService.InputMode.CARRIER_MOVE, job.getCarrierMoveId(),
+                            workDir.resolve("out-checkpoint"), false, null, tasks);
+                    support.executeTasks(checkpoint, null, 0);
+                });
+    }
+
+    private static Report runWorkflowScenario(
+            Options options,
+            LabelWorkflowService workflow,
+            SkuMappingService skuMapping,
+            LabelTemplate template,
+            Path workDir,
+            ZebraPrinterSimulator simulator
+    ) throws Exception {
+        Shipment shipment = SyntheticShipments.shipment("8000141799", options.labels());
+        LabelWorkflowService.PreparedJob job = BenchCarrierMoves.shipmentJob(shipment, skuMapping, template);
+        PrinterConfig printer = workflow.resolvePrinter(printerId(0));
+        LabelWorkflowPrintSupport support = new LabelWorkflowPrintSupport(workflow.printService());
+
+        return measure("LabelWorkflowPrintSupport (single shipment)", workflow.printService(), List.of(simulator),
+                options.labels(), () -> support.print(job, printer, workDir.resolve("out-workflow"), false));
+    }
+
+    private static Report measure(
+            String scenario,
+            NetworkPrintService printService,
+            List<ZebraPrinterSimulator> simulators,
+            int labels,
+            PrinterDispatchSupport.Step work
+    ) throws Exception {
+        int receivedBefore = 0;
+        int printedBefore = 0;
+        int droppedBefore = 0;
+        for (ZebraPrinterSimulator simulator : simulators) {
+            receivedBefore += simulator.getReceivedCount();
+            printedBefore += simulator.getPrintedCount();
+            droppedBefore += simulator.getDisconnects();
+        }
+        printService.statistics().reset();
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        long startedNanos = System.nanoTime();
+        AtomicLong firstLabelNanos = new AtomicLong(-1);
+        Thread firstLabelWatch = watchFirstLabel(simulators, receivedBefore, startedNanos, firstLabelNanos);
+        try {
+            work.run();
+        } catch (Exception ex) {
+            firstLabelWatch.interrupt();
+            throw ex;
+        }
+        long sentNanos = System.nanoTime() - startedNanos;
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeapBytes += pool.getPeakUsage().getUsed();
+        }
+        PrintSendStatistics.Snapshot sends = printService.statistics().snapshot();
+
+        int received = awaitReceived(simulators, receivedBefore + labels) - receivedBefore;
+        firstLabelWatch.interrupt();
+        firstLabelWatch.join();
+        for (ZebraPrinterSimulator simulator : simulators) {
+            simulator.awaitPrinted(simulator.getReceivedCount(), DRAIN_TIMEOUT_MS);
+        }
+        long printedNanos = System.nanoTime() - startedNanos;
+        int printed = -printedBefore;
+        int maxQueued = 0;
+        int dropped = -droppedBefore;
+        for (ZebraPrinterSimulator simulator : simulators) {
+            printed += simulator.getPrintedCount();
+            maxQueued = Math.max(maxQueued, simulator.getMaxQueuedLabels());
+            dropped += simulator.getDisconnects();
+        }
+        return new Report(scenario, labels, simulators.size(), firstLabelNanos.get(), sentNanos, printedNanos,
+                peakHeapBytes, sends, received, printed, maxQueued, dropped);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * Polls the simulators until the first label of the run arrives and records when it did.
+     */
+    private static Thread watchFirstLabel(
+            List<ZebraPrinterSimulator> simulators,
+            int receivedBefore,
+            long startedNanos,
+            AtomicLong firstLabelNanos
+    ) {
+        Thread watch = new Thread(() -> {
+            while (true) {
+                int received = 0;
+                for (ZebraPrinterSimulator simulator : simulators) {
+                    received += simulator.getReceivedCount();
+                }
+                if (received > receivedBefore) {
+                    firstLabelNanos.set(System.nanoTime() - startedNanos);
+                    return;
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }, "harness-first-label");
+        watch.setDaemon(true);
+        watch.start();
+        return watch;
+    }
+
+    /**
+     * Waits for bytes still in flight to reach the simulators: until the expected count arrives
+     * or the count stops moving.
+     */
+    private static int awaitReceived(List<ZebraPrinterSimulator> simulators, int expected) throws InterruptedException {
+        int received = -1;
+        long stableSinceNanos = System.nanoTime();
+        while (true) {
+            int current = 0;
+            for (ZebraPrinterSimulator simulator : simulators) {
+                current += simulator.getReceivedCount();
+            }
+            if (current != received) {
+                received = current;
+                stableSinceNanos = System.nanoTime();
+            }
+            if (received >= expected || System.nanoTime() - stableSinceNanos > SETTLE_NANOS) {
+                return received;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static Path writePrinterConfig(Path workDir, List<ZebraPrinterSimulator> simulators) throws IOException {
+        Path configDir = workDir.resolve("config");
+        Path siteDir = Files.createDirectories(configDir.resolve("TBG3002"));
+        List<String> printersYaml = new ArrayList<>(List.of("version: 1", "siteCode: TBG3002", "printers:"));
+        for (int i = 0; i < simulators.size(); i++) {
+            printersYaml.add("  - id: " + printerId(i));
+            printersYaml.add("    name: Simulated dock " + (i + 1));
+            printersYaml.add("    ip: 127.0.0.1");
+            printersYaml.add("    port: " + simulators.get(i).getPort());
+        }
+        printersYaml.add("");
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n", printersYaml), StandardCharsets.UTF_8);
+        Files.writeString(siteDir.resolve("printer-routing.yaml"), String.join("\n",
+                "version: 1",
+                "siteCode: TBG3002",
+                "defaultPrinterId: " + printerId(0),
+                "rules: []",
+                ""
+        ), StandardCharsets.UTF_8);
+        return configDir;
+    }
+
+    private static String printerId(int index) {
+        return "DOCK" + (index + 1);
+    }
+
+    /**
+     * Load shape and injected printer conditions.
+     *
+     * @param labels          pallet labels per scenario
+     * @param printers        simulated printers for the routed scenario
+     * @param printTimeMs     print engine time per label
+     * @param latencyMs       delay before each status answer and accepted connection
+     * @param bandwidthBps    receive bandwidth cap per printer, 0 for none
+     * @param disconnectEvery drop a printer connection after every N labels, 0 for never
+     * @param bufferCapacity  printer receive buffer size in formats, 0 for unlimited
+     */
+    record Options(int labels, int printers, long printTimeMs, long latencyMs, long bandwidthBps,
+                   int disconnectEvery, int bufferCapacity) {
+
+        Options {
+            if (labels < 1 || printers < 1) {
+                throw new IllegalArgumentException("labels and printers must be at least 1.");
+            }
+        }
+
+        static Options parse(String[] args) {
+            int labels = 1000;
+            int printers = 3;
+            long printTimeMs = 0;
+            long latencyMs = 0;
+            long bandwidthBps = 0;
+            int disconnectEvery = 0;
+            int bufferCapacity = 0;
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--labels" -> labels = Integer.parseInt(value);
+                    case "--printers" -> printers = Integer.parseInt(value);
+                    case "--print-time-ms" -> printTimeMs = Long.parseLong(value);
+                    case "--latency-ms" -> latencyMs = Long.parseLong(value);
+                    case "--bandwidth-bps" -> bandwidthBps = Long.parseLong(value);
+                    case "--disconnect-every" -> disconnectEvery = Integer.parseInt(value);
+                    case "--buffer-capacity" -> bufferCapacity = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + name);
+                }
+            }
+            return new Options(labels, printers, printTimeMs, latencyMs, bandwidthBps, disconnectEvery, bufferCapacity);
+        }
+
+        ZebraPrinterSimulator configure(ZebraPrinterSimulator simulator) {
+            simulator.setPrintTimeMs(printTimeMs)
+                    .setLatencyMs(latencyMs)
+                    .setBandwidthBytesPerSecond(bandwidthBps)
+                    .setDisconnectEveryLabels(disconnectEvery);
+            if (bufferCapacity > 0) {
+                simulator.setBufferCapacity(bufferCapacity);
+            }
+            return simulator;
+        }
+
+        String describe() {
+            return String.format(Locale.ROOT,
+                    "%d labels, %d printers, print time %d ms, latency %d ms, bandwidth %s, disconnect every %s, buffer %s",
+                    labels, printers, printTimeMs, latencyMs,
+                    bandwidthBps == 0 ? "unlimited" : bandwidthBps + " B/s",
+                    disconnectEvery == 0 ? "never" : disconnectEvery + " labels",
+                    bufferCapacity == 0 ? "unlimited" : bufferCapacity + " formats");
+        }
+    }
+
+    /**
+     * Outcome of one scenario.
+     *
+     * @param scenario        print path exercised
+     * @param tasks           labels and tags handed to the print path
+     * @param printers        printers fed
+     * @param firstLabelNanos time until a printer received the first label, or -1 if none did
+     * @param sentNanos       time until the print path returned
+     * @param printedNanos    time until every received label was printed
+     * @param peakHeapBytes   peak heap in use while the print path ran
+     * @param sends           print service statistics for the run
+     * @param received        formats the simulators received
+     * @param printed         formats the simulators printed
+     * @param maxQueued       most labels any printer held at once
+     * @param dropped         connections the simulators dropped on purpose
+     */
+    record Report(String scenario, int tasks, int printers, long firstLabelNanos, long sentNanos, long printedNanos,
+                  long peakHeapBytes, PrintSendStatistics.Snapshot sends, int received, int printed, int maxQueued,
+                  int dropped) {
+
+        double sentPerSecond() {
+            return tasks * 1_000_000_000.0 / Math.max(1L, sentNanos);
+        }
+
+        double printedPerSecond() {
+            return printed * 1_000_000_000.0 / Math.max(1L, printedNanos);
+        }
+
+        int lost() {
+            return Math.max(0, tasks - received);
+        }
+
+        int duplicated() {
+            return Math.max(0, received - tasks);
+        }
+
+        void print(PrintStream out) {
+            out.printf(Locale.ROOT, "%n%s: %d tasks on %d printer(s)%n", scenario, tasks, printers);
+            out.printf(Locale.ROOT, "  sent     %10.1f labels/s  (%.2f s)%n", sentPerSecond(), sentNanos / 1e9);
+            out.printf(Locale.ROOT, "  printed  %10.1f labels/s  (%.2f s)%n", printedPerSecond(), printedNanos / 1e9);
+            out.printf(Locale.ROOT, "  first label after %.1f ms, peak heap %.1f MiB%n",
+                    firstLabelNanos / 1e6, peakHeapBytes / (1024.0 * 1024.0));
+            out.printf(Locale.ROOT, "  send latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    sends.p50Millis(), sends.p99Millis(), sends.maxMillis());
+            out.printf(Locale.ROOT, "  retries %d, reconnects %d, failed sends %d, dropped connections %d%n",
+                    sends.retries(), sends.reconnects(), sends.failures(), dropped);
+            out.printf(Locale.ROOT, "  lost labels %d, duplicated labels %d, max queued on a printer %d%n",
+                    lost(), duplicated(), maxQueued);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui.analyzers;
+
+import com.tbg.wms.cli.gui.analyzers.openloads.OpenLoadsAnalyzerDefinition;
+import com.tbg.wms.cli.gui.analyzers.openloads.OpenLoadsRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes a 5,000-row Open Loads table and repaints what the refresh invalidated.
+ * <p>
+ * Each invocation swaps between two snapshots that differ in {@code changedRows} rows.
+ * {@link #fullReset} is the table without row keys, which repaints the whole visible area after
+ * every refresh; {@link #keyedDiff} uses the analyzer's row key, so the visible area is only
+ * repainted where changed rows overlap it. Changed rows are spread evenly over the table, the
+ * worst case for the merged repaint region. Painting goes to an off-screen image clipped to the
+ * region the table would have marked dirty.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyzerTableModelBenchmark {
+
+    private static final int ROW_COUNT = 5_000;
+    private static final int VISIBLE_ROWS = 40;
+
+    @Param({"0", "5", "50", "500"})
+    public int changedRows;
+
+    private List<List<OpenLoadsRow>> snapshots;
+    private int next;
+    private Table reset;
+    private Table keyed;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("java.awt.headless", "true");
+        List<OpenLoadsRow> base = rows(0);
+        List<OpenLoadsRow> changed = new ArrayList<>(base);
+        for (int i = 0; i < changedRows; i++) {
+            int index = (int) ((long) i * ROW_COUNT / changedRows);
+            changed.set(index, row(index, 1));
+        }
+        snapshots = List.of(base, List.copyOf(changed));
+        OpenLoadsAnalyzerDefinition definition = new OpenLoadsAnalyzerDefinition();
+        reset = new Table(new AnalyzerTableModel<>(definition.columns()), definition.rowStyler());
+        keyed = new Table(new AnalyzerTableModel<>(definition.columns(), definition.rowKey()), definition.rowStyler());
+        image = new BufferedImage(reset.visible.width, reset.visible.height, BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+        reset.model.setRows(base);
+        keyed.model.setRows(base);
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public Rectangle fullReset() {
+        return refresh(reset);
+    }
+
+    @Benchmark
+    public Rectangle keyedDiff() {
+        return refresh(keyed);
+    }
+
+    private Rectangle refresh(Table table) {
+        next ^= 1;
+        table.dirty = null;
+        table.model.setRows(snapshots.get(next));
+        Rectangle dirty = table.dirty == null ? null : table.dirty.intersection(table.visible);
+        if (dirty != null && !dirty.isEmpty()) {
+            Graphics2D clipped = (Graphics2D) graphics.create();
+            try {
+                clipped.translate(-table.visible.x, -table.visible.y);
+                clipped.clip(dirty);
+                table.table.paint(clipped);
+            } finally {
+                clipped.dispose();
+            }
+        }
+        return dirty;
+    }
+
+    private static List<OpenLoadsRow> rows(int revision) {
+        List<OpenLoadsRow> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(row(i, revision));
+        }
+        return List.copyOf(rows);
+    }
+
+    private static OpenLoadsRow row(int index, int revision) {
+        int picks = 20 + index % 40;
+        int done = Math.min(picks, index % 25 + revision);
+        return new OpenLoadsRow(
+                "3002", "CM" + index / 4, "ORD" + index, "SID" + index, index % 2 == 0 ? "D" : "L",
+                "CARR", "TR" + index / 4, "Y" + index % 60, "STG",
+                LocalDateTime.of(2026, 10, 17, 6, 0).plusMinutes(index), "DEST", "CUSTOMER " + index % 12,
+                "Carrier", picks, done, picks - done, "PF", "N", "53", "", index % 3, index % 4 + 1, "N"
+        );
+    }
+
+    /**
+     * Table sized to every row with a fixed visible window, tracking the region each refresh
+     * invalidates inside that window.
+     */
+    private static final class Table {
+        private final AnalyzerTableModel<OpenLoadsRow> model;
+        private final JTable table;
+        private final Rectangle visible;
+        private Rectangle dirty;
+
+        private Table(AnalyzerTableModel<OpenLoadsRow> model, AnalyzerRowStyler<OpenLoadsRow> styler) {
+            this.model = model;
+            this.table = new JTable(model);
+            table.setDefaultRenderer(Object.class, new AnalyzerTableCellRenderer<>(model, styler));
+            model.setRows(rows(0));
+            table.setSize(1_400, table.getRowHeight() * ROW_COUNT);
+            table.doLayout();
+            int top = table.getRowHeight() * (ROW_COUNT / 2);
+            this.visible = new Rectangle(0, top, table.getWidth(), table.getRowHeight() * VISIBLE_ROWS);
+            model.addTableModelListener(this::invalidate);
+        }
+
+        private void invalidate(TableModelEvent event) {
+            Rectangle region;
+            if (event.getLastRow() == Integer.MAX_VALUE || event.getType() != TableModelEvent.UPDATE) {
+                // Structural changes and resets move every row below them.
+                int first = event.getLastRow() == Integer.MAX_VALUE ? 0 : event.getFirstRow();
+                Rectangle top = table.getCellRect(first, 0, true);
+                region = new Rectangle(0, top.y, table.getWidth(), Integer.MAX_VALUE - top.y);
+            } else {
+                region = table.getCellRect(event.getFirstRow(), 0, true)
+                        .union(table.getCellRect(event.getLastRow(), table.getColumnCount() - 1, true));
+            }
+            // Like the repaint manager: regions are merged first and clipped to what is visible later.
+            dirty = dirty == null ? region : dirty.union(region);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tbg.wms.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BenchmarkComparisonTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void compare_shouldPairByBenchmarkAndParamsAndFlagSlowdowns() throws Exception {
+        JsonNode baseline = MAPPER.readTree("""
+                [
+                  {"benchmark": "a.Zpl.generate", "mode": "avgt", "params": {"lpnCount": "10"},
+                   "primaryMetric": {"score": 100.0, "scoreUnit": "us/op"}},
+                  {"benchmark": "a.Zpl.generate", "mode": "avgt", "params": {"lpnCount": "1000"},
+                   "primaryMetric": {"score": 1000.0, "scoreUnit": "us/op"}},
+                  {"benchmark": "a.Sku.find", "mode": "thrpt",
+                   "primaryMetric": {"score": 50.0, "scoreUnit": "ops/us"}},
+                  {"benchmark": "a.Removed.run", "mode": "avgt",
+                   "primaryMetric": {"score": 1.0, "scoreUnit": "us/op"}}
+                ]
+                """);
+        JsonNode current = MAPPER.readTree("""
+                [
+                  {"benchmark": "a.Zpl.generate", "mode": "avgt", "params": {"lpnCount": "1000"},
+                   "primaryMetric": {"score": 1250.0, "scoreUnit": "us/op"}},
+                  {"benchmark": "a.Zpl.generate", "mode": "avgt", "params": {"lpnCount": "10"},
+                   "primaryMetric": {"score": 80.0, "scoreUnit": "us/op"}},
+                  {"benchmark": "a.Sku.find", "mode": "thrpt",
+                   "primaryMetric": {"score": 40.0, "scoreUnit": "ops/us"}},
+                  {"benchmark": "a.Added.run", "mode": "avgt",
+                   "primaryMetric": {"score": 1.0, "scoreUnit": "us/op"}}
+                ]
+                """);
+
+        List<BenchmarkComparison.Row> rows = BenchmarkComparison.compare(baseline, current);
+
+        assertEquals(3, rows.size());
+        assertEquals("a.Zpl.generate{lpnCount=1000}", rows.get(0).key());
+        assertEquals(25.0, rows.get(0).changePercent(), 1e-9);
+        assertTrue(rows.get(0).isRegression(10.0));
+        assertEquals(-20.0, rows.get(1).changePercent(), 1e-9);
+        assertFalse(rows.get(1).isRegression(10.0));
+        assertEquals("a.Sku.find", rows.get(2).key());
+        assertTrue(rows.get(2).isRegression(10.0), "lower throughput is a slowdown");
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int regressions = BenchmarkComparison.print(rows, 10.0, new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        String report = buffer.toString(StandardCharsets.UTF_8);
+
+        assertEquals(2, regressions);
+        assertTrue(report.contains("+25.0%  REGRESSED"));
+        assertTrue(report.contains("3 benchmarks compared, 2 regressed by more than 10.0%"));
+    }
+}
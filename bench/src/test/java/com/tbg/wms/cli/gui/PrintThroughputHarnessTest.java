@@ -0,0 +1,43 @@
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.template.LabelTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrintThroughputHarnessTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void run_shouldDeliverEveryTaskThroughBothPrintPaths() throws Exception {
+        PrintThroughputHarness.Options options = PrintThroughputHarness.Options.parse(
+                new String[]{"--labels", "24", "--printers", "2", "--print-time-ms", "1"});
+        LabelTemplate template = new LabelTemplate("WALMART_CANADA", "^XA^FO20,20^FD{palletSeq} OF {palletTotal}^FS^XZ\n");
+
+        List<PrintThroughputHarness.Report> reports = PrintThroughputHarness.run(options, template, tempDir);
+
+        assertEquals(2, reports.size());
+        PrintThroughputHarness.Report routed = reports.get(0);
+        assertTrue(routed.tasks() > 24, "carrier move adds stop and final info tags");
+        assertEquals(2, routed.printers());
+        assertEquals(routed.tasks(), routed.received());
+        assertEquals(routed.tasks(), routed.printed());
+        assertEquals(routed.tasks(), routed.sends().sends());
+        assertEquals(0, routed.sends().failures());
+        assertTrue(routed.firstLabelNanos() > 0);
+        assertTrue(routed.peakHeapBytes() > 0);
+        PrintThroughputHarness.Report single = reports.get(1);
+        assertEquals(24, single.tasks());
+        assertEquals(24, single.received());
+        assertEquals(0, single.lost());
+        assertTrue(single.sentPerSecond() > 0);
+        assertTrue(single.sends().p99Millis() >= single.sends().p50Millis());
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.cli.commands;
+
+import com.tbg.wms.core.print.ZebraPrinterSimulator;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs local Zebra printer simulators so printing can be load- and fault-tested without
+ * hardware on the dock.
+ * <p>
+ * Point a printer inventory entry at the simulator's address and port, then print as usual.
+ */
+@Command(
+        name = "printer-sim",
+        description = "Run local Zebra printer simulators (RAW 9100, ~HS/~HI) for print load and fault testing"
+)
+public final class PrinterSimulatorCommand implements Callable<Integer> {
+
+    @Option(
+            names = {"-p", "--port"},
+            split = ",",
+            defaultValue = "9100",
+            description = "Ports to listen on, one simulated printer per port (comma-separated; 0 picks a free port)."
+    )
+    private List<Integer> ports;
+
+    @Option(
+            names = {"--bind"},
+            defaultValue = "127.0.0.1",
+            description = "Address to listen on (default: loopback only)."
+    )
+    private String bindAddress;
+
+    @Option(
+            names = {"--print-time-ms"},
+            defaultValue = "0",
+            description = "Time the print engine spends on each label."
+    )
+    private long printTimeMs;
+
+    @Option(
+            names = {"--latency-ms"},
+            defaultValue = "0",
+            description = "Delay before each ~HS/~HI answer and each accepted connection."
+    )
+    private long latencyMs;
+
+    @Option(
+            names = {"--bandwidth-bps"},
+            defaultValue = "0",
+            description = "Receive bandwidth cap in bytes per second (0 = unlimited)."
+    )
+    private long bandwidthBytesPerSecond;
+
+    @Option(
+            names = {"--disconnect-every"},
+            defaultValue = "0",
+            description = "Drop the connection after every N labels (0 = never)."
+    )
+    private int disconnectEveryLabels;
+
+    @Option(
+            names = {"--buffer-capacity"},
+            defaultValue = "0",
+            description = "Formats the receive buffer holds before it reports buffer full and stops reading (0 = unlimited)."
+    )
+    private int bufferCapacity;
+
+    @Option(
+            names = {"--no-host-status"},
+            description = "Ignore ~HS and ~HI, like a plain TCP stand-in."
+    )
+    private boolean noHostStatus;
+
+    @Option(
+            names = {"--duration-seconds"},
+            defaultValue = "0",
+            description = "Stop after this many seconds (0 = run until interrupted)."
+    )
+    private long durationSeconds;
+
+    @Option(
+            names = {"--report-seconds"},
+            defaultValue = "10",
+            description = "Seconds between progress lines."
+    )
+    private long reportSeconds;
+
+    /**
+     * Starts one simulator per port and reports their counters until the run ends.
+     *
+     * @return {@code 0} on a clean stop, {@code 2} for invalid options, {@code 6} if a port cannot be bound
+     */
+    @Override
+    public Integer call() throws Exception {
+        if (ports.isEmpty() || reportSeconds <= 0 || durationSeconds < 0) {
+            System.err.println("Error: at least one port and a positive --report-seconds are required.");
+            return 2;
+        }
+        List<ZebraPrinterSimulator> simulators = new ArrayList<>(ports.size());
+        try {
+            InetAddress address = InetAddress.getByName(bindAddress);
+            for (int port : ports) {
+                ZebraPrinterSimulator simulator = configure(new ZebraPrinterSimulator(address, port));
+                simulators.add(simulator);
+                System.out.println("Simulating Zebra printer on " + bindAddress + ":" + simulator.getPort());
+            }
+            run(simulators);
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Error: cannot start printer simulator: " + e.getMessage());
+            return 6;
+        } finally {
+            for (ZebraPrinterSimulator simulator : simulators) {
+                simulator.close();
+            }
+        }
+    }
+
+    private ZebraPrinterSimulator configure(ZebraPrinterSimulator simulator) {
+        simulator.setPrintTimeMs(printTimeMs)
+                .setLatencyMs(latencyMs)
+                .setBandwidthBytesPerSecond(bandwidthBytesPerSecond)
+                .setDisconnectEveryLabels(disconnectEveryLabels)
+                .setAnswersHostStatus(!noHostStatus);
+        if (bufferCapacity > 0) {
+            simulator.setBufferCapacity(bufferCapacity);
+        }
+        return simulator;
+    }
+
+    private void run(List<ZebraPrinterSimulator> simulators) throws InterruptedException {
+        long deadline = durationSeconds == 0
+                ? Long.MAX_VALUE
+                : System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        while (true) {
+            long remainingMs = deadline == Long.MAX_VALUE
+                    ? Long.MAX_VALUE
+                    : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                break;
+            }
+            Thread.sleep(Math.min(remainingMs, TimeUnit.SECONDS.toMillis(reportSeconds)));
+            for (ZebraPrinterSimulator simulator : simulators) {
+                System.out.println(describe(simulator));
+            }
+        }
+    }
+
+    static String describe(ZebraPrinterSimulator simulator) {
+        return String.format("  port %d: %d received, %d printed, max %d queued, %d ~HS, %d connection(s), %d dropped",
+                simulator.getPort(),
+                simulator.getReceivedCount(),
+                simulator.getPrintedCount(),
+                simulator.getMaxQueuedLabels(),
+                simulator.getHostStatusQueries(),
+                simulator.getConnections(),
+                simulator.getDisconnects());
+    }
+}
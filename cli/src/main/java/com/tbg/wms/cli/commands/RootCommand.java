@@ -47,6 +47,7 @@ import java.util.concurrent.Callable;
                 RailPrintCommand.class,
                 GuiCommand.class,
                 BarcodeCommand.class,
+                PrinterSimulatorCommand.class,
                 VersionCommand.class
         }
 )
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ */
+
+package com.tbg.wms.cli.commands;
+
+import com.tbg.wms.core.print.ZebraPrinterSimulator;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PrinterSimulatorCommandTest {
+
+    @Test
+    void runsForTheRequestedDurationOnAFreePort() {
+        CommandLine cli = new CommandLine(new PrinterSimulatorCommand());
+
+        int exitCode = cli.execute("--port", "0", "--duration-seconds", "1", "--report-seconds", "1");
+
+        assertEquals(0, exitCode);
+    }
+
+    @Test
+    void rejectsNonPositiveReportInterval() {
+        CommandLine cli = new CommandLine(new PrinterSimulatorCommand());
+
+        assertEquals(2, cli.execute("--port", "0", "--report-seconds", "0"));
+    }
+
+    @Test
+    void describeReportsSimulatorCounters() throws Exception {
+        try (ZebraPrinterSimulator simulator = new ZebraPrinterSimulator()) {
+            try (Socket socket = new Socket("127.0.0.1", simulator.getPort())) {
+                OutputStream out = socket.getOutputStream();
+                out.write("^XA^FDONE^FS^XZ".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            }
+            assertTrue(simulator.awaitPrinted(1, 5_000));
+
+            String line = PrinterSimulatorCommand.describe(simulator);
+
+            assertTrue(line.contains("1 received, 1 printed"), line);
+        }
+    }
+}
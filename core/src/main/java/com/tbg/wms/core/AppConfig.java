@@ -10,6 +10,7 @@ package com.tbg.wms.core;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -257,6 +258,15 @@ public final class AppConfig {
         return valueSupport.parseInt("DB_POOL_MAX_SIZE", "5");
     }
 
+    /**
+     * Returns the number of database connections to open ahead of use and keep idle.
+     *
+     * @return the minimum idle count from {@code DB_POOL_MIN_IDLE} (default: {@code 2})
+     */
+    public int dbPoolMinIdle() {
+        return valueSupport.parseInt("DB_POOL_MIN_IDLE", "2");
+    }
+
     /**
      * Returns the connection timeout in milliseconds.
      *
@@ -275,6 +285,58 @@ public final class AppConfig {
         return valueSupport.parseLong("DB_POOL_VALIDATION_TIMEOUT_MS", "2000");
     }
 
+    /**
+     * Returns how many chunks of a carrier move's shipments are loaded from the database at once.
+     *
+     * <p>Each chunk holds one pooled connection while it loads; the GUI keeps this below
+     * {@link #dbPoolMaxSize()} so other work still gets a connection.</p>
+     *
+     * @return the chunk count from {@code DB_PREPARE_CONCURRENCY} (default: {@code 3})
+     */
+    public int dbPrepareConcurrency() {
+        return valueSupport.parseInt("DB_PREPARE_CONCURRENCY", "3");
+    }
+
+    /**
+     * Returns how long one Daily Operations dashboard section may load before it is shown as
+     * timed out.
+     *
+     * @return the timeout from {@code ANALYZER_SECTION_TIMEOUT_SEC} (default: {@code 90} seconds)
+     */
+    public int analyzerSectionTimeoutSeconds() {
+        return valueSupport.parseInt("ANALYZER_SECTION_TIMEOUT_SEC", "90");
+    }
+
+    /**
+     * Returns how long one analyzer query may run before the driver cancels it.
+     *
+     * <p><strong>Key lookup order:</strong></p>
+     * <ol>
+     *   <li>Analyzer-scoped: {@code ANALYZER_<ID>_QUERY_TIMEOUT_SEC}
+     *       (e.g., {@code ANALYZER_OPEN_LOADS_QUERY_TIMEOUT_SEC})</li>
+     *   <li>Fallback: {@code ANALYZER_QUERY_TIMEOUT_SEC} (default: {@code 120} seconds)</li>
+     * </ol>
+     *
+     * @param analyzerId analyzer ID (e.g., {@code open-loads}); dashes become underscores
+     * @return the timeout in seconds; {@code 0} disables it
+     */
+    public int analyzerQueryTimeoutSeconds(String analyzerId) {
+        int fallback = valueSupport.parseInt("ANALYZER_QUERY_TIMEOUT_SEC", "120");
+        String scopedKey = "ANALYZER_" + analyzerId.toUpperCase(Locale.ROOT).replace('-', '_') + "_QUERY_TIMEOUT_SEC";
+        return valueSupport.parseInt(scopedKey, Integer.toString(fallback));
+    }
+
+    /**
+     * Returns how long an analyzer query result is reused by other loads before the database is
+     * queried again. Loads that start while the query is still running always share it.
+     *
+     * @return the TTL from {@code ANALYZER_RESULT_CACHE_TTL_SEC} (default: {@code 30} seconds);
+     * {@code 0} disables reuse of finished results
+     */
+    public int analyzerResultCacheTtlSeconds() {
+        return valueSupport.parseInt("ANALYZER_RESULT_CACHE_TTL_SEC", "30");
+    }
+
     /**
      * Returns the path to the printer routing configuration file (YAML).
      *
@@ -342,6 +404,105 @@ public final class AppConfig {
         return printRuntimeSupport.forcedPrinterIdOrNull();
     }
 
+    /**
+     * Returns whether pallet labels are printed through printer-side stored formats.
+     * <p>When enabled, the label template is downloaded once per printer as a {@code ^DF} format
+     * and each label sends only its {@code ^FN} field data.</p>
+     *
+     * @return the flag from {@code PRINTER_STORED_FORMATS} (default: {@code false})
+     */
+    public boolean printerStoredFormatsEnabled() {
+        return printRuntimeSupport.printerStoredFormatsEnabled();
+    }
+
+    /**
+     * Returns whether printer sockets are kept open and reused across labels.
+     *
+     * @return the flag from {@code PRINTER_POOL_ENABLED} (default: {@code true})
+     */
+    public boolean printerPoolEnabled() {
+        return printRuntimeSupport.printerPoolEnabled();
+    }
+
+    /**
+     * Returns how long an unused printer connection stays open before it is closed.
+     * <p>Keep this short: many Zebra printers accept only one 9100 connection at a time, so an
+     * idle socket held by one workstation blocks every other workstation.</p>
+     *
+     * @return the timeout from {@code PRINTER_POOL_IDLE_TIMEOUT_MS} (default: {@code 10000} ms)
+     */
+    public long printerPoolIdleTimeoutMs() {
+        return printRuntimeSupport.printerPoolIdleTimeoutMs();
+    }
+
+    /**
+     * Returns the maximum age of a pooled printer connection, after which it is reopened.
+     *
+     * @return the lifetime from {@code PRINTER_POOL_MAX_LIFETIME_MS} (default: {@code 300000} ms)
+     */
+    public long printerPoolMaxLifetimeMs() {
+        return printRuntimeSupport.printerPoolMaxLifetimeMs();
+    }
+
+    /**
+     * Returns whether label sends wait on each printer's {@code ~HS} host status.
+     * <p>When enabled, a paused, paper-out, or head-open printer holds its queue instead of
+     * absorbing labels it cannot print. Printers that do not answer {@code ~HS} print as before.</p>
+     *
+     * @return the flag from {@code PRINTER_FLOW_CONTROL_ENABLED} (default: {@code true})
+     */
+    public boolean printerFlowControlEnabled() {
+        return printRuntimeSupport.printerFlowControlEnabled();
+    }
+
+    /**
+     * Returns how many unfinished labels a printer may hold before further sends wait.
+     *
+     * @return the limit from {@code PRINTER_FLOW_CONTROL_MAX_QUEUED_LABELS} (default: {@code 16})
+     */
+    public int printerFlowControlMaxQueuedLabels() {
+        return printRuntimeSupport.printerFlowControlMaxQueuedLabels();
+    }
+
+    /**
+     * Returns how long a send waits for a printer to recover before the job fails.
+     *
+     * @return the wait from {@code PRINTER_FLOW_CONTROL_MAX_WAIT_MS} (default: {@code 300000} ms)
+     */
+    public long printerFlowControlMaxWaitMs() {
+        return printRuntimeSupport.printerFlowControlMaxWaitMs();
+    }
+
+    /**
+     * Returns whether each printer endpoint gets a circuit breaker.
+     * <p>When enabled, a printer that keeps failing to connect or accept data is marked offline and
+     * later sends to it fail immediately (or go to its {@code failoverPrinterId}) until a trial send
+     * after the open window succeeds.</p>
+     *
+     * @return the flag from {@code PRINTER_CIRCUIT_BREAKER_ENABLED} (default: {@code true})
+     */
+    public boolean printerCircuitBreakerEnabled() {
+        return printRuntimeSupport.printerCircuitBreakerEnabled();
+    }
+
+    /**
+     * Returns how many consecutive failed send attempts open a printer's circuit.
+     *
+     * @return the count from {@code PRINTER_CIRCUIT_BREAKER_FAILURE_THRESHOLD} (default: {@code 3})
+     */
+    public int printerCircuitBreakerFailureThreshold() {
+        return printRuntimeSupport.printerCircuitBreakerFailureThreshold();
+    }
+
+    /**
+     * Returns how long an open circuit rejects sends before allowing one trial send.
+     *
+     * @return the window from {@code PRINTER_CIRCUIT_BREAKER_OPEN_MS} (default: {@code 30000} ms)
+     */
+    public long printerCircuitBreakerOpenMs() {
+        return printRuntimeSupport.printerCircuitBreakerOpenMs();
+    }
+
     /**
      * Returns the resolved external configuration file path, if one was found.
      *
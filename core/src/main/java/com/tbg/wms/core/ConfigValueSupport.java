@@ -68,6 +68,17 @@ final class ConfigValueSupport {
         }
     }
 
+    boolean parseBoolean(String key, String defaultValue) {
+        String value = get(key, defaultValue);
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalStateException("Invalid boolean config for " + key + ": '" + value + "'");
+    }
+
     String get(String key, String defaultValue) {
         String value = raw(key);
         return (value == null || value.isBlank()) ? defaultValue : value.trim();
@@ -42,6 +42,46 @@ final class PrintRuntimeConfigSupport {
         return optionalTrimmedRaw("PRINTER_FORCE_ID");
     }
 
+    boolean printerStoredFormatsEnabled() {
+        return valueSupport.parseBoolean("PRINTER_STORED_FORMATS", "false");
+    }
+
+    boolean printerPoolEnabled() {
+        return valueSupport.parseBoolean("PRINTER_POOL_ENABLED", "true");
+    }
+
+    long printerPoolIdleTimeoutMs() {
+        return valueSupport.parseLong("PRINTER_POOL_IDLE_TIMEOUT_MS", "10000");
+    }
+
+    long printerPoolMaxLifetimeMs() {
+        return valueSupport.parseLong("PRINTER_POOL_MAX_LIFETIME_MS", "300000");
+    }
+
+    boolean printerFlowControlEnabled() {
+        return valueSupport.parseBoolean("PRINTER_FLOW_CONTROL_ENABLED", "true");
+    }
+
+    int printerFlowControlMaxQueuedLabels() {
+        return valueSupport.parseInt("PRINTER_FLOW_CONTROL_MAX_QUEUED_LABELS", "16");
+    }
+
+    long printerFlowControlMaxWaitMs() {
+        return valueSupport.parseLong("PRINTER_FLOW_CONTROL_MAX_WAIT_MS", "300000");
+    }
+
+    boolean printerCircuitBreakerEnabled() {
+        return valueSupport.parseBoolean("PRINTER_CIRCUIT_BREAKER_ENABLED", "true");
+    }
+
+    int printerCircuitBreakerFailureThreshold() {
+        return valueSupport.parseInt("PRINTER_CIRCUIT_BREAKER_FAILURE_THRESHOLD", "3");
+    }
+
+    long printerCircuitBreakerOpenMs() {
+        return valueSupport.parseLong("PRINTER_CIRCUIT_BREAKER_OPEN_MS", "30000");
+    }
+
     private String optionalTrimmedRaw(String key) {
         String value = valueSupport.raw(key);
         return (value == null || value.isBlank()) ? null : value.trim();
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a send is refused because the printer's circuit breaker is open.
+ * <p>
+ * Unlike a plain {@link WmsPrintException}, nothing was sent and no retries were spent, so
+ * callers can fail over to another printer right away.
+ *
+ * @since 1.7.7
+ */
+public class WmsPrinterUnavailableException extends WmsPrintException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String printerId;
+
+    /**
+     * Creates a new printer-unavailable exception.
+     *
+     * @param printerId   printer whose circuit is open
+     * @param message     error description
+     * @param cause       last send failure, or null when the circuit was already open
+     * @param remediation suggested remediation steps
+     */
+    public WmsPrinterUnavailableException(String printerId, String message, Throwable cause, String remediation) {
+        super(message, cause, remediation);
+        this.printerId = printerId;
+    }
+
+    public String getPrinterId() {
+        return printerId;
+    }
+}
@@ -9,15 +9,21 @@
 package com.tbg.wms.core.print;
 
 import com.tbg.wms.core.exception.WmsPrintException;
+import com.tbg.wms.core.exception.WmsPrinterUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Network printing service for Zebra printers via TCP port 9100.
@@ -25,7 +31,24 @@ import java.util.Objects;
  * Sends ZPL data directly to printers using RAW socket protocol.
  * Implements retry logic with exponential backoff for transient failures.
  * <p>
- * Thread-safe (stateless operations).
+ * Also supports printer-side stored formats: the service remembers which printers already
+ * hold which {@code ^DF} format so each label can send only its {@code ^XF} field data.
+ * <p>
+ * When built with a {@link PrinterConnectionPool}, sockets stay open between labels. A pooled
+ * socket that turns out to be broken is replaced and the in-flight label is resent on a fresh
+ * connection before the normal retry policy applies.
+ * <p>
+ * When built with a {@link PrinterFlowControl}, each send first checks the printer's
+ * {@code ~HS} host status and waits while the printer is paused, out of media, or already
+ * holding enough labels. A failed send on a printer that answers status is retried as soon as
+ * the printer reports ready again instead of after the blind backoff delay.
+ * <p>
+ * When built with a {@link PrinterCircuitBreaker}, failed attempts count against the printer's
+ * circuit. Once it opens, the current send stops retrying and later sends are refused at once
+ * with {@link WmsPrinterUnavailableException} until a trial send succeeds.
+ * <p>
+ * Thread-safe; shared state is limited to the stored-format registry, the connection pool,
+ * the flow-control state, and the circuit breaker.
  *
  * @since 1.0.0
  */
@@ -37,11 +60,19 @@ public final class NetworkPrintService {
     private static final int DEFAULT_READ_TIMEOUT_MS = 10000;
     private static final int DEFAULT_MAX_RETRIES = 3;
     private static final int DEFAULT_RETRY_DELAY_MS = 1000;
+    private static final long STORED_FORMAT_MAX_AGE_MS = 15 * 60 * 1000L;
+    private static final byte[] HOST_STATUS_REQUEST = "~HS".getBytes(StandardCharsets.US_ASCII);
+    private static final int HOST_STATUS_FRAMES = 3;
 
     private final int connectTimeoutMs;
     private final int readTimeoutMs;
     private final int maxRetries;
     private final int retryDelayMs;
+    private final PrinterConnectionPool connectionPool;
+    private final PrinterFlowControl flowControl;
+    private final PrinterCircuitBreaker circuitBreaker;
+    private final PrintSendStatistics statistics = new PrintSendStatistics();
+    private final ConcurrentMap<String, ConcurrentMap<String, Long>> storedFormatsByEndpoint = new ConcurrentHashMap<>();
 
     /**
      * Creates a new network print service with default timeouts and retry settings.
@@ -51,6 +82,42 @@ public final class NetworkPrintService {
                 DEFAULT_MAX_RETRIES, DEFAULT_RETRY_DELAY_MS);
     }
 
+    /**
+     * Creates a network print service with default timeouts that reuses pooled connections.
+     *
+     * @param connectionPool pool that owns the printer sockets
+     */
+    public NetworkPrintService(PrinterConnectionPool connectionPool) {
+        this(DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS,
+                DEFAULT_MAX_RETRIES, DEFAULT_RETRY_DELAY_MS,
+                Objects.requireNonNull(connectionPool, "connectionPool cannot be null"));
+    }
+
+    /**
+     * Creates a network print service with default timeouts, optional pooling, and optional
+     * host-status flow control.
+     *
+     * @param connectionPool pool that owns the printer sockets, or null for one socket per label
+     * @param flowControl    status gate applied before each send, or null to send blind
+     */
+    public NetworkPrintService(PrinterConnectionPool connectionPool, PrinterFlowControl flowControl) {
+        this(connectionPool, flowControl, null);
+    }
+
+    /**
+     * Creates a network print service with default timeouts, optional pooling, optional
+     * host-status flow control, and an optional per-printer circuit breaker.
+     *
+     * @param connectionPool pool that owns the printer sockets, or null for one socket per label
+     * @param flowControl    status gate applied before each send, or null to send blind
+     * @param circuitBreaker breaker shared by every send, or null to always run the full retry ladder
+     */
+    public NetworkPrintService(PrinterConnectionPool connectionPool, PrinterFlowControl flowControl,
+                               PrinterCircuitBreaker circuitBreaker) {
+        this(DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS,
+                DEFAULT_MAX_RETRIES, DEFAULT_RETRY_DELAY_MS, connectionPool, flowControl, circuitBreaker);
+    }
+
     /**
      * Creates a new network print service with custom settings.
      *
@@ -61,71 +128,321 @@ public final class NetworkPrintService {
      */
     public NetworkPrintService(int connectTimeoutMs, int readTimeoutMs,
                                int maxRetries, int retryDelayMs) {
+        this(connectTimeoutMs, readTimeoutMs, maxRetries, retryDelayMs, null);
+    }
+
+    /**
+     * Creates a new network print service with custom settings and optional connection pooling.
+     *
+     * @param connectTimeoutMs connection timeout in milliseconds
+     * @param readTimeoutMs    read timeout in milliseconds
+     * @param maxRetries       maximum number of retry attempts
+     * @param retryDelayMs     base delay between retries (exponential backoff)
+     * @param connectionPool   pool to borrow sockets from, or null for one socket per label
+     */
+    public NetworkPrintService(int connectTimeoutMs, int readTimeoutMs,
+                               int maxRetries, int retryDelayMs,
+                               PrinterConnectionPool connectionPool) {
+        this(connectTimeoutMs, readTimeoutMs, maxRetries, retryDelayMs, connectionPool, null);
+    }
+
+    /**
+     * Creates a new network print service with custom settings, optional pooling, and optional
+     * host-status flow control.
+     *
+     * @param connectTimeoutMs connection timeout in milliseconds
+     * @param readTimeoutMs    read timeout in milliseconds
+     * @param maxRetries       maximum number of retry attempts
+     * @param retryDelayMs     base delay between retries (exponential backoff)
+     * @param connectionPool   pool to borrow sockets from, or null for one socket per label
+     * @param flowControl      status gate applied before each send, or null to send blind
+     */
+    public NetworkPrintService(int connectTimeoutMs, int readTimeoutMs,
+                               int maxRetries, int retryDelayMs,
+                               PrinterConnectionPool connectionPool,
+                               PrinterFlowControl flowControl) {
+        this(connectTimeoutMs, readTimeoutMs, maxRetries, retryDelayMs, connectionPool, flowControl, null);
+    }
+
+    /**
+     * Creates a new network print service with custom settings, optional pooling, optional
+     * host-status flow control, and an optional circuit breaker.
+     *
+     * @param connectTimeoutMs connection timeout in milliseconds
+     * @param readTimeoutMs    read timeout in milliseconds
+     * @param maxRetries       maximum number of retry attempts
+     * @param retryDelayMs     base delay between retries (exponential backoff)
+     * @param connectionPool   pool to borrow sockets from, or null for one socket per label
+     * @param flowControl      status gate applied before each send, or null to send blind
+     * @param circuitBreaker   breaker shared by every send, or null to always run the full retry ladder
+     */
+    public NetworkPrintService(int connectTimeoutMs, int readTimeoutMs,
+                               int maxRetries, int retryDelayMs,
+                               PrinterConnectionPool connectionPool,
+                               PrinterFlowControl flowControl,
+                               PrinterCircuitBreaker circuitBreaker) {
         this.connectTimeoutMs = connectTimeoutMs;
         this.readTimeoutMs = readTimeoutMs;
         this.maxRetries = maxRetries;
         this.retryDelayMs = retryDelayMs;
+        this.connectionPool = connectionPool;
+        this.flowControl = flowControl;
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
      * Prints ZPL content to a network printer.
      * <p>
      * Sends data via TCP socket on port 9100 (Zebra RAW protocol).
-     * Implements retry logic with exponential backoff for transient failures.
+     * Implements retry logic with exponential backoff for transient failures; with flow
+     * control, waits for the printer to report ready before each attempt; with a circuit
+     * breaker, stops as soon as the printer's circuit opens.
      *
      * @param printer    target printer configuration
      * @param zplContent ZPL content to print
      * @param labelId    label identifier for logging
-     * @throws WmsPrintException if printing fails after all retries
+     * @throws WmsPrinterUnavailableException if the printer's circuit is or becomes open
+     * @throws WmsPrintException              if printing fails after all retries
      */
     public void print(PrinterConfig printer, String zplContent, String labelId) {
         Objects.requireNonNull(printer, "printer cannot be null");
         Objects.requireNonNull(zplContent, "zplContent cannot be null");
         Objects.requireNonNull(labelId, "labelId cannot be null");
 
+        long startedNanos = System.nanoTime();
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire(printer)) {
+            statistics.record(System.nanoTime() - startedNanos, 0, 0, false);
+            throw circuitOpen(printer, null);
+        }
+
         log.info("Sending label {} to printer {} ({})", labelId, printer.getId(), printer.getEndpoint());
 
         Exception lastException = null;
+        int attempts = 0;
+        int reconnects = 0;
+        boolean succeeded = false;
+        boolean breakerSettled = false;
 
-        for (int attempt = 1; attempt <= maxRetries + 1; attempt++) {
-            try {
-                sendToPrinter(printer, zplContent);
-                log.info("Successfully sent label {} to printer {}", labelId, printer.getId());
-                return;
-            } catch (IOException e) {
-                lastException = e;
-
-                if (attempt <= maxRetries) {
-                    int delay = computeRetryDelay(attempt);
-                    log.warn("Print attempt {} failed for label {}, retrying in {}ms: {}",
-                            attempt, labelId, delay, e.getMessage());
-
-                    try {
-                        Thread.sleep(delay);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new WmsPrintException(
-                                "Print interrupted during retry delay",
-                                ie,
-                                "Check printer connectivity and network status"
-                        );
+        try {
+            for (int attempt = 1; attempt <= maxRetries + 1; attempt++) {
+                attempts = attempt;
+                boolean statusAnswered = false;
+                try {
+                    statusAnswered = flowControl != null
+                            && flowControl.awaitReady(printer, this::probeHostStatus);
+                    reconnects += sendToPrinter(printer, zplContent);
+                    succeeded = true;
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onSuccess(printer);
+                        breakerSettled = true;
+                    }
+                    log.info("Successfully sent label {} to printer {}", labelId, printer.getId());
+                    return;
+                } catch (IOException e) {
+                    lastException = e;
+                    if (flowControl != null) {
+                        flowControl.onSendFailed(printer);
+                    }
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onFailure(printer);
+                        breakerSettled = true;
+                        if (circuitBreaker.state(printer) == PrinterCircuitBreaker.State.OPEN) {
+                            log.error("Print failed for label {} after {} attempts; printer {} is marked offline",
+                                    labelId, attempt, printer.getId());
+                            throw circuitOpen(printer, e);
+                        }
+                    }
+
+                    if (attempt <= maxRetries && statusAnswered) {
+                        // The printer answered ~HS recently, so it is reachable: the next attempt's
+                        // status poll decides when to resend instead of a blind delay.
+                        log.warn("Print attempt {} failed for label {}, re-checking printer status: {}",
+                                attempt, labelId, e.getMessage());
+                    } else if (attempt <= maxRetries) {
+                        int delay = computeRetryDelay(attempt);
+                        log.warn("Print attempt {} failed for label {}, retrying in {}ms: {}",
+                                attempt, labelId, delay, e.getMessage());
+
+                        try {
+                            Thread.sleep(delay);
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                            throw new WmsPrintException(
+                                    "Print interrupted during retry delay",
+                                    ie,
+                                    "Check printer connectivity and network status"
+                            );
+                        }
+                    } else {
+                        log.error("Print failed for label {} after {} attempts", labelId, attempt);
                     }
-                } else {
-                    log.error("Print failed for label {} after {} attempts", labelId, attempt);
                 }
             }
+
+            // All retries exhausted
+            throw new WmsPrintException(
+                    String.format("Failed to print label %s to printer %s after %d attempts",
+                            labelId, printer.getId(), maxRetries + 1),
+                    lastException,
+                    String.format("Check printer status: %s (%s). Verify network connectivity and printer power.",
+                            printer.getName(), printer.getEndpoint())
+            );
+        } finally {
+            if (circuitBreaker != null && !breakerSettled) {
+                circuitBreaker.release(printer);
+            }
+            statistics.record(System.nanoTime() - startedNanos, attempts, reconnects, succeeded);
         }
+    }
 
-        // All retries exhausted
-        throw new WmsPrintException(
-                String.format("Failed to print label %s to printer %s after %d attempts",
-                        labelId, printer.getId(), maxRetries + 1),
-                lastException,
-                String.format("Check printer status: %s (%s). Verify network connectivity and printer power.",
-                        printer.getName(), printer.getEndpoint())
+    private WmsPrinterUnavailableException circuitOpen(PrinterConfig printer, Exception cause) {
+        long retryInSeconds = (circuitBreaker.retryInMs(printer) + 999) / 1000;
+        return new WmsPrinterUnavailableException(
+                printer.getId(),
+                String.format("Printer %s (%s) is offline after repeated send failures; next attempt in %d s",
+                        printer.getId(), printer.getEndpoint(), retryInSeconds),
+                cause,
+                String.format("Check that %s is powered on and connected, or print to another printer.",
+                        printer.getName())
         );
     }
 
+    /**
+     * Prints a label through a printer-side stored format.
+     * <p>
+     * The {@code ^DF} download is prepended only when this printer is not known to hold the
+     * format yet, or when the last download is older than the refresh window (printer RAM is
+     * cleared on power-cycle). A failed send forgets every format for that printer so the
+     * next label re-downloads.
+     *
+     * @param printer     target printer configuration
+     * @param formatName  stored format object name, including device and extension
+     * @param downloadZpl {@code ^DF} payload that stores the format
+     * @param recallZpl   {@code ^XF} payload carrying only this label's field data
+     * @param labelId     label identifier for logging
+     * @throws WmsPrintException if printing fails after all retries
+     */
+    public void printStoredFormat(PrinterConfig printer, String formatName, String downloadZpl,
+                                  String recallZpl, String labelId) {
+        Objects.requireNonNull(printer, "printer cannot be null");
+        Objects.requireNonNull(formatName, "formatName cannot be null");
+        Objects.requireNonNull(downloadZpl, "downloadZpl cannot be null");
+        Objects.requireNonNull(recallZpl, "recallZpl cannot be null");
+
+        boolean download = !holdsStoredFormat(printer, formatName);
+        if (download) {
+            log.info("Downloading stored format {} to printer {}", formatName, printer.getId());
+        }
+        try {
+            print(printer, download ? downloadZpl + recallZpl : recallZpl, labelId);
+        } catch (WmsPrintException ex) {
+            storedFormatsByEndpoint.remove(printer.getEndpoint());
+            throw ex;
+        }
+        if (download) {
+            storedFormatsByEndpoint
+                    .computeIfAbsent(printer.getEndpoint(), ignored -> new ConcurrentHashMap<>())
+                    .put(formatName, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Checks whether a printer is known to hold a stored format within the refresh window.
+     *
+     * @param printer    printer to check
+     * @param formatName stored format object name
+     * @return true if the format was downloaded recently by this service
+     */
+    boolean holdsStoredFormat(PrinterConfig printer, String formatName) {
+        Map<String, Long> formats = storedFormatsByEndpoint.get(printer.getEndpoint());
+        Long downloadedAt = formats == null ? null : formats.get(formatName);
+        return downloadedAt != null && System.currentTimeMillis() - downloadedAt < STORED_FORMAT_MAX_AGE_MS;
+    }
+
+    /**
+     * Returns send counts and latency percentiles for every label printed through this service.
+     *
+     * @return live statistics
+     */
+    public PrintSendStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the circuit breaker shared by this service's sends.
+     *
+     * @return breaker, or null when circuit breaking is disabled
+     */
+    public PrinterCircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Asks a printer for its {@code ~HS} host status.
+     * <p>
+     * Uses the pooled connection when pooling is enabled, since many printers accept only one
+     * 9100 client at a time.
+     *
+     * @param printer printer to ask
+     * @return parsed status, or null when the printer did not answer within the read timeout
+     * @throws IOException if the printer cannot be reached
+     */
+    public PrinterHostStatus queryHostStatus(PrinterConfig printer) throws IOException {
+        Objects.requireNonNull(printer, "printer cannot be null");
+        return probeHostStatus(printer, readTimeoutMs);
+    }
+
+    private PrinterHostStatus probeHostStatus(PrinterConfig printer, int timeoutMs) throws IOException {
+        String response;
+        if (connectionPool != null) {
+            PrinterConnectionPool.PooledConnection connection =
+                    connectionPool.borrow(printer, connectTimeoutMs, readTimeoutMs);
+            try {
+                response = connection.exchange(HOST_STATUS_REQUEST, timeoutMs, NetworkPrintService::readHostStatus);
+            } catch (IOException ex) {
+                connectionPool.discard(connection);
+                throw ex;
+            }
+            connectionPool.release(connection);
+        } else {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(printer.getIp(), printer.getPort()), connectTimeoutMs);
+                socket.setSoTimeout(timeoutMs);
+                OutputStream out = socket.getOutputStream();
+                out.write(HOST_STATUS_REQUEST);
+                out.flush();
+                response = readHostStatus(socket.getInputStream());
+            }
+        }
+        try {
+            return PrinterHostStatus.parse(response);
+        } catch (IllegalArgumentException ex) {
+            log.debug("Printer {} sent an unusable ~HS response: {}", printer.getId(), ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads until all three status strings arrived or the socket timeout expired; returns
+     * whatever arrived so the parser can decide.
+     */
+    static String readHostStatus(InputStream in) throws IOException {
+        StringBuilder response = new StringBuilder(128);
+        byte[] chunk = new byte[256];
+        try {
+            while (PrinterHostStatus.countFrames(response) < HOST_STATUS_FRAMES) {
+                int read = in.read(chunk);
+                if (read < 0) {
+                    break;
+                }
+                response.append(new String(chunk, 0, read, StandardCharsets.US_ASCII));
+            }
+        } catch (SocketTimeoutException silent) {
+            // Printer does not support ~HS or is too busy to answer; the parser reports it.
+        }
+        return response.toString();
+    }
+
     private int computeRetryDelay(int attempt) {
         // attempt starts at 1, so first retry uses base delay.
         int shift = Math.max(0, attempt - 1);
@@ -139,9 +456,14 @@ public final class NetworkPrintService {
      *
      * @param printer    target printer
      * @param zplContent ZPL content
+     * @return number of broken pooled sockets replaced during the send
      * @throws IOException if network communication fails
      */
-    private void sendToPrinter(PrinterConfig printer, String zplContent) throws IOException {
+    private int sendToPrinter(PrinterConfig printer, String zplContent) throws IOException {
+        byte[] data = zplContent.getBytes(StandardCharsets.UTF_8);
+        if (connectionPool != null) {
+            return sendPooled(printer, data);
+        }
         InetSocketAddress address = new InetSocketAddress(printer.getIp(), printer.getPort());
 
         try (Socket socket = new Socket()) {
@@ -149,7 +471,6 @@ public final class NetworkPrintService {
             socket.setSoTimeout(readTimeoutMs);
 
             try (OutputStream out = socket.getOutputStream()) {
-                byte[] data = zplContent.getBytes(StandardCharsets.UTF_8);
                 out.write(data);
                 out.flush();
 
@@ -157,6 +478,40 @@ public final class NetworkPrintService {
                         data.length, printer.getId(), printer.getEndpoint());
             }
         }
+        return 0;
+    }
+
+    /**
+     * Sends a payload over a pooled connection. A reused socket that fails (printer reboot,
+     * Wi-Fi roam, printer-side idle close) is dropped and the same payload is resent once on a
+     * fresh connection; failures on a fresh connection go to the caller's retry loop.
+     */
+    private int sendPooled(PrinterConfig printer, byte[] data) throws IOException {
+        PrinterConnectionPool.PooledConnection connection =
+                connectionPool.borrow(printer, connectTimeoutMs, readTimeoutMs);
+        int reconnects = 0;
+        try {
+            connection.write(data);
+        } catch (IOException staleEx) {
+            connectionPool.discard(connection);
+            if (!connection.isReused()) {
+                throw staleEx;
+            }
+            log.debug("Pooled connection to printer {} broke ({}); resending on a new connection",
+                    printer.getId(), staleEx.getMessage());
+            connection = connectionPool.open(printer, connectTimeoutMs, readTimeoutMs);
+            reconnects = 1;
+            try {
+                connection.write(data);
+            } catch (IOException ex) {
+                connectionPool.discard(connection);
+                ex.addSuppressed(staleEx);
+                throw ex;
+            }
+        }
+        connectionPool.release(connection);
+        log.debug("Sent {} bytes to printer {} ({})", data.length, printer.getId(), printer.getEndpoint());
+        return reconnects;
     }
 
     /**
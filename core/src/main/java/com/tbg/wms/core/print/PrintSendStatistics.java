@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import java.util.Arrays;
+
+/**
+ * Running totals and send-latency percentiles for one {@link NetworkPrintService}.
+ * <p>
+ * A send is one {@code print} call, measured from the first attempt to success or final
+ * failure, so flow-control waits and retry delays count toward its latency. Percentiles are
+ * computed over the most recent {@value #SAMPLE_WINDOW} sends. Thread-safe.
+ */
+public final class PrintSendStatistics {
+
+    static final int SAMPLE_WINDOW = 10_000;
+
+    private final long[] latencyNanos = new long[SAMPLE_WINDOW];
+    private long sends;
+    private long failures;
+    private long retries;
+    private long reconnects;
+
+    synchronized void record(long elapsedNanos, int attempts, int reconnectCount, boolean succeeded) {
+        latencyNanos[(int) (sends % SAMPLE_WINDOW)] = elapsedNanos;
+        sends++;
+        if (!succeeded) {
+            failures++;
+        }
+        retries += Math.max(0, attempts - 1);
+        reconnects += reconnectCount;
+    }
+
+    /**
+     * Captures the current totals and percentiles.
+     *
+     * @return immutable snapshot
+     */
+    public synchronized Snapshot snapshot() {
+        int samples = (int) Math.min(sends, SAMPLE_WINDOW);
+        long[] sorted = Arrays.copyOf(latencyNanos, samples);
+        Arrays.sort(sorted);
+        return new Snapshot(
+                sends,
+                failures,
+                retries,
+                reconnects,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                samples == 0 ? 0.0 : sorted[samples - 1] / 1_000_000.0
+        );
+    }
+
+    /**
+     * Clears all totals and samples, for example between load-test runs.
+     */
+    public synchronized void reset() {
+        sends = 0;
+        failures = 0;
+        retries = 0;
+        reconnects = 0;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * Point-in-time send statistics.
+     *
+     * @param sends      labels handed to the print service
+     * @param failures   sends that failed after every retry
+     * @param retries    extra attempts beyond the first, over all sends
+     * @param reconnects pooled sockets found broken and replaced mid-send
+     * @param p50Millis  median send latency
+     * @param p99Millis  99th-percentile send latency
+     * @param maxMillis  slowest send in the sample window
+     */
+    public record Snapshot(long sends, long failures, long retries, long reconnects,
+                           double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-endpoint circuit breaker for printer sends.
+ * <p>
+ * A printer starts {@link State#CLOSED}. After {@code failureThreshold} consecutive failed
+ * send attempts (connect timeouts, refused connections, broken writes) it turns
+ * {@link State#OPEN} and every send is refused without touching the network. Once
+ * {@code openDurationMs} has passed, the next send is let through as a single trial
+ * ({@link State#HALF_OPEN}): success closes the circuit, failure opens it for another window.
+ * <p>
+ * One instance is shared by every job in the process, so a dead printer costs the retry ladder
+ * once rather than once per label. Thread-safe.
+ */
+public final class PrinterCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(PrinterCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clockMs;
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a breaker on the system clock.
+     *
+     * @param failureThreshold consecutive failed attempts that open a circuit
+     * @param openDurationMs   how long an open circuit refuses sends before a trial
+     */
+    public PrinterCircuitBreaker(int failureThreshold, long openDurationMs) {
+        this(failureThreshold, openDurationMs, System::currentTimeMillis);
+    }
+
+    PrinterCircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier clockMs) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1.");
+        }
+        if (openDurationMs <= 0) {
+            throw new IllegalArgumentException("openDurationMs must be positive.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clockMs = Objects.requireNonNull(clockMs, "clockMs cannot be null");
+    }
+
+    /**
+     * Asks to send to a printer.
+     * <p>
+     * A granted trial on a half-open circuit must be settled with {@link #onSuccess},
+     * {@link #onFailure}, or {@link #release}; until then other sends are refused.
+     *
+     * @param printer target printer
+     * @return true if the send may go out now
+     */
+    public boolean tryAcquire(PrinterConfig printer) {
+        Circuit circuit = circuit(printer);
+        Transition transition;
+        synchronized (circuit) {
+            switch (circuit.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (clockMs.getAsLong() - circuit.openedAtMs < openDurationMs) {
+                        return false;
+                    }
+                    transition = circuit.moveTo(State.HALF_OPEN);
+                    circuit.trialInFlight = true;
+                    break;
+                default:
+                    if (circuit.trialInFlight) {
+                        return false;
+                    }
+                    circuit.trialInFlight = true;
+                    return true;
+            }
+        }
+        notifyListeners(transition);
+        return true;
+    }
+
+    /**
+     * Records a successful send, closing the circuit.
+     *
+     * @param printer printer that accepted the label
+     */
+    public void onSuccess(PrinterConfig printer) {
+        Circuit circuit = circuit(printer);
+        Transition transition = null;
+        synchronized (circuit) {
+            circuit.consecutiveFailures = 0;
+            circuit.trialInFlight = false;
+            if (circuit.state != State.CLOSED) {
+                transition = circuit.moveTo(State.CLOSED);
+            }
+        }
+        notifyListeners(transition);
+    }
+
+    /**
+     * Records a failed send attempt; opens the circuit at the threshold or when a trial fails.
+     *
+     * @param printer printer that could not be reached
+     */
+    public void onFailure(PrinterConfig printer) {
+        Circuit circuit = circuit(printer);
+        Transition transition = null;
+        synchronized (circuit) {
+            circuit.consecutiveFailures++;
+            circuit.trialInFlight = false;
+            if (circuit.state == State.HALF_OPEN
+                    || (circuit.state == State.CLOSED && circuit.consecutiveFailures >= failureThreshold)) {
+                circuit.openedAtMs = clockMs.getAsLong();
+                transition = circuit.moveTo(State.OPEN);
+            }
+        }
+        notifyListeners(transition);
+    }
+
+    /**
+     * Gives back a half-open trial whose outcome says nothing about reachability, for example a
+     * send abandoned while waiting for the printer to be un-paused.
+     *
+     * @param printer printer the trial was granted for
+     */
+    public void release(PrinterConfig printer) {
+        Circuit circuit = circuit(printer);
+        synchronized (circuit) {
+            circuit.trialInFlight = false;
+        }
+    }
+
+    /**
+     * @param printer printer to check
+     * @return current state; an expired open circuit stays {@link State#OPEN} until the next send
+     */
+    public State state(PrinterConfig printer) {
+        Circuit circuit = circuits.get(printer.getEndpoint());
+        if (circuit == null) {
+            return State.CLOSED;
+        }
+        synchronized (circuit) {
+            return circuit.state;
+        }
+    }
+
+    /**
+     * @param printer printer to check
+     * @return milliseconds until an open circuit admits a trial send, or {@code 0}
+     */
+    public long retryInMs(PrinterConfig printer) {
+        Circuit circuit = circuits.get(printer.getEndpoint());
+        if (circuit == null) {
+            return 0;
+        }
+        synchronized (circuit) {
+            return circuit.state == State.OPEN
+                    ? Math.max(0, circuit.openedAtMs + openDurationMs - clockMs.getAsLong())
+                    : 0;
+        }
+    }
+
+    /**
+     * Lists every printer whose circuit is not closed, keyed by printer ID.
+     *
+     * @return open and half-open printers in no particular order
+     */
+    public Map<String, State> unhealthyPrinters() {
+        Map<String, State> unhealthy = new LinkedHashMap<>();
+        for (Circuit circuit : circuits.values()) {
+            synchronized (circuit) {
+                if (circuit.state != State.CLOSED) {
+                    unhealthy.put(circuit.printerId, circuit.state);
+                }
+            }
+        }
+        return unhealthy;
+    }
+
+    /**
+     * Registers a callback for state changes. Callbacks run on the sending thread.
+     *
+     * @param listener callback to add
+     */
+    public void addListener(Listener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    /**
+     * @param listener callback to remove
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private Circuit circuit(PrinterConfig printer) {
+        Objects.requireNonNull(printer, "printer cannot be null");
+        return circuits.computeIfAbsent(printer.getEndpoint(), ignored -> new Circuit(printer.getId()));
+    }
+
+    private void notifyListeners(Transition transition) {
+        if (transition == null) {
+            return;
+        }
+        if (transition.to() == State.OPEN) {
+            log.warn("Printer {} circuit {} -> OPEN; sends fail fast for {} ms",
+                    transition.printerId(), transition.from(), openDurationMs);
+        } else {
+            log.info("Printer {} circuit {} -> {}", transition.printerId(), transition.from(), transition.to());
+        }
+        for (Listener listener : listeners) {
+            listener.onStateChanged(transition.printerId(), transition.from(), transition.to());
+        }
+    }
+
+    /**
+     * Circuit states.
+     */
+    public enum State {
+        /** Sends go out normally. */
+        CLOSED,
+        /** Sends are refused until the open window passes. */
+        OPEN,
+        /** One trial send is deciding whether to close or re-open. */
+        HALF_OPEN
+    }
+
+    /**
+     * Receives circuit state changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onStateChanged(String printerId, State from, State to);
+    }
+
+    private record Transition(String printerId, State from, State to) {
+    }
+
+    private static final class Circuit {
+        private final String printerId;
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtMs;
+        private boolean trialInFlight;
+
+        private Circuit(String printerId) {
+            this.printerId = printerId;
+        }
+
+        private Transition moveTo(State next) {
+            Transition transition = new Transition(printerId, state, next);
+            state = next;
+            return transition;
+        }
+    }
+}
@@ -31,6 +31,7 @@ public final class PrinterConfig {
     private final List<String> capabilities;
     private final String locationHint;
     private final boolean enabled;
+    private final String failoverPrinterId;
 
     /**
      * Creates a new printer configuration.
@@ -46,6 +47,25 @@ public final class PrinterConfig {
      */
     public PrinterConfig(String id, String name, String ip, int port,
                          List<String> tags, List<String> capabilities, String locationHint, boolean enabled) {
+        this(id, name, ip, port, tags, capabilities, locationHint, enabled, null);
+    }
+
+    /**
+     * Creates a new printer configuration with an alternate printer.
+     *
+     * @param id                stable printer identifier (e.g., "DISPATCH", "OFFICE")
+     * @param name              human-readable printer name
+     * @param ip                printer IP address
+     * @param port              printer port (typically 9100 for Zebra RAW protocol)
+     * @param tags              classification tags (PROD, TEST, DISPATCH, etc.)
+     * @param capabilities      workflow capabilities (for example ZPL, RAIL)
+     * @param locationHint      human-readable physical location
+     * @param enabled           whether printer is currently active
+     * @param failoverPrinterId printer that takes this printer's labels while it is offline, or null
+     */
+    public PrinterConfig(String id, String name, String ip, int port,
+                         List<String> tags, List<String> capabilities, String locationHint, boolean enabled,
+                         String failoverPrinterId) {
         this.id = Objects.requireNonNull(id, "id cannot be null");
         this.name = Objects.requireNonNull(name, "name cannot be null");
         this.ip = Objects.requireNonNull(ip, "ip cannot be null");
@@ -54,6 +74,7 @@ public final class PrinterConfig {
         this.capabilities = capabilities != null ? List.copyOf(capabilities) : Collections.emptyList();
         this.locationHint = locationHint;
         this.enabled = enabled;
+        this.failoverPrinterId = failoverPrinterId == null || failoverPrinterId.isBlank() ? null : failoverPrinterId;
 
         if (port < 1 || port > 65535) {
             throw new IllegalArgumentException("Invalid port: " + port);
@@ -92,6 +113,13 @@ public final class PrinterConfig {
         return enabled;
     }
 
+    /**
+     * @return alternate printer ID, or null when this printer has none
+     */
+    public String getFailoverPrinterId() {
+        return failoverPrinterId;
+    }
+
     public String getEndpoint() {
         return ip + ":" + port;
     }
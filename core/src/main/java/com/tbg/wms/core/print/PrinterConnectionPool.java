@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps RAW 9100 printer sockets open so consecutive labels skip the TCP handshake.
+ * <p>
+ * Connections are pooled per printer endpoint with TCP keep-alive enabled. An idle connection
+ * is closed after the idle timeout (Zebra printers usually accept one 9100 client at a time,
+ * so holding a socket blocks other workstations), and any connection is retired once it
+ * reaches its maximum lifetime. Idle connections are probed before reuse so a socket the
+ * printer already closed is replaced instead of silently swallowing a label.
+ * <p>
+ * Thread-safe.
+ */
+public final class PrinterConnectionPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PrinterConnectionPool.class);
+
+    private static final int LIVENESS_PROBE_TIMEOUT_MS = 1;
+    private static final long MIN_REAPER_PERIOD_MS = 1000L;
+
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final LongSupplier clockMs;
+    private final ConcurrentMap<String, Deque<PooledConnection>> idleByEndpoint = new ConcurrentHashMap<>();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final ScheduledExecutorService reaper;
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool with a background reaper that closes idle and expired connections.
+     *
+     * @param idleTimeoutMs maximum time a connection may sit unused
+     * @param maxLifetimeMs maximum age of a connection regardless of use
+     */
+    public PrinterConnectionPool(long idleTimeoutMs, long maxLifetimeMs) {
+        this(idleTimeoutMs, maxLifetimeMs, System::currentTimeMillis, true);
+    }
+
+    PrinterConnectionPool(long idleTimeoutMs, long maxLifetimeMs, LongSupplier clockMs, boolean startReaper) {
+        if (idleTimeoutMs <= 0 || maxLifetimeMs <= 0) {
+            throw new IllegalArgumentException("Pool timeouts must be positive.");
+        }
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.clockMs = Objects.requireNonNull(clockMs, "clockMs cannot be null");
+        if (startReaper) {
+            long period = Math.max(MIN_REAPER_PERIOD_MS, idleTimeoutMs / 2);
+            this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "printer-connection-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.reaper.scheduleWithFixedDelay(this::evictExpired, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            this.reaper = null;
+        }
+    }
+
+    /**
+     * Borrows a live connection to the printer, reusing an idle one when possible.
+     *
+     * @param printer          target printer
+     * @param connectTimeoutMs connect timeout for a new socket
+     * @param readTimeoutMs    socket read timeout
+     * @return connection that must be handed back via {@link #release} or {@link #discard}
+     * @throws IOException if a new connection cannot be opened
+     */
+    PooledConnection borrow(PrinterConfig printer, int connectTimeoutMs, int readTimeoutMs) throws IOException {
+        Objects.requireNonNull(printer, "printer cannot be null");
+        if (closed) {
+            throw new IllegalStateException("Printer connection pool is closed.");
+        }
+        Deque<PooledConnection> idle = idleByEndpoint.get(printer.getEndpoint());
+        if (idle != null) {
+            while (true) {
+                PooledConnection candidate;
+                synchronized (idle) {
+                    candidate = idle.pollFirst();
+                }
+                if (candidate == null) {
+                    break;
+                }
+                if (isReusable(candidate, clockMs.getAsLong()) && isStillOpen(candidate, readTimeoutMs)) {
+                    candidate.reused = true;
+                    return candidate;
+                }
+                candidate.closeQuietly();
+            }
+        }
+        return open(printer, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * Opens a brand-new connection, bypassing idle connections.
+     *
+     * @param printer          target printer
+     * @param connectTimeoutMs connect timeout
+     * @param readTimeoutMs    socket read timeout
+     * @return new connection
+     * @throws IOException if the connection cannot be opened
+     */
+    PooledConnection open(PrinterConfig printer, int connectTimeoutMs, int readTimeoutMs) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setKeepAlive(true);
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(printer.getIp(), printer.getPort()), connectTimeoutMs);
+            socket.setSoTimeout(readTimeoutMs);
+            long now = clockMs.getAsLong();
+            PooledConnection connection = new PooledConnection(printer.getEndpoint(), socket, now);
+            connectionsOpened.incrementAndGet();
+            log.debug("Opened printer connection to {}", printer.getEndpoint());
+            return connection;
+        } catch (IOException ex) {
+            try {
+                socket.close();
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns a healthy connection to the pool for reuse.
+     *
+     * @param connection connection obtained from this pool
+     */
+    void release(PooledConnection connection) {
+        long now = clockMs.getAsLong();
+        connection.lastUsedAtMs = now;
+        if (closed || !isReusable(connection, now)) {
+            connection.closeQuietly();
+            return;
+        }
+        Deque<PooledConnection> idle = idleByEndpoint.computeIfAbsent(connection.endpoint, ignored -> new ArrayDeque<>());
+        synchronized (idle) {
+            idle.addFirst(connection);
+        }
+        if (closed) {
+            evictAll();
+        }
+    }
+
+    /**
+     * Closes a connection that failed and must not be reused.
+     *
+     * @param connection connection obtained from this pool
+     */
+    void discard(PooledConnection connection) {
+        connection.closeQuietly();
+    }
+
+    /**
+     * Closes idle connections that exceeded the idle timeout or maximum lifetime.
+     *
+     * @return number of connections closed
+     */
+    public int evictExpired() {
+        long now = clockMs.getAsLong();
+        List<PooledConnection> expired = new ArrayList<>();
+        for (Deque<PooledConnection> idle : idleByEndpoint.values()) {
+            synchronized (idle) {
+                Iterator<PooledConnection> iterator = idle.iterator();
+                while (iterator.hasNext()) {
+                    PooledConnection connection = iterator.next();
+                    if (!isReusable(connection, now)) {
+                        iterator.remove();
+                        expired.add(connection);
+                    }
+                }
+            }
+        }
+        expired.forEach(PooledConnection::closeQuietly);
+        return expired.size();
+    }
+
+    /**
+     * Gets the number of physical connections opened since the pool was created.
+     *
+     * @return opened connection count
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    /**
+     * Gets the number of idle connections currently held.
+     *
+     * @return idle connection count across all printers
+     */
+    public int getIdleCount() {
+        int count = 0;
+        for (Deque<PooledConnection> idle : idleByEndpoint.values()) {
+            synchronized (idle) {
+                count += idle.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Closes every idle connection and stops the reaper. Borrowed connections are closed
+     * when they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+        evictAll();
+    }
+
+    private void evictAll() {
+        for (Deque<PooledConnection> idle : idleByEndpoint.values()) {
+            List<PooledConnection> drained;
+            synchronized (idle) {
+                drained = new ArrayList<>(idle);
+                idle.clear();
+            }
+            drained.forEach(PooledConnection::closeQuietly);
+        }
+    }
+
+    private boolean isReusable(PooledConnection connection, long now) {
+        return now - connection.lastUsedAtMs < idleTimeoutMs
+                && now - connection.createdAtMs < maxLifetimeMs
+                && !connection.socket.isClosed();
+    }
+
+    /**
+     * Detects a socket the printer has already closed. A closed peer reports end-of-stream
+     * immediately; a live one times out after a millisecond with nothing to read.
+     */
+    private static boolean isStillOpen(PooledConnection connection, int readTimeoutMs) {
+        Socket socket = connection.socket;
+        try {
+            socket.setSoTimeout(LIVENESS_PROBE_TIMEOUT_MS);
+            InputStream in = socket.getInputStream();
+            int read = in.read();
+            if (read < 0) {
+                return false;
+            }
+            // Unsolicited printer output (for example a status reply); drop it and keep the socket.
+            in.skip(in.available());
+            return true;
+        } catch (SocketTimeoutException expected) {
+            return true;
+        } catch (IOException ex) {
+            return false;
+        } finally {
+            try {
+                if (!socket.isClosed()) {
+                    socket.setSoTimeout(readTimeoutMs);
+                }
+            } catch (IOException ignored) {
+                // The next write reports the failure.
+            }
+        }
+    }
+
+    /**
+     * Reads a printer reply from a pooled socket.
+     */
+    @FunctionalInterface
+    interface ReplyReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
+    /**
+     * One pooled printer socket.
+     */
+    static final class PooledConnection {
+        private final String endpoint;
+        private final Socket socket;
+        private final long createdAtMs;
+        private volatile long lastUsedAtMs;
+        private boolean reused;
+
+        private PooledConnection(String endpoint, Socket socket, long createdAtMs) {
+            this.endpoint = endpoint;
+            this.socket = socket;
+            this.createdAtMs = createdAtMs;
+            this.lastUsedAtMs = createdAtMs;
+        }
+
+        /**
+         * Writes a complete payload and flushes it to the socket.
+         */
+        void write(byte[] data) throws IOException {
+            OutputStream out = socket.getOutputStream();
+            out.write(data);
+            out.flush();
+        }
+
+        /**
+         * Writes a request and reads its reply with a temporary read timeout.
+         *
+         * @param request   request bytes
+         * @param timeoutMs read timeout while waiting for the reply
+         * @param reader    consumes the reply from the socket input
+         * @return reply produced by the reader
+         */
+        <T> T exchange(byte[] request, int timeoutMs, ReplyReader<T> reader) throws IOException {
+            int previousTimeout = socket.getSoTimeout();
+            write(request);
+            socket.setSoTimeout(timeoutMs);
+            try {
+                return reader.read(socket.getInputStream());
+            } finally {
+                if (!socket.isClosed()) {
+                    socket.setSoTimeout(previousTimeout);
+                }
+            }
+        }
+
+        /**
+         * Whether this connection had already carried a payload before this borrow.
+         */
+        boolean isReused() {
+            return reused;
+        }
+
+        private void closeQuietly() {
+            try {
+                socket.close();
+            } catch (IOException ex) {
+                log.debug("Failed to close printer connection to {}: {}", endpoint, ex.getMessage());
+            }
+        }
+    }
+}
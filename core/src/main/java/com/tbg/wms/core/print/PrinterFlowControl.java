@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import com.tbg.wms.core.exception.WmsPrintException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gates label sends on each printer's {@code ~HS} host status.
+ * <p>
+ * Before a label goes out, the printer must be able to print (not paused, out of paper, head
+ * open, or ribbon out) and must hold fewer than {@code maxQueuedLabels} unfinished labels.
+ * A poll grants credits for the remaining room, so a printer that keeps up is asked about once
+ * per {@code maxQueuedLabels} labels instead of once per label. A printer that cannot take
+ * labels is re-polled until it recovers, which holds back only that printer's sends, or until
+ * {@code maxWaitMs} passes and the send fails with the reported conditions.
+ * <p>
+ * Printers that do not answer {@code ~HS} are sent to without flow control and asked again
+ * after a few minutes. Thread-safe; waits for one printer never block another.
+ */
+public final class PrinterFlowControl {
+
+    private static final Logger log = LoggerFactory.getLogger(PrinterFlowControl.class);
+
+    private static final long DEFAULT_POLL_INTERVAL_MS = 500L;
+    private static final long DEFAULT_STATUS_MAX_AGE_MS = 5_000L;
+    private static final int DEFAULT_STATUS_TIMEOUT_MS = 1_000;
+    private static final long UNANSWERED_RECHECK_MS = 5 * 60 * 1000L;
+
+    private final int maxQueuedLabels;
+    private final long maxWaitMs;
+    private final long pollIntervalMs;
+    private final long statusMaxAgeMs;
+    private final int statusTimeoutMs;
+    private final ConcurrentMap<String, EndpointState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Creates flow control with the default poll cadence.
+     *
+     * @param maxQueuedLabels labels a printer may hold before sends pause
+     * @param maxWaitMs       longest a send waits for a printer to recover
+     */
+    public PrinterFlowControl(int maxQueuedLabels, long maxWaitMs) {
+        this(maxQueuedLabels, maxWaitMs, DEFAULT_POLL_INTERVAL_MS, DEFAULT_STATUS_MAX_AGE_MS, DEFAULT_STATUS_TIMEOUT_MS);
+    }
+
+    PrinterFlowControl(int maxQueuedLabels, long maxWaitMs, long pollIntervalMs,
+                       long statusMaxAgeMs, int statusTimeoutMs) {
+        if (maxQueuedLabels < 1) {
+            throw new IllegalArgumentException("maxQueuedLabels must be at least 1.");
+        }
+        if (maxWaitMs < 0 || pollIntervalMs <= 0 || statusMaxAgeMs <= 0 || statusTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Flow control timings must be positive.");
+        }
+        this.maxQueuedLabels = maxQueuedLabels;
+        this.maxWaitMs = maxWaitMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.statusMaxAgeMs = statusMaxAgeMs;
+        this.statusTimeoutMs = statusTimeoutMs;
+    }
+
+    /**
+     * Blocks until the printer can take one more label.
+     *
+     * @param printer target printer
+     * @param probe   sends {@code ~HS} and returns the answer, or null when the printer is silent
+     * @return true when the decision is backed by a status answer, false when the printer does
+     * not answer {@code ~HS} and the label is sent blind
+     * @throws IOException       when the printer cannot be reached for a status poll
+     * @throws WmsPrintException when the printer does not recover within the wait limit
+     */
+    boolean awaitReady(PrinterConfig printer, StatusProbe probe) throws IOException {
+        Objects.requireNonNull(printer, "printer cannot be null");
+        Objects.requireNonNull(probe, "probe cannot be null");
+        EndpointState state = states.computeIfAbsent(printer.getEndpoint(), ignored -> new EndpointState());
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            if (now < state.unansweredUntilMs) {
+                return false;
+            }
+            if (state.credits > 0 && now - state.polledAtMs < statusMaxAgeMs) {
+                state.credits--;
+                return true;
+            }
+            long waitStartedMs = now;
+            String lastReported = null;
+            while (true) {
+                PrinterHostStatus status = probe.query(printer, statusTimeoutMs);
+                now = System.currentTimeMillis();
+                if (status == null) {
+                    state.unansweredUntilMs = now + UNANSWERED_RECHECK_MS;
+                    state.credits = 0;
+                    log.info("Printer {} did not answer ~HS; sending without flow control", printer.getId());
+                    return false;
+                }
+                state.polledAtMs = now;
+                int room = maxQueuedLabels - status.getQueuedLabels();
+                if (status.canPrint() && !status.isBufferFull() && room > 0) {
+                    state.credits = room - 1;
+                    if (lastReported != null) {
+                        log.info("Printer {} is accepting labels again after {} ms", printer.getId(), now - waitStartedMs);
+                    }
+                    return true;
+                }
+                state.credits = 0;
+                String conditions = status.describe();
+                if (now - waitStartedMs >= maxWaitMs) {
+                    throw new WmsPrintException(
+                            String.format("Printer %s is not accepting labels: %s", printer.getId(), conditions),
+                            String.format("Check printer %s (%s): clear the reported condition, then resume the job.",
+                                    printer.getName(), printer.getEndpoint())
+                    );
+                }
+                if (!conditions.equals(lastReported)) {
+                    log.warn("Holding labels for printer {}: {}", printer.getId(), conditions);
+                    lastReported = conditions;
+                }
+                sleep(Math.min(pollIntervalMs, Math.max(1L, maxWaitMs - (now - waitStartedMs))));
+            }
+        }
+    }
+
+    /**
+     * Drops any remaining credit after a failed send, so the next attempt polls first.
+     *
+     * @param printer printer whose send failed
+     */
+    void onSendFailed(PrinterConfig printer) {
+        EndpointState state = states.get(printer.getEndpoint());
+        if (state != null) {
+            synchronized (state) {
+                state.credits = 0;
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new WmsPrintException(
+                    "Print interrupted while waiting for the printer",
+                    ex,
+                    "Check printer status and resume the job."
+            );
+        }
+    }
+
+    /**
+     * Sends {@code ~HS} to a printer.
+     */
+    @FunctionalInterface
+    interface StatusProbe {
+        /**
+         * @param printer   printer to ask
+         * @param timeoutMs how long to wait for the answer
+         * @return parsed status, or null when the printer stayed silent or answered garbage
+         * @throws IOException when the printer cannot be reached
+         */
+        PrinterHostStatus query(PrinterConfig printer, int timeoutMs) throws IOException;
+    }
+
+    private static final class EndpointState {
+        private int credits;
+        private long polledAtMs;
+        private long unansweredUntilMs;
+    }
+}
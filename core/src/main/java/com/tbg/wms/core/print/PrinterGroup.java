@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Named set of interchangeable printers that a routing rule can target.
+ * <p>
+ * A group lets one staging location fan its labels out over every printer at a dock instead
+ * of queueing them all on one. Members are listed in preference order; callers that need a
+ * single printer use the first enabled member.
+ *
+ * @since 1.7.7
+ */
+public final class PrinterGroup {
+
+    private final String id;
+    private final List<String> memberIds;
+
+    /**
+     * Creates a printer group.
+     *
+     * @param id        stable group identifier referenced by {@code then.groupId}
+     * @param memberIds printer IDs in preference order
+     */
+    public PrinterGroup(String id, List<String> memberIds) {
+        this.id = Objects.requireNonNull(id, "id cannot be null");
+        this.memberIds = List.copyOf(Objects.requireNonNull(memberIds, "memberIds cannot be null"));
+        if (this.memberIds.isEmpty()) {
+            throw new IllegalArgumentException("Printer group has no members: " + id);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<String> getMemberIds() {
+        return memberIds;
+    }
+
+    @Override
+    public String toString() {
+        return "PrinterGroup{" +
+                "id='" + id + '\'' +
+                ", members=" + memberIds +
+                '}';
+    }
+}
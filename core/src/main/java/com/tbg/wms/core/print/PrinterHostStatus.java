@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed Zebra {@code ~HS} host status response.
+ * <p>
+ * The printer answers {@code ~HS} with three STX/ETX-framed strings. The first carries the
+ * paper-out, pause, and receive-buffer flags plus the number of formats waiting in the
+ * buffer; the second carries head-up, ribbon-out, and the labels left in the batch being
+ * printed; the third (password and RAM) is not used here.
+ */
+public final class PrinterHostStatus {
+
+    private static final char STX = '\u0002';
+    private static final char ETX = '\u0003';
+
+    private final boolean paperOut;
+    private final boolean paused;
+    private final int formatsInBuffer;
+    private final boolean bufferFull;
+    private final boolean corruptRam;
+    private final boolean underTemperature;
+    private final boolean overTemperature;
+    private final boolean headOpen;
+    private final boolean ribbonOut;
+    private final boolean labelWaiting;
+    private final int labelsRemaining;
+
+    private PrinterHostStatus(String[] first, String[] second) {
+        this.paperOut = flag(first[1]);
+        this.paused = flag(first[2]);
+        this.formatsInBuffer = number(first[4]);
+        this.bufferFull = flag(first[5]);
+        this.corruptRam = first.length > 9 && flag(first[9]);
+        this.underTemperature = first.length > 10 && flag(first[10]);
+        this.overTemperature = first.length > 11 && flag(first[11]);
+        this.headOpen = flag(second[2]);
+        this.ribbonOut = flag(second[3]);
+        this.labelWaiting = flag(second[7]);
+        this.labelsRemaining = number(second[8]);
+    }
+
+    /**
+     * Parses a raw {@code ~HS} response.
+     *
+     * @param response bytes received from the printer, decoded as ASCII
+     * @return parsed status
+     * @throws IllegalArgumentException when the response does not hold the first two status strings
+     */
+    public static PrinterHostStatus parse(String response) {
+        List<String> frames = frames(response == null ? "" : response);
+        if (frames.size() < 2) {
+            throw new IllegalArgumentException("Incomplete ~HS response: expected 3 status strings, got " + frames.size());
+        }
+        String[] first = frames.get(0).split(",", -1);
+        String[] second = frames.get(1).split(",", -1);
+        if (first.length < 6 || second.length < 9) {
+            throw new IllegalArgumentException("Malformed ~HS response: " + frames.get(0) + " / " + frames.get(1));
+        }
+        return new PrinterHostStatus(first, second);
+    }
+
+    /**
+     * Counts complete STX/ETX frames, so callers can tell when a response has fully arrived.
+     *
+     * @param response bytes received so far, decoded as ASCII
+     * @return number of complete status strings
+     */
+    static int countFrames(CharSequence response) {
+        int frames = 0;
+        boolean open = false;
+        for (int i = 0; i < response.length(); i++) {
+            char c = response.charAt(i);
+            if (c == STX) {
+                open = true;
+            } else if (c == ETX && open) {
+                frames++;
+                open = false;
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Whether the printer will print the next label it receives.
+     * <p>
+     * Paper out, pause, an open head, ribbon out, over-temperature, and corrupt RAM all stop
+     * the print engine; under-temperature only lightens the print and is not treated as a stop.
+     */
+    public boolean canPrint() {
+        return !paperOut && !paused && !headOpen && !ribbonOut && !overTemperature && !corruptRam;
+    }
+
+    /**
+     * Returns the labels the printer already holds and has not finished: formats waiting in the
+     * receive buffer plus labels left in the batch on the print engine.
+     */
+    public int getQueuedLabels() {
+        return formatsInBuffer + labelsRemaining;
+    }
+
+    public boolean isPaperOut() {
+        return paperOut;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public int getFormatsInBuffer() {
+        return formatsInBuffer;
+    }
+
+    public boolean isBufferFull() {
+        return bufferFull;
+    }
+
+    public boolean isHeadOpen() {
+        return headOpen;
+    }
+
+    public boolean isRibbonOut() {
+        return ribbonOut;
+    }
+
+    public boolean isLabelWaiting() {
+        return labelWaiting;
+    }
+
+    public int getLabelsRemaining() {
+        return labelsRemaining;
+    }
+
+    /**
+     * Describes every reported condition for operator messages and logs.
+     *
+     * @return comma-separated conditions, or {@code ready} when nothing is flagged
+     */
+    public String describe() {
+        List<String> conditions = new ArrayList<>();
+        if (paperOut) {
+            conditions.add("paper out");
+        }
+        if (paused) {
+            conditions.add("paused");
+        }
+        if (headOpen) {
+            conditions.add("head open");
+        }
+        if (ribbonOut) {
+            conditions.add("ribbon out");
+        }
+        if (overTemperature) {
+            conditions.add("head over temperature");
+        }
+        if (underTemperature) {
+            conditions.add("head under temperature");
+        }
+        if (corruptRam) {
+            conditions.add("corrupt RAM");
+        }
+        if (bufferFull) {
+            conditions.add("receive buffer full");
+        }
+        if (labelWaiting) {
+            conditions.add("label waiting to be taken");
+        }
+        if (getQueuedLabels() > 0) {
+            conditions.add(getQueuedLabels() + " label(s) queued");
+        }
+        return conditions.isEmpty() ? "ready" : String.join(", ", conditions);
+    }
+
+    @Override
+    public String toString() {
+        return "PrinterHostStatus{" + describe() + "}";
+    }
+
+    private static List<String> frames(String response) {
+        List<String> frames = new ArrayList<>(3);
+        int start = -1;
+        for (int i = 0; i < response.length(); i++) {
+            char c = response.charAt(i);
+            if (c == STX) {
+                start = i + 1;
+            } else if (c == ETX && start >= 0) {
+                frames.add(response.substring(start, i).trim());
+                start = -1;
+            }
+        }
+        return frames;
+    }
+
+    private static boolean flag(String value) {
+        return "1".equals(value.trim());
+    }
+
+    private static int number(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed ~HS counter: " + value, ex);
+        }
+    }
+}
@@ -24,6 +24,10 @@ import java.util.Map;
 
 /**
  * Loads printer and routing configuration from site YAML files.
+ * <p>
+ * {@code printer-routing.yaml} may declare {@code groups} of printers; a rule targets either
+ * {@code then.printerId} or {@code then.groupId}, never both. A printer in {@code printers.yaml}
+ * may name a {@code failoverPrinterId} that takes its labels while it is offline.
  */
 final class PrinterRoutingConfigLoader {
 
@@ -53,9 +57,10 @@ final class PrinterRoutingConfigLoader {
         RoutingYaml routingYaml = mapper.readValue(routingFile.toFile(), RoutingYaml.class);
         validateOptionalSiteCode(siteCode, routingYaml.siteCode, routingFile);
         String defaultPrinterId = requireYamlValue(routingYaml.defaultPrinterId, "defaultPrinterId", routingFile);
-        List<RoutingRule> rules = loadRules(routingYaml, routingFile);
+        Map<String, PrinterGroup> groups = loadGroups(routingYaml, printers, routingFile);
+        List<RoutingRule> rules = loadRules(routingYaml, groups, routingFile);
 
-        return new LoadedPrinterRoutingConfig(printers, rules, defaultPrinterId);
+        return new LoadedPrinterRoutingConfig(printers, groups, rules, defaultPrinterId);
     }
 
     private Map<String, PrinterConfig> loadPrinters(PrintersYaml printersYaml, Path printersFile) {
@@ -71,14 +76,52 @@ final class PrinterRoutingConfigLoader {
             String locationHint = printerEntry.locationHint;
             boolean enabled = printerEntry.enabled == null || printerEntry.enabled;
 
-            PrinterConfig printer = new PrinterConfig(id, name, ip, port, tags, capabilities, locationHint, enabled);
+            PrinterConfig printer = new PrinterConfig(id, name, ip, port, tags, capabilities, locationHint, enabled,
+                    printerEntry.failoverPrinterId);
             printers.put(id, printer);
             log.debug("Loaded printer: {}", printer);
         }
+        for (PrinterConfig printer : printers.values()) {
+            String failover = printer.getFailoverPrinterId();
+            if (failover != null && (failover.equals(printer.getId()) || !printers.containsKey(failover))) {
+                throw new IllegalArgumentException(
+                        "Printer '" + printer.getId() + "' in " + printersFile
+                                + " has an invalid failoverPrinterId: " + failover
+                );
+            }
+        }
         return printers;
     }
 
-    private List<RoutingRule> loadRules(RoutingYaml routingYaml, Path routingFile) {
+    private Map<String, PrinterGroup> loadGroups(
+            RoutingYaml routingYaml,
+            Map<String, PrinterConfig> printers,
+            Path routingFile
+    ) {
+        List<GroupEntry> groupsList = routingYaml.groups == null ? List.of() : routingYaml.groups;
+        Map<String, PrinterGroup> groups = new LinkedHashMap<>();
+        for (GroupEntry groupEntry : groupsList) {
+            String id = requireYamlValue(groupEntry.id, "groups[].id", routingFile);
+            List<String> members = groupEntry.members == null ? List.of() : groupEntry.members;
+            if (members.isEmpty()) {
+                throw new IllegalArgumentException("Printer group '" + id + "' in " + routingFile + " has no members");
+            }
+            for (String member : members) {
+                if (!printers.containsKey(member)) {
+                    throw new IllegalArgumentException(
+                            "Printer group '" + id + "' in " + routingFile + " references unknown printer: " + member
+                    );
+                }
+            }
+            if (groups.put(id, new PrinterGroup(id, members)) != null) {
+                throw new IllegalArgumentException("Duplicate printer group '" + id + "' in " + routingFile);
+            }
+            log.debug("Loaded printer group: {}", groups.get(id));
+        }
+        return groups;
+    }
+
+    private List<RoutingRule> loadRules(RoutingYaml routingYaml, Map<String, PrinterGroup> groups, Path routingFile) {
         List<RuleEntry> rulesList = routingYaml.rules == null ? List.of() : routingYaml.rules;
         List<RoutingRule> rules = new ArrayList<>();
         for (RuleEntry ruleEntry : rulesList) {
@@ -102,19 +145,47 @@ final class PrinterRoutingConfigLoader {
             String field = requireYamlValue(condition.field, "rules[].when.all[].field", routingFile);
             String operator = requireYamlValue(condition.op, "rules[].when.all[].op", routingFile);
             String value = requireYamlValue(condition.value, "rules[].when.all[].value", routingFile);
-            String printerId = requireYamlValue(
-                    ruleEntry.then == null ? null : ruleEntry.then.printerId,
-                    "rules[].then.printerId",
-                    routingFile
-            );
-
-            RoutingRule rule = new RoutingRule(id, enabled, field, operator, value, printerId);
+            RoutingRule rule;
+            if (ruleEntry.then != null && ruleEntry.then.groupId != null) {
+                rule = groupRule(ruleEntry, id, enabled, field, operator, value, groups, routingFile);
+            } else {
+                String printerId = requireYamlValue(
+                        ruleEntry.then == null ? null : ruleEntry.then.printerId,
+                        "rules[].then.printerId",
+                        routingFile
+                );
+                rule = new RoutingRule(id, enabled, field, operator, value, printerId);
+            }
             rules.add(rule);
             log.debug("Loaded routing rule: {}", rule);
         }
         return rules;
     }
 
+    private static RoutingRule groupRule(
+            RuleEntry ruleEntry,
+            String id,
+            boolean enabled,
+            String field,
+            String operator,
+            String value,
+            Map<String, PrinterGroup> groups,
+            Path routingFile
+    ) {
+        if (ruleEntry.then.printerId != null && !ruleEntry.then.printerId.isBlank()) {
+            throw new IllegalArgumentException(
+                    "Routing rule '" + id + "' in " + routingFile + " sets both printerId and groupId; choose one."
+            );
+        }
+        String groupId = requireYamlValue(ruleEntry.then.groupId, "rules[].then.groupId", routingFile);
+        if (!groups.containsKey(groupId)) {
+            throw new IllegalArgumentException(
+                    "Routing rule '" + id + "' in " + routingFile + " references unknown printer group: " + groupId
+            );
+        }
+        return RoutingRule.toGroup(id, enabled, field, operator, value, groupId);
+    }
+
     private static String requireYamlValue(String value, String field, Path sourceFile) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("Missing required field '" + field + "' in " + sourceFile);
@@ -156,15 +227,18 @@ final class PrinterRoutingConfigLoader {
 
     static final class LoadedPrinterRoutingConfig {
         final Map<String, PrinterConfig> printers;
+        final Map<String, PrinterGroup> groups;
         final List<RoutingRule> rules;
         final String defaultPrinterId;
 
         private LoadedPrinterRoutingConfig(
                 Map<String, PrinterConfig> printers,
+                Map<String, PrinterGroup> groups,
                 List<RoutingRule> rules,
                 String defaultPrinterId
         ) {
             this.printers = Map.copyOf(printers);
+            this.groups = Map.copyOf(groups);
             this.rules = List.copyOf(rules);
             this.defaultPrinterId = defaultPrinterId;
         }
@@ -187,6 +261,7 @@ final class PrinterRoutingConfigLoader {
         public List<String> capabilities;
         public String locationHint;
         public Boolean enabled;
+        public String failoverPrinterId;
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -194,9 +269,16 @@ final class PrinterRoutingConfigLoader {
         public Integer version;
         public String siteCode;
         public String defaultPrinterId;
+        public List<GroupEntry> groups;
         public List<RuleEntry> rules;
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class GroupEntry {
+        public String id;
+        public List<String> members;
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     private static final class RuleEntry {
         public String id;
@@ -220,5 +302,6 @@ final class PrinterRoutingConfigLoader {
     @JsonIgnoreProperties(ignoreUnknown = true)
     private static final class RuleThen {
         public String printerId;
+        public String groupId;
     }
 }
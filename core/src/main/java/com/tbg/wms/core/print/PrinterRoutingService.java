@@ -13,6 +13,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +25,13 @@ import java.util.Optional;
  * <p>
  * Loads printer definitions and routing rules from site-specific YAML files,
  * then evaluates rules against runtime context to select the appropriate printer.
+ * Rules are compiled into a {@link RoutingRuleIndex} once, so selection cost does not grow
+ * with the number of rules; {@link #newJobSelector()} additionally remembers decisions for
+ * the repeated contexts of a single print job.
+ * <p>
+ * A rule may target a {@link PrinterGroup}; {@link #selectPrinters(Map)} then returns every
+ * enabled member so a dispatcher can spread labels across them, while
+ * {@link #selectPrinter(Map)} keeps returning one printer (the first enabled member).
  * <p>
  * Thread-safe once initialized (immutable configuration).
  *
@@ -33,7 +42,9 @@ public final class PrinterRoutingService {
     private static final Logger log = LoggerFactory.getLogger(PrinterRoutingService.class);
 
     private final Map<String, PrinterConfig> printers;
+    private final Map<String, PrinterGroup> groups;
     private final List<RoutingRule> rules;
+    private final RoutingRuleIndex ruleIndex;
     private final String defaultPrinterId;
     private final String siteCode;
 
@@ -49,8 +60,28 @@ public final class PrinterRoutingService {
                                  List<RoutingRule> rules,
                                  String defaultPrinterId,
                                  String siteCode) {
+        this(printers, Map.of(), rules, defaultPrinterId, siteCode);
+    }
+
+    /**
+     * Creates a new printer routing service with printer groups.
+     *
+     * @param printers         available printers by ID
+     * @param groups           printer groups by ID, referenced by group-targeting rules
+     * @param rules            routing rules (evaluated in order)
+     * @param defaultPrinterId fallback printer ID if no rules match
+     * @param siteCode         site code for this configuration
+     * @since 1.7.7
+     */
+    public PrinterRoutingService(Map<String, PrinterConfig> printers,
+                                 Map<String, PrinterGroup> groups,
+                                 List<RoutingRule> rules,
+                                 String defaultPrinterId,
+                                 String siteCode) {
         this.printers = Map.copyOf(Objects.requireNonNull(printers, "printers cannot be null"));
+        this.groups = Map.copyOf(Objects.requireNonNull(groups, "groups cannot be null"));
         this.rules = List.copyOf(Objects.requireNonNull(rules, "rules cannot be null"));
+        this.ruleIndex = new RoutingRuleIndex(this.rules);
         this.defaultPrinterId = Objects.requireNonNull(defaultPrinterId, "defaultPrinterId cannot be null");
         this.siteCode = Objects.requireNonNull(siteCode, "siteCode cannot be null");
 
@@ -58,8 +89,8 @@ public final class PrinterRoutingService {
             throw new IllegalArgumentException("Default printer not found: " + defaultPrinterId);
         }
 
-        log.info("Initialized printer routing for site {} with {} printers and {} rules",
-                siteCode, printers.size(), rules.size());
+        log.info("Initialized printer routing for site {} with {} printers, {} groups and {} rules",
+                siteCode, printers.size(), groups.size(), rules.size());
     }
 
     /**
@@ -78,35 +109,65 @@ public final class PrinterRoutingService {
     public static PrinterRoutingService load(String siteCode, Path configBaseDir) throws IOException {
         PrinterRoutingConfigLoader.LoadedPrinterRoutingConfig loaded =
                 new PrinterRoutingConfigLoader().load(siteCode, configBaseDir);
-        return new PrinterRoutingService(loaded.printers, loaded.rules, loaded.defaultPrinterId, siteCode);
+        return new PrinterRoutingService(loaded.printers, loaded.groups, loaded.rules, loaded.defaultPrinterId, siteCode);
     }
 
     /**
      * Selects a printer based on routing context.
      * <p>
      * Evaluates rules in order. First matching rule wins.
-     * If no rules match, returns default printer.
+     * If no rules match, returns default printer. Decisions are logged at debug level only;
+     * this runs once per routed label. A rule targeting a group selects the group's first
+     * enabled member.
      *
      * @param context routing context (e.g., {"stagingLocation": "ROSSI"})
      * @return selected printer configuration
      * @throws IllegalStateException if selected printer not found or disabled
      */
     public PrinterConfig selectPrinter(Map<String, String> context) {
+        return selectPrinters(context).get(0);
+    }
+
+    /**
+     * Selects every printer that may take labels for a routing context.
+     * <p>
+     * Returns one printer for a rule that targets a printer (or for the default printer), and
+     * the enabled members of the group, in configured order, for a rule that targets a group.
+     *
+     * @param context routing context
+     * @return candidate printers, never empty
+     * @throws IllegalStateException if the target printer or group is missing, or nothing in it is enabled
+     * @since 1.7.7
+     */
+    public List<PrinterConfig> selectPrinters(Map<String, String> context) {
         Objects.requireNonNull(context, "context cannot be null");
 
         log.debug("Evaluating printer routing with context: {}", context);
 
-        // Evaluate rules in order
-        for (RoutingRule rule : rules) {
-            if (rule.matches(context)) {
-                log.info("Routing rule matched: {} -> printer {}", rule.getId(), rule.getPrinterId());
-                return getPrinter(rule.getPrinterId());
-            }
+        RoutingRule rule = ruleIndex.firstMatch(context);
+        if (rule == null) {
+            // No rules matched, use default
+            log.debug("No routing rules matched, using default printer: {}", defaultPrinterId);
+            return List.of(getPrinter(defaultPrinterId));
+        }
+        if (!rule.targetsGroup()) {
+            log.debug("Routing rule matched: {} -> printer {}", rule.getId(), rule.getPrinterId());
+            return List.of(getPrinter(rule.getPrinterId()));
         }
+        log.debug("Routing rule matched: {} -> group {}", rule.getId(), rule.getGroupId());
+        return getGroupMembers(rule.getGroupId());
+    }
 
-        // No rules matched, use default
-        log.info("No routing rules matched, using default printer: {}", defaultPrinterId);
-        return getPrinter(defaultPrinterId);
+    /**
+     * Creates a selector that remembers the decision for each distinct context it is asked about.
+     * <p>
+     * Use one per print job: a job routes many labels through a handful of staging locations,
+     * and the configuration cannot change underneath it.
+     *
+     * @return new job-scoped selector
+     */
+    public JobSelector newJobSelector() {
+        return new JobSelector();
     }
 
     /**
@@ -127,6 +188,24 @@ public final class PrinterRoutingService {
         return printer;
     }
 
+    private List<PrinterConfig> getGroupMembers(String groupId) {
+        PrinterGroup group = groups.get(groupId);
+        if (group == null) {
+            throw new IllegalStateException("Printer group not found: " + groupId);
+        }
+        List<PrinterConfig> members = new ArrayList<>(group.getMemberIds().size());
+        for (String memberId : group.getMemberIds()) {
+            PrinterConfig member = printers.get(memberId);
+            if (member != null && member.isEnabled()) {
+                members.add(member);
+            }
+        }
+        if (members.isEmpty()) {
+            throw new IllegalStateException("Printer group has no enabled printers: " + groupId);
+        }
+        return List.copyOf(members);
+    }
+
     /**
      * Gets printer by ID (for manual override).
      *
@@ -145,6 +224,10 @@ public final class PrinterRoutingService {
         return printers;
     }
 
+    public Map<String, PrinterGroup> getGroups() {
+        return groups;
+    }
+
     public List<RoutingRule> getRules() {
         return rules;
     }
@@ -156,5 +239,56 @@ public final class PrinterRoutingService {
     public String getSiteCode() {
         return siteCode;
     }
+
+    /**
+     * Memoizing front end for {@link #selectPrinters(Map)} scoped to one print job.
+     * <p>
+     * Not thread-safe; confine each instance to the thread planning the job.
+     */
+    public final class JobSelector {
+
+        private final Map<Map<String, String>, List<PrinterConfig>> decisions = new HashMap<>();
+
+        private JobSelector() {
+        }
+
+        /**
+         * Selects a printer, reusing the earlier decision for an identical context.
+         *
+         * @param context routing context
+         * @return selected printer configuration
+         * @throws IllegalStateException if selected printer not found or disabled
+         */
+        public PrinterConfig selectPrinter(Map<String, String> context) {
+            return selectPrinters(context).get(0);
+        }
+
+        /**
+         * Selects candidate printers, reusing the earlier decision for an identical context.
+         *
+         * @param context routing context
+         * @return candidate printers, never empty
+         * @throws IllegalStateException if the target printer or group is missing, or nothing in it is enabled
+         * @since 1.7.7
+         */
+        public List<PrinterConfig> selectPrinters(Map<String, String> context) {
+            Map<String, String> key = new HashMap<>(Objects.requireNonNull(context, "context cannot be null"));
+            List<PrinterConfig> candidates = decisions.get(key);
+            if (candidates == null) {
+                candidates = PrinterRoutingService.this.selectPrinters(key);
+                decisions.put(key, candidates);
+                log.info("Routing {} -> printer(s) {}", key, describe(candidates));
+            }
+            return candidates;
+        }
+
+        private String describe(List<PrinterConfig> candidates) {
+            List<String> ids = new ArrayList<>(candidates.size());
+            for (PrinterConfig candidate : candidates) {
+                ids.add(candidate.getId());
+            }
+            return String.join(", ", ids);
+        }
+    }
 }
 
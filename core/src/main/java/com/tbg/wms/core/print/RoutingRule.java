@@ -20,6 +20,9 @@ import java.util.Objects;
  * <p>
  * Currently supports simple field equality checks. Future extensions may
  * add regex matching, prefix matching, or composite conditions.
+ * <p>
+ * A rule targets either a single printer or, via {@link #toGroup}, a {@link PrinterGroup}
+ * whose members share the routed labels.
  *
  * @since 1.0.0
  */
@@ -31,6 +34,7 @@ public final class RoutingRule {
     private final String operator;
     private final String value;
     private final String printerId;
+    private final String groupId;
 
     /**
      * Creates a new routing rule.
@@ -44,12 +48,36 @@ public final class RoutingRule {
      */
     public RoutingRule(String id, boolean enabled, String field,
                        String operator, String value, String printerId) {
+        this(id, enabled, field, operator, value, Objects.requireNonNull(printerId, "printerId cannot be null"), null);
+    }
+
+    private RoutingRule(String id, boolean enabled, String field,
+                        String operator, String value, String printerId, String groupId) {
         this.id = Objects.requireNonNull(id, "id cannot be null");
         this.enabled = enabled;
         this.field = Objects.requireNonNull(field, "field cannot be null");
         this.operator = Objects.requireNonNull(operator, "operator cannot be null");
         this.value = Objects.requireNonNull(value, "value cannot be null");
-        this.printerId = Objects.requireNonNull(printerId, "printerId cannot be null");
+        this.printerId = printerId;
+        this.groupId = groupId;
+    }
+
+    /**
+     * Creates a rule that routes to a printer group instead of a single printer.
+     *
+     * @param id       unique rule identifier
+     * @param enabled  whether this rule is active
+     * @param field    context field to evaluate
+     * @param operator comparison operator
+     * @param value    expected value for the field
+     * @param groupId  printer group ID to route to if rule matches
+     * @return group-targeting rule
+     * @since 1.7.7
+     */
+    public static RoutingRule toGroup(String id, boolean enabled, String field,
+                                      String operator, String value, String groupId) {
+        return new RoutingRule(id, enabled, field, operator, value, null,
+                Objects.requireNonNull(groupId, "groupId cannot be null"));
     }
 
     /**
@@ -102,10 +130,29 @@ public final class RoutingRule {
         return value;
     }
 
+    /**
+     * @return target printer ID, or null when the rule targets a group
+     */
     public String getPrinterId() {
         return printerId;
     }
 
+    /**
+     * @return target printer group ID, or null when the rule targets a single printer
+     * @since 1.7.7
+     */
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * @return true when this rule routes to a {@link PrinterGroup}
+     * @since 1.7.7
+     */
+    public boolean targetsGroup() {
+        return groupId != null;
+    }
+
     @Override
     public String toString() {
         return "RoutingRule{" +
@@ -113,7 +160,7 @@ public final class RoutingRule {
                 ", field='" + field + '\'' +
                 ", op='" + operator + '\'' +
                 ", value='" + value + '\'' +
-                ", printerId='" + printerId + '\'' +
+                (groupId == null ? ", printerId='" + printerId + '\'' : ", groupId='" + groupId + '\'') +
                 ", enabled=" + enabled +
                 '}';
     }
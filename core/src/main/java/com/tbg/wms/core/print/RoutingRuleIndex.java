@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Routing rules compiled for lookup instead of a linear scan.
+ * <p>
+ * Enabled rules are grouped by context field. {@code EQUALS} rules become a hash lookup and
+ * {@code STARTS_WITH} rules a prefix trie, each remembering the position of the earliest rule
+ * per value; every other operator stays in an ordered fallback list. A lookup takes the earliest
+ * indexed hit and then checks only fallback rules that come before it, so the result is always
+ * the first rule a linear scan would match, including the same error for an unsupported
+ * operator that the scan reaches first.
+ * <p>
+ * Immutable and thread-safe.
+ */
+final class RoutingRuleIndex {
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<RoutingRule> rules;
+    private final Map<String, FieldIndex> fields;
+    private final List<Integer> fallbacks;
+
+    RoutingRuleIndex(List<RoutingRule> rules) {
+        this.rules = List.copyOf(rules);
+        Map<String, FieldIndex> byField = new LinkedHashMap<>();
+        List<Integer> ordered = new ArrayList<>();
+        for (int i = 0; i < this.rules.size(); i++) {
+            RoutingRule rule = this.rules.get(i);
+            if (!rule.isEnabled()) {
+                continue;
+            }
+            String value = rule.getValue().toUpperCase(Locale.ROOT);
+            switch (rule.getOperator().toUpperCase(Locale.ROOT)) {
+                case "EQUALS" -> byField.computeIfAbsent(rule.getField(), ignored -> new FieldIndex())
+                        .equalsFirst.putIfAbsent(value, i);
+                case "STARTS_WITH" -> byField.computeIfAbsent(rule.getField(), ignored -> new FieldIndex())
+                        .prefixes.insert(value, i);
+                default -> ordered.add(i);
+            }
+        }
+        this.fields = Map.copyOf(byField);
+        this.fallbacks = List.copyOf(ordered);
+    }
+
+    /**
+     * Finds the first rule, in configuration order, that matches the context.
+     *
+     * @param context routing context
+     * @return matching rule, or null when none matches
+     * @throws IllegalStateException when a rule with an unsupported operator is evaluated
+     */
+    RoutingRule firstMatch(Map<String, String> context) {
+        int best = NO_MATCH;
+        for (Map.Entry<String, FieldIndex> entry : fields.entrySet()) {
+            String actual = context.get(entry.getKey());
+            if (actual != null) {
+                best = Math.min(best, entry.getValue().firstMatch(actual.toUpperCase(Locale.ROOT)));
+            }
+        }
+        for (int index : fallbacks) {
+            if (index >= best) {
+                break;
+            }
+            if (rules.get(index).matches(context)) {
+                return rules.get(index);
+            }
+        }
+        return best == NO_MATCH ? null : rules.get(best);
+    }
+
+    private static final class FieldIndex {
+        private final Map<String, Integer> equalsFirst = new HashMap<>();
+        private final PrefixNode prefixes = new PrefixNode();
+
+        private int firstMatch(String actual) {
+            Integer equalsIndex = equalsFirst.get(actual);
+            int best = equalsIndex == null ? NO_MATCH : equalsIndex;
+            return Math.min(best, prefixes.firstMatch(actual));
+        }
+    }
+
+    /**
+     * Character trie over upper-cased {@code STARTS_WITH} values.
+     */
+    private static final class PrefixNode {
+        private final Map<Character, PrefixNode> children = new HashMap<>();
+        private int firstRule = NO_MATCH;
+
+        private void insert(String prefix, int ruleIndex) {
+            PrefixNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), ignored -> new PrefixNode());
+            }
+            node.firstRule = Math.min(node.firstRule, ruleIndex);
+        }
+
+        private int firstMatch(String actual) {
+            int best = firstRule;
+            PrefixNode node = this;
+            for (int i = 0; i < actual.length(); i++) {
+                node = node.children.get(actual.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                best = Math.min(best, node.firstRule);
+            }
+            return best;
+        }
+    }
+}
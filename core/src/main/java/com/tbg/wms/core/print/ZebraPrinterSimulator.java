@@ -0,0 +1,540 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Local stand-in for a Zebra printer on a RAW 9100 port, with scriptable host status.
+ * <p>
+ * Like a real printer it serves one client connection at a time, answers {@code ~HS} with the
+ * three host status strings and {@code ~HI} with its identity, and queues each
+ * {@code ^XA...^XZ} format in its receive buffer until the print engine takes it. The engine
+ * prints one label every {@code printTimeMs} and stops while the printer is paused, out of
+ * paper, has its head open, or is out of ribbon, so labels pile up in the buffer exactly as
+ * they would on a dock. Once the buffer holds {@code bufferCapacity} formats the simulator
+ * stops reading the socket until the engine makes room, which stalls the sender the same way.
+ * {@code ^DF} format downloads are stored, not printed.
+ * <p>
+ * Network conditions can be injected too: a per-command and per-connection latency, a
+ * bandwidth cap on the receive side, and a dropped connection every N labels. Conditions can
+ * be set directly or scripted to fire when a given label arrives, which lets tests, load runs,
+ * and the {@code printer-sim} CLI command reproduce dock problems without hardware.
+ * <p>
+ * Thread-safe.
+ */
+public final class ZebraPrinterSimulator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ZebraPrinterSimulator.class);
+
+    private static final String HOST_STATUS_COMMAND = "~HS";
+    private static final String HOST_IDENTIFICATION_COMMAND = "~HI";
+    private static final String HOST_IDENTIFICATION = "\u0002ZT410-203dpi,V75.20.01Z,8,8192KB\u0003\r\n";
+    private static final String FORMAT_END = "^XZ";
+    private static final int READ_CHUNK_BYTES = 8192;
+
+    private final ServerSocket server;
+    private final Thread acceptor;
+    private final Thread engine;
+    private final Object lock = new Object();
+    private final Deque<String> receiveBuffer = new ArrayDeque<>();
+    private final List<String> receivedLabels = new ArrayList<>();
+    private final List<String> printedLabels = new ArrayList<>();
+    private final List<String> storedFormats = new ArrayList<>();
+    private final Map<Integer, List<Consumer<ZebraPrinterSimulator>>> labelScripts = new HashMap<>();
+    private boolean paperOut;
+    private boolean paused;
+    private boolean headOpen;
+    private boolean ribbonOut;
+    private boolean answersHostStatus = true;
+    private int bufferCapacity = Integer.MAX_VALUE;
+    private long printTimeMs;
+    private long latencyMs;
+    private long bandwidthBytesPerSecond;
+    private int disconnectEveryLabels;
+    private int labelsRemaining;
+    private int maxQueuedLabels;
+    private int hostStatusQueries;
+    private int connections;
+    private int disconnects;
+    private volatile Socket current;
+    private volatile boolean closed;
+
+    /**
+     * Starts a simulator on an ephemeral loopback port.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public ZebraPrinterSimulator() throws IOException {
+        this(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    /**
+     * Starts a simulator on the given address and port.
+     *
+     * @param bindAddress address to listen on
+     * @param port        TCP port, or 0 for an ephemeral port
+     * @throws IOException if the port cannot be bound
+     */
+    public ZebraPrinterSimulator(InetAddress bindAddress, int port) throws IOException {
+        server = new ServerSocket();
+        server.bind(new InetSocketAddress(bindAddress, port), 50);
+        int localPort = server.getLocalPort();
+        acceptor = new Thread(this::acceptLoop, "zebra-simulator-" + localPort);
+        acceptor.setDaemon(true);
+        engine = new Thread(this::engineLoop, "zebra-simulator-engine-" + localPort);
+        engine.setDaemon(true);
+        acceptor.start();
+        engine.start();
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Builds a printer configuration that points at this simulator.
+     *
+     * @param id printer identifier
+     * @return enabled ZPL printer on this simulator's address
+     */
+    public PrinterConfig printerConfig(String id) {
+        InetAddress address = server.getInetAddress();
+        String host = address.isAnyLocalAddress() ? "127.0.0.1" : address.getHostAddress();
+        return new PrinterConfig(id, "Simulated " + id, host, getPort(),
+                List.of("SIMULATOR"), List.of("ZPL"), "simulator", true);
+    }
+
+    public ZebraPrinterSimulator setPaperOut(boolean paperOut) {
+        return update(() -> this.paperOut = paperOut);
+    }
+
+    public ZebraPrinterSimulator setPaused(boolean paused) {
+        return update(() -> this.paused = paused);
+    }
+
+    public ZebraPrinterSimulator setHeadOpen(boolean headOpen) {
+        return update(() -> this.headOpen = headOpen);
+    }
+
+    public ZebraPrinterSimulator setRibbonOut(boolean ribbonOut) {
+        return update(() -> this.ribbonOut = ribbonOut);
+    }
+
+    /**
+     * Makes the simulator ignore {@code ~HS} and {@code ~HI}, like a plain TCP stand-in.
+     */
+    public ZebraPrinterSimulator setAnswersHostStatus(boolean answersHostStatus) {
+        return update(() -> this.answersHostStatus = answersHostStatus);
+    }
+
+    /**
+     * Sets how many formats the receive buffer holds before it reports buffer full and stops
+     * reading from the socket.
+     */
+    public ZebraPrinterSimulator setBufferCapacity(int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("bufferCapacity must be at least 1.");
+        }
+        return update(() -> this.bufferCapacity = bufferCapacity);
+    }
+
+    /**
+     * Sets how long the print engine spends on each label; zero prints instantly.
+     */
+    public ZebraPrinterSimulator setPrintTimeMs(long printTimeMs) {
+        if (printTimeMs < 0) {
+            throw new IllegalArgumentException("printTimeMs cannot be negative.");
+        }
+        return update(() -> this.printTimeMs = printTimeMs);
+    }
+
+    /**
+     * Delays each {@code ~HS}/{@code ~HI} answer and each accepted connection, like a slow link
+     * or a busy printer CPU.
+     */
+    public ZebraPrinterSimulator setLatencyMs(long latencyMs) {
+        if (latencyMs < 0) {
+            throw new IllegalArgumentException("latencyMs cannot be negative.");
+        }
+        return update(() -> this.latencyMs = latencyMs);
+    }
+
+    /**
+     * Caps how fast the simulator reads from the socket; zero means unlimited.
+     */
+    public ZebraPrinterSimulator setBandwidthBytesPerSecond(long bandwidthBytesPerSecond) {
+        if (bandwidthBytesPerSecond < 0) {
+            throw new IllegalArgumentException("bandwidthBytesPerSecond cannot be negative.");
+        }
+        return update(() -> this.bandwidthBytesPerSecond = bandwidthBytesPerSecond);
+    }
+
+    /**
+     * Drops the client connection right after every Nth label is received; zero never drops.
+     */
+    public ZebraPrinterSimulator setDisconnectEveryLabels(int disconnectEveryLabels) {
+        if (disconnectEveryLabels < 0) {
+            throw new IllegalArgumentException("disconnectEveryLabels cannot be negative.");
+        }
+        return update(() -> this.disconnectEveryLabels = disconnectEveryLabels);
+    }
+
+    /**
+     * Closes the current client connection, as a printer reboot or Wi-Fi roam would.
+     */
+    public void disconnect() {
+        Socket socket = current;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ex) {
+                log.debug("Simulated disconnect failed: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs an action right after the given label has been received.
+     *
+     * @param labelNumber one-based label count that triggers the action
+     * @param action      change to apply, for example {@code p -> p.setPaperOut(true)}
+     * @return this simulator
+     */
+    public ZebraPrinterSimulator onLabel(int labelNumber, Consumer<ZebraPrinterSimulator> action) {
+        synchronized (lock) {
+            labelScripts.computeIfAbsent(labelNumber, ignored -> new ArrayList<>()).add(action);
+        }
+        return this;
+    }
+
+    public List<String> getReceivedLabels() {
+        synchronized (lock) {
+            return List.copyOf(receivedLabels);
+        }
+    }
+
+    public List<String> getPrintedLabels() {
+        synchronized (lock) {
+            return List.copyOf(printedLabels);
+        }
+    }
+
+    public int getReceivedCount() {
+        synchronized (lock) {
+            return receivedLabels.size();
+        }
+    }
+
+    public int getPrintedCount() {
+        synchronized (lock) {
+            return printedLabels.size();
+        }
+    }
+
+    public List<String> getStoredFormats() {
+        synchronized (lock) {
+            return List.copyOf(storedFormats);
+        }
+    }
+
+    public int getHostStatusQueries() {
+        synchronized (lock) {
+            return hostStatusQueries;
+        }
+    }
+
+    /**
+     * Returns the most labels the printer ever held at once (buffer plus engine).
+     */
+    public int getMaxQueuedLabels() {
+        synchronized (lock) {
+            return maxQueuedLabels;
+        }
+    }
+
+    public int getConnections() {
+        synchronized (lock) {
+            return connections;
+        }
+    }
+
+    /**
+     * Returns how many connections the simulator dropped on purpose.
+     */
+    public int getDisconnects() {
+        synchronized (lock) {
+            return disconnects;
+        }
+    }
+
+    /**
+     * Waits until the print engine has finished the given number of labels.
+     *
+     * @param count     printed label count to wait for
+     * @param timeoutMs maximum wait
+     * @return true if the count was reached in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitPrinted(int count, long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        synchronized (lock) {
+            while (printedLabels.size() < count) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    return false;
+                }
+                lock.wait(remainingMs);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Builds the {@code ~HS} answer for the current state.
+     *
+     * @return three STX/ETX-framed status strings
+     */
+    public String hostStatusResponse() {
+        synchronized (lock) {
+            return String.format(Locale.ROOT,
+                    "\u0002030,%d,%d,1218,%03d,%d,0,0,000,0,0,0\u0003\r\n"
+                            + "\u0002001,0,%d,%d,1,2,6,0,%08d,1,000\u0003\r\n"
+                            + "\u00021234,0\u0003\r\n",
+                    bit(paperOut), bit(paused), receiveBuffer.size(), bit(receiveBuffer.size() >= bufferCapacity),
+                    bit(headOpen), bit(ribbonOut), labelsRemaining);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        Socket socket = current;
+        if (socket != null) {
+            socket.close();
+        }
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        try {
+            acceptor.join(TimeUnit.SECONDS.toMillis(5));
+            engine.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ZebraPrinterSimulator update(Runnable change) {
+        synchronized (lock) {
+            change.run();
+            lock.notifyAll();
+        }
+        return this;
+    }
+
+    private boolean engineCanPrint() {
+        return !paperOut && !paused && !headOpen && !ribbonOut;
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try (Socket socket = server.accept()) {
+                current = socket;
+                long delay;
+                synchronized (lock) {
+                    connections++;
+                    delay = latencyMs;
+                }
+                pause(delay);
+                serve(socket.getInputStream(), socket.getOutputStream());
+            } catch (IOException ex) {
+                if (!closed) {
+                    log.debug("Simulated printer connection ended: {}", ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(InputStream in, OutputStream out) throws IOException {
+        StringBuilder pending = new StringBuilder();
+        byte[] chunk = new byte[READ_CHUNK_BYTES];
+        long startedNanos = System.nanoTime();
+        long bytesRead = 0;
+        while (true) {
+            long bandwidth = awaitBufferRoom();
+            int limit = bandwidth > 0 ? (int) Math.max(1, Math.min(READ_CHUNK_BYTES, bandwidth / 50)) : READ_CHUNK_BYTES;
+            int read = in.read(chunk, 0, limit);
+            if (read < 0) {
+                return;
+            }
+            pending.append(new String(chunk, 0, read, StandardCharsets.UTF_8));
+            if (bandwidth > 0) {
+                bytesRead += read;
+                long dueNanos = startedNanos + bytesRead * 1_000_000_000L / bandwidth;
+                pause(TimeUnit.NANOSECONDS.toMillis(dueNanos - System.nanoTime()));
+            }
+            // Handle commands in arrival order: ~HS is answered at once, but formats that arrived
+            // before it are already in the buffer and show up in its counts.
+            while (true) {
+                int status = pending.indexOf(HOST_STATUS_COMMAND);
+                int identify = pending.indexOf(HOST_IDENTIFICATION_COMMAND);
+                int end = pending.indexOf(FORMAT_END);
+                int command = status < 0 ? identify : identify < 0 ? status : Math.min(status, identify);
+                if (command >= 0 && (end < 0 || command < end)) {
+                    pending.delete(command, command + HOST_STATUS_COMMAND.length());
+                    answer(out, command == status);
+                } else if (end >= 0) {
+                    String format = pending.substring(0, end + FORMAT_END.length()).trim();
+                    pending.delete(0, end + FORMAT_END.length());
+                    if (accept(format)) {
+                        throw new IOException("Simulated disconnect");
+                    }
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Blocks while the receive buffer is full, then returns the current bandwidth cap.
+     */
+    private long awaitBufferRoom() throws IOException {
+        synchronized (lock) {
+            while (!closed && receiveBuffer.size() >= bufferCapacity) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Simulator interrupted", ex);
+                }
+            }
+            return bandwidthBytesPerSecond;
+        }
+    }
+
+    private void answer(OutputStream out, boolean hostStatus) throws IOException {
+        boolean respond;
+        long delay;
+        synchronized (lock) {
+            if (hostStatus) {
+                hostStatusQueries++;
+            }
+            respond = answersHostStatus;
+            delay = latencyMs;
+        }
+        if (respond) {
+            pause(delay);
+            String response = hostStatus ? hostStatusResponse() : HOST_IDENTIFICATION;
+            out.write(response.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+    }
+
+    /**
+     * Records a received format and runs its scripts.
+     *
+     * @return true when the connection should be dropped after this label
+     */
+    private boolean accept(String format) {
+        List<Consumer<ZebraPrinterSimulator>> scripts;
+        boolean drop;
+        synchronized (lock) {
+            if (format.contains("^DF")) {
+                storedFormats.add(format);
+                return false;
+            }
+            receivedLabels.add(format);
+            receiveBuffer.addLast(format);
+            maxQueuedLabels = Math.max(maxQueuedLabels, receiveBuffer.size() + labelsRemaining);
+            scripts = labelScripts.remove(receivedLabels.size());
+            drop = disconnectEveryLabels > 0 && receivedLabels.size() % disconnectEveryLabels == 0;
+            if (drop) {
+                disconnects++;
+            }
+            lock.notifyAll();
+        }
+        if (scripts != null) {
+            scripts.forEach(script -> script.accept(this));
+        }
+        return drop;
+    }
+
+    private static void pause(long millis) throws IOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Simulator interrupted", ex);
+        }
+    }
+
+    private void engineLoop() {
+        while (!closed) {
+            String label;
+            long printTime;
+            synchronized (lock) {
+                while (!closed && (receiveBuffer.isEmpty() || !engineCanPrint())) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                label = receiveBuffer.pollFirst();
+                labelsRemaining = 1;
+                printTime = printTimeMs;
+            }
+            if (printTime > 0) {
+                try {
+                    Thread.sleep(printTime);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            synchronized (lock) {
+                labelsRemaining = 0;
+                printedLabels.add(label);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private static int bit(boolean value) {
+        return value ? 1 : 0;
+    }
+}
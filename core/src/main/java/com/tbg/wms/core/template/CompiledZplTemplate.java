@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.template;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+/**
+ * Immutable, pre-parsed rendering program for a {@link LabelTemplate}.
+ * <p>
+ * The template is scanned once into alternating literal segments and placeholder slots.
+ * Rendering then walks that program in a single pass, so a 1,000-label job does not
+ * re-run the placeholder regex over the full template for every label.
+ * <p>
+ * Output is identical to the original regex substitution: the same placeholder grammar
+ * decides which markers become slots, and field values use the same ZPL escaping.
+ * <p>
+ * Thread-safe; instances hold no mutable state.
+ */
+public final class CompiledZplTemplate {
+
+    static final int MAX_FIELD_LENGTH = 255;
+
+    private final String templateName;
+    private final String[] literals;
+    private final int[] slotFieldIndexes;
+    private final String[] fieldNames;
+    private final String[] unslottedRequiredFields;
+    private final int literalCharCount;
+
+    private CompiledZplTemplate(
+            String templateName,
+            List<String> literals,
+            int[] slotFieldIndexes,
+            String[] fieldNames,
+            String[] unslottedRequiredFields
+    ) {
+        this.templateName = templateName;
+        this.literals = literals.toArray(new String[0]);
+        int chars = 0;
+        for (int i = 0; i < this.literals.length; i++) {
+            chars += this.literals[i].length();
+        }
+        this.slotFieldIndexes = slotFieldIndexes;
+        this.fieldNames = fieldNames;
+        this.unslottedRequiredFields = unslottedRequiredFields;
+        this.literalCharCount = chars;
+    }
+
+    /**
+     * Compiles a template into a rendering program.
+     * <p>
+     * Prefer {@link ZplTemplateEngine#compile(LabelTemplate)}, which caches the program on
+     * the template so it is built only once.
+     *
+     * @param template template to compile
+     * @return compiled program
+     */
+    static CompiledZplTemplate compile(LabelTemplate template) {
+        Objects.requireNonNull(template, "template cannot be null");
+        String content = template.getTemplateContent();
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Map<String, Integer> fieldIndexByName = new LinkedHashMap<>();
+
+        Matcher matcher = ZplTemplateEngine.PLACEHOLDER_PATTERN.matcher(content);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literals.add(content.substring(literalStart, matcher.start()));
+            String fieldName = matcher.group(1);
+            Integer index = fieldIndexByName.get(fieldName);
+            if (index == null) {
+                index = fieldIndexByName.size();
+                fieldIndexByName.put(fieldName, index);
+            }
+            slots.add(index);
+            literalStart = matcher.end();
+        }
+        literals.add(content.substring(literalStart));
+
+        int[] slotFieldIndexes = new int[slots.size()];
+        for (int i = 0; i < slotFieldIndexes.length; i++) {
+            slotFieldIndexes[i] = slots.get(i);
+        }
+
+        // LabelTemplate tolerates a few marker spellings (for example "{ name }") that the
+        // substitution grammar leaves as literal text but still treats as required fields.
+        List<String> unslotted = new ArrayList<>();
+        for (String placeholderName : template.getPlaceholders().keySet()) {
+            if (!fieldIndexByName.containsKey(placeholderName)) {
+                unslotted.add(placeholderName);
+            }
+        }
+
+        return new CompiledZplTemplate(
+                template.getName(),
+                literals,
+                slotFieldIndexes,
+                fieldIndexByName.keySet().toArray(new String[0]),
+                unslotted.toArray(new String[0])
+        );
+    }
+
+    /**
+     * Gets the name of the template this program was compiled from.
+     *
+     * @return template name
+     */
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    /**
+     * Gets the number of placeholder slots, counting repeated placeholders once per occurrence.
+     *
+     * @return slot count
+     */
+    public int getSlotCount() {
+        return slotFieldIndexes.length;
+    }
+
+    /**
+     * Renders the program to a string.
+     *
+     * @param fields map of placeholder names to values
+     * @return rendered ZPL
+     * @throws IllegalArgumentException if a required field is missing, null, or too long
+     */
+    public String render(Map<String, String> fields) {
+        String[] values = resolveValues(fields);
+        int valueChars = 0;
+        for (String value : values) {
+            valueChars += value.length();
+        }
+        StringBuilder out = new StringBuilder(literalCharCount + valueChars + (valueChars >> 2));
+        out.append(literals[0]);
+        for (int slot = 0; slot < slotFieldIndexes.length; slot++) {
+            appendEscaped(out, values[slotFieldIndexes[slot]]);
+            out.append(literals[slot + 1]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Looks up each distinct field once and applies the required/length rules.
+     */
+    private String[] resolveValues(Map<String, String> fields) {
+        Objects.requireNonNull(fields, "fields cannot be null");
+        for (String required : unslottedRequiredFields) {
+            if (!fields.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required field: " + required);
+            }
+        }
+        String[] values = new String[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            String value = fields.get(fieldNames[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing required field: " + fieldNames[i]);
+            }
+            if (value.length() > MAX_FIELD_LENGTH) {
+                throw new IllegalArgumentException(
+                        "Field '" + fieldNames[i] + "' exceeds maximum length of " +
+                                MAX_FIELD_LENGTH + " characters (length: " + value.length() + ")"
+                );
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Appends a field value with ZPL escaping applied in one pass.
+     * <p>
+     * Tilde becomes {@code ~~}, caret becomes {@code ~~^}, and braces are doubled. Because
+     * each input character is mapped exactly once, the tilde-before-caret ordering hazard
+     * of chained replacements cannot occur.
+     */
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '~' -> out.append("~~");
+                case '^' -> out.append("~~^");
+                case '{' -> out.append("{{");
+                case '}' -> out.append("}}");
+                default -> out.append(c);
+            }
+        }
+    }
+}
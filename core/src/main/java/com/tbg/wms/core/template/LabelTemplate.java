@@ -36,6 +36,7 @@ public final class LabelTemplate {
     private final String name;
     private final String templateContent;
     private final Map<String, PlaceholderInfo> placeholders;
+    private volatile CompiledZplTemplate compiled;
 
     /**
      * Creates a new LabelTemplate.
@@ -140,6 +141,22 @@ public final class LabelTemplate {
         return placeholders.containsKey(placeholderName);
     }
 
+    /**
+     * Gets the compiled rendering program, building it on first use.
+     * <p>
+     * A racing first use may compile twice; both programs are equivalent and either may win.
+     *
+     * @return compiled program for this template
+     */
+    CompiledZplTemplate compiled() {
+        CompiledZplTemplate program = compiled;
+        if (program == null) {
+            program = CompiledZplTemplate.compile(this);
+            compiled = program;
+        }
+        return program;
+    }
+
     @Override
     public String toString() {
         return "LabelTemplate{" +
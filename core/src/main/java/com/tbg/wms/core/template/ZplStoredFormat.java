@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.template;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+/**
+ * Printer-side stored format ({@code ^DF}/{@code ^XF}) derived from a {@link LabelTemplate}.
+ * <p>
+ * Every {@code ^FD...^FS} field that contains placeholders becomes a numbered {@code ^FN}
+ * field in the stored format. The format is downloaded to the printer once; each label then
+ * recalls it with {@code ^XF} and sends only the rendered data of those fields.
+ * <p>
+ * The format name embeds a hash of the format body, so a template edit produces a new name
+ * and workstations running different template versions never overwrite each other's format.
+ * <p>
+ * Substituting each recalled {@code ^FN} field back into the format reproduces exactly the
+ * label that {@link ZplTemplateEngine#generate(LabelTemplate, Map)} would send.
+ */
+public final class ZplStoredFormat {
+
+    private static final String DEVICE = "R:";
+    private static final String EXTENSION = ".ZPL";
+    private static final int NAME_PREFIX_LENGTH = 8;
+    private static final int NAME_HASH_LENGTH = 8;
+    private static final int MAX_FIELD_NUMBER = 9999;
+    private static final String FIELD_DATA = "^FD";
+    private static final String FIELD_SEPARATOR = "^FS";
+    private static final String LABEL_START = "^XA";
+    private static final String LABEL_END = "^XZ";
+
+    private final String formatName;
+    private final String hash;
+    private final String downloadZpl;
+    private final List<CompiledZplTemplate> fieldPrograms;
+
+    private ZplStoredFormat(String formatName, String hash, String downloadZpl, List<CompiledZplTemplate> fieldPrograms) {
+        this.formatName = formatName;
+        this.hash = hash;
+        this.downloadZpl = downloadZpl;
+        this.fieldPrograms = List.copyOf(fieldPrograms);
+    }
+
+    /**
+     * Checks whether a template can be expressed as a stored format.
+     * <p>
+     * A template qualifies when it is a single {@code ^XA...^XZ} label and every placeholder
+     * sits inside {@code ^FD...^FS} field data.
+     *
+     * @param template the label template
+     * @return true if {@link #compile(LabelTemplate)} will succeed
+     */
+    public static boolean supports(LabelTemplate template) {
+        Objects.requireNonNull(template, "template cannot be null");
+        return findFields(template.getTemplateContent()) != null;
+    }
+
+    /**
+     * Builds the stored format for a template.
+     *
+     * @param template the label template
+     * @return stored format with download and recall support
+     * @throws IllegalArgumentException if the template does not qualify
+     */
+    public static ZplStoredFormat compile(LabelTemplate template) {
+        Objects.requireNonNull(template, "template cannot be null");
+        String content = template.getTemplateContent();
+        List<int[]> fields = findFields(content);
+        if (fields == null) {
+            throw new IllegalArgumentException(
+                    "Template '" + template.getName() + "' cannot be stored on the printer: "
+                            + "placeholders must sit inside ^FD...^FS field data of a single ^XA...^XZ label");
+        }
+
+        StringBuilder body = new StringBuilder(content.length());
+        List<CompiledZplTemplate> programs = new ArrayList<>(fields.size());
+        int cursor = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            int dataStart = fields.get(i)[0];
+            int dataEnd = fields.get(i)[1];
+            body.append(content, cursor, dataStart - FIELD_DATA.length())
+                    .append("^FN")
+                    .append(i + 1);
+            String fieldData = content.substring(dataStart, dataEnd);
+            programs.add(CompiledZplTemplate.compile(new LabelTemplate(template.getName() + "#FN" + (i + 1), fieldData)));
+            cursor = dataEnd;
+        }
+        body.append(content, cursor, content.length());
+
+        String formatBody = body.toString();
+        String hash = sha256(formatBody);
+        String formatName = DEVICE + namePrefix(template.getName()) + hash.substring(0, NAME_HASH_LENGTH).toUpperCase(Locale.ROOT) + EXTENSION;
+        int labelStart = formatBody.indexOf(LABEL_START) + LABEL_START.length();
+        String downloadZpl = formatBody.substring(0, labelStart)
+                + "^DF" + formatName + FIELD_SEPARATOR
+                + formatBody.substring(labelStart);
+        return new ZplStoredFormat(formatName, hash, downloadZpl, programs);
+    }
+
+    /**
+     * Gets the printer object name, including device prefix and extension.
+     *
+     * @return format name such as {@code R:WALMARTC1A2B3C4D.ZPL}
+     */
+    public String getFormatName() {
+        return formatName;
+    }
+
+    /**
+     * Gets the SHA-256 hex digest of the format body.
+     *
+     * @return format hash
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the ZPL that stores this format on a printer.
+     *
+     * @return {@code ^DF} download payload
+     */
+    public String getDownloadZpl() {
+        return downloadZpl;
+    }
+
+    /**
+     * Gets the number of {@code ^FN} fields in the format.
+     *
+     * @return field count
+     */
+    public int getFieldCount() {
+        return fieldPrograms.size();
+    }
+
+    /**
+     * Renders the compact recall label for one set of field values.
+     *
+     * @param fields map of placeholder names to values
+     * @return {@code ^XF} recall payload carrying only field data
+     * @throws IllegalArgumentException if required fields are missing or invalid
+     */
+    public String recall(Map<String, String> fields) {
+        Objects.requireNonNull(fields, "fields cannot be null");
+        StringBuilder out = new StringBuilder(32 + fieldPrograms.size() * 32);
+        out.append(LABEL_START).append("^XF").append(formatName).append(FIELD_SEPARATOR);
+        for (int i = 0; i < fieldPrograms.size(); i++) {
+            out.append("^FN").append(i + 1).append(FIELD_DATA)
+                    .append(fieldPrograms.get(i).render(fields))
+                    .append(FIELD_SEPARATOR);
+        }
+        return out.append(LABEL_END).toString();
+    }
+
+    /**
+     * Locates the data span of every {@code ^FD} field that contains placeholders.
+     *
+     * @return ordered {@code [dataStart, dataEnd]} spans, or null when the template does not qualify
+     */
+    private static List<int[]> findFields(String content) {
+        int labelStart = content.indexOf(LABEL_START);
+        int labelEnd = content.lastIndexOf(LABEL_END);
+        if (labelStart < 0 || labelEnd < labelStart
+                || content.indexOf(LABEL_START, labelStart + 1) >= 0
+                || content.contains("^DF") || content.contains("^XF")) {
+            return null;
+        }
+        List<int[]> fields = new ArrayList<>();
+        Matcher matcher = ZplTemplateEngine.PLACEHOLDER_PATTERN.matcher(content);
+        int lastDataStart = -1;
+        while (matcher.find()) {
+            int fieldData = content.lastIndexOf(FIELD_DATA, matcher.start());
+            if (fieldData < 0) {
+                return null;
+            }
+            int dataStart = fieldData + FIELD_DATA.length();
+            int closedBefore = content.indexOf(FIELD_SEPARATOR, dataStart);
+            if (closedBefore >= 0 && closedBefore < matcher.start()) {
+                return null;
+            }
+            int dataEnd = content.indexOf(FIELD_SEPARATOR, matcher.end());
+            if (dataEnd < 0 || dataEnd > labelEnd) {
+                return null;
+            }
+            if (dataStart != lastDataStart) {
+                fields.add(new int[]{dataStart, dataEnd});
+                lastDataStart = dataStart;
+            }
+        }
+        return fields.size() > MAX_FIELD_NUMBER ? null : fields;
+    }
+
+    private static String namePrefix(String templateName) {
+        StringBuilder prefix = new StringBuilder(NAME_PREFIX_LENGTH);
+        for (int i = 0; i < templateName.length() && prefix.length() < NAME_PREFIX_LENGTH; i++) {
+            char c = Character.toUpperCase(templateName.charAt(i));
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                prefix.append(c);
+            }
+        }
+        return prefix.length() == 0 ? "LABEL" : prefix.toString();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
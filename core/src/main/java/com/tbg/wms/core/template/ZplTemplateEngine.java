@@ -15,7 +15,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -29,12 +28,15 @@ import java.util.regex.Pattern;
  * - Field length validation
  * - Special character escaping for ZPL
  * - Deterministic output (same input → same output)
+ * <p>
+ * Templates are compiled once into a {@link CompiledZplTemplate} and cached on the
+ * {@link LabelTemplate}, so repeated generation only walks the pre-parsed segments.
  */
 public final class ZplTemplateEngine {
 
     private static final Logger log = LoggerFactory.getLogger(ZplTemplateEngine.class);
 
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)\\}");
+    static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)\\}");
 
     private ZplTemplateEngine() {
         // Utility class - prevent instantiation
@@ -53,92 +55,23 @@ public final class ZplTemplateEngine {
         Objects.requireNonNull(template, "template cannot be null");
         Objects.requireNonNull(fields, "fields cannot be null");
 
-        validateRequiredFields(template, fields);
-        validateFieldLengths(fields);
-
-        String result = template.getTemplateContent();
-
-        // Replace all placeholders
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(result);
-        StringBuffer sb = new StringBuffer();
+        String result = compile(template).render(fields);
 
-        while (matcher.find()) {
-            String fieldName = matcher.group(1);
-            String fieldValue = fields.get(fieldName);
-
-            if (fieldValue == null) {
-                throw new IllegalArgumentException("Missing required field: " + fieldName);
-            }
-
-            String escapedValue = escapeZpl(fieldValue);
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(escapedValue));
+        if (log.isDebugEnabled()) {
+            log.debug("Generated ZPL label from template: {}", template.getName());
         }
-        matcher.appendTail(sb);
-
-        result = sb.toString();
-
-        log.debug("Generated ZPL label from template: {}", template.getName());
         return result;
     }
 
     /**
-     * Validates that all required template fields are present in the provided map.
+     * Gets the compiled rendering program for a template, compiling it on first use.
      *
-     * @param template the template defining required fields
-     * @param fields   the provided field values
-     * @throws IllegalArgumentException if required fields are missing
-     */
-    private static void validateRequiredFields(LabelTemplate template, Map<String, String> fields) {
-        for (String placeholderName : template.getPlaceholders().keySet()) {
-            if (!fields.containsKey(placeholderName)) {
-                throw new IllegalArgumentException("Missing required field: " + placeholderName);
-            }
-        }
-    }
-
-    /**
-     * Validates field length constraints.
-     * <p>
-     * Maximum ZPL field length is typically 255 characters for most commands.
-     *
-     * @param fields the fields to validate
-     * @throws IllegalArgumentException if any field exceeds maximum length
-     */
-    private static void validateFieldLengths(Map<String, String> fields) {
-        final int MAX_FIELD_LENGTH = 255;
-
-        for (Map.Entry<String, String> entry : fields.entrySet()) {
-            String value = entry.getValue();
-            if (value != null && value.length() > MAX_FIELD_LENGTH) {
-                throw new IllegalArgumentException(
-                        "Field '" + entry.getKey() + "' exceeds maximum length of " +
-                                MAX_FIELD_LENGTH + " characters (length: " + value.length() + ")"
-                );
-            }
-        }
-    }
-
-    /**
-     * Escapes special characters in field values for ZPL format.
-     * <p>
-     * ZPL special characters that need escaping:
-     * - ~ (tilde) - ZPL control character (must escape first!)
-     * - ^ (caret) - ZPL command prefix
-     * - { } (braces) - Our template markers
-     * <p>
-     * CRITICAL: Tilde MUST be escaped first, before caret. Otherwise:
-     * 1. Escape caret: "^" → "~~^"
-     * 2. Escape tilde (sees the ~~ we just added): "~~^" → "~~~~^" (WRONG!)
-     *
-     * @param value the raw field value
-     * @return escaped value safe for ZPL
+     * @param template the label template
+     * @return cached compiled program
      */
-    private static String escapeZpl(String value) {
-        return value
-                .replace("~", "~~")   // Escape tilde FIRST
-                .replace("^", "~~^")  // Then escape caret
-                .replace("{", "{{")   // Escape opening brace
-                .replace("}", "}}");  // Escape closing brace
+    public static CompiledZplTemplate compile(LabelTemplate template) {
+        Objects.requireNonNull(template, "template cannot be null");
+        return template.compiled();
     }
 
     /**
@@ -12,6 +12,8 @@
  * <ul>
  *   <li>{@link com.tbg.wms.core.template.LabelTemplate} - immutable template descriptor and content holder.</li>
  *   <li>{@link com.tbg.wms.core.template.ZplTemplateEngine} - placeholder substitution engine for ZPL templates.</li>
+ *   <li>{@link com.tbg.wms.core.template.CompiledZplTemplate} - cached literal/slot program rendered in a single pass.</li>
+ *   <li>{@link com.tbg.wms.core.template.ZplStoredFormat} - printer-side ^DF/^XF stored format derived from a template.</li>
  * </ul>
  *
  * @since 1.5.0
@@ -160,6 +160,30 @@ class AppConfigTest {
         }
     }
 
+    @Test
+    void testAnalyzerQueryTimeoutFallsBackToTheSharedKey(@TempDir Path tempDir) throws Exception {
+        Path emptyConfig = Files.createFile(tempDir.resolve("empty.env"));
+
+        AppConfig defaults = new AppConfig(Map.of(), emptyConfig);
+        AppConfig configured = new AppConfig(Map.of(
+                "ANALYZER_QUERY_TIMEOUT_SEC", "45",
+                "ANALYZER_OPEN_LOADS_QUERY_TIMEOUT_SEC", "300"
+        ), emptyConfig);
+
+        assertEquals(120, defaults.analyzerQueryTimeoutSeconds("open-loads"));
+        assertEquals(300, configured.analyzerQueryTimeoutSeconds("open-loads"));
+        assertEquals(45, configured.analyzerQueryTimeoutSeconds("unpicked-partials"));
+    }
+
+    @Test
+    void testAnalyzerResultCacheTtlDefaultsToThirtySeconds(@TempDir Path tempDir) throws Exception {
+        Path emptyConfig = Files.createFile(tempDir.resolve("empty.env"));
+
+        assertEquals(30, new AppConfig(Map.of(), emptyConfig).analyzerResultCacheTtlSeconds());
+        assertEquals(0, new AppConfig(Map.of("ANALYZER_RESULT_CACHE_TTL_SEC", "0"), emptyConfig)
+                .analyzerResultCacheTtlSeconds());
+    }
+
     @Test
     void testExampleConfigUsesDummyDatabaseValues() throws Exception {
         Path example = Path.of("..", "config", "wms-tags.env.example").normalize();
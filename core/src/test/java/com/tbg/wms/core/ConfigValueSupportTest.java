@@ -5,8 +5,10 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigValueSupportTest {
 
@@ -41,7 +43,7 @@ class ConfigValueSupportTest {
     @Test
     void requiredAndParsers_shouldUseSharedErrorHandling() {
         ConfigValueSupport support = new ConfigValueSupport(
-                Map.of("INT_KEY", "bad-int", "REQ_KEY", " value "),
+                Map.of("INT_KEY", "bad-int", "REQ_KEY", " value ", "BOOL_KEY", " TRUE ", "BAD_BOOL_KEY", "yes"),
                 Map.of(),
                 Map.of(),
                 "wms-tags.env"
@@ -52,5 +54,8 @@ class ConfigValueSupportTest {
         assertThrows(IllegalStateException.class, () -> support.parseInt("INT_KEY", "1"));
         assertEquals(42L, support.parseLong("LONG_KEY", "42"));
         assertEquals(1.25, support.parseDouble("DOUBLE_KEY", "1.25"));
+        assertTrue(support.parseBoolean("BOOL_KEY", "false"));
+        assertFalse(support.parseBoolean("UNSET_BOOL_KEY", "false"));
+        assertThrows(IllegalStateException.class, () -> support.parseBoolean("BAD_BOOL_KEY", "false"));
     }
 }
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class PrintRuntimeConfigSupportTest {
 
@@ -24,6 +26,16 @@ final class PrintRuntimeConfigSupportTest {
         assertEquals(0.02d, support.railLabelOffsetYInches());
         assertNull(support.railDefaultPrinterIdOrNull());
         assertNull(support.forcedPrinterIdOrNull());
+        assertFalse(support.printerStoredFormatsEnabled());
+        assertTrue(support.printerPoolEnabled());
+        assertEquals(10_000L, support.printerPoolIdleTimeoutMs());
+        assertEquals(300_000L, support.printerPoolMaxLifetimeMs());
+        assertTrue(support.printerFlowControlEnabled());
+        assertEquals(16, support.printerFlowControlMaxQueuedLabels());
+        assertEquals(300_000L, support.printerFlowControlMaxWaitMs());
+        assertTrue(support.printerCircuitBreakerEnabled());
+        assertEquals(3, support.printerCircuitBreakerFailureThreshold());
+        assertEquals(30_000L, support.printerCircuitBreakerOpenMs());
     }
 
     @Test
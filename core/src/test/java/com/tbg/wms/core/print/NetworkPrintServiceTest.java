@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import com.tbg.wms.core.exception.WmsPrintException;
+import com.tbg.wms.core.exception.WmsPrinterUnavailableException;
+import com.tbg.wms.core.template.LabelTemplate;
+import com.tbg.wms.core.template.ZplStoredFormat;
+import com.tbg.wms.core.template.ZplTemplateEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link NetworkPrintService} against a local TCP stand-in for a Zebra printer.
+ */
+class NetworkPrintServiceTest {
+
+    private static final String TEMPLATE = "^XA\n^CI28\n^PW812\n"
+            + "^FO20,20^GB772,250,3^FS\n"
+            + "^FO35,38^A0N,28,28^FDSHIP FROM^FS\n"
+            + "^FO35,72^A0N,24,24^FD{shipFromName}^FS\n"
+            + "^FO35,98^A0N,20,20^FD{shipFromAddress}^FS\n"
+            + "^FO35,168^A0N,28,28^FDSHIP TO^FS\n"
+            + "^FO35,242^A0N,18,18^FD{shipToCity}, {shipToState} {shipToZip}^FS\n"
+            + "^FO35,364^A0N,38,38^FD{customerPo}^FS\n"
+            + "^FO35,908^A0N,30,30^FB742,4,6,L,0^FD{itemDescription}^FS\n"
+            + "^FO520,1090^A0N,40,40^FD{palletSeq} OF {palletTotal}^FS\n"
+            + "^XZ\n";
+
+    private RecordingPrinter printerStandIn;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (printerStandIn != null) {
+            printerStandIn.close();
+        }
+    }
+
+    @Test
+    void printStoredFormat_shouldDownloadOnceThenSendOnlyFieldData() throws Exception {
+        printerStandIn = new RecordingPrinter();
+        PrinterConfig printer = printerStandIn.config();
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1);
+        LabelTemplate template = new LabelTemplate("WALMART_CANADA", TEMPLATE);
+        ZplStoredFormat format = ZplStoredFormat.compile(template);
+
+        int fullBytes = 0;
+        int sentBytes = 0;
+        for (int i = 1; i <= 3; i++) {
+            Map<String, String> fields = fields(i);
+            String full = ZplTemplateEngine.generate(template, fields);
+            String recall = format.recall(fields);
+            service.printStoredFormat(printer, format.getFormatName(), format.getDownloadZpl(), recall, "LPN-" + i);
+
+            String received = printerStandIn.nextPayload();
+            fullBytes += full.getBytes(StandardCharsets.UTF_8).length;
+            sentBytes += received.getBytes(StandardCharsets.UTF_8).length;
+            if (i == 1) {
+                assertTrue(received.startsWith(format.getDownloadZpl()), "first label carries the ^DF download");
+                assertEquals(recall, received.substring(format.getDownloadZpl().length()));
+            } else {
+                assertEquals(recall, received, "later labels carry only ^XF field data");
+            }
+            assertEquals(full, merge(format.getDownloadZpl(), recall), "field mapping for label " + i);
+        }
+
+        assertTrue(service.holdsStoredFormat(printer, format.getFormatName()));
+        String steadyStateRecall = format.recall(fields(4));
+        String steadyStateFull = ZplTemplateEngine.generate(template, fields(4));
+        assertTrue(steadyStateRecall.length() < steadyStateFull.length(),
+                "recall payload should be smaller than the full label");
+        assertTrue(sentBytes < fullBytes, "job bytes " + sentBytes + " should be below " + fullBytes);
+    }
+
+    @Test
+    void printStoredFormat_shouldRedownloadWhenTemplateHashChanges() throws Exception {
+        printerStandIn = new RecordingPrinter();
+        PrinterConfig printer = printerStandIn.config();
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1);
+        ZplStoredFormat original = ZplStoredFormat.compile(new LabelTemplate("WALMART_CANADA", TEMPLATE));
+        ZplStoredFormat edited = ZplStoredFormat.compile(
+                new LabelTemplate("WALMART_CANADA", TEMPLATE.replace("^PW812", "^PW800")));
+
+        service.printStoredFormat(printer, original.getFormatName(), original.getDownloadZpl(), original.recall(fields(1)), "A");
+        service.printStoredFormat(printer, edited.getFormatName(), edited.getDownloadZpl(), edited.recall(fields(2)), "B");
+        service.printStoredFormat(printer, edited.getFormatName(), edited.getDownloadZpl(), edited.recall(fields(3)), "C");
+
+        assertTrue(printerStandIn.nextPayload().contains("^DF" + original.getFormatName()));
+        assertTrue(printerStandIn.nextPayload().contains("^DF" + edited.getFormatName()));
+        assertFalse(printerStandIn.nextPayload().contains("^DF"));
+    }
+
+    @Test
+    void printStoredFormat_shouldForgetPrinterFormatsAfterFailedSend() throws Exception {
+        printerStandIn = new RecordingPrinter();
+        PrinterConfig printer = printerStandIn.config();
+        NetworkPrintService service = new NetworkPrintService(500, 500, 0, 1);
+        ZplStoredFormat format = ZplStoredFormat.compile(new LabelTemplate("WALMART_CANADA", TEMPLATE));
+
+        service.printStoredFormat(printer, format.getFormatName(), format.getDownloadZpl(), format.recall(fields(1)), "A");
+        printerStandIn.nextPayload();
+        assertTrue(service.holdsStoredFormat(printer, format.getFormatName()));
+
+        printerStandIn.close();
+        assertThrows(WmsPrintException.class, () -> service.printStoredFormat(
+                printer, format.getFormatName(), format.getDownloadZpl(), format.recall(fields(2)), "B"));
+        assertFalse(service.holdsStoredFormat(printer, format.getFormatName()));
+    }
+
+    @Test
+    void print_shouldStopRetryingOnceTheCircuitOpensThenFailFast() throws Exception {
+        int deadPort;
+        try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            deadPort = closed.getLocalPort();
+        }
+        PrinterConfig printer = new PrinterConfig("DEAD", "Dead", "127.0.0.1", deadPort,
+                List.of(), List.of("ZPL"), "test", true);
+        PrinterCircuitBreaker breaker = new PrinterCircuitBreaker(2, 60_000L);
+        NetworkPrintService service = new NetworkPrintService(500, 500, 5, 1, null, null, breaker);
+
+        WmsPrinterUnavailableException first = assertThrows(WmsPrinterUnavailableException.class,
+                () -> service.print(printer, "^XA^XZ", "A"));
+        WmsPrinterUnavailableException second = assertThrows(WmsPrinterUnavailableException.class,
+                () -> service.print(printer, "^XA^XZ", "B"));
+
+        assertEquals("DEAD", first.getPrinterId());
+        assertNotNull(first.getCause());
+        assertNull(second.getCause(), "an open circuit must refuse without touching the network");
+        assertEquals(PrinterCircuitBreaker.State.OPEN, breaker.state(printer));
+        assertEquals(1, service.statistics().snapshot().retries());
+    }
+
+    private static Map<String, String> fields(int sequence) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("shipFromName", "TROPICANA PRODUCTS, INC.");
+        fields.put("shipFromAddress", "20405 E Business Parkway Rd");
+        fields.put("shipToCity", "Mississauga");
+        fields.put("shipToState", "ON");
+        fields.put("shipToZip", "L5W 1W2");
+        fields.put("customerPo", "PO^" + (4500000 + sequence));
+        fields.put("itemDescription", "1.36L PL 1/6 NJ STRW BAN");
+        fields.put("palletSeq", String.valueOf(sequence));
+        fields.put("palletTotal", "4");
+        return fields;
+    }
+
+    /**
+     * Emulates printer-side ^XF handling by substituting recalled ^FN data into the stored body.
+     */
+    private static String merge(String downloadZpl, String recallZpl) {
+        Map<String, String> data = new HashMap<>();
+        Matcher recalled = Pattern.compile("\\^FN(\\d+)\\^FD(.*?)\\^FS").matcher(recallZpl);
+        while (recalled.find()) {
+            data.put(recalled.group(1), recalled.group(2));
+        }
+        String body = downloadZpl.replaceFirst("\\^DF[^^]*\\^FS", "");
+        Matcher fieldNumbers = Pattern.compile("\\^FN(\\d+)").matcher(body);
+        StringBuilder merged = new StringBuilder();
+        while (fieldNumbers.find()) {
+            fieldNumbers.appendReplacement(merged, Matcher.quoteReplacement("^FD" + data.get(fieldNumbers.group(1))));
+        }
+        fieldNumbers.appendTail(merged);
+        return merged.toString();
+    }
+
+    /**
+     * Single-port TCP listener that records each connection's bytes as one payload.
+     */
+    private static final class RecordingPrinter implements AutoCloseable {
+        private final ServerSocket server;
+        private final BlockingQueue<String> payloads = new LinkedBlockingQueue<>();
+        private final Thread acceptor;
+
+        RecordingPrinter() throws IOException {
+            server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            acceptor = new Thread(this::acceptLoop, "recording-printer");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        PrinterConfig config() {
+            return new PrinterConfig("STANDIN", "Stand-in", "127.0.0.1", server.getLocalPort(),
+                    List.of(), List.of("ZPL"), "test", true);
+        }
+
+        String nextPayload() throws InterruptedException {
+            String payload = payloads.poll(5, TimeUnit.SECONDS);
+            assertNotNull(payload, "printer stand-in received nothing");
+            return payload;
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept(); InputStream in = socket.getInputStream()) {
+                    payloads.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                } catch (IOException ignored) {
+                    // Closed during shutdown.
+                }
+            }
+        }
+
+        /**
+         * Closes the listener and waits for the acceptor to leave {@code accept()}; the JDK defers
+         * releasing the listening socket until then, so connects could otherwise still succeed.
+         */
+        @Override
+        public void close() throws IOException {
+            server.close();
+            try {
+                acceptor.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
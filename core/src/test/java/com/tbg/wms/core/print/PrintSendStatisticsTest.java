@@ -0,0 +1,49 @@
+package com.tbg.wms.core.print;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PrintSendStatistics}.
+ */
+class PrintSendStatisticsTest {
+
+    @Test
+    void snapshot_shouldReportTotalsAndPercentiles() {
+        PrintSendStatistics statistics = new PrintSendStatistics();
+        for (int i = 1; i <= 100; i++) {
+            statistics.record(i * 1_000_000L, i == 100 ? 3 : 1, i == 50 ? 1 : 0, i != 100);
+        }
+
+        PrintSendStatistics.Snapshot snapshot = statistics.snapshot();
+
+        assertEquals(100, snapshot.sends());
+        assertEquals(1, snapshot.failures());
+        assertEquals(2, snapshot.retries());
+        assertEquals(1, snapshot.reconnects());
+        assertEquals(50.0, snapshot.p50Millis(), 1e-9);
+        assertEquals(99.0, snapshot.p99Millis(), 1e-9);
+        assertEquals(100.0, snapshot.maxMillis(), 1e-9);
+
+        statistics.reset();
+        assertEquals(0, statistics.snapshot().sends());
+        assertEquals(0.0, statistics.snapshot().p99Millis());
+    }
+
+    @Test
+    void snapshot_shouldKeepOnlyTheRecentSampleWindow() {
+        PrintSendStatistics statistics = new PrintSendStatistics();
+        for (int i = 0; i < PrintSendStatistics.SAMPLE_WINDOW; i++) {
+            statistics.record(500_000_000L, 1, 0, true);
+        }
+        for (int i = 0; i < PrintSendStatistics.SAMPLE_WINDOW; i++) {
+            statistics.record(1_000_000L, 1, 0, true);
+        }
+
+        PrintSendStatistics.Snapshot snapshot = statistics.snapshot();
+
+        assertEquals(2L * PrintSendStatistics.SAMPLE_WINDOW, snapshot.sends());
+        assertEquals(1.0, snapshot.maxMillis(), 1e-9);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clock-driven tests for {@link PrinterCircuitBreaker} state transitions.
+ */
+class PrinterCircuitBreakerTest {
+
+    private static final long OPEN_MS = 30_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final PrinterCircuitBreaker breaker = new PrinterCircuitBreaker(3, OPEN_MS, clock::get);
+    private final PrinterConfig dock1 = printer("DOCK1", "10.0.0.1");
+    private final PrinterConfig dock2 = printer("DOCK2", "10.0.0.2");
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndRefuseSends() {
+        breaker.onFailure(dock1);
+        breaker.onFailure(dock1);
+        assertEquals(PrinterCircuitBreaker.State.CLOSED, breaker.state(dock1));
+        assertTrue(breaker.tryAcquire(dock1));
+
+        breaker.onFailure(dock1);
+
+        assertEquals(PrinterCircuitBreaker.State.OPEN, breaker.state(dock1));
+        assertFalse(breaker.tryAcquire(dock1));
+        assertEquals(OPEN_MS, breaker.retryInMs(dock1));
+        assertTrue(breaker.tryAcquire(dock2));
+        assertEquals(Map.of("DOCK1", PrinterCircuitBreaker.State.OPEN), breaker.unhealthyPrinters());
+    }
+
+    @Test
+    void successShouldResetTheFailureCount() {
+        breaker.onFailure(dock1);
+        breaker.onFailure(dock1);
+        breaker.onSuccess(dock1);
+        breaker.onFailure(dock1);
+        breaker.onFailure(dock1);
+
+        assertEquals(PrinterCircuitBreaker.State.CLOSED, breaker.state(dock1));
+    }
+
+    @Test
+    void shouldAdmitOneTrialAfterTheOpenWindowAndCloseOnSuccess() {
+        open(dock1);
+        clock.addAndGet(OPEN_MS - 1);
+        assertFalse(breaker.tryAcquire(dock1));
+        assertEquals(1, breaker.retryInMs(dock1));
+
+        clock.addAndGet(1);
+        assertTrue(breaker.tryAcquire(dock1));
+        assertEquals(PrinterCircuitBreaker.State.HALF_OPEN, breaker.state(dock1));
+        assertFalse(breaker.tryAcquire(dock1), "only one trial may be in flight");
+
+        breaker.onSuccess(dock1);
+
+        assertEquals(PrinterCircuitBreaker.State.CLOSED, breaker.state(dock1));
+        assertTrue(breaker.tryAcquire(dock1));
+        assertTrue(breaker.unhealthyPrinters().isEmpty());
+    }
+
+    @Test
+    void failedTrialShouldReopenForAFullWindow() {
+        open(dock1);
+        clock.addAndGet(OPEN_MS);
+        assertTrue(breaker.tryAcquire(dock1));
+
+        breaker.onFailure(dock1);
+
+        assertEquals(PrinterCircuitBreaker.State.OPEN, breaker.state(dock1));
+        assertEquals(OPEN_MS, breaker.retryInMs(dock1));
+        assertFalse(breaker.tryAcquire(dock1));
+    }
+
+    @Test
+    void releasedTrialShouldLetTheNextSendTry() {
+        open(dock1);
+        clock.addAndGet(OPEN_MS);
+        assertTrue(breaker.tryAcquire(dock1));
+
+        breaker.release(dock1);
+
+        assertEquals(PrinterCircuitBreaker.State.HALF_OPEN, breaker.state(dock1));
+        assertTrue(breaker.tryAcquire(dock1));
+    }
+
+    @Test
+    void listenersShouldSeeEveryTransition() {
+        List<String> transitions = new ArrayList<>();
+        breaker.addListener((printerId, from, to) -> transitions.add(printerId + ":" + from + "->" + to));
+
+        open(dock1);
+        clock.addAndGet(OPEN_MS);
+        breaker.tryAcquire(dock1);
+        breaker.onSuccess(dock1);
+
+        assertEquals(List.of(
+                "DOCK1:CLOSED->OPEN",
+                "DOCK1:OPEN->HALF_OPEN",
+                "DOCK1:HALF_OPEN->CLOSED"
+        ), transitions);
+    }
+
+    private void open(PrinterConfig printer) {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(printer);
+        }
+        assertEquals(PrinterCircuitBreaker.State.OPEN, breaker.state(printer));
+    }
+
+    private static PrinterConfig printer(String id, String ip) {
+        return new PrinterConfig(id, id, ip, 9100, List.of(), List.of("ZPL"), "", true);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.print;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PrinterConnectionPool} through {@link NetworkPrintService} against a local
+ * 9100 stand-in that keeps connections open like a real Zebra printer.
+ */
+class PrinterConnectionPoolTest {
+
+    private static final long IDLE_TIMEOUT_MS = 10_000L;
+    private static final long MAX_LIFETIME_MS = 60_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private StreamingPrinter printerStandIn;
+    private PrinterConnectionPool pool;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (pool != null) {
+            pool.close();
+        }
+        if (printerStandIn != null) {
+            printerStandIn.close();
+        }
+    }
+
+    @Test
+    void print_shouldReuseOneConnectionForConsecutiveLabels() throws Exception {
+        printerStandIn = new StreamingPrinter(0);
+        pool = new PrinterConnectionPool(IDLE_TIMEOUT_MS, MAX_LIFETIME_MS, clock::get, false);
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1, pool);
+
+        for (int i = 1; i <= 50; i++) {
+            service.print(printerStandIn.config(), label(i), "LPN-" + i);
+        }
+
+        for (int i = 1; i <= 50; i++) {
+            assertEquals(label(i), printerStandIn.nextLabel());
+        }
+        assertEquals(1, pool.getConnectionsOpened());
+        assertEquals(1, printerStandIn.acceptedConnections());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void evictExpired_shouldCloseConnectionsPastIdleTimeout() throws Exception {
+        printerStandIn = new StreamingPrinter(0);
+        pool = new PrinterConnectionPool(IDLE_TIMEOUT_MS, MAX_LIFETIME_MS, clock::get, false);
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1, pool);
+
+        service.print(printerStandIn.config(), label(1), "A");
+        assertEquals(label(1), printerStandIn.nextLabel());
+        clock.addAndGet(IDLE_TIMEOUT_MS - 1);
+        assertEquals(0, pool.evictExpired());
+        clock.addAndGet(1);
+        assertEquals(1, pool.evictExpired());
+        assertEquals(0, pool.getIdleCount());
+
+        service.print(printerStandIn.config(), label(2), "B");
+
+        assertEquals(label(2), printerStandIn.nextLabel());
+        assertEquals(2, pool.getConnectionsOpened());
+    }
+
+    @Test
+    void print_shouldRetireConnectionAtMaxLifetimeEvenWhenBusy() throws Exception {
+        printerStandIn = new StreamingPrinter(0);
+        pool = new PrinterConnectionPool(IDLE_TIMEOUT_MS, MAX_LIFETIME_MS, clock::get, false);
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1, pool);
+
+        for (int i = 1; i <= 20; i++) {
+            service.print(printerStandIn.config(), label(i), "LPN-" + i);
+            assertEquals(label(i), printerStandIn.nextLabel());
+            clock.addAndGet(MAX_LIFETIME_MS / 10);
+        }
+
+        assertEquals(2, pool.getConnectionsOpened());
+    }
+
+    @Test
+    void print_shouldReconnectAndResendWhenPrinterDroppedConnection() throws Exception {
+        printerStandIn = new StreamingPrinter(1);
+        pool = new PrinterConnectionPool(IDLE_TIMEOUT_MS, MAX_LIFETIME_MS, clock::get, false);
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1, pool);
+
+        service.print(printerStandIn.config(), label(1), "A");
+        assertEquals(label(1), printerStandIn.nextLabel());
+        printerStandIn.awaitDroppedConnections(1);
+
+        service.print(printerStandIn.config(), label(2), "B");
+        assertEquals(label(2), printerStandIn.nextLabel());
+        printerStandIn.awaitDroppedConnections(2);
+        service.print(printerStandIn.config(), label(3), "C");
+
+        assertEquals(label(3), printerStandIn.nextLabel());
+        assertNull(printerStandIn.pollLabel(200), "no label should be printed twice");
+        assertEquals(3, pool.getConnectionsOpened());
+    }
+
+    @Test
+    void close_shouldCloseIdleConnectionsAndRejectBorrow() throws Exception {
+        printerStandIn = new StreamingPrinter(0);
+        pool = new PrinterConnectionPool(IDLE_TIMEOUT_MS, MAX_LIFETIME_MS, clock::get, false);
+        NetworkPrintService service = new NetworkPrintService(1000, 1000, 0, 1, pool);
+        service.print(printerStandIn.config(), label(1), "A");
+
+        pool.close();
+
+        assertEquals(0, pool.getIdleCount());
+        assertThrows(IllegalStateException.class, () -> pool.borrow(printerStandIn.config(), 1000, 1000));
+    }
+
+    private static String label(int sequence) {
+        return "^XA^FO20,20^A0N,40,40^FDLABEL " + sequence + "^FS^XZ";
+    }
+
+    /**
+     * 9100 listener that splits each connection's byte stream into labels on {@code ^XZ}.
+     * When {@code labelsPerConnection} is positive, it closes a connection after that many
+     * labels, the way a printer drops a socket on reboot or its own idle timeout.
+     */
+    private static final class StreamingPrinter implements AutoCloseable {
+        private static final byte[] LABEL_END = "^XZ".getBytes(StandardCharsets.US_ASCII);
+
+        private final ServerSocket server;
+        private final int labelsPerConnection;
+        private final BlockingQueue<String> labels = new LinkedBlockingQueue<>();
+        private final AtomicInteger accepted = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private final List<Socket> sockets = new ArrayList<>();
+
+        StreamingPrinter(int labelsPerConnection) throws IOException {
+            this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.labelsPerConnection = labelsPerConnection;
+            Thread acceptor = new Thread(this::acceptLoop, "streaming-printer");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        PrinterConfig config() {
+            return new PrinterConfig("STANDIN", "Stand-in", "127.0.0.1", server.getLocalPort(),
+                    List.of(), List.of("ZPL"), "test", true);
+        }
+
+        String nextLabel() throws InterruptedException {
+            String label = pollLabel(5000);
+            assertNotNull(label, "printer stand-in received nothing");
+            return label;
+        }
+
+        String pollLabel(long timeoutMs) throws InterruptedException {
+            return labels.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        int acceptedConnections() {
+            return accepted.get();
+        }
+
+        void awaitDroppedConnections(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (dropped.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(dropped.get() >= count, "printer stand-in did not drop the connection");
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    accepted.incrementAndGet();
+                    synchronized (sockets) {
+                        sockets.add(socket);
+                    }
+                    Thread reader = new Thread(() -> readLabels(socket), "streaming-printer-conn");
+                    reader.setDaemon(true);
+                    reader.start();
+                } catch (IOException ignored) {
+                    // Closed during shutdown.
+                }
+            }
+        }
+
+        private void readLabels(Socket socket) {
+            ByteArrayOutputStream current = new ByteArrayOutputStream();
+            int matched = 0;
+            int received = 0;
+            try (socket; InputStream in = socket.getInputStream()) {
+                int b;
+                while ((b = in.read()) >= 0) {
+                    current.write(b);
+                    matched = b == LABEL_END[matched] ? matched + 1 : (b == LABEL_END[0] ? 1 : 0);
+                    if (matched == LABEL_END.length) {
+                        labels.add(current.toString(StandardCharsets.UTF_8));
+                        current.reset();
+                        matched = 0;
+                        received++;
+                        if (labelsPerConnection > 0 && received >= labelsPerConnection) {
+                            break;
+                        }
+                    }
+                }
+            } catch (IOException ignored) {
+                // Connection closed by client or shutdown.
+            }
+            dropped.incrementAndGet();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            synchronized (sockets) {
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.tbg.wms.core.print;
+
+import com.tbg.wms.core.exception.WmsPrintException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PrinterFlowControl} driving {@link NetworkPrintService} against a
+ * {@link ZebraPrinterSimulator}.
+ */
+class PrinterFlowControlTest {
+
+    private ZebraPrinterSimulator simulator;
+    private PrinterConnectionPool pool;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (pool != null) {
+            pool.close();
+        }
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void print_shouldHoldLabelsWhilePrinterIsPausedAndSendOnResume() throws Exception {
+        simulator = new ZebraPrinterSimulator().setPaused(true);
+        PrinterConfig printer = simulator.printerConfig("PAUSED");
+        NetworkPrintService service = service(new PrinterFlowControl(4, 5_000, 20, 5_000, 500), null);
+        ScheduledExecutorService operator = Executors.newSingleThreadScheduledExecutor();
+        try {
+            operator.schedule(() -> simulator.setPaused(false), 200, TimeUnit.MILLISECONDS);
+
+            service.print(printer, label(1), "LPN-1");
+
+            assertTrue(simulator.awaitPrinted(1, 5_000));
+            assertEquals(1, simulator.getReceivedLabels().size());
+            assertTrue(simulator.getHostStatusQueries() > 1, "printer should be re-polled while paused");
+        } finally {
+            operator.shutdownNow();
+        }
+    }
+
+    @Test
+    void print_shouldThrottleToTheQueuedLabelLimit() throws Exception {
+        simulator = new ZebraPrinterSimulator().setPrintTimeMs(15);
+        pool = new PrinterConnectionPool(10_000, 300_000);
+        NetworkPrintService service = service(new PrinterFlowControl(3, 10_000, 5, 5_000, 500), pool);
+        PrinterConfig printer = simulator.printerConfig("SLOW");
+
+        for (int i = 1; i <= 12; i++) {
+            service.print(printer, label(i), "LPN-" + i);
+        }
+
+        assertTrue(simulator.awaitPrinted(12, 10_000));
+        assertTrue(simulator.getMaxQueuedLabels() <= 3,
+                "printer held " + simulator.getMaxQueuedLabels() + " labels");
+        assertTrue(simulator.getHostStatusQueries() < 12 * 3, "credits should avoid a poll per label");
+        assertEquals(1, simulator.getConnections());
+    }
+
+    @Test
+    void print_shouldFailWithReportedConditionWhenPrinterDoesNotRecover() throws Exception {
+        simulator = new ZebraPrinterSimulator().onLabel(2, p -> p.setPaperOut(true));
+        NetworkPrintService service = service(new PrinterFlowControl(1, 150, 20, 5_000, 500), null);
+        PrinterConfig printer = simulator.printerConfig("EMPTY");
+
+        service.print(printer, label(1), "LPN-1");
+        service.print(printer, label(2), "LPN-2");
+        WmsPrintException ex = assertThrows(WmsPrintException.class,
+                () -> service.print(printer, label(3), "LPN-3"));
+
+        assertTrue(ex.getMessage().contains("paper out"), ex.getMessage());
+        assertEquals(2, simulator.getReceivedLabels().size());
+    }
+
+    @Test
+    void print_shouldSendBlindWhenPrinterDoesNotAnswerHostStatus() throws Exception {
+        simulator = new ZebraPrinterSimulator().setAnswersHostStatus(false);
+        NetworkPrintService service = service(new PrinterFlowControl(2, 1_000, 20, 5_000, 100), null);
+        PrinterConfig printer = simulator.printerConfig("LEGACY");
+
+        for (int i = 1; i <= 3; i++) {
+            service.print(printer, label(i), "LPN-" + i);
+        }
+
+        assertTrue(simulator.awaitPrinted(3, 5_000));
+        assertEquals(1, simulator.getHostStatusQueries(), "a silent printer is not asked again right away");
+    }
+
+    private static NetworkPrintService service(PrinterFlowControl flowControl, PrinterConnectionPool pool) {
+        return new NetworkPrintService(1000, 1000, 1, 1, pool, flowControl);
+    }
+
+    private static String label(int number) {
+        return "^XA^FO20,20^A0N,30,30^FDLABEL " + number + "^FS^XZ\n";
+    }
+}
@@ -0,0 +1,76 @@
+package com.tbg.wms.core.print;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PrinterHostStatus} parsing of Zebra {@code ~HS} responses.
+ */
+class PrinterHostStatusTest {
+
+    private static final String READY = "\u0002030,0,0,1218,000,0,0,0,000,0,0,0\u0003\r\n"
+            + "\u0002001,0,0,0,1,2,6,0,00000000,1,000\u0003\r\n"
+            + "\u00021234,0\u0003\r\n";
+
+    @Test
+    void parse_shouldReadReadyPrinter() {
+        PrinterHostStatus status = PrinterHostStatus.parse(READY);
+
+        assertTrue(status.canPrint());
+        assertEquals(0, status.getQueuedLabels());
+        assertEquals("ready", status.describe());
+    }
+
+    @Test
+    void parse_shouldReadFaultsAndQueueDepth() {
+        String response = "\u0002030,1,1,1218,004,1,0,0,000,0,0,0\u0003\r\n"
+                + "\u0002001,0,1,0,1,2,6,0,00000002,1,000\u0003\r\n"
+                + "\u00021234,0\u0003\r\n";
+
+        PrinterHostStatus status = PrinterHostStatus.parse(response);
+
+        assertFalse(status.canPrint());
+        assertTrue(status.isPaperOut());
+        assertTrue(status.isPaused());
+        assertTrue(status.isHeadOpen());
+        assertTrue(status.isBufferFull());
+        assertEquals(4, status.getFormatsInBuffer());
+        assertEquals(2, status.getLabelsRemaining());
+        assertEquals(6, status.getQueuedLabels());
+        assertEquals("paper out, paused, head open, receive buffer full, 6 label(s) queued", status.describe());
+    }
+
+    @Test
+    void parse_shouldRejectIncompleteOrMalformedResponses() {
+        assertThrows(IllegalArgumentException.class, () -> PrinterHostStatus.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> PrinterHostStatus.parse("\u0002030,0,0\u0003\u0002001\u0003"));
+        assertThrows(IllegalArgumentException.class, () -> PrinterHostStatus.parse(
+                "\u0002030,0,0,1218,abc,0\u0003\u0002001,0,0,0,1,2,6,0,00000000\u0003"));
+    }
+
+    @Test
+    void readHostStatus_shouldStopAfterThreeFrames() throws Exception {
+        ByteArrayInputStream in = new ByteArrayInputStream((READY + "^XA^XZ").getBytes(StandardCharsets.US_ASCII));
+
+        String response = NetworkPrintService.readHostStatus(in);
+
+        assertEquals(3, PrinterHostStatus.countFrames(response));
+        assertTrue(PrinterHostStatus.parse(response).canPrint());
+    }
+
+    @Test
+    void simulatorResponse_shouldRoundTripThroughParser() throws Exception {
+        try (ZebraPrinterSimulator simulator = new ZebraPrinterSimulator()) {
+            simulator.setRibbonOut(true);
+
+            PrinterHostStatus status = PrinterHostStatus.parse(simulator.hostStatusResponse());
+
+            assertTrue(status.isRibbonOut());
+            assertFalse(status.canPrint());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -156,6 +157,53 @@ class PrinterRoutingServiceTest {
         assertEquals("10.19.64.53:9100", selected.getEndpoint());
     }
 
+    @Test
+    void selectPrinter_shouldKeepFirstMatchAcrossOperators() {
+        // Arrange
+        PrinterConfig office = new PrinterConfig("OFFICE", "Office_Test", "10.19.64.106", 9100,
+                List.of("TEST", "QA"), List.of("ZPL"), "Admin office", true);
+        PrinterConfig dispatch = new PrinterConfig("DISPATCH", "Dispatch_Prod", "10.19.64.53", 9100,
+                List.of("PROD", "DISPATCH"), List.of("ZPL"), "Dispatch office", true);
+        List<RoutingRule> rules = List.of(
+                new RoutingRule("dock-contains", true, "stagingLocation", "CONTAINS", "OCK1", "OFFICE"),
+                new RoutingRule("dock-prefix", true, "stagingLocation", "STARTS_WITH", "dock", "DISPATCH"),
+                new RoutingRule("dock-exact", true, "stagingLocation", "EQUALS", "DOCK2", "OFFICE")
+        );
+        PrinterRoutingService service = new PrinterRoutingService(
+                Map.of("OFFICE", office, "DISPATCH", dispatch), rules, "OFFICE", "TBG3002");
+
+        // Act / Assert
+        assertEquals("OFFICE", service.selectPrinter(Map.of("stagingLocation", "dock1")).getId());
+        assertEquals("DISPATCH", service.selectPrinter(Map.of("stagingLocation", "DOCK2")).getId());
+        assertEquals("OFFICE", service.selectPrinter(Map.of("stagingLocation", "ROSSI")).getId());
+    }
+
+    @Test
+    void jobSelector_shouldReuseDecisionForRepeatedContext() {
+        // Arrange
+        PrinterConfig office = new PrinterConfig("OFFICE", "Office_Test", "10.19.64.106", 9100,
+                List.of("TEST", "QA"), List.of("ZPL"), "Admin office", true);
+        PrinterConfig dispatch = new PrinterConfig("DISPATCH", "Dispatch_Prod", "10.19.64.53", 9100,
+                List.of("PROD", "DISPATCH"), List.of("ZPL"), "Dispatch office", true);
+        List<RoutingRule> rules = List.of(new RoutingRule("staging-rossi-dispatch", true,
+                "stagingLocation", "EQUALS", "ROSSI", "DISPATCH"));
+        PrinterRoutingService service = new PrinterRoutingService(
+                Map.of("OFFICE", office, "DISPATCH", dispatch), rules, "OFFICE", "TBG3002");
+        PrinterRoutingService.JobSelector selector = service.newJobSelector();
+        Map<String, String> mutableContext = new HashMap<>(Map.of("stagingLocation", "ROSSI"));
+
+        // Act
+        PrinterConfig first = selector.selectPrinter(mutableContext);
+        mutableContext.put("stagingLocation", "DOCK1");
+        PrinterConfig second = selector.selectPrinter(mutableContext);
+        PrinterConfig repeated = selector.selectPrinter(Map.of("stagingLocation", "ROSSI"));
+
+        // Assert
+        assertEquals("DISPATCH", first.getId());
+        assertEquals("OFFICE", second.getId());
+        assertSame(first, repeated);
+    }
+
     @Test
     void selectPrinter_shouldRouteToDefault_whenNoRulesMatch() {
         // Arrange
@@ -378,5 +426,123 @@ class PrinterRoutingServiceTest {
 
         assertTrue(thrown.getMessage().contains("multiple conditions"));
     }
+
+    @Test
+    void load_shouldRouteRuleToEnabledMembersOfPrinterGroup(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path siteDir = Files.createDirectories(tempDir.resolve("TBG3002"));
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n",
+                "printers:",
+                "  - id: OFFICE",
+                "    name: Office_Test",
+                "    ip: 10.19.64.106",
+                "  - id: DOCK1",
+                "    name: Dock 1",
+                "    ip: 10.19.64.201",
+                "  - id: DOCK2",
+                "    name: Dock 2",
+                "    ip: 10.19.64.202",
+                "    enabled: false",
+                "  - id: DOCK3",
+                "    name: Dock 3",
+                "    ip: 10.19.64.203",
+                ""
+        ), StandardCharsets.UTF_8);
+        Files.writeString(siteDir.resolve("printer-routing.yaml"), String.join("\n",
+                "defaultPrinterId: OFFICE",
+                "groups:",
+                "  - id: DOOR_PRINTERS",
+                "    members: [ DOCK1, DOCK2, DOCK3 ]",
+                "rules:",
+                "  - id: doors",
+                "    when:",
+                "      all:",
+                "        - field: stagingLocation",
+                "          op: STARTS_WITH",
+                "          value: DOOR",
+                "    then:",
+                "      groupId: DOOR_PRINTERS",
+                ""
+        ), StandardCharsets.UTF_8);
+
+        // Act
+        PrinterRoutingService service = PrinterRoutingService.load("TBG3002", tempDir);
+        List<PrinterConfig> members = service.selectPrinters(Map.of("stagingLocation", "door-7"));
+
+        // Assert
+        assertEquals(List.of("DOCK1", "DOCK2", "DOCK3"), service.getGroups().get("DOOR_PRINTERS").getMemberIds());
+        assertTrue(service.getRules().get(0).targetsGroup());
+        assertEquals(List.of("DOCK1", "DOCK3"), members.stream().map(PrinterConfig::getId).toList());
+        assertEquals("DOCK1", service.selectPrinter(Map.of("stagingLocation", "DOOR-7")).getId());
+        assertEquals(List.of("OFFICE"), service.selectPrinters(Map.of("stagingLocation", "ROSSI")).stream()
+                .map(PrinterConfig::getId).toList());
+    }
+
+    @Test
+    void load_shouldRejectPrinterGroupWithUnknownMember(@TempDir Path tempDir) throws Exception {
+        Path siteDir = Files.createDirectories(tempDir.resolve("TBG3002"));
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n",
+                "printers:",
+                "  - id: OFFICE",
+                "    name: Office_Test",
+                "    ip: 10.19.64.106",
+                ""
+        ), StandardCharsets.UTF_8);
+        Files.writeString(siteDir.resolve("printer-routing.yaml"), String.join("\n",
+                "defaultPrinterId: OFFICE",
+                "groups:",
+                "  - id: DOOR_PRINTERS",
+                "    members: [ OFFICE, DOCK9 ]",
+                "rules: []",
+                ""
+        ), StandardCharsets.UTF_8);
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> PrinterRoutingService.load("TBG3002", tempDir)
+        );
+
+        assertTrue(thrown.getMessage().contains("unknown printer: DOCK9"));
+    }
+
+    @Test
+    void load_shouldReadFailoverPrinterAndRejectUnknownOnes(@TempDir Path tempDir) throws Exception {
+        Path siteDir = Files.createDirectories(tempDir.resolve("TBG3002"));
+        Files.writeString(siteDir.resolve("printer-routing.yaml"), String.join("\n",
+                "defaultPrinterId: DOCK1",
+                "rules: []",
+                ""
+        ), StandardCharsets.UTF_8);
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n",
+                "printers:",
+                "  - id: DOCK1",
+                "    name: Dock_1",
+                "    ip: 10.19.64.101",
+                "    failoverPrinterId: DOCK2",
+                "  - id: DOCK2",
+                "    name: Dock_2",
+                "    ip: 10.19.64.102",
+                ""
+        ), StandardCharsets.UTF_8);
+
+        PrinterRoutingService service = PrinterRoutingService.load("TBG3002", tempDir);
+
+        assertEquals("DOCK2", service.findPrinter("DOCK1").orElseThrow().getFailoverPrinterId());
+        assertNull(service.findPrinter("DOCK2").orElseThrow().getFailoverPrinterId());
+
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n",
+                "printers:",
+                "  - id: DOCK1",
+                "    name: Dock_1",
+                "    ip: 10.19.64.101",
+                "    failoverPrinterId: DOCK9",
+                ""
+        ), StandardCharsets.UTF_8);
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> PrinterRoutingService.load("TBG3002", tempDir)
+        );
+        assertTrue(thrown.getMessage().contains("invalid failoverPrinterId: DOCK9"));
+    }
 }
-
@@ -0,0 +1,106 @@
+package com.tbg.wms.core.print;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests: for randomly generated rule sets and contexts, the compiled index must pick
+ * exactly the rule a linear first-match scan picks.
+ */
+class RoutingRuleIndexTest {
+
+    private static final String[] FIELDS = {"stagingLocation", "carrierCode", "shipToState"};
+    private static final String[] OPERATORS = {"EQUALS", "STARTS_WITH", "CONTAINS", "equals", "Starts_With"};
+    private static final String[] VALUES = {"", "D", "DO", "DOCK", "DOCK1", "dock12", "OCK", "ROSSI", "rossi", "R", "1"};
+
+    @Test
+    void firstMatch_shouldAgreeWithLinearScanForRandomRulesAndContexts() {
+        Random random = new Random(20261017L);
+        for (int ruleSet = 0; ruleSet < 500; ruleSet++) {
+            List<RoutingRule> rules = randomRules(random, random.nextInt(25));
+            RoutingRuleIndex index = new RoutingRuleIndex(rules);
+            for (int sample = 0; sample < 50; sample++) {
+                Map<String, String> context = randomContext(random);
+                assertSame(linearScan(rules, context), index.firstMatch(context),
+                        () -> "rules=" + rules + " context=" + context);
+            }
+        }
+    }
+
+    @Test
+    void firstMatch_shouldFailOnUnsupportedOperatorOnlyWhenScanReachesIt() {
+        List<RoutingRule> rules = List.of(
+                new RoutingRule("exact", true, "stagingLocation", "EQUALS", "ROSSI", "A"),
+                new RoutingRule("regex", true, "stagingLocation", "MATCHES", "DOCK.*", "B"),
+                new RoutingRule("prefix", true, "stagingLocation", "STARTS_WITH", "DOCK", "C")
+        );
+        RoutingRuleIndex index = new RoutingRuleIndex(rules);
+
+        assertEquals("exact", index.firstMatch(Map.of("stagingLocation", "rossi")).getId());
+        assertNull(index.firstMatch(Map.of("carrierCode", "MDLE")));
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> index.firstMatch(Map.of("stagingLocation", "DOCK1")));
+        assertTrue(thrown.getMessage().contains("Unsupported operator"));
+    }
+
+    @Test
+    void firstMatch_shouldIgnoreDisabledRulesAndNullValues() {
+        List<RoutingRule> rules = List.of(
+                new RoutingRule("off", false, "stagingLocation", "EQUALS", "ROSSI", "A"),
+                new RoutingRule("on", true, "stagingLocation", "STARTS_WITH", "ROS", "B")
+        );
+        RoutingRuleIndex index = new RoutingRuleIndex(rules);
+        Map<String, String> nullValue = new HashMap<>();
+        nullValue.put("stagingLocation", null);
+
+        assertEquals("on", index.firstMatch(Map.of("stagingLocation", "ROSSI")).getId());
+        assertNull(index.firstMatch(nullValue));
+    }
+
+    private static List<RoutingRule> randomRules(Random random, int count) {
+        List<RoutingRule> rules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rules.add(new RoutingRule(
+                    "rule-" + i,
+                    random.nextInt(6) != 0,
+                    pick(random, FIELDS),
+                    pick(random, OPERATORS),
+                    pick(random, VALUES),
+                    "P" + random.nextInt(4)));
+        }
+        return rules;
+    }
+
+    private static Map<String, String> randomContext(Random random) {
+        Map<String, String> context = new HashMap<>();
+        for (String field : FIELDS) {
+            int choice = random.nextInt(4);
+            if (choice == 0) {
+                continue;
+            }
+            String value = pick(random, VALUES);
+            context.put(field, choice == 1 ? value + pick(random, VALUES) : value);
+        }
+        return context;
+    }
+
+    private static RoutingRule linearScan(List<RoutingRule> rules, Map<String, String> context) {
+        for (RoutingRule rule : rules) {
+            if (rule.matches(context)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
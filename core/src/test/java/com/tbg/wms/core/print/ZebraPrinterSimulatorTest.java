@@ -0,0 +1,76 @@
+package com.tbg.wms.core.print;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ZebraPrinterSimulator}.
+ */
+class ZebraPrinterSimulatorTest {
+
+    private ZebraPrinterSimulator simulator;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void framesLabelsAndAnswersHostQueriesInArrivalOrder() throws Exception {
+        simulator = new ZebraPrinterSimulator().setPaused(true);
+
+        try (Socket socket = new Socket("127.0.0.1", simulator.getPort())) {
+            socket.setSoTimeout(2_000);
+            OutputStream out = socket.getOutputStream();
+            out.write("^XA^FDONE^FS^XZ^XA^FDTWO^FS^XZ~HS".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            PrinterHostStatus status = PrinterHostStatus.parse(NetworkPrintService.readHostStatus(socket.getInputStream()));
+
+            assertTrue(status.isPaused());
+            assertEquals(2, status.getFormatsInBuffer());
+
+            out.write("~HI".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertTrue(readFrame(socket.getInputStream()).startsWith("ZT410"));
+        }
+        assertEquals(2, simulator.getReceivedCount());
+        assertEquals(0, simulator.getPrintedCount());
+    }
+
+    @Test
+    void dropsTheConnectionAfterTheConfiguredLabelCount() throws Exception {
+        simulator = new ZebraPrinterSimulator().setDisconnectEveryLabels(2);
+
+        try (Socket socket = new Socket("127.0.0.1", simulator.getPort())) {
+            socket.setSoTimeout(2_000);
+            OutputStream out = socket.getOutputStream();
+            out.write("^XA^FD1^FS^XZ^XA^FD2^FS^XZ".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            assertEquals(-1, socket.getInputStream().read());
+        }
+        assertTrue(simulator.awaitPrinted(2, 5_000));
+        assertEquals(1, simulator.getDisconnects());
+    }
+
+    private static String readFrame(InputStream in) throws IOException {
+        StringBuilder frame = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\u0003' && c >= 0) {
+            if (c != '\u0002') {
+                frame.append((char) c);
+            }
+        }
+        return frame.toString();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Golden and equivalence tests for the compiled template program.
+ * <p>
+ * The golden file was produced by the original regex-based engine, so these tests pin the
+ * compiled renderer to byte-for-byte identical output.
+ */
+class CompiledZplTemplateTest {
+
+    private static final String GOLDEN_RESOURCE = "walmart-canada-label.golden.zpl";
+
+    @Test
+    void render_shouldMatchGoldenWalmartLabel() throws IOException {
+        LabelTemplate template = walmartTemplate();
+
+        String rendered = ZplTemplateEngine.generate(template, walmartFields());
+
+        assertEquals(readGolden(), rendered);
+    }
+
+    @Test
+    void compile_shouldBeCachedOnTemplate() throws IOException {
+        LabelTemplate template = walmartTemplate();
+
+        CompiledZplTemplate first = ZplTemplateEngine.compile(template);
+        CompiledZplTemplate second = ZplTemplateEngine.compile(template);
+
+        assertSame(first, second);
+        assertEquals(18, first.getSlotCount());
+        assertEquals("WALMART_CANADA", first.getTemplateName());
+    }
+
+    @Test
+    void render_shouldMatchLegacyEngineForEdgeCaseValues() {
+        LabelTemplate template = new LabelTemplate("EDGE",
+                "{a}^XA^FD{a}~{b}^FS { spaced } ^FD{c}^FS^XZ{a}");
+        List<String> samples = List.of(
+                "",
+                "plain",
+                "~^~^",
+                "{a}",
+                "}}{{",
+                "caf\u00e9 \u2013 \u20ac",
+                "emoji \uD83D\uDE00 pair",
+                "lone \uD800 high",
+                "lone \uDC00 low",
+                "$1 \\ backslash"
+        );
+        for (String sample : samples) {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("a", sample);
+            fields.put("b", "B" + sample);
+            fields.put("c", sample + "C");
+            fields.put("spaced", "unused");
+
+            assertEquals(legacyGenerate(template, fields), ZplTemplateEngine.generate(template, fields),
+                    "render for " + sample);
+        }
+    }
+
+    @Test
+    void render_shouldStillRequireLenientlyParsedPlaceholders() {
+        LabelTemplate template = new LabelTemplate("SPACED", "^XA^FD{ spaced }^FS^FD{name}^FS^XZ");
+        Map<String, String> fields = new HashMap<>();
+        fields.put("name", "value");
+
+        assertThrows(IllegalArgumentException.class, () -> ZplTemplateEngine.generate(template, fields));
+
+        fields.put("spaced", "ignored");
+        assertEquals("^XA^FD{ spaced }^FS^FDvalue^FS^XZ", ZplTemplateEngine.generate(template, fields));
+    }
+
+    @Test
+    void render_shouldRejectOverlongField() {
+        LabelTemplate template = new LabelTemplate("TEST", "^XA^FD{value}^FS^XZ");
+
+        assertEquals("^XA^FD" + "A".repeat(255) + "^FS^XZ",
+                ZplTemplateEngine.generate(template, Map.of("value", "A".repeat(255))));
+        assertThrows(IllegalArgumentException.class,
+                () -> ZplTemplateEngine.generate(template, Map.of("value", "A".repeat(256))));
+    }
+
+    /**
+     * Reference copy of the pre-compilation regex engine used to prove equivalence.
+     */
+    private static String legacyGenerate(LabelTemplate template, Map<String, String> fields) {
+        Matcher matcher = ZplTemplateEngine.PLACEHOLDER_PATTERN.matcher(template.getTemplateContent());
+        StringBuffer sb = new StringBuffer();
+        while (matcher.find()) {
+            String escaped = fields.get(matcher.group(1))
+                    .replace("~", "~~")
+                    .replace("^", "~~^")
+                    .replace("{", "{{")
+                    .replace("}", "}}");
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(escaped));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static LabelTemplate walmartTemplate() throws IOException {
+        Path repoRoot = Path.of("..").toAbsolutePath().normalize();
+        Path templatePath = repoRoot.resolve("config").resolve("templates").resolve("walmart-canada-label.zpl");
+        return new LabelTemplate("WALMART_CANADA", Files.readString(templatePath));
+    }
+
+    private static String readGolden() throws IOException {
+        try (InputStream in = CompiledZplTemplateTest.class.getResourceAsStream(GOLDEN_RESOURCE)) {
+            assertNotNull(in, "golden resource missing: " + GOLDEN_RESOURCE);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, String> walmartFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("shipFromName", "TROPICANA PRODUCTS, INC.");
+        fields.put("shipFromAddress", "20405 E Business Parkway Rd");
+        fields.put("shipFromCityStateZip", "Walnut, CA 91789");
+        fields.put("shipToName", "WAL-MART CANADA 7087R");
+        fields.put("shipToAddress1", "6800 Maritz Dr ~ Dock {4}");
+        fields.put("shipToCity", "Mississauga");
+        fields.put("shipToState", "ON");
+        fields.put("shipToZip", "L5W 1W2");
+        fields.put("customerPo", "PO^4500123");
+        fields.put("carrierCode", "CNRL");
+        fields.put("carrierMoveId", "CM-241127");
+        fields.put("locationNumber", "7087R");
+        fields.put("stopSequence", "2");
+        fields.put("walmartItemNumber", "30081705");
+        fields.put("tbgSku", "205641");
+        fields.put("itemDescription", "1.36L PL 1/6 NJ STRW BAN \u2013 jus d'orange \u00e9");
+        fields.put("palletSeq", "3");
+        fields.put("palletTotal", "12");
+        return fields;
+    }
+}
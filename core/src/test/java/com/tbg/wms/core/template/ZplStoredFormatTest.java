@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.core.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ZplStoredFormat}.
+ */
+class ZplStoredFormatTest {
+
+    private static final Pattern RECALL_FIELD = Pattern.compile("\\^FN(\\d+)\\^FD(.*?)\\^FS");
+
+    @Test
+    void recall_mergedIntoFormat_shouldReproduceFullLabel() throws IOException {
+        LabelTemplate template = walmartTemplate();
+        Map<String, String> fields = walmartFields();
+        ZplStoredFormat format = ZplStoredFormat.compile(template);
+
+        String merged = merge(format.getDownloadZpl(), format.recall(fields));
+
+        assertEquals(ZplTemplateEngine.generate(template, fields), merged);
+        assertEquals(15, format.getFieldCount());
+    }
+
+    @Test
+    void recall_shouldCarryCompositeFieldsAsOneFieldNumber() {
+        LabelTemplate template = new LabelTemplate("MIXED",
+                "^XA^FO1,1^FDSTATIC^FS^FO2,2^FD{city}, {state}^FS^FO3,3^FD{seq} OF {total}^FS^XZ");
+        ZplStoredFormat format = ZplStoredFormat.compile(template);
+
+        String recall = format.recall(Map.of("city", "Mississauga", "state", "ON", "seq", "1", "total", "2"));
+
+        assertEquals("^XA^XF" + format.getFormatName() + "^FS^FN1^FDMississauga, ON^FS^FN2^FD1 OF 2^FS^XZ", recall);
+        assertTrue(format.getDownloadZpl().startsWith("^XA^DF" + format.getFormatName() + "^FS"));
+        assertTrue(format.getDownloadZpl().contains("^FO1,1^FDSTATIC^FS^FO2,2^FN1^FS^FO3,3^FN2^FS^XZ"));
+    }
+
+    @Test
+    void recall_shouldEscapeFieldDataLikeFullRender() {
+        LabelTemplate template = new LabelTemplate("ESC", "^XA^FO1,1^FD{value}^FS^XZ");
+        ZplStoredFormat format = ZplStoredFormat.compile(template);
+
+        String recall = format.recall(Map.of("value", "A^B~C{D}"));
+
+        assertTrue(recall.contains("^FN1^FDA~~^B~~C{{D}}^FS"));
+    }
+
+    @Test
+    void formatName_shouldChangeWithTemplateContent() {
+        ZplStoredFormat first = ZplStoredFormat.compile(new LabelTemplate("WALMART_CANADA", "^XA^FO1,1^FD{a}^FS^XZ"));
+        ZplStoredFormat same = ZplStoredFormat.compile(new LabelTemplate("WALMART_CANADA", "^XA^FO1,1^FD{a}^FS^XZ"));
+        ZplStoredFormat edited = ZplStoredFormat.compile(new LabelTemplate("WALMART_CANADA", "^XA^FO9,9^FD{a}^FS^XZ"));
+
+        assertEquals(first.getFormatName(), same.getFormatName());
+        assertEquals(first.getHash(), same.getHash());
+        assertNotEquals(first.getFormatName(), edited.getFormatName());
+        assertTrue(first.getFormatName().matches("R:WALMARTC[0-9A-F]{8}\\.ZPL"));
+    }
+
+    @Test
+    void supports_shouldRejectPlaceholdersOutsideFieldData() {
+        assertFalse(ZplStoredFormat.supports(new LabelTemplate("POS", "^XA^FO{x},10^FDHELLO^FS^XZ")));
+        assertFalse(ZplStoredFormat.supports(new LabelTemplate("UNTERMINATED", "^XA^FO1,1^FD{a}^XZ")));
+        assertFalse(ZplStoredFormat.supports(new LabelTemplate("TWO", "^XA^FD{a}^FS^XZ^XA^FD{b}^FS^XZ")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ZplStoredFormat.compile(new LabelTemplate("POS", "^XA^FO{x},10^FDHELLO^FS^XZ")));
+    }
+
+    @Test
+    void recall_shouldRequireFields() {
+        ZplStoredFormat format = ZplStoredFormat.compile(new LabelTemplate("REQ", "^XA^FO1,1^FD{a}^FS^XZ"));
+
+        assertThrows(IllegalArgumentException.class, () -> format.recall(new HashMap<>()));
+    }
+
+    /**
+     * Emulates the printer: substitutes recalled field data into the stored format body.
+     */
+    static String merge(String downloadZpl, String recallZpl) {
+        Map<String, String> data = new HashMap<>();
+        Matcher matcher = RECALL_FIELD.matcher(recallZpl);
+        while (matcher.find()) {
+            data.put(matcher.group(1), matcher.group(2));
+        }
+        String body = downloadZpl.replaceFirst("\\^DF[^^]*\\^FS", "");
+        Matcher fieldNumbers = Pattern.compile("\\^FN(\\d+)").matcher(body);
+        StringBuilder merged = new StringBuilder();
+        while (fieldNumbers.find()) {
+            fieldNumbers.appendReplacement(merged, Matcher.quoteReplacement("^FD" + data.get(fieldNumbers.group(1))));
+        }
+        fieldNumbers.appendTail(merged);
+        return merged.toString();
+    }
+
+    private static LabelTemplate walmartTemplate() throws IOException {
+        Path repoRoot = Path.of("..").toAbsolutePath().normalize();
+        Path templatePath = repoRoot.resolve("config").resolve("templates").resolve("walmart-canada-label.zpl");
+        return new LabelTemplate("WALMART_CANADA", Files.readString(templatePath));
+    }
+
+    static Map<String, String> walmartFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("shipFromName", "TROPICANA PRODUCTS, INC.");
+        fields.put("shipFromAddress", "20405 E Business Parkway Rd");
+        fields.put("shipFromCityStateZip", "Walnut, CA 91789");
+        fields.put("shipToName", "WAL-MART CANADA 7087R");
+        fields.put("shipToAddress1", "6800 Maritz Dr ~ Dock {4}");
+        fields.put("shipToCity", "Mississauga");
+        fields.put("shipToState", "ON");
+        fields.put("shipToZip", "L5W 1W2");
+        fields.put("customerPo", "PO^4500123");
+        fields.put("carrierCode", "CNRL");
+        fields.put("carrierMoveId", "CM-241127");
+        fields.put("locationNumber", "7087R");
+        fields.put("stopSequence", "2");
+        fields.put("walmartItemNumber", "30081705");
+        fields.put("tbgSku", "205641");
+        fields.put("itemDescription", "1.36L PL 1/6 NJ STRW BAN");
+        fields.put("palletSeq", "3");
+        fields.put("palletTotal", "12");
+        return fields;
+    }
+}
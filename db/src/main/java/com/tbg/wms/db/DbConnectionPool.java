@@ -208,6 +208,67 @@ public final class DbConnectionPool implements AutoCloseable {
         }
     }
 
+    /**
+     * Opens physical connections up front so the first queries skip connection setup.
+     *
+     * <p>Raises the pool's minimum idle count (capped at the maximum pool size) so HikariCP keeps
+     * the warmed connections instead of retiring them as idle, then borrows that many connections
+     * at once and hands them back. Call this only after the constructor's validation borrow has
+     * succeeded, so bad credentials never fan out into several login attempts.</p>
+     *
+     * @param minIdle number of connections to keep open
+     * @return number of idle connections after warming
+     * @throws WmsDbConnectivityException if a connection cannot be opened
+     */
+    public int prewarm(int minIdle) {
+        int target = Math.min(Math.max(0, minIdle), config.dbPoolMaxSize());
+        if (target == 0) {
+            return dataSource.getHikariPoolMXBean().getIdleConnections();
+        }
+        dataSource.getHikariConfigMXBean().setMinimumIdle(target);
+        List<Connection> borrowed = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new WmsDbConnectivityException(
+                    "Failed to pre-warm connection pool: " + e.getMessage(),
+                    e,
+                    errorSupport.remediationHint(e, config)
+            );
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Failed to return pre-warmed connection: {}", e.getMessage());
+                }
+            }
+        }
+        int idle = dataSource.getHikariPoolMXBean().getIdleConnections();
+        log.info("Connection pool pre-warmed: minIdle={}, idle={}", target, idle);
+        return idle;
+    }
+
+    /**
+     * Returns how many connections callers currently hold.
+     *
+     * @return borrowed connections; {@code 0} once the pool is closed
+     */
+    public int activeConnections() {
+        return dataSource.isClosed() ? 0 : dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+
+    /**
+     * Returns whether {@link #close()} has been called.
+     *
+     * @return true when the pool no longer hands out connections
+     */
+    public boolean isClosed() {
+        return dataSource.isClosed();
+    }
+
     /**
      * Closes the connection pool and releases all resources.
      * Should be called on application shutdown.
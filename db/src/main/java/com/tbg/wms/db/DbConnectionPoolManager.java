@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.db;
+
+import com.tbg.wms.core.AppConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Owns one long-lived {@link DbConnectionPool} for the whole application.
+ *
+ * <p>Building a {@link DbConnectionPool} walks the JDBC URL candidates and performs a validation
+ * borrow, so creating one per preview, carrier move, or analyzer refresh pays Oracle login cost
+ * every time. This manager resolves the working URL once, keeps the pool open, and hands the same
+ * {@link DataSource} to every caller. The pool is rebuilt only when the connection settings change
+ * (for example after a site switch) and is closed on {@link #close()} or JVM shutdown. A replaced
+ * pool is closed only after the connections borrowed from it have been returned.</p>
+ *
+ * <p>A failed pool build is not cached: the next caller retries, so a transient outage at startup
+ * does not leave the application without a database until restart.</p>
+ *
+ * <p>Thread-safe. Concurrent first callers wait for a single pool build, which runs outside the
+ * manager's lock.</p>
+ */
+public final class DbConnectionPoolManager implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DbConnectionPoolManager.class);
+
+    /**
+     * Longest a replaced pool waits for borrowed connections before it is closed anyway.
+     */
+    static final Duration RETIRE_TIMEOUT = Duration.ofMinutes(10);
+    private static final long RETIRE_POLL_MS = 100L;
+
+    private static volatile DbConnectionPoolManager application;
+
+    private final Function<AppConfig, DbConnectionPool> poolFactory;
+    private final ExecutorService prewarmExecutor;
+    private final Map<PoolKey, CompletableFuture<DbConnectionPool>> builds = new HashMap<>();
+    private final List<DbConnectionPool> retiring = new ArrayList<>();
+    private PoolKey currentKey;
+    private DbConnectionPool currentPool;
+    private boolean closed;
+
+    /**
+     * Creates a manager that builds pools with {@link DbConnectionPool#DbConnectionPool(AppConfig)}.
+     */
+    public DbConnectionPoolManager() {
+        this(DbConnectionPool::new);
+    }
+
+    DbConnectionPoolManager(Function<AppConfig, DbConnectionPool> poolFactory) {
+        this.poolFactory = Objects.requireNonNull(poolFactory, "poolFactory cannot be null");
+        this.prewarmExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the process-wide manager, creating it and its shutdown hook on first use.
+     *
+     * @return application-scoped manager
+     */
+    public static DbConnectionPoolManager application() {
+        DbConnectionPoolManager manager = application;
+        if (manager != null) {
+            return manager;
+        }
+        synchronized (DbConnectionPoolManager.class) {
+            if (application == null) {
+                DbConnectionPoolManager created = new DbConnectionPoolManager();
+                Runtime.getRuntime().addShutdownHook(new Thread(created::close, "db-pool-shutdown"));
+                application = created;
+            }
+            return application;
+        }
+    }
+
+    /**
+     * Returns the shared pool for the given configuration, building it on first use.
+     *
+     * <p>A pool is built outside the manager's lock, so a slow build (walking JDBC URL candidates
+     * against an unreachable site can take the full connect timeout per candidate) never blocks
+     * callers whose pool is already open. Concurrent callers for the same settings wait for one
+     * build. When the settings change, the new pool replaces the old one and the old pool is
+     * retired: it stops being handed out but stays open until every connection borrowed from it
+     * has been returned (at most {@link #RETIRE_TIMEOUT}), so a site switch does not break
+     * queries already running on the previous site.</p>
+     *
+     * <p>Callers must not close the returned pool.</p>
+     *
+     * @param config connection settings
+     * @return open shared pool
+     * @throws com.tbg.wms.core.exception.WmsDbConnectivityException if no JDBC URL candidate connects
+     * @throws IllegalStateException                                 if the manager has been closed
+     */
+    public DbConnectionPool pool(AppConfig config) {
+        Objects.requireNonNull(config, "config cannot be null");
+        PoolKey key = PoolKey.of(config);
+        CompletableFuture<DbConnectionPool> build;
+        boolean builder = false;
+        synchronized (this) {
+            ensureOpen();
+            if (currentPool != null && !currentPool.isClosed() && key.equals(currentKey)) {
+                return currentPool;
+            }
+            build = builds.get(key);
+            if (build == null) {
+                build = new CompletableFuture<>();
+                builds.put(key, build);
+                builder = true;
+            }
+        }
+        if (builder) {
+            return buildAndSwap(config, key, build);
+        }
+        return awaitBuild(build);
+    }
+
+    private DbConnectionPool buildAndSwap(AppConfig config, PoolKey key, CompletableFuture<DbConnectionPool> build) {
+        DbConnectionPool pool;
+        try {
+            pool = poolFactory.apply(config);
+        } catch (RuntimeException | Error e) {
+            // A failed build is not cached: the next caller retries.
+            synchronized (this) {
+                builds.remove(key, build);
+            }
+            build.completeExceptionally(e);
+            throw e;
+        }
+        DbConnectionPool previous;
+        boolean managerClosed;
+        synchronized (this) {
+            builds.remove(key, build);
+            managerClosed = closed;
+            previous = managerClosed ? null : currentPool;
+            if (!managerClosed) {
+                if (previous != null) {
+                    log.info("Database connection settings changed; retiring previous shared pool");
+                }
+                currentPool = pool;
+                currentKey = key;
+            }
+        }
+        if (managerClosed) {
+            pool.close();
+            IllegalStateException rejected = new IllegalStateException("Database connection pool manager is closed.");
+            build.completeExceptionally(rejected);
+            throw rejected;
+        }
+        build.complete(pool);
+        if (previous != null && previous != pool) {
+            retire(previous);
+        }
+        return pool;
+    }
+
+    private static DbConnectionPool awaitBuild(CompletableFuture<DbConnectionPool> build) {
+        try {
+            return build.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Closes a replaced pool once nothing borrowed from it is still in use.
+     */
+    private void retire(DbConnectionPool pool) {
+        if (pool.activeConnections() == 0) {
+            pool.close();
+            return;
+        }
+        synchronized (this) {
+            retiring.add(pool);
+        }
+        Thread retirer = new Thread(() -> {
+            long deadline = System.nanoTime() + RETIRE_TIMEOUT.toNanos();
+            try {
+                while (pool.activeConnections() > 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(RETIRE_POLL_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                synchronized (this) {
+                    retiring.remove(pool);
+                }
+                pool.close();
+            }
+        }, "db-pool-retire");
+        retirer.setDaemon(true);
+        retirer.start();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Database connection pool manager is closed.");
+        }
+    }
+
+    /**
+     * Returns the shared data source for the given configuration.
+     *
+     * @param config connection settings
+     * @return pooled data source; callers close borrowed connections, never the data source
+     */
+    public DataSource dataSource(AppConfig config) {
+        return pool(config).getDataSource();
+    }
+
+    /**
+     * Builds the shared pool and opens {@link AppConfig#dbPoolMinIdle()} connections in the background.
+     *
+     * <p>Failures are logged rather than thrown; the first foreground query reports them with full
+     * remediation detail.</p>
+     *
+     * @param config connection settings
+     * @return future completed once warming finishes or fails
+     */
+    public CompletableFuture<Void> prewarmAsync(AppConfig config) {
+        Objects.requireNonNull(config, "config cannot be null");
+        return CompletableFuture.runAsync(() -> {
+            try {
+                pool(config).prewarm(config.dbPoolMinIdle());
+            } catch (RuntimeException e) {
+                log.warn("Database pool pre-warm failed: {}", e.getMessage());
+            }
+        }, prewarmExecutor);
+    }
+
+    /**
+     * Closes the shared pool and any replaced pools still waiting for their connections. Later
+     * calls to {@link #pool(AppConfig)} fail.
+     */
+    @Override
+    public void close() {
+        DbConnectionPool pool;
+        List<DbConnectionPool> replaced;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pool = currentPool;
+            currentPool = null;
+            currentKey = null;
+            replaced = List.copyOf(retiring);
+            retiring.clear();
+        }
+        prewarmExecutor.shutdownNow();
+        if (pool != null) {
+            pool.close();
+        }
+        for (DbConnectionPool retired : replaced) {
+            retired.close();
+        }
+    }
+
+    /**
+     * Settings that decide which database a pool talks to and how it is sized.
+     */
+    private record PoolKey(
+            List<String> jdbcUrlCandidates,
+            String username,
+            String password,
+            int maxSize,
+            long connectionTimeoutMs,
+            long validationTimeoutMs
+    ) {
+        static PoolKey of(AppConfig config) {
+            return new PoolKey(
+                    List.copyOf(config.oracleJdbcUrlCandidates()),
+                    config.oracleUsername(),
+                    config.oraclePassword(),
+                    config.dbPoolMaxSize(),
+                    config.dbPoolConnectionTimeoutMs(),
+                    config.dbPoolValidationTimeoutMs()
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "PoolKey[" + jdbcUrlCandidates + ", user=" + username + "]";
+        }
+    }
+}
@@ -14,6 +14,8 @@ import com.tbg.wms.core.model.ShipmentSkuFootprint;
 import com.tbg.wms.core.rail.RailFootprintCandidate;
 import com.tbg.wms.core.rail.RailStopRecord;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +45,34 @@ public interface DbQueryRepository {
      */
     Shipment findShipmentWithLpnsAndLineItems(String shipmentId);
 
+    /**
+     * Retrieves complete shipments with all LPNs and line items for a set of shipment IDs.
+     * <p>
+     * Intended for multi-shipment work such as carrier moves, where loading stops one at a
+     * time costs several round trips per shipment. The default implementation delegates to
+     * {@link #findShipmentWithLpnsAndLineItems(String)} for each ID; database-backed
+     * implementations should override it with set-based queries.
+     *
+     * @param shipmentIds shipment identifiers; blank and duplicate IDs are ignored
+     * @return shipments keyed by trimmed shipment ID in first-seen order; IDs that were not found are absent
+     * @throws com.tbg.wms.core.exception.WmsDbConnectivityException if connection or query execution fails
+     * @since 1.7.7
+     */
+    default Map<String, Shipment> findShipmentsWithLpnsAndLineItems(Collection<String> shipmentIds) {
+        Map<String, Shipment> shipments = new LinkedHashMap<>();
+        for (String shipmentId : shipmentIds) {
+            String id = shipmentId == null ? "" : shipmentId.trim();
+            if (id.isEmpty() || shipments.containsKey(id)) {
+                continue;
+            }
+            Shipment shipment = findShipmentWithLpnsAndLineItems(id);
+            if (shipment != null) {
+                shipments.put(id, shipment);
+            }
+        }
+        return shipments;
+    }
+
     /**
      * Validates that a shipment exists and has at least one LPN.
      * <p>
@@ -80,6 +110,27 @@ public interface DbQueryRepository {
      */
     List<ShipmentSkuFootprint> findShipmentSkuFootprints(String shipmentId);
 
+    /**
+     * Retrieves shipment-level SKU footprint rows for a set of shipment IDs.
+     * <p>
+     * The default implementation delegates to {@link #findShipmentSkuFootprints(String)}
+     * for each ID; database-backed implementations should override it with set-based queries.
+     *
+     * @param shipmentIds shipment identifiers; blank and duplicate IDs are ignored
+     * @return footprint rows keyed by trimmed shipment ID in first-seen order; every requested ID is present
+     * @since 1.7.7
+     */
+    default Map<String, List<ShipmentSkuFootprint>> findShipmentSkuFootprints(Collection<String> shipmentIds) {
+        Map<String, List<ShipmentSkuFootprint>> rows = new LinkedHashMap<>();
+        for (String shipmentId : shipmentIds) {
+            String id = shipmentId == null ? "" : shipmentId.trim();
+            if (!id.isEmpty() && !rows.containsKey(id)) {
+                rows.put(id, findShipmentSkuFootprints(id));
+            }
+        }
+        return rows;
+    }
+
     /**
      * Resolves shipment rows for a carrier move using stop assignments.
      *
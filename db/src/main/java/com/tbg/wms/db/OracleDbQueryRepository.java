@@ -99,6 +99,28 @@ public final class OracleDbQueryRepository implements DbQueryRepository {
         }
     }
 
+    @Override
+    public Map<String, Shipment> findShipmentsWithLpnsAndLineItems(Collection<String> shipmentIds) {
+        Objects.requireNonNull(shipmentIds, "shipmentIds cannot be null");
+        List<String> normalizedIds = OracleInListSupport.normalizeIds(shipmentIds);
+        log.info("Retrieving {} shipments with LPNs and line items", normalizedIds.size());
+
+        try {
+            Map<String, Shipment> shipments = shipmentQuerySupport.loadShipments(normalizedIds);
+            if (shipments.size() < normalizedIds.size()) {
+                log.warn("{} of {} shipments not found", normalizedIds.size() - shipments.size(), normalizedIds.size());
+            }
+            return shipments;
+        } catch (SQLException e) {
+            log.error("Database error retrieving {} shipments: {}", normalizedIds.size(), e.getSQLState());
+            throw new WmsDbConnectivityException(
+                    "Failed to retrieve shipments: " + e.getMessage(),
+                    e,
+                    "Check database connectivity, verify shipment IDs exist in WMSP.SHIPMENT table"
+            );
+        }
+    }
+
     @Override
     public boolean shipmentExists(String shipmentId) {
         String normalizedId = requireNormalizedId(shipmentId, "shipmentId");
@@ -171,6 +193,24 @@ public final class OracleDbQueryRepository implements DbQueryRepository {
         }
     }
 
+    @Override
+    public Map<String, List<ShipmentSkuFootprint>> findShipmentSkuFootprints(Collection<String> shipmentIds) {
+        Objects.requireNonNull(shipmentIds, "shipmentIds cannot be null");
+        List<String> normalizedIds = OracleInListSupport.normalizeIds(shipmentIds);
+        try {
+            Map<String, List<ShipmentSkuFootprint>> rows = shipmentQuerySupport.loadShipmentSkuFootprints(normalizedIds);
+            log.debug("Loaded footprint rows for {} shipments", rows.size());
+            return rows;
+        } catch (SQLException e) {
+            log.error("Database error retrieving footprint data for {} shipments: {}", normalizedIds.size(), e.getSQLState());
+            throw new WmsDbConnectivityException(
+                    "Failed to retrieve footprint data: " + e.getMessage(),
+                    e,
+                    "Verify SELECT access to WMSP.PRTFTP and WMSP.PRTFTP_DTL for RPTADM user"
+            );
+        }
+    }
+
     @Override
     public List<CarrierMoveStopRef> findCarrierMoveStops(String carrierMoveId) {
         String normalizedCarrierMoveId = requireNormalizedId(carrierMoveId, "carrierMoveId");
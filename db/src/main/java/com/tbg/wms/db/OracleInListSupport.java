@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.db;
+
+import com.tbg.wms.core.model.NormalizationService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shared helpers for set-based Oracle queries that bind identifiers into {@code IN (...)} lists.
+ *
+ * <p>Oracle rejects more than 1000 expressions in one list (ORA-01795), so callers split their
+ * inputs into batches of {@link #BATCH_SIZE} and issue one statement per batch.</p>
+ */
+final class OracleInListSupport {
+
+    static final int BATCH_SIZE = 900;
+
+    private OracleInListSupport() {
+    }
+
+    /**
+     * Normalizes, de-duplicates, and drops blank identifiers while keeping first-seen order.
+     */
+    static List<String> normalizeIds(Collection<String> values) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            String id = NormalizationService.normalizeString(value);
+            if (!id.isBlank()) {
+                normalized.add(id);
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    /**
+     * Splits identifiers into consecutive batches of at most {@link #BATCH_SIZE}.
+     */
+    static List<List<String>> batches(List<String> ids) {
+        List<List<String>> batches = new ArrayList<>((ids.size() + BATCH_SIZE - 1) / BATCH_SIZE);
+        for (int start = 0; start < ids.size(); start += BATCH_SIZE) {
+            batches.add(ids.subList(start, Math.min(start + BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    static String sqlPlaceholders(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be > 0");
+        }
+        StringBuilder sb = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+}
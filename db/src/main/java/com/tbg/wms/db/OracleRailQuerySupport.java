@@ -24,7 +24,6 @@ import java.util.*;
  */
 final class OracleRailQuerySupport {
 
-    private static final int RAIL_FOOTPRINT_BATCH_SIZE = 900;
     private final DataSource dataSource;
     private final RailFootprintCandidateSupport footprintCandidateSupport;
 
@@ -110,7 +109,7 @@ final class OracleRailQuerySupport {
     Map<String, List<RailFootprintCandidate>> findRailFootprintsByShortCode(List<String> shortCodes) {
         Objects.requireNonNull(shortCodes, "shortCodes cannot be null");
 
-        List<String> normalized = normalizeShortCodes(shortCodes);
+        List<String> normalized = OracleInListSupport.normalizeIds(shortCodes);
         if (normalized.isEmpty()) {
             return Map.of();
         }
@@ -138,10 +137,8 @@ final class OracleRailQuerySupport {
                         "GROUP BY ap.ALT_PRTNUM, ap.PRTNUM, p.PRTFAM, p.UC_PARS_FLG";
 
         try (Connection conn = dataSource.getConnection()) {
-            for (int start = 0; start < normalized.size(); start += RAIL_FOOTPRINT_BATCH_SIZE) {
-                int end = Math.min(start + RAIL_FOOTPRINT_BATCH_SIZE, normalized.size());
-                List<String> batch = normalized.subList(start, end);
-                String placeholders = sqlPlaceholders(batch.size());
+            for (List<String> batch : OracleInListSupport.batches(normalized)) {
+                String placeholders = OracleInListSupport.sqlPlaceholders(batch.size());
                 try (PreparedStatement stmt = conn.prepareStatement(String.format(baseSql, placeholders))) {
                     for (int i = 0; i < batch.size(); i++) {
                         stmt.setString(i + 1, batch.get(i));
@@ -161,17 +158,6 @@ final class OracleRailQuerySupport {
         return byShortCode;
     }
 
-    private static List<String> normalizeShortCodes(List<String> shortCodes) {
-        Set<String> normalizedSet = new LinkedHashSet<>();
-        for (String code : shortCodes) {
-            String value = NormalizationService.normalizeString(code);
-            if (!value.isBlank()) {
-                normalizedSet.add(value);
-            }
-        }
-        return new ArrayList<>(normalizedSet);
-    }
-
     private void collectFootprintCandidates(
             PreparedStatement stmt,
             Map<String, List<RailFootprintCandidate>> byShortCode
@@ -181,20 +167,6 @@ final class OracleRailQuerySupport {
         }
     }
 
-    private static String sqlPlaceholders(int count) {
-        if (count <= 0) {
-            throw new IllegalArgumentException("count must be > 0");
-        }
-        StringBuilder sb = new StringBuilder(count * 2);
-        for (int i = 0; i < count; i++) {
-            if (i > 0) {
-                sb.append(',');
-            }
-            sb.append('?');
-        }
-        return sb.toString();
-    }
-
     private static String integerToString(ResultSet rs, String column) throws SQLException {
         int value = rs.getInt(column);
         if (rs.wasNull()) {
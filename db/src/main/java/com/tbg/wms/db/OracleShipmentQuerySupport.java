@@ -20,7 +20,10 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Shipment-oriented Oracle query support used by {@link OracleDbQueryRepository}.
@@ -29,15 +32,88 @@ import java.util.List;
  * enrichment so the main repository can focus on higher-level query routing.</p>
  */
 final class OracleShipmentQuerySupport {
+    private static final String SHIPMENT_HEADER_SQL = "SELECT " +
+            "%s" +
+            "s.SHIP_ID, s.HOST_EXT_ID, s.WH_ID, s.SHPSTS, " +
+            "s.CARCOD, s.SRVLVL, s.DOC_NUM, s.TRACK_NUM, s.STOP_ID, s.DSTLOC, " +
+            "s.EARLY_SHPDTE, s.LATE_DLVDTE, s.ADDDTE, s.TMS_MOVE_ID, " +
+            "a.ADRNAM, a.ADRLN1, a.ADRLN2, a.ADRLN3, " +
+            "a.ADRCTY, a.ADRSTC, a.ADRPSZ, a.CTRY_NAME, a.PHNNUM, a.ATTN_NAME, a.HOST_EXT_ID AS ADR_HOST_EXT_ID, " +
+            "(SELECT MAX(o2.CPONUM) FROM WMSP.SHIPMENT_LINE sl2 " +
+            "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
+            "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.CPONUM IS NOT NULL) AS CPONUM, " +
+            "(SELECT MAX(o2.DEST_NUM) FROM WMSP.SHIPMENT_LINE sl2 " +
+            "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
+            "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.DEST_NUM IS NOT NULL) AS DEST_NUM, " +
+            "(SELECT MAX(o2.VC_DEST_ID) FROM WMSP.SHIPMENT_LINE sl2 " +
+            "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
+            "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.VC_DEST_ID IS NOT NULL) AS VC_DEST_ID, " +
+            "(SELECT MAX(o2.DEPTNO) FROM WMSP.SHIPMENT_LINE sl2 " +
+            "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
+            "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.DEPTNO IS NOT NULL) AS DEPTNO, " +
+            "st.STOP_SEQ, " +
+            "cm.DOC_NUM as CARRIER_BOL, cm.TRACK_NUM as CARRIER_PRO " +
+            "FROM WMSP.SHIPMENT s " +
+            "INNER JOIN WMSP.ADRMST a ON s.RT_ADR_ID = a.ADR_ID " +
+            "LEFT JOIN WMSP.STOP st ON s.STOP_ID = st.STOP_ID " +
+            "LEFT JOIN WMSP.CAR_MOVE cm ON s.TMS_MOVE_ID = cm.CAR_MOVE_ID " +
+            "WHERE s.SHIP_ID %s";
+    private static final String SKU_FOOTPRINT_SQL = "WITH sku_units AS (" +
+            "  SELECT " +
+            "    sl.SHIP_ID AS SHIP_ID, " +
+            "    ol.PRTNUM AS PRTNUM, " +
+            "    MAX(ol.PRT_CLIENT_ID) AS PRT_CLIENT_ID, " +
+            "    MAX(s.WH_ID) AS WH_ID, " +
+            "    MAX(ol.CSTPRT) AS ITEM_DESCRIPTION, " +
+            "    SUM(COALESCE(" +
+            "      NULLIF(sl.SHPQTY, 0), " +
+            "      NULLIF(sl.STGQTY, 0), " +
+            "      NULLIF(sl.PCKQTY, 0), " +
+            "      NULLIF(sl.INPQTY, 0), " +
+            "      NULLIF(sl.TOT_PLN_QTY, 0), " +
+            "      NULLIF(ol.ORDQTY, 0), " +
+            "      0)) AS TOTAL_UNITS " +
+            "  FROM WMSP.SHIPMENT_LINE sl " +
+            "  INNER JOIN WMSP.SHIPMENT s ON s.SHIP_ID = sl.SHIP_ID " +
+            "  INNER JOIN WMSP.ORD_LINE ol ON sl.ORDNUM = ol.ORDNUM " +
+            "    AND sl.ORDLIN = ol.ORDLIN AND sl.ORDSLN = ol.ORDSLN AND sl.CLIENT_ID = ol.CLIENT_ID " +
+            "  WHERE sl.SHIP_ID %s " +
+            "  GROUP BY sl.SHIP_ID, ol.PRTNUM" +
+            ") " +
+            "SELECT " +
+            "  su.SHIP_ID, " +
+            "  su.PRTNUM, " +
+            "  su.PRT_CLIENT_ID, " +
+            "  su.WH_ID, " +
+            "  su.ITEM_DESCRIPTION, " +
+            "  su.TOTAL_UNITS, " +
+            "  MAX(CASE WHEN d.CAS_FLG = 1 THEN d.UNTQTY END) AS UNITS_PER_CASE, " +
+            "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.UNTQTY END) AS UNITS_PER_PALLET, " +
+            "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.LEN END) AS PALLET_LEN, " +
+            "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.WID END) AS PALLET_WID, " +
+            "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.HGT END) AS PALLET_HGT " +
+            "FROM sku_units su " +
+            "LEFT JOIN WMSP.PRTFTP pf ON pf.PRTNUM = su.PRTNUM " +
+            "  AND pf.PRT_CLIENT_ID = su.PRT_CLIENT_ID " +
+            "  AND pf.WH_ID = su.WH_ID " +
+            "  AND pf.DEFFTP_FLG = 1 " +
+            "LEFT JOIN WMSP.PRTFTP_DTL d ON d.PRTNUM = pf.PRTNUM " +
+            "  AND d.PRT_CLIENT_ID = pf.PRT_CLIENT_ID " +
+            "  AND d.WH_ID = pf.WH_ID " +
+            "  AND d.FTPCOD = pf.FTPCOD " +
+            "GROUP BY su.SHIP_ID, su.PRTNUM, su.PRT_CLIENT_ID, su.WH_ID, su.ITEM_DESCRIPTION, su.TOTAL_UNITS " +
+            "ORDER BY su.SHIP_ID";
+
     private final DataSource dataSource;
     private final PrtmstDescriptionColumnResolver prtmstColumnResolver;
     private final ShipmentDestinationSupport shipmentDestinationSupport = new ShipmentDestinationSupport();
-    private final ShipmentDescriptionSupport shipmentDescriptionSupport = new ShipmentDescriptionSupport();
+    private final ShipmentDescriptionSupport shipmentDescriptionSupport;
     private final ShipmentLpnHydrationSupport shipmentLpnHydrationSupport = new ShipmentLpnHydrationSupport();
 
     OracleShipmentQuerySupport(DataSource dataSource, PrtmstDescriptionColumnResolver prtmstColumnResolver) {
         this.dataSource = dataSource;
         this.prtmstColumnResolver = prtmstColumnResolver;
+        this.shipmentDescriptionSupport = new ShipmentDescriptionSupport(ShipmentDescriptionCache.shared(dataSource));
     }
 
     Shipment loadShipment(String shipmentId) throws SQLException {
@@ -83,169 +159,212 @@ final class OracleShipmentQuerySupport {
         }
     }
 
-    List<ShipmentSkuFootprint> loadShipmentSkuFootprints(String shipmentId) throws SQLException {
-        List<ShipmentSkuFootprint> rows = new ArrayList<>();
-        String sql = "WITH sku_units AS (" +
-                "  SELECT " +
-                "    ol.PRTNUM AS PRTNUM, " +
-                "    MAX(ol.PRT_CLIENT_ID) AS PRT_CLIENT_ID, " +
-                "    MAX(s.WH_ID) AS WH_ID, " +
-                "    MAX(ol.CSTPRT) AS ITEM_DESCRIPTION, " +
-                "    SUM(COALESCE(" +
-                "      NULLIF(sl.SHPQTY, 0), " +
-                "      NULLIF(sl.STGQTY, 0), " +
-                "      NULLIF(sl.PCKQTY, 0), " +
-                "      NULLIF(sl.INPQTY, 0), " +
-                "      NULLIF(sl.TOT_PLN_QTY, 0), " +
-                "      NULLIF(ol.ORDQTY, 0), " +
-                "      0)) AS TOTAL_UNITS " +
-                "  FROM WMSP.SHIPMENT_LINE sl " +
-                "  INNER JOIN WMSP.SHIPMENT s ON s.SHIP_ID = sl.SHIP_ID " +
-                "  INNER JOIN WMSP.ORD_LINE ol ON sl.ORDNUM = ol.ORDNUM " +
-                "    AND sl.ORDLIN = ol.ORDLIN AND sl.ORDSLN = ol.ORDSLN AND sl.CLIENT_ID = ol.CLIENT_ID " +
-                "  WHERE sl.SHIP_ID = ? " +
-                "  GROUP BY ol.PRTNUM" +
-                ") " +
-                "SELECT " +
-                "  su.PRTNUM, " +
-                "  su.PRT_CLIENT_ID, " +
-                "  su.WH_ID, " +
-                "  su.ITEM_DESCRIPTION, " +
-                "  su.TOTAL_UNITS, " +
-                "  MAX(CASE WHEN d.CAS_FLG = 1 THEN d.UNTQTY END) AS UNITS_PER_CASE, " +
-                "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.UNTQTY END) AS UNITS_PER_PALLET, " +
-                "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.LEN END) AS PALLET_LEN, " +
-                "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.WID END) AS PALLET_WID, " +
-                "  MAX(CASE WHEN d.PAL_FLG = 1 THEN d.HGT END) AS PALLET_HGT " +
-                "FROM sku_units su " +
-                "LEFT JOIN WMSP.PRTFTP pf ON pf.PRTNUM = su.PRTNUM " +
-                "  AND pf.PRT_CLIENT_ID = su.PRT_CLIENT_ID " +
-                "  AND pf.WH_ID = su.WH_ID " +
-                "  AND pf.DEFFTP_FLG = 1 " +
-                "LEFT JOIN WMSP.PRTFTP_DTL d ON d.PRTNUM = pf.PRTNUM " +
-                "  AND d.PRT_CLIENT_ID = pf.PRT_CLIENT_ID " +
-                "  AND d.WH_ID = pf.WH_ID " +
-                "  AND d.FTPCOD = pf.FTPCOD " +
-                "GROUP BY su.PRTNUM, su.PRT_CLIENT_ID, su.WH_ID, su.ITEM_DESCRIPTION, su.TOTAL_UNITS";
+    /**
+     * Loads shipment headers, LPNs, and line items for many shipments over one connection,
+     * issuing three statements per batch of {@link OracleInListSupport#BATCH_SIZE} shipment IDs.
+     *
+     * @param shipmentIds normalized, de-duplicated shipment IDs
+     * @return shipments keyed by ID, in input order; IDs with no shipment header are absent
+     */
+    Map<String, Shipment> loadShipments(List<String> shipmentIds) throws SQLException {
+        Map<String, Shipment> shipments = new LinkedHashMap<>();
+        if (shipmentIds.isEmpty()) {
+            return shipments;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            Map<String, List<Lpn>> lpnsByShipment = shipmentLpnHydrationSupport.fetchLpnsWithLineItems(conn, shipmentIds);
+            Map<String, Shipment> loaded = new HashMap<>();
+            for (List<String> batch : OracleInListSupport.batches(shipmentIds)) {
+                String sql = String.format(
+                        SHIPMENT_HEADER_SQL,
+                        "(SELECT MIN(sl3.ORDNUM) FROM WMSP.SHIPMENT_LINE sl3 WHERE sl3.SHIP_ID = s.SHIP_ID) AS FIRST_ORDNUM, ",
+                        "IN (" + OracleInListSupport.sqlPlaceholders(batch.size()) + ")"
+                );
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindIds(stmt, batch);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            String shipmentId = NormalizationService.normalizeString(rs.getString("SHIP_ID"));
+                            String firstOrder = rs.getString("FIRST_ORDNUM");
+                            Shipment shipment = mapShipment(
+                                    rs,
+                                    firstOrder == null ? null : NormalizationService.normalizeString(firstOrder),
+                                    lpnsByShipment.getOrDefault(shipmentId, List.of())
+                            );
+                            loaded.put(shipmentId, shipment);
+                        }
+                    }
+                }
+            }
+            for (String shipmentId : shipmentIds) {
+                Shipment shipment = loaded.get(shipmentId);
+                if (shipment != null) {
+                    shipments.put(shipmentId, shipment);
+                }
+            }
+        }
+        return shipments;
+    }
 
+    List<ShipmentSkuFootprint> loadShipmentSkuFootprints(String shipmentId) throws SQLException {
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            List<String> descriptionColumns = prtmstColumnResolver.getColumns(conn);
-            shipmentDescriptionSupport.clearCache();
+             PreparedStatement stmt = conn.prepareStatement(String.format(SKU_FOOTPRINT_SQL, "= ?"))) {
             stmt.setString(1, shipmentId);
+            List<FootprintRow> rows = new ArrayList<>();
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    String sku = NormalizationService.normalizeSku(rs.getString("PRTNUM"));
-                    String fallbackDescription = NormalizationService.normalizeString(rs.getString("ITEM_DESCRIPTION"));
-                    String itemDescription = resolveItemDescription(
-                            conn,
-                            sku,
-                            NormalizationService.normalizeString(rs.getString("PRT_CLIENT_ID")),
-                            NormalizationService.normalizeString(rs.getString("WH_ID")),
-                            fallbackDescription,
-                            descriptionColumns
-                    );
+                    rows.add(readFootprintRow(rs));
+                }
+            }
+            List<ShipmentSkuFootprint> footprints = new ArrayList<>(rows.size());
+            toFootprints(conn, rows).values().forEach(footprints::addAll);
+            return footprints;
+        }
+    }
 
-                    rows.add(new ShipmentSkuFootprint(
-                            sku,
-                            itemDescription,
-                            rs.getInt("TOTAL_UNITS"),
-                            nullableInt(rs, "UNITS_PER_CASE"),
-                            nullableInt(rs, "UNITS_PER_PALLET"),
-                            nullableDouble(rs, "PALLET_LEN"),
-                            nullableDouble(rs, "PALLET_WID"),
-                            nullableDouble(rs, "PALLET_HGT")
-                    ));
+    /**
+     * Loads SKU footprints for many shipments with one statement per batch of
+     * {@link OracleInListSupport#BATCH_SIZE} shipment IDs. Item descriptions for every SKU in the
+     * call are then resolved together, so a SKU shared by several stops is looked up once.
+     *
+     * @param shipmentIds normalized, de-duplicated shipment IDs
+     * @return footprint rows keyed by shipment ID, in input order; every input ID is present
+     */
+    Map<String, List<ShipmentSkuFootprint>> loadShipmentSkuFootprints(List<String> shipmentIds) throws SQLException {
+        Map<String, List<ShipmentSkuFootprint>> rowsByShipment = new LinkedHashMap<>();
+        for (String shipmentId : shipmentIds) {
+            rowsByShipment.put(shipmentId, new ArrayList<>());
+        }
+        if (shipmentIds.isEmpty()) {
+            return rowsByShipment;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            List<FootprintRow> rows = new ArrayList<>();
+            for (List<String> batch : OracleInListSupport.batches(shipmentIds)) {
+                String sql = String.format(SKU_FOOTPRINT_SQL, "IN (" + OracleInListSupport.sqlPlaceholders(batch.size()) + ")");
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindIds(stmt, batch);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            rows.add(readFootprintRow(rs));
+                        }
+                    }
                 }
             }
+            toFootprints(conn, rows).forEach((shipmentId, footprints) ->
+                    rowsByShipment.computeIfAbsent(shipmentId, ignored -> new ArrayList<>()).addAll(footprints));
         }
-        return rows;
+        return rowsByShipment;
     }
 
-    private Shipment fetchShipmentHeader(Connection conn, String shipmentId) throws SQLException {
-        String sql = "SELECT " +
-                "s.SHIP_ID, s.HOST_EXT_ID, s.WH_ID, s.SHPSTS, " +
-                "s.CARCOD, s.SRVLVL, s.DOC_NUM, s.TRACK_NUM, s.STOP_ID, s.DSTLOC, " +
-                "s.EARLY_SHPDTE, s.LATE_DLVDTE, s.ADDDTE, s.TMS_MOVE_ID, " +
-                "a.ADRNAM, a.ADRLN1, a.ADRLN2, a.ADRLN3, " +
-                "a.ADRCTY, a.ADRSTC, a.ADRPSZ, a.CTRY_NAME, a.PHNNUM, a.ATTN_NAME, a.HOST_EXT_ID AS ADR_HOST_EXT_ID, " +
-                "(SELECT MAX(o2.CPONUM) FROM WMSP.SHIPMENT_LINE sl2 " +
-                "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
-                "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.CPONUM IS NOT NULL) AS CPONUM, " +
-                "(SELECT MAX(o2.DEST_NUM) FROM WMSP.SHIPMENT_LINE sl2 " +
-                "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
-                "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.DEST_NUM IS NOT NULL) AS DEST_NUM, " +
-                "(SELECT MAX(o2.VC_DEST_ID) FROM WMSP.SHIPMENT_LINE sl2 " +
-                "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
-                "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.VC_DEST_ID IS NOT NULL) AS VC_DEST_ID, " +
-                "(SELECT MAX(o2.DEPTNO) FROM WMSP.SHIPMENT_LINE sl2 " +
-                "  INNER JOIN WMSP.ORD o2 ON sl2.ORDNUM = o2.ORDNUM AND sl2.CLIENT_ID = o2.CLIENT_ID " +
-                "  WHERE sl2.SHIP_ID = s.SHIP_ID AND o2.DEPTNO IS NOT NULL) AS DEPTNO, " +
-                "st.STOP_SEQ, " +
-                "cm.DOC_NUM as CARRIER_BOL, cm.TRACK_NUM as CARRIER_PRO " +
-                "FROM WMSP.SHIPMENT s " +
-                "INNER JOIN WMSP.ADRMST a ON s.RT_ADR_ID = a.ADR_ID " +
-                "LEFT JOIN WMSP.STOP st ON s.STOP_ID = st.STOP_ID " +
-                "LEFT JOIN WMSP.CAR_MOVE cm ON s.TMS_MOVE_ID = cm.CAR_MOVE_ID " +
-                "WHERE s.SHIP_ID = ?";
+    private FootprintRow readFootprintRow(ResultSet rs) throws SQLException {
+        return new FootprintRow(
+                NormalizationService.normalizeString(rs.getString("SHIP_ID")),
+                ShipmentDescriptionSupport.DescriptionKey.of(
+                        rs.getString("PRTNUM"),
+                        rs.getString("PRT_CLIENT_ID"),
+                        rs.getString("WH_ID"),
+                        rs.getString("ITEM_DESCRIPTION")
+                ),
+                rs.getInt("TOTAL_UNITS"),
+                nullableInt(rs, "UNITS_PER_CASE"),
+                nullableInt(rs, "UNITS_PER_PALLET"),
+                nullableDouble(rs, "PALLET_LEN"),
+                nullableDouble(rs, "PALLET_WID"),
+                nullableDouble(rs, "PALLET_HGT")
+        );
+    }
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+    /**
+     * Resolves descriptions for all rows at once and groups the finished footprints by shipment.
+     */
+    private Map<String, List<ShipmentSkuFootprint>> toFootprints(Connection conn, List<FootprintRow> rows) {
+        Map<String, List<ShipmentSkuFootprint>> footprints = new LinkedHashMap<>();
+        if (rows.isEmpty()) {
+            return footprints;
+        }
+        List<ShipmentDescriptionSupport.DescriptionKey> keys = new ArrayList<>(rows.size());
+        for (FootprintRow row : rows) {
+            keys.add(row.descriptionKey());
+        }
+        Map<ShipmentDescriptionSupport.DescriptionKey, String> descriptions =
+                shipmentDescriptionSupport.resolveItemDescriptions(conn, keys, prtmstColumnResolver.getColumns(conn));
+        for (FootprintRow row : rows) {
+            footprints.computeIfAbsent(row.shipmentId(), ignored -> new ArrayList<>()).add(new ShipmentSkuFootprint(
+                    row.descriptionKey().sku(),
+                    descriptions.get(row.descriptionKey()),
+                    row.totalUnits(),
+                    row.unitsPerCase(),
+                    row.unitsPerPallet(),
+                    row.palletLength(),
+                    row.palletWidth(),
+                    row.palletHeight()
+            ));
+        }
+        return footprints;
+    }
+
+    private Shipment fetchShipmentHeader(Connection conn, String shipmentId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(String.format(SHIPMENT_HEADER_SQL, "", "= ?"))) {
             stmt.setString(1, shipmentId);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (!rs.next()) {
                     return null;
                 }
+                return mapShipment(rs, extractFirstOrderNumber(conn, shipmentId), new ArrayList<>());
+            }
+        }
+    }
 
-                LocalDateTime shipDate = nullableLocalDateTime(rs, "EARLY_SHPDTE");
-                LocalDateTime deliveryDate = nullableLocalDateTime(rs, "LATE_DLVDTE");
-                LocalDateTime createdDate = nullableLocalDateTime(rs, "ADDDTE");
-                if (createdDate == null) {
-                    createdDate = LocalDateTime.now();
-                }
+    private Shipment mapShipment(ResultSet rs, String orderId, List<Lpn> lpns) throws SQLException {
+        LocalDateTime shipDate = nullableLocalDateTime(rs, "EARLY_SHPDTE");
+        LocalDateTime deliveryDate = nullableLocalDateTime(rs, "LATE_DLVDTE");
+        LocalDateTime createdDate = nullableLocalDateTime(rs, "ADDDTE");
+        if (createdDate == null) {
+            createdDate = LocalDateTime.now();
+        }
 
-                Integer stopSeq = nullableInt(rs, "STOP_SEQ");
-                String destinationNumber = shipmentDestinationSupport.resolveLocationNumber(
-                        rs.getString("DEST_NUM"),
-                        rs.getString("VC_DEST_ID"),
-                        rs.getString("ADRNAM"),
-                        rs.getString("ADR_HOST_EXT_ID")
-                );
+        Integer stopSeq = nullableInt(rs, "STOP_SEQ");
+        String destinationNumber = shipmentDestinationSupport.resolveLocationNumber(
+                rs.getString("DEST_NUM"),
+                rs.getString("VC_DEST_ID"),
+                rs.getString("ADRNAM"),
+                rs.getString("ADR_HOST_EXT_ID")
+        );
 
-                return new Shipment(
-                        NormalizationService.normalizeString(rs.getString("SHIP_ID")),
-                        NormalizationService.normalizeString(rs.getString("HOST_EXT_ID")),
-                        extractFirstOrderNumber(conn, shipmentId),
-                        NormalizationService.normalizeString(rs.getString("WH_ID")),
-                        NormalizationService.normalizeString(rs.getString("ADRNAM")),
-                        NormalizationService.normalizeString(rs.getString("ADRLN1")),
-                        NormalizationService.normalizeString(rs.getString("ADRLN2")),
-                        NormalizationService.normalizeString(rs.getString("ADRLN3")),
-                        NormalizationService.normalizeString(rs.getString("ADRCTY")),
-                        NormalizationService.normalizeToUppercase(rs.getString("ADRSTC")),
-                        NormalizationService.normalizeString(rs.getString("ADRPSZ")),
-                        NormalizationService.normalizeString(rs.getString("CTRY_NAME")),
-                        NormalizationService.normalizeString(rs.getString("PHNNUM")),
-                        NormalizationService.normalizeCarrierCode(rs.getString("CARCOD")),
-                        NormalizationService.normalizeToUppercase(rs.getString("SRVLVL")),
-                        NormalizationService.normalizeString(rs.getString("DOC_NUM")),
-                        NormalizationService.normalizeString(rs.getString("TRACK_NUM")),
-                        NormalizationService.normalizeOptionalStagingLocation(rs.getString("DSTLOC")),
-                        NormalizationService.normalizeString(rs.getString("CPONUM")),
-                        destinationNumber,
-                        NormalizationService.normalizeString(rs.getString("DEPTNO")),
-                        NormalizationService.normalizeString(rs.getString("STOP_ID")),
-                        stopSeq,
-                        NormalizationService.normalizeString(rs.getString("TMS_MOVE_ID")),
-                        NormalizationService.normalizeString(rs.getString("CARRIER_PRO")),
-                        NormalizationService.normalizeString(rs.getString("CARRIER_BOL")),
-                        NormalizationService.normalizeToUppercase(rs.getString("SHPSTS")),
-                        shipDate,
-                        deliveryDate,
-                        createdDate,
-                        new ArrayList<>()
-                );
-            }
-        }
+        return new Shipment(
+                NormalizationService.normalizeString(rs.getString("SHIP_ID")),
+                NormalizationService.normalizeString(rs.getString("HOST_EXT_ID")),
+                orderId,
+                NormalizationService.normalizeString(rs.getString("WH_ID")),
+                NormalizationService.normalizeString(rs.getString("ADRNAM")),
+                NormalizationService.normalizeString(rs.getString("ADRLN1")),
+                NormalizationService.normalizeString(rs.getString("ADRLN2")),
+                NormalizationService.normalizeString(rs.getString("ADRLN3")),
+                NormalizationService.normalizeString(rs.getString("ADRCTY")),
+                NormalizationService.normalizeToUppercase(rs.getString("ADRSTC")),
+                NormalizationService.normalizeString(rs.getString("ADRPSZ")),
+                NormalizationService.normalizeString(rs.getString("CTRY_NAME")),
+                NormalizationService.normalizeString(rs.getString("PHNNUM")),
+                NormalizationService.normalizeCarrierCode(rs.getString("CARCOD")),
+                NormalizationService.normalizeToUppercase(rs.getString("SRVLVL")),
+                NormalizationService.normalizeString(rs.getString("DOC_NUM")),
+                NormalizationService.normalizeString(rs.getString("TRACK_NUM")),
+                NormalizationService.normalizeOptionalStagingLocation(rs.getString("DSTLOC")),
+                NormalizationService.normalizeString(rs.getString("CPONUM")),
+                destinationNumber,
+                NormalizationService.normalizeString(rs.getString("DEPTNO")),
+                NormalizationService.normalizeString(rs.getString("STOP_ID")),
+                stopSeq,
+                NormalizationService.normalizeString(rs.getString("TMS_MOVE_ID")),
+                NormalizationService.normalizeString(rs.getString("CARRIER_PRO")),
+                NormalizationService.normalizeString(rs.getString("CARRIER_BOL")),
+                NormalizationService.normalizeToUppercase(rs.getString("SHPSTS")),
+                shipDate,
+                deliveryDate,
+                createdDate,
+                lpns
+        );
     }
 
     private String extractFirstOrderNumber(Connection conn, String shipmentId) throws SQLException {
@@ -261,13 +380,10 @@ final class OracleShipmentQuerySupport {
         return null;
     }
 
-    private String resolveItemDescription(Connection conn,
-                                          String sku,
-                                          String prtClientId,
-                                          String whId,
-                                          String fallbackDescription,
-                                          List<String> descriptionColumns) {
-        return shipmentDescriptionSupport.resolveItemDescription(conn, sku, prtClientId, whId, fallbackDescription, descriptionColumns);
+    private static void bindIds(PreparedStatement stmt, List<String> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            stmt.setString(i + 1, ids.get(i));
+        }
     }
 
     private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
@@ -285,4 +401,18 @@ final class OracleShipmentQuerySupport {
         return timestamp == null ? null : timestamp.toLocalDateTime();
     }
 
+    /**
+     * One footprint query row held until its item description has been resolved.
+     */
+    private record FootprintRow(
+            String shipmentId,
+            ShipmentDescriptionSupport.DescriptionKey descriptionKey,
+            int totalUnits,
+            Integer unitsPerCase,
+            Integer unitsPerPallet,
+            Double palletLength,
+            Double palletWidth,
+            Double palletHeight
+    ) {
+    }
 }
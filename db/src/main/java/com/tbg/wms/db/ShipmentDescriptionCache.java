@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.db;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, thread-safe, time-limited cache of resolved item descriptions.
+ *
+ * <p>Item descriptions change rarely, so one cache is shared by every repository built on the same
+ * {@link DataSource}; consecutive jobs against the shared pool skip PRTDSC/PRTMST lookups for SKUs
+ * they have already resolved. Entries expire after a fixed age so description edits in WMS show up
+ * without a restart, and the least recently used entries are evicted once the cache is full.
+ * A {@code null} description (nothing readable found) is cached like any other result.</p>
+ */
+final class ShipmentDescriptionCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 20_000;
+    static final long DEFAULT_TTL_MS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final Map<DataSource, ShipmentDescriptionCache> SHARED =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final LinkedHashMap<ShipmentDescriptionSupport.DescriptionKey, Entry> entries;
+
+    ShipmentDescriptionCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MS, System::currentTimeMillis);
+    }
+
+    ShipmentDescriptionCache(int maxEntries, long ttlMs, LongSupplier clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        if (ttlMs <= 0) {
+            throw new IllegalArgumentException("ttlMs must be > 0");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ShipmentDescriptionSupport.DescriptionKey, Entry> eldest) {
+                return size() > ShipmentDescriptionCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by every repository built on the given data source.
+     */
+    static ShipmentDescriptionCache shared(DataSource dataSource) {
+        Objects.requireNonNull(dataSource, "dataSource cannot be null");
+        return SHARED.computeIfAbsent(dataSource, ignored -> new ShipmentDescriptionCache());
+    }
+
+    /**
+     * Returns cached results for the given keys; keys with no live entry are absent.
+     * Values may be {@code null} when a key resolved to no readable description.
+     */
+    synchronized Map<ShipmentDescriptionSupport.DescriptionKey, String> getAll(
+            Collection<ShipmentDescriptionSupport.DescriptionKey> keys) {
+        long now = clock.getAsLong();
+        Map<ShipmentDescriptionSupport.DescriptionKey, String> found = new HashMap<>();
+        for (ShipmentDescriptionSupport.DescriptionKey key : keys) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (now - entry.storedAtMs() >= ttlMs) {
+                entries.remove(key);
+                continue;
+            }
+            found.put(key, entry.description());
+        }
+        return found;
+    }
+
+    synchronized void putAll(Map<ShipmentDescriptionSupport.DescriptionKey, String> resolved) {
+        long now = clock.getAsLong();
+        for (Map.Entry<ShipmentDescriptionSupport.DescriptionKey, String> entry : resolved.entrySet()) {
+            entries.put(entry.getKey(), new Entry(entry.getValue(), now));
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    private record Entry(String description, long storedAtMs) {
+    }
+}
@@ -8,24 +8,52 @@
 package com.tbg.wms.db;
 
 import com.tbg.wms.core.model.NormalizationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Resolves human-readable shipment item descriptions from Oracle description tables.
  *
- * <p>This helper centralizes the description fallback order and per-load cache so shipment
- * footprint hydration does not duplicate text-selection logic across repository methods.</p>
+ * <p>This helper centralizes the description fallback order so shipment footprint hydration does
+ * not duplicate text-selection logic across repository methods. Every candidate key for a set of
+ * SKUs is gathered up front and resolved with one {@code IN (...)} query per table (per batch of
+ * {@link OracleInListSupport#BATCH_SIZE} keys); the candidate precedence and readability rules are
+ * then applied in memory. Results are kept in a {@link ShipmentDescriptionCache}, but only when
+ * every query they depend on completed; a key resolved while a table was unreachable falls back
+ * for this load only and is looked up again next time.</p>
  */
 final class ShipmentDescriptionSupport {
-    private final Map<DescriptionLookupKey, String> descriptionCache = new HashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(ShipmentDescriptionSupport.class);
+
+    private static final String PRTDSC_SQL = "SELECT COLVAL, SHORT_DSC, LNGDSC FROM WMSP.PRTDSC "
+            + "WHERE COLNAM = 'prtnum|prt_client_id|wh_id_tmpl' AND COLVAL IN (%s)";
+    private static final String PRTMST_SQL = "SELECT PRTNUM, PRT_CLIENT_ID, %s FROM WMSP.PRTMST WHERE PRTNUM IN (%s)";
+    private static final String ANY_VALUE = "----";
+    private static final int PRTMST_ROWS_PER_CANDIDATE = 3;
+
+    private final ShipmentDescriptionCache cache;
+
+    ShipmentDescriptionSupport() {
+        this(new ShipmentDescriptionCache());
+    }
+
+    ShipmentDescriptionSupport(ShipmentDescriptionCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache cannot be null");
+    }
 
     String resolveItemDescription(Connection conn,
                                   String sku,
@@ -33,30 +61,59 @@ final class ShipmentDescriptionSupport {
                                   String whId,
                                   String fallbackDescription,
                                   List<String> descriptionColumns) {
-        DescriptionLookupKey key = new DescriptionLookupKey(
-                NormalizationService.normalizeSku(sku),
-                NormalizationService.normalizeString(prtClientId),
-                NormalizationService.normalizeString(whId),
-                NormalizationService.normalizeString(fallbackDescription)
-        );
-        if (descriptionCache.containsKey(key)) {
-            return descriptionCache.get(key);
-        }
-
-        String prtdscDescription = fetchDescriptionFromPrtdsc(conn, sku, prtClientId, whId);
-        String resolved = DescriptionTextHeuristics.isHumanReadable(prtdscDescription)
-                ? prtdscDescription
-                : chooseBestDescription(
-                null,
-                fetchDescriptionFromPrtmst(conn, sku, prtClientId, descriptionColumns),
-                fallbackDescription
-        );
-        descriptionCache.put(key, resolved);
-        return resolved;
+        DescriptionKey key = DescriptionKey.of(sku, prtClientId, whId, fallbackDescription);
+        return resolveItemDescriptions(conn, List.of(key), descriptionColumns).get(key);
     }
 
-    void clearCache() {
-        descriptionCache.clear();
+    /**
+     * Resolves descriptions for many SKU keys with at most one PRTDSC and one PRTMST query per
+     * batch of uncached candidates.
+     *
+     * @return resolved description per key; a key maps to {@code null} when nothing readable exists
+     */
+    Map<DescriptionKey, String> resolveItemDescriptions(Connection conn,
+                                                        Collection<DescriptionKey> keys,
+                                                        List<String> descriptionColumns) {
+        Map<DescriptionKey, String> resolved = new HashMap<>(cache.getAll(keys));
+        Set<DescriptionKey> misses = new LinkedHashSet<>();
+        for (DescriptionKey key : keys) {
+            if (!resolved.containsKey(key)) {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return resolved;
+        }
+
+        Fetched<Map<String, DescriptionRow>> prtdsc = fetchPrtdscRows(conn, misses);
+        Map<DescriptionKey, String> fresh = new HashMap<>();
+        List<DescriptionKey> needPrtmst = new ArrayList<>();
+        for (DescriptionKey key : misses) {
+            String prtdscDescription = selectPrtdscDescription(key, prtdsc.rows());
+            if (DescriptionTextHeuristics.isHumanReadable(prtdscDescription)) {
+                fresh.put(key, prtdscDescription);
+            } else {
+                needPrtmst.add(key);
+            }
+        }
+        Map<DescriptionKey, String> cacheable = prtdsc.complete() ? new HashMap<>(fresh) : new HashMap<>();
+        if (!needPrtmst.isEmpty()) {
+            Fetched<Map<String, List<PrtmstRow>>> prtmst = fetchPrtmstRows(conn, needPrtmst, descriptionColumns);
+            for (DescriptionKey key : needPrtmst) {
+                String description = chooseBestDescription(
+                        null,
+                        selectPrtmstDescription(key, prtmst.rows(), descriptionColumns),
+                        key.fallbackDescription()
+                );
+                fresh.put(key, description);
+                if (prtdsc.complete() && prtmst.complete()) {
+                    cacheable.put(key, description);
+                }
+            }
+        }
+        cache.putAll(cacheable);
+        resolved.putAll(fresh);
+        return resolved;
     }
 
     String chooseBestDescription(String prtdscDescription, String prtmstDescription, String fallbackDescription) {
@@ -72,96 +129,185 @@ final class ShipmentDescriptionSupport {
         return null;
     }
 
-    private String fetchDescriptionFromPrtdsc(Connection conn, String sku, String prtClientId, String whId) {
-        if (sku == null || sku.isBlank()) {
-            return null;
+    /**
+     * Walks SKU, client, then warehouse candidates in precedence order and returns the first
+     * readable short or long description.
+     */
+    private static String selectPrtdscDescription(DescriptionKey key, Map<String, DescriptionRow> rowsByColval) {
+        for (String colval : prtdscColvals(key)) {
+            DescriptionRow row = rowsByColval.get(colval);
+            if (row == null) {
+                continue;
+            }
+            if (DescriptionTextHeuristics.isHumanReadable(row.shortDescription())) {
+                return row.shortDescription();
+            }
+            if (DescriptionTextHeuristics.isHumanReadable(row.longDescription())) {
+                return row.longDescription();
+            }
         }
+        return null;
+    }
 
-        List<String> clientCandidates = new ArrayList<>();
-        if (prtClientId != null && !prtClientId.isBlank()) {
-            clientCandidates.add(prtClientId);
-        }
-        clientCandidates.add("----");
-
-        List<String> whCandidates = new ArrayList<>();
-        if (whId != null && !whId.isBlank()) {
-            whCandidates.add(whId);
-        }
-        whCandidates.add("----");
-
-        String sql = "SELECT SHORT_DSC, LNGDSC FROM WMSP.PRTDSC "
-                + "WHERE COLNAM = 'prtnum|prt_client_id|wh_id_tmpl' AND COLVAL = ? "
-                + "FETCH FIRST 1 ROWS ONLY";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (String skuCandidate : SkuCandidateBuilder.buildCandidates(sku)) {
-                for (String clientCandidate : clientCandidates) {
-                    for (String whCandidate : whCandidates) {
-                        String colVal = skuCandidate + "|" + clientCandidate + "|" + whCandidate;
-                        stmt.setString(1, colVal);
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            if (rs.next()) {
-                                String shortDsc = NormalizationService.normalizeString(rs.getString("SHORT_DSC"));
-                                if (DescriptionTextHeuristics.isHumanReadable(shortDsc)) {
-                                    return shortDsc;
-                                }
-                                String longDsc = NormalizationService.normalizeString(rs.getString("LNGDSC"));
-                                if (DescriptionTextHeuristics.isHumanReadable(longDsc)) {
-                                    return longDsc;
-                                }
-                            }
-                        }
+    /**
+     * Mirrors the former per-candidate {@code FETCH FIRST 3 ROWS} lookup: for each SKU candidate,
+     * scan up to three matching PRTMST rows (restricted to the key's client when present).
+     */
+    private static String selectPrtmstDescription(DescriptionKey key,
+                                                  Map<String, List<PrtmstRow>> rowsByPrtnum,
+                                                  List<String> descriptionColumns) {
+        if (key.sku().isBlank() || descriptionColumns == null || descriptionColumns.isEmpty()) {
+            return null;
+        }
+        boolean hasClientId = !key.prtClientId().isBlank();
+        for (String skuCandidate : SkuCandidateBuilder.buildCandidates(key.sku())) {
+            int scanned = 0;
+            for (PrtmstRow row : rowsByPrtnum.getOrDefault(skuCandidate, List.of())) {
+                if (hasClientId && !key.prtClientId().equals(row.prtClientId())) {
+                    continue;
+                }
+                if (scanned++ == PRTMST_ROWS_PER_CANDIDATE) {
+                    break;
+                }
+                for (String value : row.descriptions()) {
+                    if (DescriptionTextHeuristics.isHumanReadable(value)) {
+                        return value;
                     }
                 }
             }
-        } catch (SQLException ignored) {
-            return null;
         }
         return null;
     }
 
-    private String fetchDescriptionFromPrtmst(Connection conn,
-                                              String sku,
-                                              String prtClientId,
-                                              List<String> descriptionColumns) {
-        if (sku == null || sku.isBlank() || descriptionColumns == null || descriptionColumns.isEmpty()) {
-            return null;
+    private static List<String> prtdscColvals(DescriptionKey key) {
+        List<String> colvals = new ArrayList<>();
+        if (key.sku().isBlank()) {
+            return colvals;
         }
+        List<String> clientCandidates = withAnyValue(key.prtClientId());
+        List<String> whCandidates = withAnyValue(key.whId());
+        for (String skuCandidate : SkuCandidateBuilder.buildCandidates(key.sku())) {
+            for (String clientCandidate : clientCandidates) {
+                for (String whCandidate : whCandidates) {
+                    colvals.add(skuCandidate + "|" + clientCandidate + "|" + whCandidate);
+                }
+            }
+        }
+        return colvals;
+    }
 
-        String selectCols = String.join(", ", descriptionColumns);
-        boolean hasClientId = prtClientId != null && !prtClientId.isBlank();
-        String sql = hasClientId
-                ? "SELECT " + selectCols + " FROM WMSP.PRTMST WHERE PRTNUM = ? AND PRT_CLIENT_ID = ? FETCH FIRST 3 ROWS ONLY"
-                : "SELECT " + selectCols + " FROM WMSP.PRTMST WHERE PRTNUM = ? FETCH FIRST 3 ROWS ONLY";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (String skuCandidate : SkuCandidateBuilder.buildCandidates(sku)) {
-                stmt.setString(1, skuCandidate);
-                if (hasClientId) {
-                    stmt.setString(2, prtClientId);
+    private static List<String> withAnyValue(String value) {
+        return value.isBlank() ? List.of(ANY_VALUE) : List.of(value, ANY_VALUE);
+    }
+
+    private static Fetched<Map<String, DescriptionRow>> fetchPrtdscRows(Connection conn, Collection<DescriptionKey> keys) {
+        Set<String> colvals = new LinkedHashSet<>();
+        for (DescriptionKey key : keys) {
+            colvals.addAll(prtdscColvals(key));
+        }
+        Map<String, DescriptionRow> rows = new HashMap<>();
+        if (colvals.isEmpty()) {
+            return new Fetched<>(rows, true);
+        }
+        try {
+            for (List<String> batch : OracleInListSupport.batches(new ArrayList<>(colvals))) {
+                String sql = String.format(PRTDSC_SQL, OracleInListSupport.sqlPlaceholders(batch.size()));
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindValues(stmt, batch);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            // First row per key, as the former FETCH FIRST 1 ROWS ONLY lookup returned.
+                            rows.putIfAbsent(rs.getString("COLVAL"), new DescriptionRow(
+                                    NormalizationService.normalizeString(rs.getString("SHORT_DSC")),
+                                    NormalizationService.normalizeString(rs.getString("LNGDSC"))
+                            ));
+                        }
+                    }
                 }
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        for (String column : descriptionColumns) {
-                            String value = NormalizationService.normalizeString(rs.getString(column));
-                            if (DescriptionTextHeuristics.isHumanReadable(value)) {
-                                return value;
+            }
+        } catch (SQLException e) {
+            log.debug("Could not query PRTDSC descriptions: {}", e.getMessage());
+            return new Fetched<>(rows, false);
+        }
+        return new Fetched<>(rows, true);
+    }
+
+    private static Fetched<Map<String, List<PrtmstRow>>> fetchPrtmstRows(Connection conn,
+                                                                Collection<DescriptionKey> keys,
+                                                                List<String> descriptionColumns) {
+        Map<String, List<PrtmstRow>> rows = new HashMap<>();
+        if (descriptionColumns == null || descriptionColumns.isEmpty()) {
+            return new Fetched<>(rows, true);
+        }
+        Set<String> prtnums = new LinkedHashSet<>();
+        for (DescriptionKey key : keys) {
+            prtnums.addAll(SkuCandidateBuilder.buildCandidates(key.sku()));
+        }
+        if (prtnums.isEmpty()) {
+            return new Fetched<>(rows, true);
+        }
+        String selectCols = String.join(", ", descriptionColumns);
+        try {
+            for (List<String> batch : OracleInListSupport.batches(new ArrayList<>(prtnums))) {
+                String sql = String.format(PRTMST_SQL, selectCols, OracleInListSupport.sqlPlaceholders(batch.size()));
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    bindValues(stmt, batch);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            List<String> descriptions = new ArrayList<>(descriptionColumns.size());
+                            for (String column : descriptionColumns) {
+                                descriptions.add(NormalizationService.normalizeString(rs.getString(column)));
                             }
+                            rows.computeIfAbsent(rs.getString("PRTNUM"), ignored -> new ArrayList<>())
+                                    .add(new PrtmstRow(
+                                            NormalizationService.normalizeString(rs.getString("PRT_CLIENT_ID")),
+                                            descriptions
+                                    ));
                         }
                     }
                 }
             }
-        } catch (SQLException ignored) {
-            return null;
+        } catch (SQLException e) {
+            log.debug("Could not resolve PRTMST descriptions: {}", e.getMessage());
+            return new Fetched<>(rows, false);
+        }
+        return new Fetched<>(rows, true);
+    }
+
+    private static void bindValues(PreparedStatement stmt, List<String> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            stmt.setString(i + 1, values.get(i));
         }
-        return null;
     }
 
-    private record DescriptionLookupKey(
+    /**
+     * Normalized description lookup key; equal keys always resolve to the same description.
+     */
+    record DescriptionKey(
             String sku,
             String prtClientId,
             String whId,
             String fallbackDescription
     ) {
+        static DescriptionKey of(String sku, String prtClientId, String whId, String fallbackDescription) {
+            return new DescriptionKey(
+                    NormalizationService.normalizeSku(sku),
+                    NormalizationService.normalizeString(prtClientId),
+                    NormalizationService.normalizeString(whId),
+                    NormalizationService.normalizeString(fallbackDescription)
+            );
+        }
+    }
+
+    /**
+     * Rows read from one table; {@code complete} is false when a batch query failed part way.
+     */
+    private record Fetched<T>(T rows, boolean complete) {
+    }
+
+    private record DescriptionRow(String shortDescription, String longDescription) {
+    }
+
+    private record PrtmstRow(String prtClientId, List<String> descriptions) {
     }
 }
@@ -50,19 +50,47 @@ final class ShipmentLpnHydrationSupport {
             + "  AND sl.ORDLIN = ol.ORDLIN AND sl.ORDSLN = ol.ORDSLN AND sl.CLIENT_ID = ol.CLIENT_ID "
             + "WHERE pwd.SHIP_ID = ? "
             + "ORDER BY pwd.SHIP_CTNNUM, sl.ORDLIN, sl.ORDSLN";
+    private static final String SHIPMENT_LPNS_SQL = "SELECT DISTINCT "
+            + "il.LODNUM, il.LODUCC, il.STOLOC, il.LODWGT, "
+            + "id.LOTNUM, id.SUP_LOTNUM, id.MANDTE, id.EXPIRE_DTE "
+            + "FROM WMSP.PCKWRK_DTL pwd "
+            + "INNER JOIN WMSP.INVDTL id ON pwd.DTLNUM = id.DTLNUM "
+            + "INNER JOIN WMSP.INVSUB isub ON id.SUBNUM = isub.SUBNUM "
+            + "INNER JOIN WMSP.INVLOD il ON isub.LODNUM = il.LODNUM "
+            + "WHERE pwd.SHIP_ID = ? "
+            + "ORDER BY il.LODNUM";
+    private static final String BATCH_LINE_ITEMS_SQL = "SELECT "
+            + "pwd.SHIP_ID AS BATCH_SHIP_ID, pwd.SHIP_CTNNUM AS LODNUM, "
+            + "sl.SHIP_LINE_ID, sl.ORDNUM, sl.ORDLIN, sl.ORDSLN, sl.CONS_BATCH, "
+            + "COALESCE("
+            + "NULLIF(sl.SHPQTY, 0), "
+            + "NULLIF(sl.STGQTY, 0), "
+            + "NULLIF(sl.PCKQTY, 0), "
+            + "NULLIF(sl.INPQTY, 0), "
+            + "NULLIF(sl.TOT_PLN_QTY, 0), "
+            + "NULLIF(ol.ORDQTY, 0), "
+            + "0) AS EFFECTIVE_QTY, "
+            + "ol.PRTNUM, ol.CSTPRT, ol.ORDQTY, ol.SALES_ORDNUM, ol.UNTPAK, "
+            + "CAST(NULL AS VARCHAR2(1)) AS LNGDSC, ol.CSTPRT AS SRTDSC, 0 AS NETWGT "
+            + "FROM WMSP.PCKWRK_DTL pwd "
+            + "INNER JOIN WMSP.SHIPMENT_LINE sl ON pwd.SHIP_LINE_ID = sl.SHIP_LINE_ID "
+            + "INNER JOIN WMSP.ORD_LINE ol ON sl.ORDNUM = ol.ORDNUM "
+            + "  AND sl.ORDLIN = ol.ORDLIN AND sl.ORDSLN = ol.ORDSLN AND sl.CLIENT_ID = ol.CLIENT_ID "
+            + "WHERE pwd.SHIP_ID IN (%s) "
+            + "ORDER BY pwd.SHIP_ID, pwd.SHIP_CTNNUM, sl.ORDLIN, sl.ORDSLN";
+    private static final String BATCH_LPNS_SQL = "SELECT DISTINCT "
+            + "pwd.SHIP_ID AS BATCH_SHIP_ID, "
+            + "il.LODNUM, il.LODUCC, il.STOLOC, il.LODWGT, "
+            + "id.LOTNUM, id.SUP_LOTNUM, id.MANDTE, id.EXPIRE_DTE "
+            + "FROM WMSP.PCKWRK_DTL pwd "
+            + "INNER JOIN WMSP.INVDTL id ON pwd.DTLNUM = id.DTLNUM "
+            + "INNER JOIN WMSP.INVSUB isub ON id.SUBNUM = isub.SUBNUM "
+            + "INNER JOIN WMSP.INVLOD il ON isub.LODNUM = il.LODNUM "
+            + "WHERE pwd.SHIP_ID IN (%s) "
+            + "ORDER BY BATCH_SHIP_ID, il.LODNUM";
 
     List<Lpn> fetchLpnsWithLineItems(Connection conn, String shipmentId) throws SQLException {
-        String lpnSql = "SELECT DISTINCT "
-                + "il.LODNUM, il.LODUCC, il.STOLOC, il.LODWGT, "
-                + "id.LOTNUM, id.SUP_LOTNUM, id.MANDTE, id.EXPIRE_DTE "
-                + "FROM WMSP.PCKWRK_DTL pwd "
-                + "INNER JOIN WMSP.INVDTL id ON pwd.DTLNUM = id.DTLNUM "
-                + "INNER JOIN WMSP.INVSUB isub ON id.SUBNUM = isub.SUBNUM "
-                + "INNER JOIN WMSP.INVLOD il ON isub.LODNUM = il.LODNUM "
-                + "WHERE pwd.SHIP_ID = ? "
-                + "ORDER BY il.LODNUM";
-
-        try (PreparedStatement stmt = conn.prepareStatement(lpnSql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(SHIPMENT_LPNS_SQL)) {
             Map<String, List<LineItem>> lineItemsByLpn = fetchLineItemsByLpn(conn, shipmentId);
             LinkedHashMap<String, MutableLpnRow> lpnsById = new LinkedHashMap<>();
 
@@ -99,30 +127,105 @@ final class ShipmentLpnHydrationSupport {
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String lpnId = NormalizationService.normalizeString(rs.getString("LODNUM"));
-                    LineItem item = new LineItem(
-                            NormalizationService.normalizeString(rs.getString("ORDLIN")),
-                            NormalizationService.normalizeString(rs.getString("ORDSLN")),
-                            NormalizationService.normalizeSku(rs.getString("PRTNUM")),
-                            NormalizationService.normalizeString(rs.getString("SRTDSC")),
-                            NormalizationService.normalizeString(rs.getString("CSTPRT")),
-                            NormalizationService.normalizeString(rs.getString("ORDNUM")),
-                            NormalizationService.normalizeString(rs.getString("CONS_BATCH")),
-                            NormalizationService.normalizeString(rs.getString("SALES_ORDNUM")),
-                            rs.getInt("EFFECTIVE_QTY"),
-                            rs.getInt("UNTPAK"),
-                            DEFAULT_LINE_ITEM_UOM,
-                            rs.getDouble("NETWGT"),
-                            null,
-                            null,
-                            null
-                    );
-                    lineItemsByLpn.computeIfAbsent(lpnId, ignored -> new ArrayList<>()).add(item);
+                    lineItemsByLpn.computeIfAbsent(lpnId, ignored -> new ArrayList<>()).add(mapLineItem(rs));
                 }
             }
         }
         return lineItemsByLpn;
     }
 
+    /**
+     * Loads LPNs and line items for many shipments with two statements per batch of
+     * {@link OracleInListSupport#BATCH_SIZE} shipment IDs.
+     *
+     * @param conn        open connection
+     * @param shipmentIds normalized, de-duplicated shipment IDs
+     * @return LPNs keyed by shipment ID; shipments without pick work map to an empty list
+     */
+    Map<String, List<Lpn>> fetchLpnsWithLineItems(Connection conn, List<String> shipmentIds) throws SQLException {
+        Map<String, List<Lpn>> lpnsByShipment = new HashMap<>();
+        for (List<String> batch : OracleInListSupport.batches(shipmentIds)) {
+            Map<String, Map<String, List<LineItem>>> lineItemsByShipment = fetchLineItemsByShipmentAndLpn(conn, batch);
+            Map<String, LinkedHashMap<String, MutableLpnRow>> rowsByShipment = new HashMap<>();
+            String sql = String.format(BATCH_LPNS_SQL, OracleInListSupport.sqlPlaceholders(batch.size()));
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                bindIds(stmt, batch);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        String shipmentId = NormalizationService.normalizeString(rs.getString("BATCH_SHIP_ID"));
+                        String normalizedLpnId = NormalizationService.normalizeString(rs.getString("LODNUM"));
+                        if (normalizedLpnId.isBlank()) {
+                            continue;
+                        }
+                        Map<String, List<LineItem>> lineItemsByLpn = lineItemsByShipment.getOrDefault(shipmentId, Map.of());
+                        MutableLpnRow row = rowsByShipment
+                                .computeIfAbsent(shipmentId, ignored -> new LinkedHashMap<>())
+                                .computeIfAbsent(normalizedLpnId, ignored -> new MutableLpnRow(
+                                        normalizedLpnId,
+                                        shipmentId,
+                                        lineItemsByLpn.getOrDefault(normalizedLpnId, List.of())
+                                ));
+                        row.merge(rs);
+                    }
+                }
+            }
+            for (String shipmentId : batch) {
+                LinkedHashMap<String, MutableLpnRow> rows = rowsByShipment.getOrDefault(shipmentId, new LinkedHashMap<>());
+                List<Lpn> lpns = new ArrayList<>(rows.size());
+                for (MutableLpnRow row : rows.values()) {
+                    lpns.add(row.toLpn());
+                }
+                lpnsByShipment.put(shipmentId, lpns);
+            }
+        }
+        return lpnsByShipment;
+    }
+
+    private Map<String, Map<String, List<LineItem>>> fetchLineItemsByShipmentAndLpn(Connection conn, List<String> batch)
+            throws SQLException {
+        Map<String, Map<String, List<LineItem>>> lineItems = new HashMap<>();
+        String sql = String.format(BATCH_LINE_ITEMS_SQL, OracleInListSupport.sqlPlaceholders(batch.size()));
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            bindIds(stmt, batch);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String shipmentId = NormalizationService.normalizeString(rs.getString("BATCH_SHIP_ID"));
+                    String lpnId = NormalizationService.normalizeString(rs.getString("LODNUM"));
+                    lineItems.computeIfAbsent(shipmentId, ignored -> new HashMap<>())
+                            .computeIfAbsent(lpnId, ignored -> new ArrayList<>())
+                            .add(mapLineItem(rs));
+                }
+            }
+        }
+        return lineItems;
+    }
+
+    private static LineItem mapLineItem(ResultSet rs) throws SQLException {
+        return new LineItem(
+                NormalizationService.normalizeString(rs.getString("ORDLIN")),
+                NormalizationService.normalizeString(rs.getString("ORDSLN")),
+                NormalizationService.normalizeSku(rs.getString("PRTNUM")),
+                NormalizationService.normalizeString(rs.getString("SRTDSC")),
+                NormalizationService.normalizeString(rs.getString("CSTPRT")),
+                NormalizationService.normalizeString(rs.getString("ORDNUM")),
+                NormalizationService.normalizeString(rs.getString("CONS_BATCH")),
+                NormalizationService.normalizeString(rs.getString("SALES_ORDNUM")),
+                rs.getInt("EFFECTIVE_QTY"),
+                rs.getInt("UNTPAK"),
+                DEFAULT_LINE_ITEM_UOM,
+                rs.getDouble("NETWGT"),
+                null,
+                null,
+                null
+        );
+    }
+
+    private static void bindIds(PreparedStatement stmt, List<String> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            stmt.setString(i + 1, ids.get(i));
+        }
+    }
+
     private static LocalDate nullableLocalDate(ResultSet rs, String column) throws SQLException {
         Date date = rs.getDate(column);
         return date == null ? null : date.toLocalDate();
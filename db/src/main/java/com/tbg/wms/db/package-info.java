@@ -20,6 +20,8 @@
  *   <li>{@link com.tbg.wms.db.DbQueryRepository} - read-only query contract used by CLI/GUI workflows.</li>
  *   <li>{@link com.tbg.wms.db.OracleDbQueryRepository} - Oracle-backed implementation of query operations.</li>
  *   <li>{@link com.tbg.wms.db.DbConnectionPool} - HikariCP lifecycle and read-only datasource setup.</li>
+ *   <li>{@link com.tbg.wms.db.DbConnectionPoolManager} - application-scoped shared pool with background
+ *       pre-warm, reused by GUI label workflows and analyzers.</li>
  *   <li>{@link com.tbg.wms.db.DbConnectivityDiagnostics} - connection diagnostics and health checks.</li>
  *   <li>Rail family normalization honors explicit WMS override flags (for example, UC_PARS_FLG=1 implies CAN).</li>
  * </ul>
@@ -32,6 +34,10 @@
  *       separated from repository SQL orchestration for SRP and predictable lookup performance.</li>
  *   <li>Shipment line-items are loaded in one shipment-scoped query and grouped by LPN to avoid N+1 database probes.</li>
  *   <li>Shipment LPN rows are coalesced after the inventory-detail join so mixed-lot pallets cannot create duplicate labels.</li>
+ *   <li>{@link com.tbg.wms.db.OracleInListSupport} - shared 900-ID {@code IN (...)} batching for set-based
+ *       queries such as rail footprints and multi-shipment carrier-move hydration.</li>
+ *   <li>{@link com.tbg.wms.db.ShipmentDescriptionCache} - bounded, time-limited description cache shared by
+ *       every repository on one data source; SKU descriptions are resolved with one batched PRTDSC and PRTMST query.</li>
  * </ul>
  *
  * @since 1.5.0
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.db;
+
+import com.tbg.wms.core.AppConfig;
+import com.tbg.wms.core.exception.WmsDbConnectivityException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts physical connection opens per workflow against an in-memory H2 database.
+ */
+class DbConnectionPoolManagerTest {
+
+    private static final int WORKFLOWS = 20;
+
+    private static CountingDriver driver;
+
+    @BeforeAll
+    static void registerDriver() throws SQLException {
+        driver = new CountingDriver();
+        DriverManager.registerDriver(driver);
+    }
+
+    @AfterAll
+    static void deregisterDriver() throws SQLException {
+        DriverManager.deregisterDriver(driver);
+    }
+
+    @Test
+    void sharedPool_shouldOpenOnePhysicalConnectionForSequentialWorkflows() throws Exception {
+        String database = newDatabase();
+        AppConfig config = config(database, 0);
+
+        for (int i = 0; i < WORKFLOWS; i++) {
+            try (DbConnectionPool pool = new DbConnectionPool(config)) {
+                runWorkflow(pool.getDataSource());
+            }
+        }
+        int perWorkflowPoolOpens = driver.opens(database);
+
+        String sharedDatabase = newDatabase();
+        AppConfig sharedConfig = config(sharedDatabase, 0);
+        try (DbConnectionPoolManager manager = new DbConnectionPoolManager()) {
+            for (int i = 0; i < WORKFLOWS; i++) {
+                runWorkflow(manager.dataSource(sharedConfig));
+            }
+        }
+
+        assertEquals(WORKFLOWS, perWorkflowPoolOpens);
+        assertEquals(1, driver.opens(sharedDatabase));
+    }
+
+    @Test
+    void prewarmAsync_shouldOpenMinIdleConnectionsAheadOfWorkflows() throws Exception {
+        String database = newDatabase();
+        AppConfig config = config(database, 3);
+        try (DbConnectionPoolManager manager = new DbConnectionPoolManager()) {
+            manager.prewarmAsync(config).get(10, TimeUnit.SECONDS);
+            int warmed = driver.opens(database);
+
+            assertTrue(warmed >= 3 && warmed <= 5, "warmed connections " + warmed);
+            for (int i = 0; i < WORKFLOWS; i++) {
+                runWorkflow(manager.dataSource(config));
+            }
+            assertEquals(warmed, driver.opens(database));
+        }
+    }
+
+    @Test
+    void pool_shouldRebuildWhenConnectionSettingsChange() {
+        AppConfig first = config(newDatabase(), 0);
+        AppConfig second = config(newDatabase(), 0);
+        try (DbConnectionPoolManager manager = new DbConnectionPoolManager()) {
+            DbConnectionPool firstPool = manager.pool(first);
+            assertSame(firstPool, manager.pool(first));
+
+            DbConnectionPool secondPool = manager.pool(second);
+
+            assertNotSame(firstPool, secondPool);
+            assertTrue(firstPool.isClosed());
+            assertFalse(secondPool.isClosed());
+        }
+    }
+
+    @Test
+    void pool_shouldKeepTheReplacedPoolOpenUntilBorrowedConnectionsReturn() throws Exception {
+        AppConfig first = config(newDatabase(), 0);
+        AppConfig second = config(newDatabase(), 0);
+        try (DbConnectionPoolManager manager = new DbConnectionPoolManager()) {
+            DbConnectionPool firstPool = manager.pool(first);
+            try (Connection inFlight = firstPool.getDataSource().getConnection()) {
+                DbConnectionPool secondPool = manager.pool(second);
+
+                assertNotSame(firstPool, secondPool);
+                assertFalse(firstPool.isClosed());
+                try (Statement statement = inFlight.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT 1 FROM dual")) {
+                    assertTrue(resultSet.next());
+                }
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!firstPool.isClosed() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(firstPool.isClosed());
+        }
+    }
+
+    @Test
+    void pool_shouldNotBlockCallersOfTheOpenPoolWhileAnotherBuilds() throws Exception {
+        AppConfig first = config(newDatabase(), 0);
+        AppConfig second = config(newDatabase(), 0);
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch releaseBuild = new CountDownLatch(1);
+        try (DbConnectionPoolManager manager = new DbConnectionPoolManager(cfg -> {
+            if (cfg == second) {
+                buildStarted.countDown();
+                try {
+                    releaseBuild.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new DbConnectionPool(cfg);
+        })) {
+            DbConnectionPool firstPool = manager.pool(first);
+            CompletableFuture<DbConnectionPool> switching = CompletableFuture.supplyAsync(() -> manager.pool(second));
+            CompletableFuture<DbConnectionPool> joining = CompletableFuture.supplyAsync(() -> manager.pool(second));
+            assertTrue(buildStarted.await(5, TimeUnit.SECONDS));
+
+            assertSame(firstPool, CompletableFuture.supplyAsync(() -> manager.pool(first)).get(1, TimeUnit.SECONDS));
+
+            releaseBuild.countDown();
+            DbConnectionPool secondPool = switching.get(10, TimeUnit.SECONDS);
+            assertSame(secondPool, joining.get(10, TimeUnit.SECONDS));
+            assertSame(secondPool, manager.pool(second));
+        }
+    }
+
+    @Test
+    void pool_shouldRetryAfterFailedBuild() {
+        AppConfig config = config(newDatabase(), 0);
+        AtomicInteger builds = new AtomicInteger();
+        try (DbConnectionPoolManager manager = new DbConnectionPoolManager(cfg -> {
+            if (builds.incrementAndGet() == 1) {
+                throw new WmsDbConnectivityException("listener down", "retry");
+            }
+            return new DbConnectionPool(cfg);
+        })) {
+            assertThrows(WmsDbConnectivityException.class, () -> manager.pool(config));
+
+            DbConnectionPool pool = manager.pool(config);
+
+            assertFalse(pool.isClosed());
+            assertEquals(2, builds.get());
+        }
+    }
+
+    @Test
+    void close_shouldShutDownSharedPoolAndRejectLaterUse() {
+        AppConfig config = config(newDatabase(), 0);
+        DbConnectionPoolManager manager = new DbConnectionPoolManager();
+        DbConnectionPool pool = manager.pool(config);
+
+        manager.close();
+        manager.close();
+
+        assertTrue(pool.isClosed());
+        assertThrows(IllegalStateException.class, () -> manager.pool(config));
+    }
+
+    private static void runWorkflow(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM dual")) {
+            assertTrue(resultSet.next());
+        }
+    }
+
+    private static String newDatabase() {
+        return "pool" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static AppConfig config(String database, int minIdle) {
+        AppConfig config = mock(AppConfig.class);
+        when(config.activeSiteCode()).thenReturn("TBG3002");
+        when(config.oracleJdbcUrlCandidates()).thenReturn(List.of(CountingDriver.PREFIX + database));
+        when(config.oracleUsername()).thenReturn("RPTADM");
+        when(config.oraclePassword()).thenReturn("password");
+        when(config.dbPoolMaxSize()).thenReturn(5);
+        when(config.dbPoolMinIdle()).thenReturn(minIdle);
+        when(config.dbPoolConnectionTimeoutMs()).thenReturn(3000L);
+        when(config.dbPoolValidationTimeoutMs()).thenReturn(2000L);
+        return config;
+    }
+
+    /**
+     * JDBC driver that forwards to H2 in Oracle mode and counts physical connects per database.
+     */
+    static final class CountingDriver implements Driver {
+        static final String PREFIX = "jdbc:counting:";
+
+        private final Map<String, AtomicInteger> opens = new ConcurrentHashMap<>();
+
+        int opens(String database) {
+            AtomicInteger count = opens.get(database);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            String database = url.substring(PREFIX.length());
+            Connection connection = DriverManager.getConnection(
+                    "jdbc:h2:mem:" + database + ";MODE=Oracle;DB_CLOSE_DELAY=-1", info);
+            opens.computeIfAbsent(database, key -> new AtomicInteger()).incrementAndGet();
+            return connection;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url != null && url.startsWith(PREFIX);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getLogger(CountingDriver.class.getName());
+        }
+    }
+}
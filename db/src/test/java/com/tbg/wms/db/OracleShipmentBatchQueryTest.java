@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+
+package com.tbg.wms.db;
+
+import com.tbg.wms.core.model.LineItem;
+import com.tbg.wms.core.model.Lpn;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.model.ShipmentSkuFootprint;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the set-based shipment hydration queries against an H2 (Oracle mode) stand-in for the
+ * WMSP schema, counting JDBC round trips through a proxying data source.
+ */
+class OracleShipmentBatchQueryTest {
+
+    private static final int STOPS = 40;
+    private static final String[] SKUS = {"10012345", "20022222", "30033333"};
+
+    private CountingDataSource counting;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+        try (Connection conn = h2.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM 'classpath:h2/wmsp-shipment-schema.sql'");
+            seedCarrierMove(stmt);
+        }
+        counting = new CountingDataSource(h2);
+        dataSource = counting.proxy;
+    }
+
+    @Test
+    void findShipmentsWithLpnsAndLineItems_shouldMatchPerShipmentHydration() {
+        List<String> ids = shipmentIds();
+        Map<String, Shipment> bulk = new OracleDbQueryRepository(dataSource).findShipmentsWithLpnsAndLineItems(ids);
+        Map<String, List<ShipmentSkuFootprint>> bulkFootprints =
+                new OracleDbQueryRepository(dataSource).findShipmentSkuFootprints(ids);
+
+        assertEquals(ids, new ArrayList<>(bulk.keySet()));
+        assertEquals(ids, new ArrayList<>(bulkFootprints.keySet()));
+        OracleDbQueryRepository single = new OracleDbQueryRepository(dataSource);
+        for (String id : ids) {
+            assertSameShipment(single.findShipmentWithLpnsAndLineItems(id), bulk.get(id));
+            assertSameFootprints(single.findShipmentSkuFootprints(id), bulkFootprints.get(id));
+        }
+        Shipment first = bulk.get("SHIP-01");
+        assertEquals("ORD-01", first.getOrderId());
+        assertEquals("PO-01", first.getCustomerPo());
+        assertEquals(2, first.getLpnCount());
+        assertEquals("Orange Juice 10012345", bulkFootprints.get("SHIP-01").get(0).getItemDescription());
+    }
+
+    @Test
+    void findShipmentsWithLpnsAndLineItems_shouldTakeHandfulOfRoundTripsForFortyStopMove() {
+        List<String> ids = shipmentIds();
+
+        OracleDbQueryRepository perShipment = new OracleDbQueryRepository(dataSource);
+        for (String id : ids) {
+            perShipment.findShipmentWithLpnsAndLineItems(id);
+            perShipment.findShipmentSkuFootprints(id);
+        }
+        int perShipmentQueries = counting.queries.getAndSet(0);
+        int perShipmentConnections = counting.connections.getAndSet(0);
+
+        OracleDbQueryRepository bulk = new OracleDbQueryRepository(dataSource);
+        assertEquals(STOPS, bulk.findShipmentsWithLpnsAndLineItems(ids).size());
+        assertEquals(STOPS, bulk.findShipmentSkuFootprints(ids).size());
+        int bulkQueries = counting.queries.get();
+
+        assertTrue(perShipmentQueries >= 5 * STOPS, "per-shipment queries " + perShipmentQueries);
+        assertEquals(2 * STOPS, perShipmentConnections);
+        // Headers, LPNs, line items, footprints, one PRTMST column probe, and at most one batched PRTDSC lookup.
+        assertTrue(bulkQueries <= 6, "bulk queries " + bulkQueries);
+        assertEquals(2, counting.connections.get());
+    }
+
+    @Test
+    void findShipmentsWithLpnsAndLineItems_shouldSplitInListsAtNineHundredIds() {
+        List<String> ids = new ArrayList<>(shipmentIds());
+        for (int i = 0; i < 1800; i++) {
+            ids.add("MISSING-" + i);
+        }
+        ids.add("  SHIP-01 ");
+        ids.add("");
+
+        Map<String, Shipment> shipments = new OracleDbQueryRepository(dataSource).findShipmentsWithLpnsAndLineItems(ids);
+
+        assertEquals(STOPS, shipments.size());
+        List<String> headerStatements = counting.preparedSql("FROM WMSP.SHIPMENT s ");
+        assertEquals(3, headerStatements.size());
+        for (String sql : headerStatements) {
+            assertTrue(sql.chars().filter(c -> c == '?').count() <= OracleInListSupport.BATCH_SIZE);
+        }
+    }
+
+    @Test
+    void findShipmentsWithLpnsAndLineItems_defaultShouldDelegatePerShipment() {
+        OracleDbQueryRepository oracle = new OracleDbQueryRepository(dataSource);
+        DbQueryRepository delegating = (DbQueryRepository) Proxy.newProxyInstance(
+                DbQueryRepository.class.getClassLoader(),
+                new Class<?>[]{DbQueryRepository.class},
+                (proxy, method, args) -> method.isDefault()
+                        ? InvocationHandler.invokeDefault(proxy, method, args)
+                        : method.invoke(oracle, args)
+        );
+
+        Map<String, Shipment> shipments = delegating.findShipmentsWithLpnsAndLineItems(List.of("SHIP-02", "NOPE", "SHIP-02"));
+
+        assertEquals(List.of("SHIP-02"), new ArrayList<>(shipments.keySet()));
+        assertEquals(2, shipments.get("SHIP-02").getLpnCount());
+    }
+
+    private static List<String> shipmentIds() {
+        List<String> ids = new ArrayList<>(STOPS);
+        for (int stop = 1; stop <= STOPS; stop++) {
+            ids.add(shipmentId(stop));
+        }
+        return ids;
+    }
+
+    private static String shipmentId(int stop) {
+        return String.format("SHIP-%02d", stop);
+    }
+
+    private static void assertSameShipment(Shipment expected, Shipment actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getShipmentId(), actual.getShipmentId());
+        assertEquals(expected.getOrderId(), actual.getOrderId());
+        assertEquals(expected.getShipToName(), actual.getShipToName());
+        assertEquals(expected.getCustomerPo(), actual.getCustomerPo());
+        assertEquals(expected.getLocationNumber(), actual.getLocationNumber());
+        assertEquals(expected.getStopSequence(), actual.getStopSequence());
+        assertEquals(expected.getBolNumber(), actual.getBolNumber());
+        assertEquals(expected.getCreatedDate(), actual.getCreatedDate());
+        assertEquals(expected.getLpnCount(), actual.getLpnCount());
+        for (int i = 0; i < expected.getLpnCount(); i++) {
+            Lpn expectedLpn = expected.getLpns().get(i);
+            Lpn actualLpn = actual.getLpns().get(i);
+            assertEquals(expectedLpn.getLpnId(), actualLpn.getLpnId());
+            assertEquals(expectedLpn.getSscc(), actualLpn.getSscc());
+            assertEquals(expectedLpn.getWarehouseLot(), actualLpn.getWarehouseLot());
+            assertEquals(expectedLpn.getBestByDate(), actualLpn.getBestByDate());
+            assertEquals(expectedLpn.getLineItems().size(), actualLpn.getLineItems().size());
+            for (int j = 0; j < expectedLpn.getLineItems().size(); j++) {
+                LineItem expectedItem = expectedLpn.getLineItems().get(j);
+                LineItem actualItem = actualLpn.getLineItems().get(j);
+                assertEquals(expectedItem.getSku(), actualItem.getSku());
+                assertEquals(expectedItem.getQuantity(), actualItem.getQuantity());
+            }
+        }
+    }
+
+    private static void assertSameFootprints(List<ShipmentSkuFootprint> expected, List<ShipmentSkuFootprint> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSku(), actual.get(i).getSku());
+            assertEquals(expected.get(i).getItemDescription(), actual.get(i).getItemDescription());
+            assertEquals(expected.get(i).getTotalUnits(), actual.get(i).getTotalUnits());
+            assertEquals(expected.get(i).getUnitsPerPallet(), actual.get(i).getUnitsPerPallet());
+            assertEquals(expected.get(i).getPalletHeight(), actual.get(i).getPalletHeight());
+        }
+    }
+
+    /**
+     * One carrier move with {@link #STOPS} single-shipment stops; each shipment has two pallets
+     * carrying different SKUs from a small shared pool.
+     */
+    private static void seedCarrierMove(Statement stmt) throws SQLException {
+        stmt.execute("INSERT INTO WMSP.CAR_MOVE VALUES ('CM-1', 'BOL-1', 'PRO-1')");
+        for (String sku : SKUS) {
+            stmt.execute("INSERT INTO WMSP.PRTDSC VALUES ('prtnum|prt_client_id|wh_id_tmpl', '"
+                    + sku + "|----|3002', 'Orange Juice " + sku + "', NULL)");
+            stmt.execute("INSERT INTO WMSP.PRTFTP VALUES ('" + sku + "', '----', '3002', 'STD', 1)");
+            stmt.execute("INSERT INTO WMSP.PRTFTP_DTL VALUES ('" + sku + "', '----', '3002', 'STD', 1, 0, 6, NULL, NULL, NULL)");
+            stmt.execute("INSERT INTO WMSP.PRTFTP_DTL VALUES ('" + sku + "', '----', '3002', 'STD', 0, 1, 360, 48, 40, 52.5)");
+        }
+        for (int stop = 1; stop <= STOPS; stop++) {
+            String ship = shipmentId(stop);
+            String suffix = String.format("%02d", stop);
+            stmt.execute("INSERT INTO WMSP.ADRMST VALUES ('ADR-" + suffix + "', 'Store " + suffix
+                    + "', '1 Main St', NULL, NULL, 'Tampa', 'fl', '33601', 'USA', NULL, NULL, 'HX-" + suffix + "')");
+            stmt.execute("INSERT INTO WMSP.STOP VALUES ('STOP-" + suffix + "', 'CM-1', " + stop + ", " + stop + ")");
+            stmt.execute("INSERT INTO WMSP.SHIPMENT VALUES ('" + ship + "', 'EXT-" + suffix + "', '3002', 'R', 'MDLE', 'TL', "
+                    + "NULL, NULL, 'STOP-" + suffix + "', 'ROSSI', TIMESTAMP '2026-10-01 08:00:00', NULL, "
+                    + "TIMESTAMP '2026-09-30 12:00:00', 'CM-1', 'ADR-" + suffix + "')");
+            stmt.execute("INSERT INTO WMSP.ORD VALUES ('ORD-" + suffix + "', '----', 'PO-" + suffix + "', '60" + suffix + "', NULL, '92')");
+            for (int pallet = 1; pallet <= 2; pallet++) {
+                String sku = SKUS[(stop + pallet) % SKUS.length];
+                String line = ship + "-L" + pallet;
+                String lpn = "LPN-" + suffix + "-" + pallet;
+                stmt.execute("INSERT INTO WMSP.ORD_LINE VALUES ('ORD-" + suffix + "', '" + pallet + "', '0', '----', '"
+                        + sku + "', '----', 'CUST-" + sku + "', " + (100 * pallet) + ", 'SO-" + suffix + "', 6)");
+                stmt.execute("INSERT INTO WMSP.SHIPMENT_LINE VALUES ('" + line + "', '" + ship + "', 'ORD-" + suffix
+                        + "', '" + pallet + "', '0', '----', 'B1', " + (100 * pallet) + ", 0, 0, 0, 0)");
+                stmt.execute("INSERT INTO WMSP.INVLOD VALUES ('" + lpn + "', '00012345" + suffix + pallet + "', 'ROSSI', 512.5)");
+                stmt.execute("INSERT INTO WMSP.INVSUB VALUES ('SUB-" + lpn + "', '" + lpn + "')");
+                stmt.execute("INSERT INTO WMSP.INVDTL VALUES ('DTL-" + lpn + "', 'SUB-" + lpn + "', 'LOT-" + suffix
+                        + "', 'SUP-" + suffix + "', DATE '2026-09-01', DATE '2027-03-01')");
+                stmt.execute("INSERT INTO WMSP.PCKWRK_DTL VALUES ('" + ship + "', '" + line + "', '" + lpn + "', 'DTL-" + lpn + "')");
+            }
+        }
+    }
+
+    /**
+     * Data source that counts physical connections and executed queries, and records prepared SQL.
+     */
+    private static final class CountingDataSource implements InvocationHandler {
+        private final DataSource delegate;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger queries = new AtomicInteger();
+        private final List<String> prepared = new ArrayList<>();
+        private final DataSource proxy;
+
+        private CountingDataSource(DataSource delegate) {
+            this.delegate = delegate;
+            this.proxy = (DataSource) Proxy.newProxyInstance(
+                    DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class}, this);
+        }
+
+        List<String> preparedSql(String fragment) {
+            List<String> matches = new ArrayList<>();
+            synchronized (prepared) {
+                for (String sql : prepared) {
+                    if (sql.contains(fragment)) {
+                        matches.add(sql);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(delegate, method, args);
+            if (result instanceof Connection connection) {
+                connections.incrementAndGet();
+                return wrap(Connection.class, connection, (connectionMethod, connectionResult, connectionArgs) -> {
+                    if (connectionResult instanceof PreparedStatement statement) {
+                        synchronized (prepared) {
+                            prepared.add((String) connectionArgs[0]);
+                        }
+                        return wrap(PreparedStatement.class, statement, (statementMethod, statementResult, ignored) -> {
+                            if (statementMethod.getName().equals("executeQuery")) {
+                                queries.incrementAndGet();
+                            }
+                            return statementResult;
+                        });
+                    }
+                    return connectionResult;
+                });
+            }
+            return result;
+        }
+
+        private static <T> T wrap(Class<T> type, T target, ResultHook hook) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> hook.apply(method, forward(target, method, args), args)));
+        }
+
+        private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        private interface ResultHook {
+            Object apply(Method method, Object result, Object[] args);
+        }
+    }
+}
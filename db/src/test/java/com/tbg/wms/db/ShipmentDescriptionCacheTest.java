@@ -0,0 +1,109 @@
+package com.tbg.wms.db;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShipmentDescriptionCacheTest {
+
+    @Test
+    void getAll_shouldExpireEntriesAfterTtl() {
+        AtomicLong now = new AtomicLong(1_000);
+        ShipmentDescriptionCache cache = new ShipmentDescriptionCache(10, 500, now::get);
+        ShipmentDescriptionSupport.DescriptionKey key = key("10012345");
+        cache.putAll(Map.of(key, "Orange Juice"));
+
+        now.addAndGet(499);
+        assertEquals("Orange Juice", cache.getAll(List.of(key)).get(key));
+
+        now.addAndGet(1);
+        assertTrue(cache.getAll(List.of(key)).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void putAll_shouldEvictLeastRecentlyUsedBeyondBound() {
+        ShipmentDescriptionCache cache = new ShipmentDescriptionCache(2, 60_000, () -> 0L);
+        ShipmentDescriptionSupport.DescriptionKey first = key("10000001");
+        ShipmentDescriptionSupport.DescriptionKey second = key("10000002");
+        ShipmentDescriptionSupport.DescriptionKey third = key("10000003");
+        cache.putAll(Map.of(first, "First"));
+        cache.putAll(Map.of(second, "Second"));
+        cache.getAll(List.of(first));
+
+        cache.putAll(Map.of(third, "Third"));
+
+        Map<ShipmentDescriptionSupport.DescriptionKey, String> found = cache.getAll(List.of(first, second, third));
+        assertEquals(2, cache.size());
+        assertEquals("First", found.get(first));
+        assertFalse(found.containsKey(second));
+        assertEquals("Third", found.get(third));
+    }
+
+    @Test
+    void getAll_shouldReturnCachedMissesAsNull() {
+        ShipmentDescriptionCache cache = new ShipmentDescriptionCache();
+        ShipmentDescriptionSupport.DescriptionKey key = key("40044444");
+        Map<ShipmentDescriptionSupport.DescriptionKey, String> unresolved = new HashMap<>();
+        unresolved.put(key, null);
+        cache.putAll(unresolved);
+
+        Map<ShipmentDescriptionSupport.DescriptionKey, String> found = cache.getAll(List.of(key));
+
+        assertTrue(found.containsKey(key));
+        assertNull(found.get(key));
+    }
+
+    @Test
+    void shared_shouldReturnOneCachePerDataSource() {
+        JdbcDataSource first = new JdbcDataSource();
+        JdbcDataSource second = new JdbcDataSource();
+
+        assertSame(ShipmentDescriptionCache.shared(first), ShipmentDescriptionCache.shared(first));
+        assertNotSame(ShipmentDescriptionCache.shared(first), ShipmentDescriptionCache.shared(second));
+    }
+
+    @Test
+    void concurrentJobs_shouldStayWithinBound() throws Exception {
+        ShipmentDescriptionCache cache = new ShipmentDescriptionCache(50, 60_000, System::currentTimeMillis);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                int offset = worker * 1_000;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        ShipmentDescriptionSupport.DescriptionKey key = key(String.valueOf(10_000_000 + offset + i));
+                        cache.putAll(Map.of(key, "Item " + i));
+                        cache.getAll(List.of(key, key("10000000")));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(50, cache.size());
+    }
+
+    private static ShipmentDescriptionSupport.DescriptionKey key(String sku) {
+        return ShipmentDescriptionSupport.DescriptionKey.of(sku, "----", "3002", "");
+    }
+}
@@ -1,15 +1,23 @@
 package com.tbg.wms.db;
 
+import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,6 +46,7 @@ class ShipmentDescriptionSupportTest {
         when(conn.prepareStatement(org.mockito.ArgumentMatchers.contains("FROM WMSP.PRTDSC"))).thenReturn(stmt);
         when(stmt.executeQuery()).thenReturn(rs);
         when(rs.next()).thenReturn(true, false);
+        when(rs.getString("COLVAL")).thenReturn("100000123|CLIENT1|W1");
         when(rs.getString("SHORT_DSC")).thenReturn("Readable description");
 
         assertEquals(
@@ -52,4 +61,76 @@ class ShipmentDescriptionSupportTest {
         verify(conn, times(1)).prepareStatement(org.mockito.ArgumentMatchers.contains("FROM WMSP.PRTDSC"));
         verify(stmt, times(1)).executeQuery();
     }
+
+    @Test
+    void resolveItemDescription_shouldNotCacheAFallbackWhenTheDescriptionQueryFailed() throws Exception {
+        Connection conn = mock(Connection.class);
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+
+        when(conn.prepareStatement(org.mockito.ArgumentMatchers.contains("FROM WMSP.PRTDSC")))
+                .thenThrow(new SQLException("ORA-03113: end-of-file on communication channel"))
+                .thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getString("COLVAL")).thenReturn("100000123|CLIENT1|W1");
+        when(rs.getString("SHORT_DSC")).thenReturn("Readable description");
+
+        assertEquals(
+                "Fallback",
+                support.resolveItemDescription(conn, "100000123", "CLIENT1", "W1", "Fallback", List.of())
+        );
+        assertEquals(
+                "Readable description",
+                support.resolveItemDescription(conn, "100000123", "CLIENT1", "W1", "Fallback", List.of())
+        );
+
+        verify(conn, times(2)).prepareStatement(org.mockito.ArgumentMatchers.contains("FROM WMSP.PRTDSC"));
+    }
+
+    @Test
+    void resolveItemDescriptions_shouldApplyCandidatePrecedenceWithOneQueryPerTable() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+        try (Connection raw = h2.getConnection()) {
+            seedDescriptions(raw);
+            Connection conn = spy(raw);
+            ShipmentDescriptionSupport.DescriptionKey prefixed =
+                    ShipmentDescriptionSupport.DescriptionKey.of("100000123", "CLIENT1", "W1", "Fallback");
+            ShipmentDescriptionSupport.DescriptionKey clientScoped =
+                    ShipmentDescriptionSupport.DescriptionKey.of("20022222", "C2", "W1", "");
+            ShipmentDescriptionSupport.DescriptionKey fallbackOnly =
+                    ShipmentDescriptionSupport.DescriptionKey.of("30033333", "", "W1", "Fallback Item");
+            ShipmentDescriptionSupport.DescriptionKey unresolved =
+                    ShipmentDescriptionSupport.DescriptionKey.of("40044444", "", "", "");
+            List<ShipmentDescriptionSupport.DescriptionKey> keys = List.of(prefixed, clientScoped, fallbackOnly, unresolved);
+
+            Map<ShipmentDescriptionSupport.DescriptionKey, String> resolved =
+                    support.resolveItemDescriptions(conn, keys, List.of("SHORT_DSC"));
+
+            // The unreadable exact-key row is skipped; the any-client row for the full SKU wins over the stripped SKU.
+            assertEquals("Generic Juice", resolved.get(prefixed));
+            assertEquals("Grape Drink", resolved.get(clientScoped));
+            assertEquals("Fallback Item", resolved.get(fallbackOnly));
+            assertTrue(resolved.containsKey(unresolved));
+            assertNull(resolved.get(unresolved));
+            verify(conn, times(2)).prepareStatement(anyString());
+
+            assertEquals(resolved, support.resolveItemDescriptions(conn, keys, List.of("SHORT_DSC")));
+            verify(conn, times(2)).prepareStatement(anyString());
+        }
+    }
+
+    private static void seedDescriptions(Connection conn) throws Exception {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM 'classpath:h2/wmsp-shipment-schema.sql'");
+            String colnam = "'prtnum|prt_client_id|wh_id_tmpl'";
+            stmt.execute("INSERT INTO WMSP.PRTDSC VALUES (" + colnam + ", '100000123|CLIENT1|W1', '----', NULL)");
+            stmt.execute("INSERT INTO WMSP.PRTDSC VALUES (" + colnam + ", '100000123|----|W1', 'Generic Juice', NULL)");
+            stmt.execute("INSERT INTO WMSP.PRTDSC VALUES (" + colnam + ", '000123|CLIENT1|W1', 'Stripped Juice', NULL)");
+            stmt.execute("INSERT INTO WMSP.PRTMST VALUES ('20022222', 'OTHER', 'Wrong Client Drink')");
+            stmt.execute("INSERT INTO WMSP.PRTMST VALUES ('20022222', 'C2', 'Grape Drink')");
+            stmt.execute("INSERT INTO WMSP.PRTMST VALUES ('30033333', '----', '1234')");
+        }
+    }
 }
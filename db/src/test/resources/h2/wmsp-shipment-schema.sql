@@ -0,0 +1,149 @@
+-- Minimal WMSP stand-in for shipment hydration queries (H2, MODE=Oracle).
+-- Only the columns referenced by OracleShipmentQuerySupport and ShipmentLpnHydrationSupport exist.
+
+CREATE SCHEMA IF NOT EXISTS WMSP;
+
+CREATE TABLE WMSP.ADRMST (
+    ADR_ID      VARCHAR2(20) PRIMARY KEY,
+    ADRNAM      VARCHAR2(60),
+    ADRLN1      VARCHAR2(60),
+    ADRLN2      VARCHAR2(60),
+    ADRLN3      VARCHAR2(60),
+    ADRCTY      VARCHAR2(40),
+    ADRSTC      VARCHAR2(10),
+    ADRPSZ      VARCHAR2(20),
+    CTRY_NAME   VARCHAR2(40),
+    PHNNUM      VARCHAR2(20),
+    ATTN_NAME   VARCHAR2(40),
+    HOST_EXT_ID VARCHAR2(40)
+);
+
+CREATE TABLE WMSP.CAR_MOVE (
+    CAR_MOVE_ID VARCHAR2(20) PRIMARY KEY,
+    DOC_NUM     VARCHAR2(30),
+    TRACK_NUM   VARCHAR2(30)
+);
+
+CREATE TABLE WMSP.STOP (
+    STOP_ID      VARCHAR2(20) PRIMARY KEY,
+    CAR_MOVE_ID  VARCHAR2(20),
+    STOP_SEQ     NUMBER(5),
+    TMS_STOP_SEQ NUMBER(5)
+);
+
+CREATE TABLE WMSP.SHIPMENT (
+    SHIP_ID      VARCHAR2(30) PRIMARY KEY,
+    HOST_EXT_ID  VARCHAR2(30),
+    WH_ID        VARCHAR2(10),
+    SHPSTS       VARCHAR2(4),
+    CARCOD       VARCHAR2(10),
+    SRVLVL       VARCHAR2(10),
+    DOC_NUM      VARCHAR2(30),
+    TRACK_NUM    VARCHAR2(30),
+    STOP_ID      VARCHAR2(20),
+    DSTLOC       VARCHAR2(20),
+    EARLY_SHPDTE TIMESTAMP,
+    LATE_DLVDTE  TIMESTAMP,
+    ADDDTE       TIMESTAMP,
+    TMS_MOVE_ID  VARCHAR2(20),
+    RT_ADR_ID    VARCHAR2(20)
+);
+
+CREATE TABLE WMSP.ORD (
+    ORDNUM     VARCHAR2(30),
+    CLIENT_ID  VARCHAR2(10),
+    CPONUM     VARCHAR2(30),
+    DEST_NUM   VARCHAR2(20),
+    VC_DEST_ID VARCHAR2(20),
+    DEPTNO     VARCHAR2(10)
+);
+
+CREATE TABLE WMSP.ORD_LINE (
+    ORDNUM        VARCHAR2(30),
+    ORDLIN        VARCHAR2(10),
+    ORDSLN        VARCHAR2(10),
+    CLIENT_ID     VARCHAR2(10),
+    PRTNUM        VARCHAR2(30),
+    PRT_CLIENT_ID VARCHAR2(10),
+    CSTPRT        VARCHAR2(60),
+    ORDQTY        NUMBER(10),
+    SALES_ORDNUM  VARCHAR2(30),
+    UNTPAK        NUMBER(10)
+);
+
+CREATE TABLE WMSP.SHIPMENT_LINE (
+    SHIP_LINE_ID VARCHAR2(30) PRIMARY KEY,
+    SHIP_ID      VARCHAR2(30),
+    ORDNUM       VARCHAR2(30),
+    ORDLIN       VARCHAR2(10),
+    ORDSLN       VARCHAR2(10),
+    CLIENT_ID    VARCHAR2(10),
+    CONS_BATCH   VARCHAR2(30),
+    SHPQTY       NUMBER(10),
+    STGQTY       NUMBER(10),
+    PCKQTY       NUMBER(10),
+    INPQTY       NUMBER(10),
+    TOT_PLN_QTY  NUMBER(10)
+);
+
+CREATE TABLE WMSP.INVLOD (
+    LODNUM VARCHAR2(30) PRIMARY KEY,
+    LODUCC VARCHAR2(30),
+    STOLOC VARCHAR2(20),
+    LODWGT NUMBER(10, 2)
+);
+
+CREATE TABLE WMSP.INVSUB (
+    SUBNUM VARCHAR2(30) PRIMARY KEY,
+    LODNUM VARCHAR2(30)
+);
+
+CREATE TABLE WMSP.INVDTL (
+    DTLNUM     VARCHAR2(30) PRIMARY KEY,
+    SUBNUM     VARCHAR2(30),
+    LOTNUM     VARCHAR2(30),
+    SUP_LOTNUM VARCHAR2(30),
+    MANDTE     DATE,
+    EXPIRE_DTE DATE
+);
+
+CREATE TABLE WMSP.PCKWRK_DTL (
+    SHIP_ID      VARCHAR2(30),
+    SHIP_LINE_ID VARCHAR2(30),
+    SHIP_CTNNUM  VARCHAR2(30),
+    DTLNUM       VARCHAR2(30)
+);
+
+CREATE TABLE WMSP.PRTFTP (
+    PRTNUM        VARCHAR2(30),
+    PRT_CLIENT_ID VARCHAR2(10),
+    WH_ID         VARCHAR2(10),
+    FTPCOD        VARCHAR2(20),
+    DEFFTP_FLG    NUMBER(1)
+);
+
+CREATE TABLE WMSP.PRTFTP_DTL (
+    PRTNUM        VARCHAR2(30),
+    PRT_CLIENT_ID VARCHAR2(10),
+    WH_ID         VARCHAR2(10),
+    FTPCOD        VARCHAR2(20),
+    CAS_FLG       NUMBER(1),
+    PAL_FLG       NUMBER(1),
+    UNTQTY        NUMBER(10),
+    LEN           NUMBER(10, 2),
+    WID           NUMBER(10, 2),
+    HGT           NUMBER(10, 2)
+);
+
+CREATE TABLE WMSP.PRTDSC (
+    COLNAM    VARCHAR2(60),
+    COLVAL    VARCHAR2(120),
+    SHORT_DSC VARCHAR2(60),
+    LNGDSC    VARCHAR2(120)
+);
+
+CREATE TABLE WMSP.PRTMST (
+    PRTNUM        VARCHAR2(30),
+    PRT_CLIENT_ID VARCHAR2(10),
+    SHORT_DSC     VARCHAR2(60)
+);
@@ -46,9 +46,58 @@ final class AdvancedPrintExecutionSupport {
             Path outputDir,
             boolean printToFile,
             List<AdvancedPrintWorkflowService.PrintTask> tasks
+    ) throws Exception {
+        return executeShipmentJob(job, printerId, outputDir, printToFile, tasks,
+                AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+    }
+
+    AdvancedPrintWorkflowService.PrintResult executeShipmentJob(
+            LabelWorkflowService.PreparedJob job,
+            String printerId,
+            Path outputDir,
+            boolean printToFile,
+            List<AdvancedPrintWorkflowService.PrintTask> tasks,
+            AdvancedPrintWorkflowService.PrintProgressListener listener
+    ) throws Exception {
+        return execute(prepareShipmentJob(job, printerId, outputDir, printToFile, tasks), listener);
+    }
+
+    AdvancedPrintWorkflowService.PrintResult executeCarrierMoveJob(
+            AdvancedPrintWorkflowService.PreparedCarrierMoveJob job,
+            PrinterRoutingService routing,
+            String printerId,
+            Path outputDir,
+            boolean printToFile,
+            List<AdvancedPrintWorkflowService.PrintTask> tasks
+    ) throws Exception {
+        return executeCarrierMoveJob(job, routing, printerId, outputDir, printToFile, tasks,
+                AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+    }
+
+    AdvancedPrintWorkflowService.PrintResult executeCarrierMoveJob(
+            AdvancedPrintWorkflowService.PreparedCarrierMoveJob job,
+            PrinterRoutingService routing,
+            String printerId,
+            Path outputDir,
+            boolean printToFile,
+            List<AdvancedPrintWorkflowService.PrintTask> tasks,
+            AdvancedPrintWorkflowService.PrintProgressListener listener
+    ) throws Exception {
+        return execute(prepareCarrierMoveJob(job, routing, printerId, outputDir, printToFile, tasks), listener);
+    }
+
+    /**
+     * Resolves printers and writes the checkpoint for a shipment job without sending anything.
+     */
+    PreparedRun prepareShipmentJob(
+            LabelWorkflowService.PreparedJob job,
+            String printerId,
+            Path outputDir,
+            boolean printToFile,
+            List<AdvancedPrintWorkflowService.PrintTask> tasks
     ) throws Exception {
         Objects.requireNonNull(job, "job cannot be null");
-        return execute(
+        return prepare(
                 "shipment",
                 job.getShipmentId(),
                 AdvancedPrintWorkflowService.InputMode.SHIPMENT,
@@ -60,7 +109,10 @@ final class AdvancedPrintExecutionSupport {
         );
     }
 
-    AdvancedPrintWorkflowService.PrintResult executeCarrierMoveJob(
+    /**
+     * Resolves printers and writes the checkpoint for a carrier-move job without sending anything.
+     */
+    PreparedRun prepareCarrierMoveJob(
             AdvancedPrintWorkflowService.PreparedCarrierMoveJob job,
             PrinterRoutingService routing,
             String printerId,
@@ -69,7 +121,7 @@ final class AdvancedPrintExecutionSupport {
             List<AdvancedPrintWorkflowService.PrintTask> tasks
     ) throws Exception {
         Objects.requireNonNull(job, "job cannot be null");
-        return execute(
+        return prepare(
                 "carrier",
                 job.getCarrierMoveId(),
                 AdvancedPrintWorkflowService.InputMode.CARRIER_MOVE,
@@ -82,6 +134,14 @@ final class AdvancedPrintExecutionSupport {
     }
 
     private AdvancedPrintWorkflowService.PrintResult execute(
+            PreparedRun run,
+            AdvancedPrintWorkflowService.PrintProgressListener listener
+    ) throws Exception {
+        checkpointGateway.executeTasks(run.checkpoint(), run.printer(), 0, listener);
+        return resultSupport.toResult(run.checkpoint());
+    }
+
+    private PreparedRun prepare(
             String checkpointPrefix,
             String sourceId,
             AdvancedPrintWorkflowService.InputMode inputMode,
@@ -91,7 +151,13 @@ final class AdvancedPrintExecutionSupport {
             boolean printToFile,
             List<AdvancedPrintWorkflowService.PrintTask> tasks
     ) throws Exception {
-        PrinterConfig printer = resultSupport.resolvePrinterForPrint(routing, printerId, printToFile);
+        PrinterConfig printer;
+        if (resultSupport.isRoutedPrint(printerId, printToFile)) {
+            resultSupport.assignRoutedPrinters(routing, tasks);
+            printer = null;
+        } else {
+            printer = resultSupport.resolvePrinterForPrint(routing, printerId, printToFile);
+        }
         String timestamp = timestampFormatter.format(LocalDateTime.now());
         AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpointGateway.createCheckpoint(
                 checkpointPrefix + "-" + sourceId + "-" + timestamp,
@@ -102,8 +168,7 @@ final class AdvancedPrintExecutionSupport {
                 printer,
                 tasks
         );
-        checkpointGateway.executeTasks(checkpoint, printer, 0);
-        return resultSupport.toResult(checkpoint);
+        return new PreparedRun(checkpoint, printer);
     }
 
     private Path defaultOutputDir(String prefix) {
@@ -124,7 +189,14 @@ final class AdvancedPrintExecutionSupport {
         void executeTasks(
                 AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
                 PrinterConfig printer,
-                int startIndex
+                int startIndex,
+                AdvancedPrintWorkflowService.PrintProgressListener listener
         ) throws Exception;
     }
+
+    /**
+     * Checkpointed job ready to send; {@code printer} is null for print-to-file and routed jobs.
+     */
+    record PreparedRun(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, PrinterConfig printer) {
+    }
 }
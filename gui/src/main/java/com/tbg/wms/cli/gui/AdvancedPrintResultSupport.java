@@ -7,11 +7,25 @@ import com.tbg.wms.core.print.PrinterConfig;
 import com.tbg.wms.core.print.PrinterRoutingService;
 
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Helper for printer resolution and checkpoint-to-result mapping.
  */
 final class AdvancedPrintResultSupport {
+    private final PrinterGroupDispatcher.LoadSource printerLoad;
+
+    AdvancedPrintResultSupport() {
+        this(PrinterGroupDispatcher.LoadSource.NONE);
+    }
+
+    AdvancedPrintResultSupport(PrinterGroupDispatcher.LoadSource printerLoad) {
+        this.printerLoad = Objects.requireNonNull(printerLoad, "printerLoad cannot be null");
+    }
+
     PrinterConfig resolvePrinterForPrint(PrinterRoutingService routing, String printerId, boolean printToFile) {
         if (printToFile) {
             return null;
@@ -24,12 +38,57 @@ final class AdvancedPrintResultSupport {
                 .orElseThrow(() -> new IllegalArgumentException("Printer not found or disabled: " + id));
     }
 
+    boolean isRoutedPrint(String printerId, boolean printToFile) {
+        return !printToFile && printerId != null && GuiPrinterTargetSupport.ROUTED_PRINTER_ID.equals(printerId.trim());
+    }
+
+    /**
+     * Stamps each task with the printer its shipment's staging location routes to.
+     * <p>
+     * Stop and final info tags carry no staging location; they follow the task before them so
+     * they print behind the labels they summarize. When a location routes to a printer group,
+     * {@link PrinterGroupDispatcher} picks the member for each pallet.
+     */
+    void assignRoutedPrinters(PrinterRoutingService routing, List<AdvancedPrintWorkflowService.PrintTask> tasks) {
+        PrinterRoutingService.JobSelector selector = routing.newJobSelector();
+        PrinterGroupDispatcher dispatcher = new PrinterGroupDispatcher(printerLoad);
+        String previousPrinterId = null;
+        for (AdvancedPrintWorkflowService.PrintTask task : tasks) {
+            if (task.stagingLocation == null) {
+                task.printerId = previousPrinterId == null
+                        ? selector.selectPrinter(Map.of()).getId()
+                        : previousPrinterId;
+            } else {
+                List<PrinterConfig> candidates = selector.selectPrinters(Map.of("stagingLocation", task.stagingLocation));
+                task.printerId = task.kind == AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL
+                        ? dispatcher.assign(candidates, task.payloadId).getId()
+                        : followPrevious(candidates, previousPrinterId);
+            }
+            previousPrinterId = task.printerId;
+        }
+    }
+
+    /**
+     * Shipment info tags carry a staging location but summarize the labels just before them, so
+     * they stay on the previous printer when it belongs to the same target.
+     */
+    private static String followPrevious(List<PrinterConfig> candidates, String previousPrinterId) {
+        for (PrinterConfig candidate : candidates) {
+            if (candidate.getId().equals(previousPrinterId)) {
+                return previousPrinterId;
+            }
+        }
+        return candidates.get(0).getId();
+    }
+
     AdvancedPrintWorkflowService.PrintResult toResult(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) {
         int labels = 0;
         int info = 0;
+        Map<String, Integer> labelsByPrinter = new LinkedHashMap<>();
         for (AdvancedPrintWorkflowService.PrintTask task : checkpoint.tasks) {
             if (task.kind == AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL) {
                 labels++;
+                labelsByPrinter.merge(task.printerId == null ? checkpoint.printerId : task.printerId, 1, Integer::sum);
             } else {
                 info++;
             }
@@ -40,7 +99,8 @@ final class AdvancedPrintResultSupport {
                 Paths.get(checkpoint.outputDirectory),
                 checkpoint.printerId,
                 checkpoint.printerEndpoint,
-                checkpoint.printToFile
+                checkpoint.printToFile,
+                labelsByPrinter
         );
     }
 }
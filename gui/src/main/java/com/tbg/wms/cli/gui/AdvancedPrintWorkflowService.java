@@ -8,13 +8,16 @@
 
 package com.tbg.wms.cli.gui;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.tbg.wms.core.AppConfig;
 import com.tbg.wms.core.label.LabelSelectionRef;
 import com.tbg.wms.core.model.CarrierMoveStopRef;
 import com.tbg.wms.core.model.Lpn;
 import com.tbg.wms.core.print.PrinterConfig;
-import com.tbg.wms.db.DbConnectionPool;
+import com.tbg.wms.core.template.ZplStoredFormat;
+import com.tbg.wms.db.DbConnectionPoolManager;
 import com.tbg.wms.db.DbQueryRepository;
 import com.tbg.wms.db.OracleDbQueryRepository;
 
@@ -37,7 +40,7 @@ public final class AdvancedPrintWorkflowService {
     private final LabelWorkflowService shipmentService;
     private final PrintCheckpointSupport checkpointSupport;
     private final CarrierMovePreparationSupport carrierMovePreparationSupport = new CarrierMovePreparationSupport();
-    private final AdvancedPrintResultSupport resultSupport = new AdvancedPrintResultSupport();
+    private final AdvancedPrintResultSupport resultSupport;
     private final AdvancedPrintExecutionSupport executionSupport;
     private final QueueWorkflowSupport queueWorkflowSupport = new QueueWorkflowSupport();
 
@@ -50,6 +53,7 @@ public final class AdvancedPrintWorkflowService {
                 MAX_TASKS_PER_JOB,
                 MAX_CHECKPOINT_FILES_SCANNED
         );
+        this.resultSupport = new AdvancedPrintResultSupport(checkpointSupport.printerLoad());
         this.executionSupport = new AdvancedPrintExecutionSupport(new AdvancedPrintExecutionSupport.CheckpointGateway() {
             @Override
             public JobCheckpoint createCheckpoint(
@@ -65,8 +69,13 @@ public final class AdvancedPrintWorkflowService {
             }
 
             @Override
-            public void executeTasks(JobCheckpoint checkpoint, PrinterConfig printer, int startIndex) throws Exception {
-                checkpointSupport.executeTasks(checkpoint, printer, startIndex);
+            public void executeTasks(
+                    JobCheckpoint checkpoint,
+                    PrinterConfig printer,
+                    int startIndex,
+                    PrintProgressListener listener
+            ) throws Exception {
+                checkpointSupport.executeTasks(checkpoint, printer, startIndex, listener);
             }
         }, resultSupport);
     }
@@ -85,28 +94,36 @@ public final class AdvancedPrintWorkflowService {
         }
         String cmid = carrierMoveId.trim();
 
-        try (DbConnectionPool pool = new DbConnectionPool(config)) {
-            DbQueryRepository repo = new OracleDbQueryRepository(pool.getDataSource());
-            List<CarrierMoveStopRef> refs = repo.findCarrierMoveStops(cmid);
-            if (refs.isEmpty()) {
-                throw new IllegalArgumentException("Carrier Move not found or has no shipments: " + cmid);
-            }
-            List<PreparedStopGroup> groups = buildPreparedStopGroups(repo, refs);
-
-            if (groups.isEmpty()) {
-                throw new IllegalArgumentException("Carrier Move has no printable shipments: " + cmid);
-            }
+        DbQueryRepository repo = new OracleDbQueryRepository(DbConnectionPoolManager.application().dataSource(config));
+        List<CarrierMoveStopRef> refs = repo.findCarrierMoveStops(cmid);
+        if (refs.isEmpty()) {
+            throw new IllegalArgumentException("Carrier Move not found or has no shipments: " + cmid);
+        }
+        List<PreparedStopGroup> groups = buildPreparedStopGroups(repo, refs);
 
-            return new PreparedCarrierMoveJob(cmid, groups);
+        if (groups.isEmpty()) {
+            throw new IllegalArgumentException("Carrier Move has no printable shipments: " + cmid);
         }
+
+        return new PreparedCarrierMoveJob(cmid, groups);
     }
 
     private List<PreparedStopGroup> buildPreparedStopGroups(DbQueryRepository repo, List<CarrierMoveStopRef> refs) throws Exception {
         List<CarrierMovePreparationSupport.StopShipmentPlan> plans = carrierMovePreparationSupport.buildStopShipmentPlans(refs);
+        List<String> allShipmentIds = new ArrayList<>();
+        for (CarrierMovePreparationSupport.StopShipmentPlan plan : plans) {
+            allShipmentIds.addAll(plan.shipmentIds());
+        }
+        // Set-based loads in a few parallel chunks rather than several round trips per stop. Stay
+        // under the pool size so other screens still get a connection.
+        int concurrency = Math.max(1, Math.min(config.dbPrepareConcurrency(), config.dbPoolMaxSize() - 1));
+        Map<String, LabelWorkflowService.PreparedJob> jobsByShipment =
+                shipmentService.prepareJobs(repo, allShipmentIds, concurrency);
+
         List<PreparedStopGroup> groups = new ArrayList<>(plans.size());
         int stopPosition = 1;
         for (CarrierMovePreparationSupport.StopShipmentPlan plan : plans) {
-            List<LabelWorkflowService.PreparedJob> jobs = resolvePreparedJobsForStop(repo, plan.shipmentIds());
+            List<LabelWorkflowService.PreparedJob> jobs = resolvePreparedJobsForStop(jobsByShipment, plan.shipmentIds());
             if (!jobs.isEmpty()) {
                 groups.add(new PreparedStopGroup(plan.stopSequence(), stopPosition, jobs));
                 stopPosition++;
@@ -115,10 +132,13 @@ public final class AdvancedPrintWorkflowService {
         return groups;
     }
 
-    private List<LabelWorkflowService.PreparedJob> resolvePreparedJobsForStop(DbQueryRepository repo, List<String> shipmentIds) throws Exception {
+    private List<LabelWorkflowService.PreparedJob> resolvePreparedJobsForStop(
+            Map<String, LabelWorkflowService.PreparedJob> jobsByShipment,
+            List<String> shipmentIds
+    ) {
         List<LabelWorkflowService.PreparedJob> jobs = new ArrayList<>(shipmentIds.size());
         for (String shipId : shipmentIds) {
-            jobs.add(shipmentService.prepareJob(repo, shipId));
+            jobs.add(jobsByShipment.get(shipId.trim()));
         }
         return jobs;
     }
@@ -127,24 +147,137 @@ public final class AdvancedPrintWorkflowService {
         List<QueueRequestItem> normalizedRequests = queueWorkflowSupport.normalizeRequests(requests, MAX_QUEUE_ITEMS);
         List<PreparedQueueItem> resolved = new ArrayList<>();
         for (QueueRequestItem req : normalizedRequests) {
-            if (req.type == QueueItemType.CARRIER_MOVE) {
-                resolved.add(PreparedQueueItem.forCarrier(req.id, prepareCarrierMoveJob(req.id)));
-            } else {
-                resolved.add(PreparedQueueItem.forShipment(req.id, prepareShipmentJob(req.id)));
-            }
+            resolved.add(prepareQueueItem(req));
         }
         return new PreparedQueueJob(resolved);
     }
 
     public QueuePrintResult printQueue(PreparedQueueJob queue, String printerId, boolean printToFile) throws Exception {
-        List<PrintResult> results = new ArrayList<>();
+        return printQueue(queue, printerId, printToFile, QueueProgressListener.NONE, new QueueCancellation());
+    }
+
+    /**
+     * Prints an already prepared queue, item by item, through {@link QueuePrintPipeline}.
+     */
+    public QueuePrintResult printQueue(
+            PreparedQueueJob queue,
+            String printerId,
+            boolean printToFile,
+            QueueProgressListener listener,
+            QueueCancellation cancellation
+    ) throws Exception {
+        Objects.requireNonNull(queue, "queue cannot be null");
+        List<QueueRequestItem> requests = new ArrayList<>(queue.items.size());
         for (PreparedQueueItem item : queue.items) {
-            PrintResult result = item.type == QueueItemType.CARRIER_MOVE
-                    ? printCarrierMoveJob(item.carrierMoveJob, printerId, null, printToFile)
-                    : printShipmentJob(item.shipmentJob, printerId, null, printToFile);
-            results.add(result);
+            requests.add(new QueueRequestItem(item.type, item.sourceId));
+        }
+        // The loader asks for items one at a time in queue order, so it can walk the prepared list.
+        Iterator<PreparedQueueItem> prepared = queue.items.iterator();
+        return runQueue(requests, request -> prepared.next(), printerId, printToFile, listener, cancellation);
+    }
+
+    /**
+     * Loads and prints a queue as a pipeline: each item is read from the database while the one
+     * before it prints, so labels start as soon as the first item is ready.
+     * <p>
+     * Every item is checkpointed and succeeds or fails on its own; failures are listed in the
+     * result instead of stopping the queue. Cancelling stops loading, skips labels not yet sent,
+     * and leaves unfinished items resumable.
+     *
+     * @param requests     queue items in print order
+     * @param printerId    printer for every item, or null to route each label
+     * @param printToFile  write ZPL files instead of printing
+     * @param listener     receives label and item progress from worker threads
+     * @param cancellation cancelled from any thread to stop the queue
+     * @return per-item results and failures
+     */
+    public QueuePrintResult printQueue(
+            List<QueueRequestItem> requests,
+            String printerId,
+            boolean printToFile,
+            QueueProgressListener listener,
+            QueueCancellation cancellation
+    ) throws Exception {
+        List<QueueRequestItem> normalizedRequests = queueWorkflowSupport.normalizeRequests(requests, MAX_QUEUE_ITEMS);
+        return runQueue(normalizedRequests, this::prepareQueueItem, printerId, printToFile, listener, cancellation);
+    }
+
+    private QueuePrintResult runQueue(
+            List<QueueRequestItem> requests,
+            QueueItemPreparer preparer,
+            String printerId,
+            boolean printToFile,
+            QueueProgressListener listener,
+            QueueCancellation cancellation
+    ) throws Exception {
+        QueuePrintPipeline pipeline = new QueuePrintPipeline(new QueuePrintPipeline.Stages() {
+            @Override
+            public PreparedQueueItem prepare(QueueRequestItem request) throws Exception {
+                return preparer.prepare(request);
+            }
+
+            @Override
+            public QueuePrintPipeline.Printing print(PreparedQueueItem item, PrintProgressListener itemListener)
+                    throws Exception {
+                return startQueueItem(item, printerId, printToFile, itemListener);
+            }
+        });
+        return pipeline.run(requests, listener, cancellation);
+    }
+
+    private PreparedQueueItem prepareQueueItem(QueueRequestItem request) throws Exception {
+        if (request.type == QueueItemType.CARRIER_MOVE) {
+            return PreparedQueueItem.forCarrier(request.id, prepareCarrierMoveJob(request.id));
         }
-        return queueWorkflowSupport.summarizeResults(results);
+        return PreparedQueueItem.forShipment(request.id, prepareShipmentJob(request.id));
+    }
+
+    private QueuePrintPipeline.Printing startQueueItem(
+            PreparedQueueItem item,
+            String printerId,
+            boolean printToFile,
+            PrintProgressListener listener
+    ) throws Exception {
+        AdvancedPrintExecutionSupport.PreparedRun run;
+        if (item.type == QueueItemType.CARRIER_MOVE) {
+            PreparedCarrierMoveJob job = item.carrierMoveJob;
+            List<PrintTask> tasks = PrintTaskPlanner.buildCarrierMoveTasks(
+                    job, PrintTaskPlanner.collectAllCarrierMoveLabelSelections(job), true);
+            run = executionSupport.prepareCarrierMoveJob(
+                    job, job.firstShipmentJob().getRouting(), printerId, null, printToFile, tasks);
+        } else {
+            LabelWorkflowService.PreparedJob job = item.shipmentJob;
+            run = executionSupport.prepareShipmentJob(
+                    job, printerId, null, printToFile, buildShipmentTasks(job, job.getLpnsForLabels(), true));
+        }
+        PrinterDispatchSupport.Batch batch = checkpointSupport.newBatch(listener);
+        try {
+            checkpointSupport.submitTasks(run.checkpoint(), run.printer(), 0, batch);
+        } catch (Exception ex) {
+            batch.cancel();
+            batch.awaitQuietly();
+            throw ex;
+        }
+        JobCheckpoint checkpoint = run.checkpoint();
+        return new QueuePrintPipeline.Printing() {
+            @Override
+            public PrintResult await() throws Exception {
+                batch.await();
+                return resultSupport.toResult(checkpoint);
+            }
+
+            @Override
+            public boolean isComplete() {
+                synchronized (checkpoint) {
+                    return checkpoint.completed;
+                }
+            }
+
+            @Override
+            public void cancel() {
+                batch.cancel();
+            }
+        };
     }
 
     public PrintResult printShipmentJob(LabelWorkflowService.PreparedJob job, String printerId, Path outputDir, boolean printToFile) throws Exception {
@@ -162,13 +295,22 @@ public final class AdvancedPrintWorkflowService {
             Path outputDir,
             boolean printToFile,
             boolean includeInfoTags
+    ) throws Exception {
+        return printShipmentJob(job, selectedLpns, printerId, outputDir, printToFile, includeInfoTags, PrintProgressListener.NONE);
+    }
+
+    public PrintResult printShipmentJob(
+            LabelWorkflowService.PreparedJob job,
+            List<Lpn> selectedLpns,
+            String printerId,
+            Path outputDir,
+            boolean printToFile,
+            boolean includeInfoTags,
+            PrintProgressListener listener
     ) throws Exception {
         Objects.requireNonNull(job, "job cannot be null");
-        List<Lpn> lpnsToPrint = PrintTaskPlanner.filterLpnsForPrint(job.getLpnsForLabels(), selectedLpns);
-        PrintTaskPlanner.ShipmentPrintBatch shipmentBatch =
-                PrintTaskPlanner.ShipmentPrintBatch.forShipment(job, lpnsToPrint, includeInfoTags);
-        List<PrintTask> tasks = PrintTaskPlanner.buildShipmentTasks(shipmentBatch);
-        return executionSupport.executeShipmentJob(job, printerId, outputDir, printToFile, tasks);
+        List<PrintTask> tasks = buildShipmentTasks(job, selectedLpns, includeInfoTags);
+        return executionSupport.executeShipmentJob(job, printerId, outputDir, printToFile, tasks, listener);
     }
 
     public PrintResult printCarrierMoveJob(PreparedCarrierMoveJob job, String printerId, Path outputDir, boolean printToFile) throws Exception {
@@ -192,11 +334,34 @@ public final class AdvancedPrintWorkflowService {
             Path outputDir,
             boolean printToFile,
             boolean includeInfoTags
+    ) throws Exception {
+        return printCarrierMoveJob(job, selectedLabels, printerId, outputDir, printToFile, includeInfoTags, PrintProgressListener.NONE);
+    }
+
+    public PrintResult printCarrierMoveJob(
+            PreparedCarrierMoveJob job,
+            List<LabelSelectionRef> selectedLabels,
+            String printerId,
+            Path outputDir,
+            boolean printToFile,
+            boolean includeInfoTags,
+            PrintProgressListener listener
     ) throws Exception {
         Objects.requireNonNull(job, "job cannot be null");
         LabelWorkflowService.PreparedJob firstShipment = job.firstShipmentJob();
         List<PrintTask> tasks = PrintTaskPlanner.buildCarrierMoveTasks(job, selectedLabels, includeInfoTags);
-        return executionSupport.executeCarrierMoveJob(job, firstShipment.getRouting(), printerId, outputDir, printToFile, tasks);
+        return executionSupport.executeCarrierMoveJob(job, firstShipment.getRouting(), printerId, outputDir, printToFile, tasks, listener);
+    }
+
+    private static List<PrintTask> buildShipmentTasks(
+            LabelWorkflowService.PreparedJob job,
+            List<Lpn> selectedLpns,
+            boolean includeInfoTags
+    ) {
+        List<Lpn> lpnsToPrint = PrintTaskPlanner.filterLpnsForPrint(job.getLpnsForLabels(), selectedLpns);
+        PrintTaskPlanner.ShipmentPrintBatch shipmentBatch =
+                PrintTaskPlanner.ShipmentPrintBatch.forShipment(job, lpnsToPrint, includeInfoTags);
+        return PrintTaskPlanner.buildShipmentTasks(shipmentBatch);
     }
 
     public List<ResumeCandidate> listIncompleteJobs() throws Exception {
@@ -207,7 +372,90 @@ public final class AdvancedPrintWorkflowService {
      * Resume from last successful task (safe mode): reprint the most recent completed task, then continue.
      */
     public PrintResult resumeJob(String checkpointId) throws Exception {
-        return resultSupport.toResult(checkpointSupport.resumeJob(checkpointId));
+        return resultSupport.toResult(checkpointSupport.resumeJob(checkpointId, checkpoint ->
+                checkpoint.mode == InputMode.CARRIER_MOVE
+                        ? PrintTaskPlanner.replanCarrierMoveTasks(checkpoint, prepareCarrierMoveJob(checkpoint.sourceId))
+                        : PrintTaskPlanner.replanShipmentTasks(checkpoint, prepareShipmentJob(checkpoint.sourceId))));
+    }
+
+    /**
+     * Receives aggregate print progress while labels drain to one or more printers.
+     * <p>
+     * Called from printer lane threads; implementations must hand off to the EDT themselves.
+     */
+    @FunctionalInterface
+    public interface PrintProgressListener {
+        PrintProgressListener NONE = (tasksDone, totalTasks, printers) -> {
+        };
+
+        /**
+         * @param tasksDone  labels and info tags sent so far
+         * @param totalTasks labels and info tags queued so far
+         * @param printers   distinct printers receiving this job
+         */
+        void onProgress(int tasksDone, int totalTasks, int printers);
+    }
+
+    /**
+     * Receives queue progress: label counts over every item plus how many items are loaded and
+     * finished.
+     * <p>
+     * Called from worker threads; implementations must hand off to the EDT themselves.
+     */
+    @FunctionalInterface
+    public interface QueueProgressListener extends PrintProgressListener {
+        QueueProgressListener NONE = (tasksDone, totalTasks, printers) -> {
+        };
+
+        /**
+         * @param itemsPrepared items loaded from the database so far
+         * @param itemsFinished items printed, failed, or cancelled so far
+         * @param itemCount     items in the queue
+         */
+        default void onQueueProgress(int itemsPrepared, int itemsFinished, int itemCount) {
+        }
+    }
+
+    /**
+     * Lets the GUI stop a running queue from another thread.
+     */
+    public static final class QueueCancellation {
+        private final List<Runnable> callbacks = new ArrayList<>();
+        private boolean cancelled;
+
+        /**
+         * Stops loading further items and skips every label not yet sent. Safe to call twice.
+         */
+        public void cancel() {
+            List<Runnable> toRun;
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                toRun = new ArrayList<>(callbacks);
+            }
+            for (Runnable callback : toRun) {
+                callback.run();
+            }
+        }
+
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        synchronized void onCancel(Runnable callback) {
+            callbacks.add(callback);
+        }
+
+        synchronized void removeOnCancel(Runnable callback) {
+            callbacks.remove(callback);
+        }
+    }
+
+    @FunctionalInterface
+    private interface QueueItemPreparer {
+        PreparedQueueItem prepare(QueueRequestItem request) throws Exception;
     }
 
     public enum InputMode {
@@ -314,7 +562,7 @@ public final class AdvancedPrintWorkflowService {
             this.carrierMoveJob = carrierMoveJob;
         }
 
-        private static PreparedQueueItem forShipment(String id, LabelWorkflowService.PreparedJob job) {
+        static PreparedQueueItem forShipment(String id, LabelWorkflowService.PreparedJob job) {
             return new PreparedQueueItem(QueueItemType.SHIPMENT, id, job, null);
         }
 
@@ -358,14 +606,29 @@ public final class AdvancedPrintWorkflowService {
         private final String printerId;
         private final String printerEndpoint;
         private final boolean printToFile;
+        private final Map<String, Integer> labelsByPrinter;
 
         PrintResult(int labelsPrinted, int infoTagsPrinted, Path outputDirectory, String printerId, String printerEndpoint, boolean printToFile) {
+            this(labelsPrinted, infoTagsPrinted, outputDirectory, printerId, printerEndpoint, printToFile,
+                    printerId == null ? Map.of() : Map.of(printerId, labelsPrinted));
+        }
+
+        PrintResult(
+                int labelsPrinted,
+                int infoTagsPrinted,
+                Path outputDirectory,
+                String printerId,
+                String printerEndpoint,
+                boolean printToFile,
+                Map<String, Integer> labelsByPrinter
+        ) {
             this.labelsPrinted = labelsPrinted;
             this.infoTagsPrinted = infoTagsPrinted;
             this.outputDirectory = outputDirectory;
             this.printerId = printerId;
             this.printerEndpoint = printerEndpoint;
             this.printToFile = printToFile;
+            this.labelsByPrinter = Collections.unmodifiableMap(new LinkedHashMap<>(labelsByPrinter));
         }
 
         public int getLabelsPrinted() {
@@ -391,17 +654,65 @@ public final class AdvancedPrintWorkflowService {
         public boolean isPrintToFile() {
             return printToFile;
         }
+
+        /**
+         * Pallet labels per printer ID, in the order printers first appear in the job.
+         */
+        public Map<String, Integer> getLabelsByPrinter() {
+            return labelsByPrinter;
+        }
+    }
+
+    /**
+     * Queue item that could not be loaded or printed.
+     */
+    public static final class QueueItemFailure {
+        private final QueueItemType type;
+        private final String sourceId;
+        private final String message;
+
+        QueueItemFailure(QueueItemType type, String sourceId, String message) {
+            this.type = type;
+            this.sourceId = sourceId;
+            this.message = message;
+        }
+
+        public QueueItemType getType() {
+            return type;
+        }
+
+        public String getSourceId() {
+            return sourceId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
     }
 
     public static final class QueuePrintResult {
         private final List<PrintResult> itemResults;
         private final int totalLabelsPrinted;
         private final int totalInfoTagsPrinted;
+        private final List<QueueItemFailure> failures;
+        private final boolean cancelled;
 
         QueuePrintResult(List<PrintResult> itemResults, int totalLabelsPrinted, int totalInfoTagsPrinted) {
+            this(itemResults, totalLabelsPrinted, totalInfoTagsPrinted, List.of(), false);
+        }
+
+        QueuePrintResult(
+                List<PrintResult> itemResults,
+                int totalLabelsPrinted,
+                int totalInfoTagsPrinted,
+                List<QueueItemFailure> failures,
+                boolean cancelled
+        ) {
             this.itemResults = List.copyOf(itemResults);
             this.totalLabelsPrinted = totalLabelsPrinted;
             this.totalInfoTagsPrinted = totalInfoTagsPrinted;
+            this.failures = List.copyOf(failures);
+            this.cancelled = cancelled;
         }
 
         public List<PrintResult> getItemResults() {
@@ -415,6 +726,17 @@ public final class AdvancedPrintWorkflowService {
         public int getTotalInfoTagsPrinted() {
             return totalInfoTagsPrinted;
         }
+
+        /**
+         * Items that failed or were cancelled part-way, in queue order.
+         */
+        public List<QueueItemFailure> getFailures() {
+            return failures;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
     }
 
     public static final class ResumeCandidate {
@@ -484,16 +806,55 @@ public final class AdvancedPrintWorkflowService {
         public LocalDateTime updatedAt;
         public boolean completed;
         public int nextTaskIndex;
+        public SortedSet<Integer> tasksDoneAhead = new TreeSet<>();
         public List<PrintTask> tasks = List.of();
+        public Map<String, String> storedFormats = Map.of();
         public String lastError;
+
+        /**
+         * Records a finished task. Printers drain their own queues concurrently, so a task can
+         * finish before lower-indexed tasks on other printers; those are held in
+         * {@link #tasksDoneAhead} until {@link #nextTaskIndex} catches up to them.
+         */
+        void markTaskDone(int taskIndex) {
+            if (taskIndex < nextTaskIndex) {
+                return;
+            }
+            tasksDoneAhead.add(taskIndex);
+            while (tasksDoneAhead.remove(nextTaskIndex)) {
+                nextTaskIndex++;
+            }
+        }
     }
 
+    /**
+     * One label or info tag in a job.
+     * <p>
+     * Planned tasks are descriptors: their ZPL is produced by a {@link PrintTaskPlanner.TaskRenderer}
+     * when the task is about to be dispatched, written to the job's payload spool, and referenced
+     * from then on by {@link #spoolOffset}/{@link #spoolLength}; see {@link JobPayloadSpool}.
+     * Manifests written before the spool existed carry the ZPL inline and are migrated when read.
+     */
     @JsonIgnoreProperties(ignoreUnknown = true)
     static final class PrintTask {
         public TaskKind kind;
         public String fileName;
+        @JsonIgnore
         public String zpl;
+        public long spoolOffset = -1;
+        public int spoolLength;
         public String payloadId;
+        public String storedFormatName;
+        public String recallZpl;
+        public String printerId;
+        public String shipmentId;
+        public String lpnId;
+        @JsonIgnore
+        ZplStoredFormat storedFormat;
+        @JsonIgnore
+        String stagingLocation;
+        @JsonIgnore
+        PrintTaskPlanner.TaskRenderer renderer;
 
         public PrintTask() {
         }
@@ -504,5 +865,66 @@ public final class AdvancedPrintWorkflowService {
             this.zpl = zpl;
             this.payloadId = payloadId;
         }
+
+        @JsonProperty("zpl")
+        void readInlineZpl(String zpl) {
+            this.zpl = zpl;
+        }
+
+        boolean isSpooled() {
+            return spoolOffset >= 0;
+        }
+
+        /**
+         * Renders the payload of a task that has neither ZPL in memory nor a spool position.
+         *
+         * @return true if a payload was rendered
+         */
+        boolean render() {
+            if (zpl != null || isSpooled() || renderer == null) {
+                return false;
+            }
+            PrintTaskPlanner.RenderedLabel rendered = renderer.render();
+            zpl = rendered.zpl();
+            if (rendered.recallZpl() != null) {
+                recallZpl = rendered.recallZpl();
+            }
+            renderer = null;
+            return true;
+        }
+
+        /**
+         * @return the task's ZPL, rendered without being kept when the task has not been rendered
+         */
+        String renderedZpl() {
+            return zpl != null || renderer == null ? zpl : renderer.render().zpl();
+        }
+
+        /**
+         * Copies the task so a checkpoint owns the spool position it records.
+         */
+        PrintTask copy() {
+            PrintTask copy = new PrintTask(kind, fileName, zpl, payloadId);
+            copy.spoolOffset = spoolOffset;
+            copy.spoolLength = spoolLength;
+            copy.storedFormatName = storedFormatName;
+            copy.recallZpl = recallZpl;
+            copy.printerId = printerId;
+            copy.shipmentId = shipmentId;
+            copy.lpnId = lpnId;
+            copy.storedFormat = storedFormat;
+            copy.stagingLocation = stagingLocation;
+            copy.renderer = renderer;
+            return copy;
+        }
+
+        /**
+         * Attaches the compact {@code ^XF} recall form used when the printer holds the stored format.
+         */
+        void useStoredFormat(ZplStoredFormat format, String recallZpl) {
+            this.storedFormat = format;
+            this.storedFormatName = format.getFormatName();
+            this.recallZpl = recallZpl;
+        }
     }
 }
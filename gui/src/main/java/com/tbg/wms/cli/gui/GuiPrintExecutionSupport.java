@@ -84,6 +84,14 @@ final class GuiPrintExecutionSupport {
         );
     }
 
+    /**
+     * Status-bar text while a job drains; names the printer count only when labels are spread.
+     */
+    String buildProgressStatus(int tasksDone, int totalTasks, int printers) {
+        String status = "Printing... " + tasksDone + " of " + totalTasks;
+        return printers > 1 ? status + " on " + printers + " printers" : status;
+    }
+
     FailureOutcome buildFailureOutcome(Exception ex) {
         Objects.requireNonNull(ex, "ex cannot be null");
         return new FailureOutcome("Print failed.", GuiExceptionMessageSupport.rootMessage(ex));
@@ -13,6 +13,7 @@ import com.tbg.wms.core.model.Lpn;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.StringJoiner;
 
 /**
  * Pure planning and messaging helpers for GUI print execution.
@@ -80,15 +81,29 @@ final class GuiPrintFlowSupport {
             return "Saved " + result.getLabelsPrinted() + " labels and " + result.getInfoTagsPrinted()
                     + " info tags to " + result.getOutputDirectory();
         }
+        if (result.getLabelsByPrinter().size() > 1) {
+            return "Printed " + result.getLabelsPrinted() + " labels and " + result.getInfoTagsPrinted()
+                    + " info tags on " + result.getLabelsByPrinter().size() + " printers: "
+                    + describeLabelsByPrinter(result);
+        }
         return "Printed " + result.getLabelsPrinted() + " labels and " + result.getInfoTagsPrinted()
                 + " info tags to " + result.getPrinterId() + " (" + result.getPrinterEndpoint() + ")";
     }
 
     String buildCompletionDialogMessage(AdvancedPrintWorkflowService.PrintResult result) {
         Objects.requireNonNull(result, "result cannot be null");
+        String perPrinter = !result.isPrintToFile() && result.getLabelsByPrinter().size() > 1
+                ? "\nLabels per printer: " + describeLabelsByPrinter(result)
+                : "";
         return (result.isPrintToFile() ? "Saved " : "Printed ")
                 + result.getLabelsPrinted() + " labels and " + result.getInfoTagsPrinted()
-                + " info tags.\nOutput: " + result.getOutputDirectory();
+                + " info tags." + perPrinter + "\nOutput: " + result.getOutputDirectory();
+    }
+
+    private static String describeLabelsByPrinter(AdvancedPrintWorkflowService.PrintResult result) {
+        StringJoiner joiner = new StringJoiner(", ");
+        result.getLabelsByPrinter().forEach((printerId, labels) -> joiner.add(printerId + " " + labels));
+        return joiner.toString();
     }
 
     record PrintPlan(
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.print.PrinterCircuitBreaker;
+
+import java.awt.Color;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Maps printer circuit-breaker state to footer-ready GUI text, tooltip, and LED color.
+ *
+ * <p>The footer stays empty while every printer is healthy; an open circuit shows red and a
+ * half-open trial shows amber, so operators see a dead printer before the next job fails on it.</p>
+ */
+final class GuiPrinterHealthSupport {
+    private static final int LED_SIZE = 10;
+    private static final Color AMBER = new Color(214, 152, 36);
+    private static final Color RED = new Color(200, 36, 36);
+
+    Optional<GuiDbStatusSupport.StatusState> status(Map<String, PrinterCircuitBreaker.State> unhealthyPrinters) {
+        if (unhealthyPrinters == null || unhealthyPrinters.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, PrinterCircuitBreaker.State> sorted = new TreeMap<>(unhealthyPrinters);
+        boolean anyOffline = sorted.containsValue(PrinterCircuitBreaker.State.OPEN);
+        String text;
+        if (sorted.size() == 1) {
+            Map.Entry<String, PrinterCircuitBreaker.State> only = sorted.entrySet().iterator().next();
+            text = "Printer " + only.getKey() + " " + describe(only.getValue());
+        } else {
+            text = sorted.size() + " printers " + (anyOffline ? "offline" : "reconnecting");
+        }
+        StringBuilder tooltip = new StringBuilder("<html>");
+        for (Map.Entry<String, PrinterCircuitBreaker.State> entry : sorted.entrySet()) {
+            if (tooltip.length() > "<html>".length()) {
+                tooltip.append("<br/>");
+            }
+            tooltip.append(escape(entry.getKey())).append(": ").append(tooltipDetail(entry.getValue()));
+        }
+        tooltip.append("</html>");
+        return Optional.of(new GuiDbStatusSupport.StatusState(
+                new StatusLedIcon(LED_SIZE, anyOffline ? RED : AMBER),
+                text,
+                tooltip.toString()
+        ));
+    }
+
+    private String describe(PrinterCircuitBreaker.State state) {
+        return state == PrinterCircuitBreaker.State.OPEN ? "offline" : "reconnecting";
+    }
+
+    private String tooltipDetail(PrinterCircuitBreaker.State state) {
+        return state == PrinterCircuitBreaker.State.OPEN
+                ? "offline after repeated send failures; labels fail over or fail fast"
+                : "trying a test send";
+    }
+
+    private String escape(String text) {
+        return text
+                .replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;");
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Locale;
 public final class GuiPrinterTargetSupport {
     public static final String FILE_PRINTER_ID = "FILE";
     public static final String SYSTEM_DEFAULT_PRINTER_ID = "SYSTEM_DEFAULT";
+    public static final String ROUTED_PRINTER_ID = "ROUTED";
     public static final String CAPABILITY_ZPL = "ZPL";
     public static final String CAPABILITY_RAIL = "RAIL";
 
@@ -34,6 +35,22 @@ public final class GuiPrinterTargetSupport {
         return selected != null && SYSTEM_DEFAULT_PRINTER_ID.equals(selected.getId());
     }
 
+    public static boolean isRoutedPrinter(LabelWorkflowService.PrinterOption selected) {
+        return selected != null && ROUTED_PRINTER_ID.equals(selected.getId());
+    }
+
+    /**
+     * Target that sends each shipment's labels to the printer its staging location routes to.
+     */
+    public static LabelWorkflowService.PrinterOption buildRoutedPrinterOption() {
+        return new LabelWorkflowService.PrinterOption(
+                ROUTED_PRINTER_ID,
+                "Route by staging location",
+                "Printer per dock",
+                List.of()
+        );
+    }
+
     public static LabelWorkflowService.PrinterOption buildPrintToFileOption(Path outputDir) {
         Objects.requireNonNull(outputDir, "outputDir cannot be null");
         return new LabelWorkflowService.PrinterOption(FILE_PRINTER_ID, "Print to file", outputDir.toString(), List.of());
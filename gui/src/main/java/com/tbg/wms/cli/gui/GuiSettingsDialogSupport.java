@@ -52,10 +52,15 @@ final class GuiSettingsDialogSupport {
     }
 
     DefaultComboBoxModel<LabelWorkflowService.PrinterOption> buildMainPrintTargetModel(boolean includeFileOption) {
-        return buildPrintTargetModel(
-                GuiPrinterTargetSupport.filterLabelScreenPrinters(dependencies.loadedPrinters()),
-                includeFileOption
-        );
+        List<LabelWorkflowService.PrinterOption> labelPrinters =
+                GuiPrinterTargetSupport.filterLabelScreenPrinters(dependencies.loadedPrinters());
+        DefaultComboBoxModel<LabelWorkflowService.PrinterOption> model =
+                buildPrintTargetModel(labelPrinters, includeFileOption);
+        if (labelPrinters.size() > 1) {
+            // Only worth offering when routing rules can actually spread labels over several docks.
+            model.insertElementAt(GuiPrinterTargetSupport.buildRoutedPrinterOption(), labelPrinters.size());
+        }
+        return model;
     }
 
     DefaultComboBoxModel<LabelWorkflowService.PrinterOption> buildPrintTargetModel(boolean includeFileOption) {
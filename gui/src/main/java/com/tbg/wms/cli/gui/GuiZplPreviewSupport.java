@@ -54,7 +54,7 @@ final class GuiZplPreviewSupport {
     private List<PreviewDocument> toPreviewDocuments(List<AdvancedPrintWorkflowService.PrintTask> tasks) {
         Objects.requireNonNull(tasks, "tasks cannot be null");
         return tasks.stream()
-                .map(task -> new PreviewDocument(task.fileName, task.zpl))
+                .map(task -> new PreviewDocument(task.fileName, task.renderedZpl()))
                 .toList();
     }
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Small summary file listing every checkpoint manifest in a job directory.
+ * <p>
+ * Each entry holds what the resume dialog shows (source, progress, status) plus the size and
+ * modification time of the manifest it was taken from, so a listing can trust the entry
+ * without opening a manifest that still carries every task's ZPL. An entry whose stamp no
+ * longer matches its manifest, or a missing or unreadable index, is rebuilt by
+ * {@link JobCheckpointStore} from the manifests themselves. The file is replaced atomically.
+ * <p>
+ * Entries describe manifest state only; progress still sitting in a job's journal is folded in
+ * at listing time with {@link Entry#replay(byte[])}.
+ */
+final class JobCheckpointIndex {
+
+    static final String FILE_NAME = "checkpoints.index";
+
+    private static final int VERSION = 1;
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Path file;
+    private Map<String, Entry> entries;
+    private long loadedModifiedMs = Long.MIN_VALUE;
+
+    JobCheckpointIndex(Path checkpointDirectory) {
+        this.file = checkpointDirectory.resolve(FILE_NAME);
+    }
+
+    /**
+     * @return copy of the indexed entries keyed by checkpoint ID; empty when the index is missing
+     * or unreadable
+     */
+    synchronized Map<String, Entry> entries() {
+        return new LinkedHashMap<>(load());
+    }
+
+    /**
+     * Adds or replaces one entry and rewrites the index.
+     *
+     * @param entry summary of a freshly written manifest
+     */
+    synchronized void put(Entry entry) throws Exception {
+        load().put(entry.id, entry);
+        save();
+    }
+
+    /**
+     * Replaces every entry and rewrites the index.
+     *
+     * @param rebuilt entries keyed by checkpoint ID
+     */
+    synchronized void replaceAll(Map<String, Entry> rebuilt) throws Exception {
+        entries = new LinkedHashMap<>(rebuilt);
+        save();
+    }
+
+    private Map<String, Entry> load() {
+        long modifiedMs = modifiedMs();
+        if (entries != null && modifiedMs == loadedModifiedMs) {
+            return entries;
+        }
+        entries = new LinkedHashMap<>();
+        loadedModifiedMs = modifiedMs;
+        if (modifiedMs == Long.MIN_VALUE) {
+            return entries;
+        }
+        try {
+            IndexFile stored = MAPPER.readValue(file.toFile(), IndexFile.class);
+            if (stored.version == VERSION && stored.entries != null) {
+                entries.putAll(stored.entries);
+            }
+        } catch (Exception ignored) {
+            // Treat an unreadable index as empty; the next listing rebuilds it from the manifests.
+        }
+        return entries;
+    }
+
+    private void save() throws Exception {
+        Files.createDirectories(file.getParent());
+        IndexFile stored = new IndexFile();
+        stored.version = VERSION;
+        stored.entries = entries;
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        MAPPER.writeValue(temp.toFile(), stored);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        loadedModifiedMs = modifiedMs();
+    }
+
+    private long modifiedMs() {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (Exception ex) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static final class IndexFile {
+        public int version;
+        public Map<String, Entry> entries;
+    }
+
+    /**
+     * Resume-dialog summary of one checkpoint.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static final class Entry {
+        public String id;
+        public AdvancedPrintWorkflowService.InputMode mode;
+        public String sourceId;
+        public String outputDirectory;
+        public LocalDateTime createdAt;
+        public LocalDateTime updatedAt;
+        public boolean completed;
+        public int nextTaskIndex;
+        public SortedSet<Integer> tasksDoneAhead = new TreeSet<>();
+        public int totalTasks;
+        public String lastError;
+        public long manifestModifiedMs;
+        public long manifestSize;
+
+        static Entry of(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, long manifestModifiedMs, long manifestSize) {
+            Entry entry = new Entry();
+            entry.id = checkpoint.id;
+            entry.mode = checkpoint.mode;
+            entry.sourceId = checkpoint.sourceId;
+            entry.outputDirectory = checkpoint.outputDirectory;
+            entry.createdAt = checkpoint.createdAt;
+            entry.updatedAt = checkpoint.updatedAt;
+            entry.completed = checkpoint.completed;
+            entry.nextTaskIndex = checkpoint.nextTaskIndex;
+            entry.tasksDoneAhead = checkpoint.tasksDoneAhead == null
+                    ? new TreeSet<>()
+                    : new TreeSet<>(checkpoint.tasksDoneAhead);
+            entry.totalTasks = checkpoint.tasks == null ? 0 : checkpoint.tasks.size();
+            entry.lastError = checkpoint.lastError;
+            entry.manifestModifiedMs = manifestModifiedMs;
+            entry.manifestSize = manifestSize;
+            return entry;
+        }
+
+        boolean matches(long modifiedMs, long size) {
+            return manifestModifiedMs == modifiedMs && manifestSize == size;
+        }
+
+        /**
+         * Folds a job's journal into a copy of this entry.
+         *
+         * @param journal raw journal bytes
+         * @return entry with the journal's progress applied
+         */
+        Entry replay(byte[] journal) {
+            AdvancedPrintWorkflowService.JobCheckpoint progress = new AdvancedPrintWorkflowService.JobCheckpoint();
+            progress.id = id;
+            progress.updatedAt = updatedAt;
+            progress.completed = completed;
+            progress.nextTaskIndex = nextTaskIndex;
+            progress.tasksDoneAhead = new TreeSet<>(tasksDoneAhead);
+            progress.lastError = lastError;
+            JobCheckpointJournal.replay(progress, journal);
+
+            Entry folded = copy();
+            folded.updatedAt = progress.updatedAt;
+            folded.completed = progress.completed;
+            folded.nextTaskIndex = progress.nextTaskIndex;
+            folded.tasksDoneAhead = progress.tasksDoneAhead;
+            folded.lastError = progress.lastError;
+            return folded;
+        }
+
+        private Entry copy() {
+            Entry copy = new Entry();
+            copy.id = id;
+            copy.mode = mode;
+            copy.sourceId = sourceId;
+            copy.outputDirectory = outputDirectory;
+            copy.createdAt = createdAt;
+            copy.updatedAt = updatedAt;
+            copy.completed = completed;
+            copy.nextTaskIndex = nextTaskIndex;
+            copy.tasksDoneAhead = new TreeSet<>(tasksDoneAhead);
+            copy.totalTasks = totalTasks;
+            copy.lastError = lastError;
+            copy.manifestModifiedMs = manifestModifiedMs;
+            copy.manifestSize = manifestSize;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes and replays the append-only progress journal that sits next to a checkpoint manifest.
+ * <p>
+ * Each record is one ASCII line {@code type,index,epochMillis,payload,crc}, where {@code crc} is
+ * the CRC-32 of everything before the last comma. Replay stops at the first record that is
+ * unterminated or fails its checksum, so a record torn by a crash or power loss is ignored
+ * instead of corrupting the folded state.
+ * <p>
+ * Besides progress, the journal records where each lazily rendered task's payload landed in the
+ * job spool ({@code offset.length}), so a job interrupted before its next manifest write can
+ * still resume from the spool, and which printer took over a task whose own printer was offline.
+ */
+final class JobCheckpointJournal {
+
+    static final char TASK_DONE = 'D';
+    static final char TASK_FAILED = 'F';
+    static final char JOB_COMPLETED = 'C';
+    static final char TASK_SPOOLED = 'S';
+    static final char TASK_REROUTED = 'R';
+
+    private static final Base64.Encoder PAYLOAD_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder PAYLOAD_DECODER = Base64.getUrlDecoder();
+    private static final int MAX_ERROR_CHARS = 500;
+
+    private JobCheckpointJournal() {
+    }
+
+    static byte[] taskDone(int taskIndex, LocalDateTime at) {
+        return encode(TASK_DONE, taskIndex, at, "");
+    }
+
+    static byte[] taskFailed(int taskIndex, LocalDateTime at, String error) {
+        String message = error == null ? "" : error;
+        if (message.length() > MAX_ERROR_CHARS) {
+            message = message.substring(0, MAX_ERROR_CHARS);
+        }
+        return encode(TASK_FAILED, taskIndex, at, PAYLOAD_ENCODER.encodeToString(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static byte[] taskSpooled(int taskIndex, LocalDateTime at, long spoolOffset, int spoolLength) {
+        return encode(TASK_SPOOLED, taskIndex, at, spoolOffset + "." + spoolLength);
+    }
+
+    static byte[] taskRerouted(int taskIndex, LocalDateTime at, String printerId) {
+        return encode(TASK_REROUTED, taskIndex, at, PAYLOAD_ENCODER.encodeToString(printerId.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static byte[] jobCompleted(LocalDateTime at) {
+        return encode(JOB_COMPLETED, -1, at, "");
+    }
+
+    /**
+     * Folds every intact record into the checkpoint.
+     *
+     * @param checkpoint manifest state to update in place
+     * @param journal    raw journal bytes
+     * @return replay summary with the number of records applied and the length of the valid prefix
+     */
+    static Replay replay(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, byte[] journal) {
+        int records = 0;
+        int validLength = 0;
+        int lineStart = 0;
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] != '\n') {
+                continue;
+            }
+            String line = new String(journal, lineStart, i - lineStart, StandardCharsets.US_ASCII);
+            if (!apply(checkpoint, line)) {
+                break;
+            }
+            records++;
+            lineStart = i + 1;
+            validLength = lineStart;
+        }
+        return new Replay(records, validLength);
+    }
+
+    private static byte[] encode(char type, int taskIndex, LocalDateTime at, String payload) {
+        long epochMillis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String body = type + "," + taskIndex + "," + epochMillis + "," + payload;
+        return (body + "," + crc(body) + "\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static boolean apply(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, String line) {
+        int crcSeparator = line.lastIndexOf(',');
+        if (crcSeparator <= 0) {
+            return false;
+        }
+        String body = line.substring(0, crcSeparator);
+        if (!crc(body).equals(line.substring(crcSeparator + 1))) {
+            return false;
+        }
+        String[] parts = body.split(",", -1);
+        if (parts.length != 4 || parts[0].length() != 1) {
+            return false;
+        }
+        int taskIndex;
+        LocalDateTime at;
+        try {
+            taskIndex = Integer.parseInt(parts[1]);
+            at = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault());
+        } catch (RuntimeException ex) {
+            return false;
+        }
+        switch (parts[0].charAt(0)) {
+            case TASK_DONE -> {
+                checkpoint.markTaskDone(taskIndex);
+                checkpoint.completed = false;
+                checkpoint.lastError = null;
+            }
+            case TASK_FAILED -> {
+                checkpoint.completed = false;
+                try {
+                    checkpoint.lastError = new String(PAYLOAD_DECODER.decode(parts[3]), StandardCharsets.UTF_8);
+                } catch (IllegalArgumentException ex) {
+                    return false;
+                }
+            }
+            case JOB_COMPLETED -> {
+                checkpoint.completed = true;
+                checkpoint.lastError = null;
+            }
+            case TASK_SPOOLED -> {
+                return applySpooled(checkpoint, taskIndex, parts[3]);
+            }
+            case TASK_REROUTED -> {
+                return applyRerouted(checkpoint, taskIndex, parts[3]);
+            }
+            default -> {
+                return false;
+            }
+        }
+        checkpoint.updatedAt = at;
+        return true;
+    }
+
+    private static boolean applySpooled(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex, String payload) {
+        int separator = payload.indexOf('.');
+        long spoolOffset;
+        int spoolLength;
+        try {
+            spoolOffset = Long.parseLong(payload.substring(0, separator));
+            spoolLength = Integer.parseInt(payload.substring(separator + 1));
+        } catch (RuntimeException ex) {
+            return false;
+        }
+        // Summaries replay without a task list; they only need progress.
+        if (checkpoint.tasks != null && taskIndex >= 0 && taskIndex < checkpoint.tasks.size()) {
+            AdvancedPrintWorkflowService.PrintTask task = checkpoint.tasks.get(taskIndex);
+            task.spoolOffset = spoolOffset;
+            task.spoolLength = spoolLength;
+        }
+        return true;
+    }
+
+    private static boolean applyRerouted(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex, String payload) {
+        String printerId;
+        try {
+            printerId = new String(PAYLOAD_DECODER.decode(payload), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        if (checkpoint.tasks != null && taskIndex >= 0 && taskIndex < checkpoint.tasks.size()) {
+            checkpoint.tasks.get(taskIndex).printerId = printerId;
+        }
+        return true;
+    }
+
+    private static String crc(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.US_ASCII));
+        return String.format(Locale.ROOT, "%08x", crc.getValue());
+    }
+
+    record Replay(int records, int validLength) {
+    }
+}
@@ -11,24 +11,67 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 /**
  * Filesystem persistence for GUI print-job checkpoints.
+ * <p>
+ * Each job has an immutable-by-default manifest ({@code <id>.json}) holding the task list, an
+ * append-only payload spool ({@code <id>.spool}) holding every task's ZPL once, and an
+ * append-only progress journal ({@code <id>.journal}) of compact per-task records. Per-label
+ * progress therefore costs one short append instead of re-serializing every task's ZPL. The
+ * journal is folded back into the manifest (compacted) once it holds as many records as the job
+ * has tasks, and whenever a job completes; {@link #read(String)} replays any remaining records.
+ * <p>
+ * Tasks planned without a payload are rendered as they are dispatched and spooled with
+ * {@link #spoolRendered(AdvancedPrintWorkflowService.JobCheckpoint, List)}, which journals each
+ * new spool position until the next manifest write picks it up.
+ * <p>
+ * Manifests from before the spool, which carry each task's ZPL inline, are moved onto a spool
+ * the first time they are read.
+ * <p>
+ * Every manifest write also updates a {@link JobCheckpointIndex} summary, so
+ * {@link #listSummaries(int)} can list jobs without deserializing their task lists.
+ * <p>
+ * Durability: the spool and the manifest are forced to disk before they are relied on, and every
+ * journal record except a finished-task record is forced as it is appended. Finished-task records
+ * are forced with the next forced record or once {@value #DONE_RECORDS_PER_FORCE} have built up,
+ * so a power loss forgets at most that many finished labels, which a resume prints again. A crash
+ * of the process alone loses nothing the operating system has accepted.
  */
 final class JobCheckpointStore {
 
     private static final ObjectMapper MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final String MANIFEST_EXTENSION = ".json";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String SPOOL_EXTENSION = ".spool";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 1024;
+    static final int DONE_RECORDS_PER_FORCE = 64;
 
     private final Path checkpointDirectory;
+    private final ConcurrentMap<String, JournalState> journalStates = new ConcurrentHashMap<>();
+    private final JobCheckpointIndex index;
 
     JobCheckpointStore() {
         this(Paths.get("out", "gui-jobs"));
@@ -36,20 +79,229 @@ final class JobCheckpointStore {
 
     JobCheckpointStore(Path checkpointDirectory) {
         this.checkpointDirectory = checkpointDirectory.toAbsolutePath();
+        this.index = new JobCheckpointIndex(this.checkpointDirectory);
     }
 
+    /**
+     * Reads a checkpoint manifest and replays its progress journal.
+     *
+     * @param id checkpoint identifier
+     * @return folded checkpoint, or null when no manifest exists
+     */
     AdvancedPrintWorkflowService.JobCheckpoint read(String id) throws Exception {
-        Path file = checkpointDirectory.resolve(id + ".json");
+        Path file = manifestFile(id);
         if (!Files.exists(file)) {
             return null;
         }
-        return MAPPER.readValue(file.toFile(), AdvancedPrintWorkflowService.JobCheckpoint.class);
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint =
+                MAPPER.readValue(file.toFile(), AdvancedPrintWorkflowService.JobCheckpoint.class);
+        Path journal = journalFile(id);
+        if (Files.exists(journal)) {
+            JobCheckpointJournal.Replay replay = JobCheckpointJournal.replay(checkpoint, Files.readAllBytes(journal));
+            journalStates.put(id, new JournalState(replay.records(), replay.validLength(), 0));
+        }
+        if (hasInlinePayloads(checkpoint)) {
+            write(checkpoint);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Returns a task's ZPL, from memory when the task still holds it and otherwise from the
+     * job's spool.
+     *
+     * @param checkpoint job the task belongs to
+     * @param task       task whose payload is needed
+     * @return label ZPL
+     */
+    String payload(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, AdvancedPrintWorkflowService.PrintTask task)
+            throws Exception {
+        if (task.zpl != null) {
+            return task.zpl;
+        }
+        if (!task.isSpooled()) {
+            String rendered = task.renderedZpl();
+            if (rendered == null) {
+                throw new IllegalStateException("Label " + task.fileName
+                        + " was never rendered before the job stopped; print it again from its source.");
+            }
+            return rendered;
+        }
+        return JobPayloadSpool.read(spoolFile(checkpoint.id), task);
     }
 
+    /**
+     * Spools freshly rendered task payloads, journals where they landed, and drops the in-memory
+     * copies so a job's heap use does not grow with its label count.
+     *
+     * @param checkpoint  job the tasks belong to; callers hold its monitor
+     * @param taskIndexes indexes of rendered tasks, in order
+     */
+    void spoolRendered(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, List<Integer> taskIndexes)
+            throws Exception {
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>(taskIndexes.size());
+        for (int index : taskIndexes) {
+            tasks.add(checkpoint.tasks.get(index));
+        }
+        Files.createDirectories(checkpointDirectory);
+        JobPayloadSpool.append(spoolFile(checkpoint.id), tasks);
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        int count = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            AdvancedPrintWorkflowService.PrintTask task = tasks.get(i);
+            if (!task.isSpooled()) {
+                continue;
+            }
+            byte[] record = JobCheckpointJournal.taskSpooled(
+                    taskIndexes.get(i), checkpoint.updatedAt, task.spoolOffset, task.spoolLength);
+            records.write(record, 0, record.length);
+            task.zpl = null;
+            count++;
+        }
+        if (count > 0) {
+            append(checkpoint, records.toByteArray(), count, true);
+        }
+    }
+
+    /**
+     * Writes the full checkpoint as the job manifest and discards its journal.
+     * <p>
+     * Task payloads not yet on the job's spool are appended and flushed first. The new manifest is
+     * forced to disk and then replaced atomically, so a crash leaves either the old or the new file.
+     *
+     * @param checkpoint checkpoint to persist
+     */
     void write(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) throws Exception {
         Files.createDirectories(checkpointDirectory);
-        Path file = checkpointDirectory.resolve(checkpoint.id + ".json");
-        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), checkpoint);
+        JobPayloadSpool.append(spoolFile(checkpoint.id), checkpoint.tasks);
+        Path file = manifestFile(checkpoint.id);
+        Path temp = checkpointDirectory.resolve(checkpoint.id + MANIFEST_EXTENSION + TEMP_EXTENSION);
+        ByteBuffer manifest = ByteBuffer.wrap(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(checkpoint));
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (manifest.hasRemaining()) {
+                channel.write(manifest);
+            }
+            channel.force(false);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(journalFile(checkpoint.id));
+        journalStates.put(checkpoint.id, new JournalState(0, 0L, 0));
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            index.put(JobCheckpointIndex.Entry.of(
+                    checkpoint, attributes.lastModifiedTime().toMillis(), attributes.size()));
+        } catch (Exception ignored) {
+            // The manifest is authoritative; a stale index entry is rebuilt on the next listing.
+        }
+    }
+
+    /**
+     * Records that a task finished successfully.
+     *
+     * @param checkpoint in-memory checkpoint, already updated by the caller
+     * @param taskIndex  zero-based index of the finished task
+     */
+    void appendTaskDone(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex) throws Exception {
+        append(checkpoint, JobCheckpointJournal.taskDone(taskIndex, checkpoint.updatedAt), 1, false);
+    }
+
+    /**
+     * Records that a task was sent to another printer than the one it was planned for.
+     *
+     * @param checkpoint in-memory checkpoint whose task already names its new printer
+     * @param taskIndex  zero-based index of the rerouted task
+     */
+    void appendTaskRerouted(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex) throws Exception {
+        String printerId = checkpoint.tasks.get(taskIndex).printerId;
+        append(checkpoint, JobCheckpointJournal.taskRerouted(taskIndex, checkpoint.updatedAt, printerId), 1, true);
+    }
+
+    /**
+     * Records that a task failed.
+     *
+     * @param checkpoint in-memory checkpoint, already updated by the caller
+     * @param taskIndex  zero-based index of the failed task
+     */
+    void appendTaskFailed(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex) throws Exception {
+        byte[] record = JobCheckpointJournal.taskFailed(taskIndex, checkpoint.updatedAt, checkpoint.lastError);
+        append(checkpoint, record, 1, true);
+    }
+
+    /**
+     * Records job completion and compacts the journal into the manifest.
+     *
+     * @param checkpoint in-memory checkpoint, already marked completed by the caller
+     */
+    void appendCompleted(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) throws Exception {
+        append(checkpoint, JobCheckpointJournal.jobCompleted(checkpoint.updatedAt), 1, true);
+        write(checkpoint);
+    }
+
+    /**
+     * Summarizes up to {@code maxFiles} checkpoints, with any journaled progress folded in.
+     * <p>
+     * Manifests whose index entry is missing or stale are read in full once and re-indexed;
+     * every other job costs one directory entry and, while incomplete, one journal read.
+     * Malformed manifests are skipped.
+     *
+     * @param maxFiles maximum number of manifests to consider
+     * @return summaries in directory order
+     */
+    List<JobCheckpointIndex.Entry> listSummaries(int maxFiles) throws Exception {
+        List<Path> manifests = listCheckpointFiles(maxFiles);
+        Map<String, JobCheckpointIndex.Entry> indexed = index.entries();
+        Map<String, JobCheckpointIndex.Entry> current = new LinkedHashMap<>();
+        boolean changed = false;
+        for (Path manifest : manifests) {
+            String fileName = manifest.getFileName().toString();
+            String id = fileName.substring(0, fileName.length() - MANIFEST_EXTENSION.length());
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(manifest, BasicFileAttributes.class);
+                long modifiedMs = attributes.lastModifiedTime().toMillis();
+                JobCheckpointIndex.Entry entry = indexed.get(id);
+                if (entry == null || !entry.matches(modifiedMs, attributes.size())) {
+                    AdvancedPrintWorkflowService.JobCheckpoint checkpoint =
+                            MAPPER.readValue(manifest.toFile(), AdvancedPrintWorkflowService.JobCheckpoint.class);
+                    entry = JobCheckpointIndex.Entry.of(checkpoint, modifiedMs, attributes.size());
+                    changed = true;
+                }
+                current.put(id, entry);
+            } catch (Exception ignored) {
+                // Skip malformed checkpoint files and continue scanning.
+            }
+        }
+        boolean truncated = manifests.size() >= maxFiles;
+        if (!truncated && !current.keySet().equals(indexed.keySet())) {
+            changed = true;
+        }
+        if (changed) {
+            Map<String, JobCheckpointIndex.Entry> rebuilt = truncated ? indexed : new LinkedHashMap<>();
+            rebuilt.putAll(current);
+            try {
+                index.replaceAll(rebuilt);
+            } catch (Exception ignored) {
+                // Listing still works from the manifests; the index is retried next time.
+            }
+        }
+
+        List<JobCheckpointIndex.Entry> summaries = new ArrayList<>(current.size());
+        for (JobCheckpointIndex.Entry entry : current.values()) {
+            Path journal = journalFile(entry.id);
+            if (!entry.completed && Files.exists(journal)) {
+                try {
+                    entry = entry.replay(Files.readAllBytes(journal));
+                } catch (Exception ignored) {
+                    // A journal removed by a concurrent compaction is already in the manifest.
+                }
+            }
+            summaries.add(entry);
+        }
+        return summaries;
     }
 
     List<Path> listCheckpointFiles(int maxFiles) throws Exception {
@@ -58,14 +310,90 @@ final class JobCheckpointStore {
         }
         try (Stream<Path> stream = Files.list(checkpointDirectory)) {
             Iterator<Path> iterator = stream
-                    .filter(p -> p.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json"))
+                    .filter(p -> p.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(MANIFEST_EXTENSION))
                     .limit(maxFiles)
                     .iterator();
-            List<Path> files = new java.util.ArrayList<>();
+            List<Path> files = new ArrayList<>();
             while (iterator.hasNext()) {
                 files.add(iterator.next());
             }
             return files;
         }
     }
+
+    Path journalFile(String id) {
+        return checkpointDirectory.resolve(id + JOURNAL_EXTENSION);
+    }
+
+    Path spoolFile(String id) {
+        return checkpointDirectory.resolve(id + SPOOL_EXTENSION);
+    }
+
+    private static boolean hasInlinePayloads(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) {
+        if (checkpoint.tasks == null) {
+            return false;
+        }
+        for (AdvancedPrintWorkflowService.PrintTask task : checkpoint.tasks) {
+            if (!task.isSpooled() && task.zpl != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Path manifestFile(String id) {
+        return checkpointDirectory.resolve(id + MANIFEST_EXTENSION);
+    }
+
+    /**
+     * Appends journal records, forcing them to disk when {@code force} is set or when enough
+     * unforced records have built up; see the class comment for the resulting guarantee.
+     */
+    private void append(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, byte[] records, int count, boolean force)
+            throws Exception {
+        Path journal = journalFile(checkpoint.id);
+        JournalState state = journalStates.get(checkpoint.id);
+        if (state == null) {
+            state = scanJournal(journal);
+        }
+        int unforced = state.unforced() + count;
+        boolean forced = force || unforced >= DONE_RECORDS_PER_FORCE;
+        try (FileChannel channel = FileChannel.open(journal,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > state.validLength()) {
+                // Drop a record torn by an earlier crash so new records stay replayable.
+                channel.truncate(state.validLength());
+            }
+            channel.position(state.validLength());
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (forced) {
+                channel.force(false);
+            }
+        }
+        JournalState next = new JournalState(
+                state.records() + count, state.validLength() + records.length, forced ? 0 : unforced);
+        journalStates.put(checkpoint.id, next);
+        int taskCount = checkpoint.tasks == null ? 0 : checkpoint.tasks.size();
+        if (next.records() >= Math.max(MIN_RECORDS_BEFORE_COMPACTION, taskCount)) {
+            write(checkpoint);
+        }
+    }
+
+    private JournalState scanJournal(Path journal) throws Exception {
+        if (!Files.exists(journal)) {
+            return new JournalState(0, 0L, 0);
+        }
+        JobCheckpointJournal.Replay replay = JobCheckpointJournal.replay(
+                new AdvancedPrintWorkflowService.JobCheckpoint(), Files.readAllBytes(journal));
+        return new JournalState(replay.records(), replay.validLength(), 0);
+    }
+
+    /**
+     * @param unforced records appended since the journal was last forced to disk
+     */
+    private record JournalState(int records, long validLength, int unforced) {
+    }
 }
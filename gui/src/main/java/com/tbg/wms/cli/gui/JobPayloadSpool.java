@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only file holding every task payload of one print job.
+ * <p>
+ * Payloads are concatenated UTF-8 ZPL; each task keeps the offset and length of its own bytes,
+ * so a manifest stays small no matter how many labels the job has and resume reads exactly the
+ * labels it still needs. New payloads are always written past the current end and flushed to
+ * disk before any task records their position, so a crash can only leave unreferenced bytes.
+ */
+final class JobPayloadSpool {
+
+    private JobPayloadSpool() {
+    }
+
+    /**
+     * Appends the payload of every task that has ZPL in memory but no spool position yet.
+     *
+     * @param file  job spool file, created if missing
+     * @param tasks job tasks; spooled tasks are skipped
+     * @return number of payloads appended
+     */
+    static int append(Path file, List<AdvancedPrintWorkflowService.PrintTask> tasks) throws IOException {
+        if (tasks == null) {
+            return 0;
+        }
+        List<AdvancedPrintWorkflowService.PrintTask> pending = new ArrayList<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<Integer> lengths = new ArrayList<>();
+        for (AdvancedPrintWorkflowService.PrintTask task : tasks) {
+            if (task.isSpooled() || task.zpl == null) {
+                continue;
+            }
+            byte[] payload = task.zpl.getBytes(StandardCharsets.UTF_8);
+            bytes.write(payload, 0, payload.length);
+            pending.add(task);
+            lengths.add(payload.length);
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long start;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            start = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            long position = start;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+        }
+        long offset = start;
+        for (int i = 0; i < pending.size(); i++) {
+            AdvancedPrintWorkflowService.PrintTask task = pending.get(i);
+            task.spoolOffset = offset;
+            task.spoolLength = lengths.get(i);
+            offset += task.spoolLength;
+        }
+        return pending.size();
+    }
+
+    /**
+     * Reads one task's payload.
+     *
+     * @param file job spool file
+     * @param task spooled task
+     * @return the task's ZPL
+     * @throws IOException when the spool is missing or shorter than the task's position
+     */
+    static String read(Path file, AdvancedPrintWorkflowService.PrintTask task) throws IOException {
+        if (!task.isSpooled()) {
+            throw new IllegalStateException("Task has no spooled payload: " + task.fileName);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(task.spoolLength);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = task.spoolOffset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Payload spool " + file + " ends before task " + task.fileName);
+                }
+                position += read;
+            }
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+}
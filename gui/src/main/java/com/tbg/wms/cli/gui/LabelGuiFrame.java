@@ -17,7 +17,7 @@ import com.tbg.wms.core.OutDirectoryRetentionService;
 import com.tbg.wms.core.RuntimeSettings;
 import com.tbg.wms.core.label.LabelSelectionRef;
 import com.tbg.wms.core.model.Lpn;
-import com.tbg.wms.core.print.NetworkPrintService;
+import com.tbg.wms.core.print.PrinterCircuitBreaker;
 import com.tbg.wms.core.print.PrinterConfig;
 import com.tbg.wms.core.update.ReleaseCheckService;
 import com.tbg.wms.core.update.VersionSupport;
@@ -31,6 +31,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.prefs.Preferences;
 
@@ -80,6 +81,7 @@ public final class LabelGuiFrame extends JFrame {
     private final JLabel labelSelectionStatusLabel = new JLabel(" ");
     private final JLabel dbStatusLedLabel = new JLabel();
     private final JLabel dbStatusLabel = new JLabel();
+    private final JLabel printerHealthLabel = new JLabel();
     private final JLabel versionLabel = new JLabel();
     private final transient Preferences preferences = Preferences.userNodeForPackage(LabelGuiFrame.class);
     private final transient TextFieldClipboardController clipboardController = new TextFieldClipboardController();
@@ -111,6 +113,7 @@ public final class LabelGuiFrame extends JFrame {
     private final transient GuiUpdateFlowSupport updateFlowSupport = new GuiUpdateFlowSupport();
     private final transient GuiUpdateExecutionSupport updateExecutionSupport = new GuiUpdateExecutionSupport(updateFlowSupport);
     private final transient GuiDbStatusSupport dbStatusSupport = new GuiDbStatusSupport();
+    private final transient GuiPrinterHealthSupport printerHealthSupport = new GuiPrinterHealthSupport();
     private final transient GuiZplPreviewSupport zplPreviewSupport = new GuiZplPreviewSupport();
     private final transient ReleaseCheckService releaseCheckService = new ReleaseCheckService();
     private final transient InstallMaintenanceService installMaintenanceService = new InstallMaintenanceService();
@@ -152,6 +155,7 @@ public final class LabelGuiFrame extends JFrame {
         new OutDirectoryRetentionService().pruneDefaultOutDirectory(LabelGuiFrame.class);
         checkForUpdatesAsync(false);
         refreshDbStatusAsync();
+        watchPrinterHealth();
         printButton.setEnabled(false);
         showLabelsButton.setEnabled(false);
     }
@@ -277,8 +281,11 @@ public final class LabelGuiFrame extends JFrame {
         dbStatusLedLabel.setVerticalAlignment(SwingConstants.CENTER);
         dbPanel.add(dbStatusLedLabel);
         dbPanel.add(dbStatusLabel);
+        printerHealthLabel.setFont(printerHealthLabel.getFont().deriveFont(printerHealthLabel.getFont().getSize2D() - 1f));
+        printerHealthLabel.setVisible(false);
         JPanel rightPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
         rightPanel.setOpaque(false);
+        rightPanel.add(printerHealthLabel);
         rightPanel.add(dbPanel);
         versionLabel.setBorder(BorderFactory.createEmptyBorder(4, 8, 6, 12));
         rightPanel.add(versionLabel);
@@ -547,6 +554,9 @@ public final class LabelGuiFrame extends JFrame {
         previewButton.setEnabled(false);
         clearButton.setEnabled(false);
 
+        AdvancedPrintWorkflowService.PrintProgressListener progress = (tasksDone, totalTasks, printers) ->
+                SwingUtilities.invokeLater(() ->
+                        setBusy(printExecutionSupport.buildProgressStatus(tasksDone, totalTasks, printers)));
         SwingWorker<AdvancedPrintWorkflowService.PrintResult, Void> worker = new SwingWorker<>() {
             @Override
             protected AdvancedPrintWorkflowService.PrintResult doInBackground() throws Exception {
@@ -566,7 +576,8 @@ public final class LabelGuiFrame extends JFrame {
                                 printerId,
                                 outputDir,
                                 printToFile,
-                                includeInfoTags
+                                includeInfoTags,
+                                progress
                         );
                     }
 
@@ -585,7 +596,8 @@ public final class LabelGuiFrame extends JFrame {
                                 printerId,
                                 outputDir,
                                 printToFile,
-                                includeInfoTags
+                                includeInfoTags,
+                                progress
                         );
                     }
                 });
@@ -623,9 +635,7 @@ public final class LabelGuiFrame extends JFrame {
         SwingWorker<Void, Void> worker = new SwingWorker<>() {
             @Override
             protected Void doInBackground() throws Exception {
-                try (com.tbg.wms.db.DbConnectionPool pool = new com.tbg.wms.db.DbConnectionPool(config)) {
-                    pool.testConnectivity();
-                }
+                com.tbg.wms.db.DbConnectionPoolManager.application().pool(config).testConnectivity();
                 return null;
             }
 
@@ -634,6 +644,8 @@ public final class LabelGuiFrame extends JFrame {
                 try {
                     get();
                     applyDbStatus(dbStatusSupport.connected(config.oracleService()));
+                    // Warm the shared pool only after a successful login so bad credentials are tried once.
+                    com.tbg.wms.db.DbConnectionPoolManager.application().prewarmAsync(config);
                 } catch (Exception ex) {
                     dbStatusSupport.failure(config.oracleService(), ex).ifPresent(LabelGuiFrame.this::applyDbStatus);
                 }
@@ -642,6 +654,24 @@ public final class LabelGuiFrame extends JFrame {
         worker.execute();
     }
 
+    private void watchPrinterHealth() {
+        PrinterCircuitBreaker circuitBreaker = service.printService().circuitBreaker();
+        if (circuitBreaker == null) {
+            return;
+        }
+        circuitBreaker.addListener((printerId, from, to) -> SwingUtilities.invokeLater(
+                () -> applyPrinterHealth(circuitBreaker.unhealthyPrinters())));
+    }
+
+    private void applyPrinterHealth(Map<String, PrinterCircuitBreaker.State> unhealthyPrinters) {
+        printerHealthSupport.status(unhealthyPrinters).ifPresentOrElse(state -> {
+            printerHealthLabel.setIcon(state.icon());
+            printerHealthLabel.setText(state.text());
+            printerHealthLabel.setToolTipText(state.tooltip());
+            printerHealthLabel.setVisible(true);
+        }, () -> printerHealthLabel.setVisible(false));
+    }
+
     private void applyDbStatus(GuiDbStatusSupport.StatusState state) {
         dbStatusLedLabel.setIcon(state.icon());
         dbStatusLedLabel.setToolTipText(state.tooltip());
@@ -1077,7 +1107,7 @@ public final class LabelGuiFrame extends JFrame {
     }
 
     private void printBarcodeZpl(PrinterConfig printerConfig, String zpl) throws Exception {
-        new NetworkPrintService().print(printerConfig, zpl, "barcode");
+        service.printService().print(printerConfig, zpl, "barcode");
     }
 
     private LabelGuiFrameToolMenuSupport.MenuActions buildToolMenuActions() {
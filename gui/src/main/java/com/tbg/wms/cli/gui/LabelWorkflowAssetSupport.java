@@ -14,9 +14,11 @@ import com.tbg.wms.core.print.PrinterConfig;
 import com.tbg.wms.core.print.PrinterRoutingService;
 import com.tbg.wms.core.sku.SkuMappingService;
 import com.tbg.wms.core.template.LabelTemplate;
+import com.tbg.wms.core.template.ZplStoredFormat;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -32,6 +34,7 @@ final class LabelWorkflowAssetSupport {
     private final ConcurrentMap<String, SiteConfig> siteConfigBySite = new ConcurrentHashMap<>();
     private volatile SkuMappingService cachedSkuMapping;
     private volatile LabelTemplate cachedTemplate;
+    private volatile Optional<ZplStoredFormat> cachedStoredFormat;
 
     LabelWorkflowAssetSupport(AppConfig config, Path configBaseDir) {
         this.config = config;
@@ -44,6 +47,7 @@ final class LabelWorkflowAssetSupport {
         siteConfigBySite.clear();
         cachedSkuMapping = null;
         cachedTemplate = null;
+        cachedStoredFormat = null;
     }
 
     PrinterRoutingService loadRouting(String siteCode) throws Exception {
@@ -112,6 +116,30 @@ final class LabelWorkflowAssetSupport {
         }
     }
 
+    /**
+     * Loads the printer-side stored format for the label template.
+     *
+     * @return stored format, or null when disabled by config or the template cannot be stored
+     */
+    ZplStoredFormat loadStoredFormat() throws Exception {
+        if (!config.printerStoredFormatsEnabled()) {
+            return null;
+        }
+        Optional<ZplStoredFormat> cached = cachedStoredFormat;
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        LabelTemplate template = loadTemplate();
+        synchronized (this) {
+            if (cachedStoredFormat == null) {
+                cachedStoredFormat = ZplStoredFormat.supports(template)
+                        ? Optional.of(ZplStoredFormat.compile(template))
+                        : Optional.empty();
+            }
+            return cachedStoredFormat.orElse(null);
+        }
+    }
+
     private SiteConfig createSiteConfig(String siteCode) {
         return new SiteConfig(
                 config.siteShipFromName(siteCode),
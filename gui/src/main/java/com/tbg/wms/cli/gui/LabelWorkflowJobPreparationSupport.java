@@ -7,9 +7,12 @@ import com.tbg.wms.core.model.Shipment;
 import com.tbg.wms.core.model.ShipmentSkuFootprint;
 import com.tbg.wms.db.DbQueryRepository;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Loads shipment-backed planning inputs used by the GUI workflow service.
@@ -34,13 +37,99 @@ final class LabelWorkflowJobPreparationSupport {
         }
 
         List<ShipmentSkuFootprint> footprintRows = queryRepo.findShipmentSkuFootprints(normalizedShipmentId);
+        return toLoadedShipmentData(normalizedShipmentId, shipment, footprintRows, planningSupport);
+    }
+
+    /**
+     * Loads planning inputs for several shipments with the repository's set-based queries.
+     *
+     * @return loaded data keyed by trimmed shipment ID, in input order
+     * @throws IllegalArgumentException if any shipment cannot be found
+     */
+    Map<String, LoadedShipmentData> loadShipmentData(
+            DbQueryRepository queryRepo,
+            List<String> shipmentIds,
+            LabelWorkflowPlanningSupport planningSupport
+    ) {
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        Map<String, LoadedShipmentData> loaded = loadShipmentData(queryRepo, shipmentIds, planningSupport, failures);
+        if (!failures.isEmpty()) {
+            Exception first = failures.values().iterator().next();
+            throw first instanceof RuntimeException runtime ? runtime : new IllegalStateException(first);
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads planning inputs for several shipments, recording shipments that are missing or
+     * cannot be planned in {@code failures} instead of stopping at the first one.
+     *
+     * @param failures receives per-shipment failures keyed by trimmed shipment ID
+     * @return loaded data for every shipment that did not fail, in input order
+     * @throws RuntimeException when a query fails; that affects every requested shipment
+     */
+    Map<String, LoadedShipmentData> loadShipmentData(
+            DbQueryRepository queryRepo,
+            List<String> shipmentIds,
+            LabelWorkflowPlanningSupport planningSupport,
+            Map<String, Exception> failures
+    ) {
+        Objects.requireNonNull(queryRepo, "queryRepo cannot be null");
+        Objects.requireNonNull(shipmentIds, "shipmentIds cannot be null");
+        Objects.requireNonNull(planningSupport, "planningSupport cannot be null");
+        Objects.requireNonNull(failures, "failures cannot be null");
+        Set<String> normalizedIds = new LinkedHashSet<>();
+        for (String shipmentId : shipmentIds) {
+            String normalizedShipmentId = shipmentId == null ? "" : shipmentId.trim();
+            if (normalizedShipmentId.isEmpty()) {
+                throw new IllegalArgumentException("Shipment ID is required.");
+            }
+            normalizedIds.add(normalizedShipmentId);
+        }
+
+        Map<String, Shipment> shipments = queryRepo.findShipmentsWithLpnsAndLineItems(normalizedIds);
+        Set<String> foundIds = new LinkedHashSet<>();
+        for (String shipmentId : normalizedIds) {
+            if (shipments.get(shipmentId) == null) {
+                failures.put(shipmentId, new IllegalArgumentException("Shipment not found: " + shipmentId));
+            } else {
+                foundIds.add(shipmentId);
+            }
+        }
+        if (foundIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        Map<String, List<ShipmentSkuFootprint>> footprintsByShipment = queryRepo.findShipmentSkuFootprints(foundIds);
+
+        Map<String, LoadedShipmentData> loaded = new LinkedHashMap<>();
+        for (String shipmentId : foundIds) {
+            try {
+                loaded.put(shipmentId, toLoadedShipmentData(
+                        shipmentId,
+                        shipments.get(shipmentId),
+                        footprintsByShipment.getOrDefault(shipmentId, List.of()),
+                        planningSupport
+                ));
+            } catch (RuntimeException ex) {
+                failures.put(shipmentId, ex);
+            }
+        }
+        return loaded;
+    }
+
+    private LoadedShipmentData toLoadedShipmentData(
+            String shipmentId,
+            Shipment shipment,
+            List<ShipmentSkuFootprint> footprintRows,
+            LabelWorkflowPlanningSupport planningSupport
+    ) {
         Map<String, ShipmentSkuFootprint> footprintBySku = LabelingSupport.buildFootprintMap(footprintRows);
         PalletPlanningService.PlanResult planResult = new PalletPlanningService().plan(footprintRows);
         List<Lpn> lpnsForLabels = planningSupport.resolveLpnsForLabeling(shipment, footprintRows);
         boolean usingVirtualLabels = shipment.getLpnCount() == 0 && !lpnsForLabels.isEmpty();
         String stagingLocation = shipment.getDestinationLocation();
         return new LoadedShipmentData(
-                normalizedShipmentId,
+                shipmentId,
                 shipment,
                 footprintRows,
                 footprintBySku,
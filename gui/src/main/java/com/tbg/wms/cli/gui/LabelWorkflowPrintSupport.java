@@ -14,6 +14,7 @@ import com.tbg.wms.core.model.Lpn;
 import com.tbg.wms.core.model.Shipment;
 import com.tbg.wms.core.print.NetworkPrintService;
 import com.tbg.wms.core.print.PrinterConfig;
+import com.tbg.wms.core.template.ZplStoredFormat;
 import com.tbg.wms.core.template.ZplTemplateEngine;
 
 import java.nio.file.Files;
@@ -29,8 +30,8 @@ final class LabelWorkflowPrintSupport {
 
     private final PrintDispatcher printDispatcher;
 
-    LabelWorkflowPrintSupport() {
-        this(new NetworkPrintDispatcher());
+    LabelWorkflowPrintSupport(NetworkPrintService printService) {
+        this(new NetworkPrintDispatcher(printService));
     }
 
     LabelWorkflowPrintSupport(PrintDispatcher printDispatcher) {
@@ -67,7 +68,13 @@ final class LabelWorkflowPrintSupport {
             Path zplFile = outputDir.resolve(fileName);
             Files.writeString(zplFile, zpl);
             if (!printToFile) {
-                printDispatcher.print(printer, zpl, lpn.getLpnId());
+                ZplStoredFormat storedFormat = job.getStoredFormat();
+                if (storedFormat != null) {
+                    printDispatcher.printStoredFormat(printer, storedFormat.getFormatName(),
+                            storedFormat.getDownloadZpl(), storedFormat.recall(labelData), lpn.getLpnId());
+                } else {
+                    printDispatcher.print(printer, zpl, lpn.getLpnId());
+                }
             }
             printedCount++;
         }
@@ -85,14 +92,25 @@ final class LabelWorkflowPrintSupport {
 
     interface PrintDispatcher {
         void print(PrinterConfig printer, String zpl, String labelId);
+
+        void printStoredFormat(PrinterConfig printer, String formatName, String downloadZpl, String recallZpl, String labelId);
     }
 
     private static final class NetworkPrintDispatcher implements PrintDispatcher {
-        private final NetworkPrintService printService = new NetworkPrintService();
+        private final NetworkPrintService printService;
+
+        private NetworkPrintDispatcher(NetworkPrintService printService) {
+            this.printService = Objects.requireNonNull(printService, "printService cannot be null");
+        }
 
         @Override
         public void print(PrinterConfig printer, String zpl, String labelId) {
             printService.print(printer, zpl, labelId);
         }
+
+        @Override
+        public void printStoredFormat(PrinterConfig printer, String formatName, String downloadZpl, String recallZpl, String labelId) {
+            printService.printStoredFormat(printer, formatName, downloadZpl, recallZpl, labelId);
+        }
     }
 }
@@ -12,11 +12,13 @@ import com.tbg.wms.core.AppConfig;
 import com.tbg.wms.core.RuntimePathResolver;
 import com.tbg.wms.core.label.SiteConfig;
 import com.tbg.wms.core.model.*;
+import com.tbg.wms.core.print.NetworkPrintService;
 import com.tbg.wms.core.print.PrinterConfig;
 import com.tbg.wms.core.print.PrinterRoutingService;
 import com.tbg.wms.core.sku.SkuMappingService;
 import com.tbg.wms.core.template.LabelTemplate;
-import com.tbg.wms.db.DbConnectionPool;
+import com.tbg.wms.core.template.ZplStoredFormat;
+import com.tbg.wms.db.DbConnectionPoolManager;
 import com.tbg.wms.db.DbQueryRepository;
 import com.tbg.wms.db.OracleDbQueryRepository;
 
@@ -38,7 +40,8 @@ public final class LabelWorkflowService {
     private final AppConfig config;
     private final LabelWorkflowAssetSupport assetSupport;
     private final LabelWorkflowPlanningSupport planningSupport = new LabelWorkflowPlanningSupport();
-    private final LabelWorkflowPrintSupport printSupport = new LabelWorkflowPrintSupport();
+    private final NetworkPrintService printService;
+    private final LabelWorkflowPrintSupport printSupport;
     private final LabelWorkflowRoutingSupport routingSupport = new LabelWorkflowRoutingSupport();
     private final LabelWorkflowJobPreparationSupport jobPreparationSupport = new LabelWorkflowJobPreparationSupport();
 
@@ -49,6 +52,15 @@ public final class LabelWorkflowService {
     LabelWorkflowService(AppConfig config, Path configBaseDir) {
         this.config = Objects.requireNonNull(config, "config cannot be null");
         this.assetSupport = new LabelWorkflowAssetSupport(config, Objects.requireNonNull(configBaseDir, "configBaseDir cannot be null"));
+        this.printService = PooledPrintServiceSupport.shared(config);
+        this.printSupport = new LabelWorkflowPrintSupport(printService);
+    }
+
+    /**
+     * Gets the shared print service so batch execution reuses pooled printer connections.
+     */
+    NetworkPrintService printService() {
+        return printService;
     }
 
     /**
@@ -88,15 +100,55 @@ public final class LabelWorkflowService {
 
         String normalizedShipmentId = shipmentId.trim();
 
-        try (DbConnectionPool pool = new DbConnectionPool(config)) {
-            DbQueryRepository queryRepo = new OracleDbQueryRepository(pool.getDataSource());
-            return prepareJob(queryRepo, normalizedShipmentId);
-        }
+        DbQueryRepository queryRepo = new OracleDbQueryRepository(DbConnectionPoolManager.application().dataSource(config));
+        return prepareJob(queryRepo, normalizedShipmentId);
     }
 
     PreparedJob prepareJob(DbQueryRepository queryRepo, String shipmentId) throws Exception {
-        LabelWorkflowJobPreparationSupport.LoadedShipmentData loaded =
-                jobPreparationSupport.loadShipmentData(queryRepo, shipmentId, planningSupport);
+        return toPreparedJob(jobPreparationSupport.loadShipmentData(queryRepo, shipmentId, planningSupport));
+    }
+
+    /**
+     * Prepares several shipments from one set-based repository load.
+     *
+     * @param queryRepo   repository to load from
+     * @param shipmentIds shipment identifiers
+     * @return prepared jobs keyed by trimmed shipment ID, in input order
+     * @throws Exception when any shipment is missing or cannot be loaded
+     */
+    Map<String, PreparedJob> prepareJobs(DbQueryRepository queryRepo, List<String> shipmentIds) throws Exception {
+        return prepareJobs(queryRepo, shipmentIds, 1);
+    }
+
+    /**
+     * Prepares several shipments in up to {@code concurrency} parallel chunks, each loaded with
+     * the repository's set-based queries on its own pooled connection.
+     *
+     * @param queryRepo   repository to load from; must be safe for concurrent calls
+     * @param shipmentIds shipment identifiers
+     * @param concurrency chunks to load at once
+     * @return prepared jobs keyed by trimmed shipment ID, in input order
+     * @throws Exception when any shipment is missing or cannot be loaded; see
+     *                   {@link ParallelShipmentPreparation#prepare}
+     */
+    Map<String, PreparedJob> prepareJobs(DbQueryRepository queryRepo, List<String> shipmentIds, int concurrency)
+            throws Exception {
+        Objects.requireNonNull(queryRepo, "queryRepo cannot be null");
+        return ParallelShipmentPreparation.prepare(shipmentIds, concurrency, (chunk, failures) -> {
+            Map<String, PreparedJob> jobs = new LinkedHashMap<>();
+            for (LabelWorkflowJobPreparationSupport.LoadedShipmentData loaded
+                    : jobPreparationSupport.loadShipmentData(queryRepo, chunk, planningSupport, failures).values()) {
+                try {
+                    jobs.put(loaded.shipmentId(), toPreparedJob(loaded));
+                } catch (Exception ex) {
+                    failures.put(loaded.shipmentId(), ex);
+                }
+            }
+            return jobs;
+        });
+    }
+
+    private PreparedJob toPreparedJob(LabelWorkflowJobPreparationSupport.LoadedShipmentData loaded) throws Exception {
         SkuMappingService skuMapping = assetSupport.loadSkuMapping();
         List<SkuMathRow> mathRows = planningSupport.buildSkuMathRows(loaded.footprintRows(), skuMapping);
 
@@ -114,7 +166,8 @@ public final class LabelWorkflowService {
                 loaded.lpnsForLabels(),
                 mathRows,
                 loaded.usingVirtualLabels(),
-                loaded.stagingLocation()
+                loaded.stagingLocation(),
+                assetSupport.loadStoredFormat()
         );
     }
 
@@ -239,6 +292,7 @@ public final class LabelWorkflowService {
         private final List<SkuMathRow> skuMathRows;
         private final boolean usingVirtualLabels;
         private final String stagingLocation;
+        private final ZplStoredFormat storedFormat;
 
         private PreparedJob(String shipmentId,
                             Shipment shipment,
@@ -252,6 +306,23 @@ public final class LabelWorkflowService {
                             List<SkuMathRow> skuMathRows,
                             boolean usingVirtualLabels,
                             String stagingLocation) {
+            this(shipmentId, shipment, routing, siteConfig, skuMapping, template, footprintBySku,
+                    planResult, lpnsForLabels, skuMathRows, usingVirtualLabels, stagingLocation, null);
+        }
+
+        private PreparedJob(String shipmentId,
+                            Shipment shipment,
+                            PrinterRoutingService routing,
+                            SiteConfig siteConfig,
+                            SkuMappingService skuMapping,
+                            LabelTemplate template,
+                            Map<String, ShipmentSkuFootprint> footprintBySku,
+                            PalletPlanningService.PlanResult planResult,
+                            List<Lpn> lpnsForLabels,
+                            List<SkuMathRow> skuMathRows,
+                            boolean usingVirtualLabels,
+                            String stagingLocation,
+                            ZplStoredFormat storedFormat) {
             this.shipmentId = shipmentId;
             this.shipment = shipment;
             this.routing = routing;
@@ -264,6 +335,7 @@ public final class LabelWorkflowService {
             this.skuMathRows = skuMathRows;
             this.usingVirtualLabels = usingVirtualLabels;
             this.stagingLocation = stagingLocation;
+            this.storedFormat = storedFormat;
         }
 
         public String getShipmentId() {
@@ -313,6 +385,15 @@ public final class LabelWorkflowService {
         public String getStagingLocation() {
             return stagingLocation;
         }
+
+        /**
+         * Gets the printer-side stored format for this job's template.
+         *
+         * @return stored format, or null when labels are sent as full ZPL
+         */
+        public ZplStoredFormat getStoredFormat() {
+            return storedFormat;
+        }
     }
 
     public static final class PrintResult {
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prepares a carrier move's shipments in a bounded number of parallel chunks.
+ * <p>
+ * Shipment IDs are split into up to {@code concurrency} contiguous chunks of near-equal size.
+ * Each chunk runs the repository's set-based queries on its own pooled connection and does its
+ * own planning, so the database and CPU work of one chunk overlaps the others. Results are
+ * reassembled in input order no matter which chunk finishes first.
+ * <p>
+ * Failures are kept per shipment: a shipment the chunk reports as missing or unplannable fails
+ * alone, while an exception thrown by the chunk itself (a failed query) fails every shipment in
+ * that chunk. All chunks run to completion before failures are reported, so one bad shipment
+ * does not hide another.
+ */
+final class ParallelShipmentPreparation {
+
+    static final int MAX_CONCURRENCY = 16;
+
+    private ParallelShipmentPreparation() {
+    }
+
+    /**
+     * Prepares every shipment, running up to {@code concurrency} chunks at once.
+     *
+     * @param shipmentIds shipment IDs; blanks are rejected and duplicates prepared once
+     * @param concurrency chunks to run in parallel, clamped to 1..{@value #MAX_CONCURRENCY}
+     * @param preparer    prepares one chunk
+     * @param <T>         prepared result type
+     * @return prepared results keyed by trimmed shipment ID, in input order
+     * @throws InterruptedException when the calling thread is interrupted; running chunks are
+     *                              interrupted too
+     * @throws Exception            the shipment's own exception when exactly one shipment failed,
+     *                              otherwise an {@link IllegalStateException} listing every failed
+     *                              shipment with each failure attached as suppressed
+     */
+    static <T> Map<String, T> prepare(List<String> shipmentIds, int concurrency, ChunkPreparer<T> preparer)
+            throws Exception {
+        Objects.requireNonNull(shipmentIds, "shipmentIds cannot be null");
+        Objects.requireNonNull(preparer, "preparer cannot be null");
+        List<String> ids = normalize(shipmentIds);
+        List<List<String>> chunks = chunks(ids, Math.max(1, Math.min(concurrency, MAX_CONCURRENCY)));
+
+        Map<String, T> prepared = new LinkedHashMap<>();
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        if (chunks.size() == 1) {
+            collect(chunks.get(0), () -> runChunk(chunks.get(0), preparer), prepared, failures);
+        } else {
+            runInParallel(chunks, preparer, prepared, failures);
+        }
+        throwIfFailed(ids, failures);
+
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String id : ids) {
+            ordered.put(id, prepared.get(id));
+        }
+        return ordered;
+    }
+
+    /**
+     * Splits IDs into at most {@code count} contiguous chunks whose sizes differ by at most one.
+     */
+    static List<List<String>> chunks(List<String> ids, int count) {
+        int chunkCount = Math.max(1, Math.min(count, ids.size()));
+        List<List<String>> chunks = new ArrayList<>(chunkCount);
+        int base = ids.size() / chunkCount;
+        int extra = ids.size() % chunkCount;
+        int start = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            int end = start + base + (i < extra ? 1 : 0);
+            chunks.add(List.copyOf(ids.subList(start, end)));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static <T> void runInParallel(
+            List<List<String>> chunks,
+            ChunkPreparer<T> preparer,
+            Map<String, T> prepared,
+            Map<String, Exception> failures
+    ) throws Exception {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(chunks.size(), runnable -> {
+            Thread thread = new Thread(runnable, "shipment-prepare-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<ChunkResult<T>>> futures = new ArrayList<>(chunks.size());
+            for (List<String> chunk : chunks) {
+                futures.add(executor.submit(() -> runChunk(chunk, preparer)));
+            }
+            for (int i = 0; i < chunks.size(); i++) {
+                Future<ChunkResult<T>> future = futures.get(i);
+                collect(chunks.get(i), () -> {
+                    try {
+                        return future.get();
+                    } catch (ExecutionException ex) {
+                        throw ex.getCause() instanceof Exception cause ? cause : ex;
+                    }
+                }, prepared, failures);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> ChunkResult<T> runChunk(List<String> chunk, ChunkPreparer<T> preparer) throws Exception {
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        Map<String, T> prepared = preparer.prepare(chunk, failures);
+        return new ChunkResult<>(prepared, failures);
+    }
+
+    private static <T> void collect(
+            List<String> chunk,
+            ChunkCall<T> call,
+            Map<String, T> prepared,
+            Map<String, Exception> failures
+    ) throws InterruptedException {
+        ChunkResult<T> result;
+        try {
+            result = call.get();
+        } catch (InterruptedException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            for (String id : chunk) {
+                failures.put(id, ex);
+            }
+            return;
+        }
+        failures.putAll(result.failures());
+        for (String id : chunk) {
+            T value = result.prepared().get(id);
+            if (value != null) {
+                prepared.put(id, value);
+            } else if (!failures.containsKey(id)) {
+                failures.put(id, new IllegalStateException("Shipment was not prepared: " + id));
+            }
+        }
+    }
+
+    private static void throwIfFailed(List<String> ids, Map<String, Exception> failures) throws Exception {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1) {
+            throw failures.values().iterator().next();
+        }
+        StringBuilder message = new StringBuilder("Could not prepare ")
+                .append(failures.size()).append(" of ").append(ids.size()).append(" shipments: ");
+        boolean first = true;
+        for (String id : ids) {
+            Exception failure = failures.get(id);
+            if (failure == null) {
+                continue;
+            }
+            if (!first) {
+                message.append("; ");
+            }
+            first = false;
+            message.append(id).append(" (").append(GuiExceptionMessageSupport.rootMessage(failure)).append(')');
+        }
+        IllegalStateException listed = new IllegalStateException(message.toString());
+        for (Exception failure : new LinkedHashSet<>(failures.values())) {
+            listed.addSuppressed(failure);
+        }
+        throw listed;
+    }
+
+    private static List<String> normalize(List<String> shipmentIds) {
+        LinkedHashSet<String> ids = new LinkedHashSet<>();
+        for (String shipmentId : shipmentIds) {
+            String id = shipmentId == null ? "" : shipmentId.trim();
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("Shipment ID is required.");
+            }
+            ids.add(id);
+        }
+        return List.copyOf(ids);
+    }
+
+    /**
+     * Prepares one chunk of shipments.
+     *
+     * @param <T> prepared result type
+     */
+    @FunctionalInterface
+    interface ChunkPreparer<T> {
+        /**
+         * @param shipmentIds trimmed, distinct shipment IDs of this chunk
+         * @param failures    receives shipments that failed on their own, keyed by ID
+         * @return prepared results keyed by shipment ID
+         * @throws Exception when the whole chunk failed
+         */
+        Map<String, T> prepare(List<String> shipmentIds, Map<String, Exception> failures) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ChunkCall<T> {
+        ChunkResult<T> get() throws Exception;
+    }
+
+    private record ChunkResult<T>(Map<String, T> prepared, Map<String, Exception> failures) {
+    }
+}
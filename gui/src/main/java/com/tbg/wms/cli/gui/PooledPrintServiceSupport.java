@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.AppConfig;
+import com.tbg.wms.core.print.NetworkPrintService;
+import com.tbg.wms.core.print.PrinterCircuitBreaker;
+import com.tbg.wms.core.print.PrinterConnectionPool;
+import com.tbg.wms.core.print.PrinterFlowControl;
+
+import java.util.Objects;
+
+/**
+ * Owns the process-wide printer connection pool, flow control, and circuit breaker shared by every
+ * GUI print path.
+ * <p>
+ * One pool per process matters because Zebra printers typically accept a single 9100 client:
+ * separate pools in the preview frame and the queue workflow would contend for the same printer.
+ * One breaker per process means a printer marked offline by one job is skipped by the next.
+ */
+final class PooledPrintServiceSupport {
+
+    private static volatile NetworkPrintService shared;
+
+    private PooledPrintServiceSupport() {
+    }
+
+    /**
+     * Returns the shared print service, creating the pool on first use.
+     *
+     * @param config runtime configuration with pool settings
+     * @return pooled print service, or a one-socket-per-label service when pooling is disabled
+     */
+    static NetworkPrintService shared(AppConfig config) {
+        Objects.requireNonNull(config, "config cannot be null");
+        NetworkPrintService service = shared;
+        if (service != null) {
+            return service;
+        }
+        synchronized (PooledPrintServiceSupport.class) {
+            if (shared == null) {
+                shared = create(config);
+            }
+            return shared;
+        }
+    }
+
+    private static NetworkPrintService create(AppConfig config) {
+        PrinterFlowControl flowControl = config.printerFlowControlEnabled()
+                ? new PrinterFlowControl(config.printerFlowControlMaxQueuedLabels(), config.printerFlowControlMaxWaitMs())
+                : null;
+        PrinterCircuitBreaker circuitBreaker = config.printerCircuitBreakerEnabled()
+                ? new PrinterCircuitBreaker(
+                config.printerCircuitBreakerFailureThreshold(),
+                config.printerCircuitBreakerOpenMs()
+        )
+                : null;
+        if (!config.printerPoolEnabled()) {
+            return new NetworkPrintService(null, flowControl, circuitBreaker);
+        }
+        PrinterConnectionPool pool = new PrinterConnectionPool(
+                config.printerPoolIdleTimeoutMs(),
+                config.printerPoolMaxLifetimeMs()
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "printer-connection-pool-shutdown"));
+        return new NetworkPrintService(pool, flowControl, circuitBreaker);
+    }
+}
@@ -7,7 +7,9 @@
  */
 package com.tbg.wms.cli.gui;
 
+import com.tbg.wms.core.exception.WmsPrinterUnavailableException;
 import com.tbg.wms.core.print.NetworkPrintService;
+import com.tbg.wms.core.print.PrinterCircuitBreaker;
 import com.tbg.wms.core.print.PrinterConfig;
 
 import java.nio.file.Files;
@@ -16,15 +18,27 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages checkpoint persistence and deterministic task execution for GUI print jobs.
+ * <p>
+ * Tasks drain through {@link PrinterDispatchSupport}: label order is kept per printer, and
+ * jobs routed over several printers feed them concurrently.
  */
 final class PrintCheckpointSupport {
 
+    private static final String FILE_LANE_PREFIX = "file:";
+    private static final int MAX_RENDER_CHUNK = 256;
+
+    private final PrinterDispatchSupport dispatchSupport = new PrinterDispatchSupport();
     private final JobCheckpointStore checkpointStore;
     private final LabelWorkflowService shipmentService;
     private final int maxTasksPerJob;
@@ -57,38 +71,56 @@ final class PrintCheckpointSupport {
         checkpoint.sourceId = sourceId;
         checkpoint.outputDirectory = outputDir.toAbsolutePath().toString();
         checkpoint.printToFile = printToFile;
-        checkpoint.printerId = printToFile ? "FILE" : printer.getId();
-        checkpoint.printerEndpoint = printToFile ? "FILE" : printer.getEndpoint();
+        if (printToFile) {
+            checkpoint.printerId = "FILE";
+            checkpoint.printerEndpoint = "FILE";
+        } else if (printer == null) {
+            checkpoint.printerId = GuiPrinterTargetSupport.ROUTED_PRINTER_ID;
+            checkpoint.printerEndpoint = describeRoutedPrinters(tasks);
+        } else {
+            checkpoint.printerId = printer.getId();
+            checkpoint.printerEndpoint = printer.getEndpoint();
+        }
         checkpoint.createdAt = LocalDateTime.now();
         checkpoint.updatedAt = checkpoint.createdAt;
         checkpoint.nextTaskIndex = 0;
         checkpoint.completed = false;
-        checkpoint.tasks = tasks;
+        checkpoint.tasks = copyUnspooled(tasks);
+        checkpoint.storedFormats = collectStoredFormats(tasks);
         writeCheckpoint(checkpoint);
         return checkpoint;
     }
 
+    private static List<AdvancedPrintWorkflowService.PrintTask> copyUnspooled(
+            List<AdvancedPrintWorkflowService.PrintTask> tasks
+    ) {
+        if (tasks == null) {
+            return List.of();
+        }
+        List<AdvancedPrintWorkflowService.PrintTask> copies = new ArrayList<>(tasks.size());
+        for (AdvancedPrintWorkflowService.PrintTask task : tasks) {
+            AdvancedPrintWorkflowService.PrintTask copy = task.copy();
+            copy.spoolOffset = -1;
+            copy.spoolLength = 0;
+            copies.add(copy);
+        }
+        return copies;
+    }
+
     List<AdvancedPrintWorkflowService.ResumeCandidate> listIncompleteJobs() throws Exception {
         List<AdvancedPrintWorkflowService.ResumeCandidate> items = new ArrayList<>();
-        for (Path file : checkpointStore.listCheckpointFiles(maxCheckpointFilesScanned)) {
-            try {
-                AdvancedPrintWorkflowService.JobCheckpoint checkpoint =
-                        checkpointStore.read(stripJsonExtension(file.getFileName().toString()));
-                if (checkpoint != null && !checkpoint.completed) {
-                    int total = checkpoint.tasks == null ? 0 : checkpoint.tasks.size();
-                    items.add(new AdvancedPrintWorkflowService.ResumeCandidate(
-                            checkpoint.id,
-                            checkpoint.mode,
-                            checkpoint.sourceId,
-                            checkpoint.outputDirectory,
-                            checkpoint.nextTaskIndex,
-                            total,
-                            checkpoint.updatedAt,
-                            checkpoint.lastError
-                    ));
-                }
-            } catch (Exception ignored) {
-                // Skip malformed checkpoint files and continue scanning.
+        for (JobCheckpointIndex.Entry summary : checkpointStore.listSummaries(maxCheckpointFilesScanned)) {
+            if (!summary.completed) {
+                items.add(new AdvancedPrintWorkflowService.ResumeCandidate(
+                        summary.id,
+                        summary.mode,
+                        summary.sourceId,
+                        summary.outputDirectory,
+                        summary.nextTaskIndex,
+                        summary.totalTasks,
+                        summary.updatedAt,
+                        summary.lastError
+                ));
             }
         }
         items.sort(Comparator.comparing(
@@ -99,6 +131,17 @@ final class PrintCheckpointSupport {
     }
 
     AdvancedPrintWorkflowService.JobCheckpoint resumeJob(String checkpointId) throws Exception {
+        return resumeJob(checkpointId, null);
+    }
+
+    /**
+     * Resumes a stopped job from its last finished task.
+     *
+     * @param checkpointId job to resume
+     * @param replanner    plans the job again from its source when pending tasks were never
+     *                     rendered, or null to fail on such tasks
+     */
+    AdvancedPrintWorkflowService.JobCheckpoint resumeJob(String checkpointId, TaskReplanner replanner) throws Exception {
         if (checkpointId == null || checkpointId.isBlank()) {
             throw new IllegalArgumentException("Checkpoint ID is required.");
         }
@@ -109,14 +152,141 @@ final class PrintCheckpointSupport {
         if (checkpoint.completed) {
             throw new IllegalStateException("Checkpoint is already completed.");
         }
-        PrinterConfig printer = checkpoint.printToFile ? null : shipmentService.resolvePrinter(checkpoint.printerId);
+        PrinterConfig printer = checkpoint.printToFile || GuiPrinterTargetSupport.ROUTED_PRINTER_ID.equals(checkpoint.printerId)
+                ? null
+                : shipmentService.resolvePrinter(checkpoint.printerId);
         int resumeIndex = checkpoint.nextTaskIndex <= 0 ? 0 : checkpoint.nextTaskIndex - 1;
+        if (replanner != null && hasUnrenderedTasks(checkpoint, resumeIndex)) {
+            attachRenderers(checkpoint, replanner.replan(checkpoint));
+        }
         executeTasks(checkpoint, printer, resumeIndex);
         return checkpoint;
     }
 
+    private static boolean hasUnrenderedTasks(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int startIndex) {
+        for (int i = startIndex; i < checkpoint.tasks.size(); i++) {
+            if (!checkpoint.tasksDoneAhead.contains(i) && isUnrendered(checkpoint.tasks.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUnrendered(AdvancedPrintWorkflowService.PrintTask task) {
+        return task.zpl == null && !task.isSpooled() && task.renderer == null;
+    }
+
+    /**
+     * Gives each unrendered task the renderer of the matching task in a fresh plan of the job.
+     * The plan must list the same labels in the same order; if the source has changed since
+     * the job started, nothing is attached and the job must be printed again from its source.
+     */
+    private static void attachRenderers(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            List<AdvancedPrintWorkflowService.PrintTask> planned
+    ) {
+        boolean samePlan = planned.size() == checkpoint.tasks.size();
+        for (int i = 0; samePlan && i < planned.size(); i++) {
+            AdvancedPrintWorkflowService.PrintTask task = checkpoint.tasks.get(i);
+            samePlan = Objects.equals(task.fileName, planned.get(i).fileName)
+                    && Objects.equals(task.payloadId, planned.get(i).payloadId);
+        }
+        if (!samePlan) {
+            throw new IllegalStateException("Job " + checkpoint.sourceId
+                    + " has changed since it was started and its remaining labels were never rendered;"
+                    + " print it again from its source.");
+        }
+        for (int i = 0; i < planned.size(); i++) {
+            AdvancedPrintWorkflowService.PrintTask task = checkpoint.tasks.get(i);
+            if (isUnrendered(task)) {
+                AdvancedPrintWorkflowService.PrintTask fresh = planned.get(i);
+                task.renderer = fresh.renderer;
+                task.storedFormat = fresh.storedFormat;
+                task.stagingLocation = fresh.stagingLocation;
+            }
+        }
+    }
+
     void executeTasks(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, PrinterConfig printer, int startIndex) throws Exception {
+        executeTasks(checkpoint, printer, startIndex, AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+    }
+
+    void executeTasks(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            PrinterConfig printer,
+            int startIndex,
+            AdvancedPrintWorkflowService.PrintProgressListener listener
+    ) throws Exception {
+        PrinterDispatchSupport.Batch batch = newBatch(listener);
+        try {
+            submitTasks(checkpoint, printer, startIndex, batch);
+        } catch (Exception ex) {
+            batch.cancel();
+            batch.awaitQuietly();
+            throw ex;
+        }
+        batch.await();
+    }
+
+    PrinterDispatchSupport.Batch newBatch(AdvancedPrintWorkflowService.PrintProgressListener listener) {
+        return dispatchSupport.newBatch(listener);
+    }
+
+    /**
+     * Exposes each printer's lane backlog, measured pace, and circuit state for group dispatch.
+     */
+    PrinterGroupDispatcher.LoadSource printerLoad() {
+        return new PrinterGroupDispatcher.LoadSource() {
+            @Override
+            public int pendingLabels(PrinterConfig printer) {
+                return dispatchSupport.pendingSteps(printer.getEndpoint());
+            }
+
+            @Override
+            public double millisPerLabel(PrinterConfig printer) {
+                return dispatchSupport.averageStepMillis(printer.getEndpoint());
+            }
+
+            @Override
+            public boolean isAvailable(PrinterConfig printer) {
+                NetworkPrintService printService = shipmentService.printService();
+                PrinterCircuitBreaker circuitBreaker = printService == null ? null : printService.circuitBreaker();
+                return circuitBreaker == null || circuitBreaker.state(printer) == PrinterCircuitBreaker.State.CLOSED;
+            }
+        };
+    }
+
+    /**
+     * Queues a checkpoint's pending tasks on their printers' lanes.
+     * <p>
+     * A task carrying its own {@code printerId} goes to that printer; any other task goes to the
+     * job printer. Every task's printer is resolved before the first task is queued. Tasks planned
+     * without a payload are rendered here, in order, in chunks that start at one task and double
+     * up to {@value #MAX_RENDER_CHUNK}, so the first label reaches its printer while later ones
+     * are still being rendered; each chunk is spooled before it is queued. A label that fails to
+     * render cancels the batch and waits for the labels already on a printer before failing;
+     * the tasks not rendered yet are rendered again when the job is resumed. The batch reports
+     * progress against the number of pending tasks from the first label on. Lanes read payloads from the job's spool when not already in memory, and a
+     * print-to-file job writes each label to its own {@code .zpl} file in the output directory.
+     * Every task is journaled as it finishes, and whichever lane finishes the job's
+     * last task marks the checkpoint completed. Tasks already recorded as done ahead of
+     * {@code nextTaskIndex} are not sent again. A task whose printer is offline goes to that
+     * printer's {@code failoverPrinterId} when it has one, queued behind that printer's own work;
+     * otherwise it fails at once.
+     *
+     * @param checkpoint job to run
+     * @param printer    job printer, or null when printing to file or when every task is routed
+     * @param startIndex first task to send
+     * @param batch      batch that the caller awaits
+     */
+    void submitTasks(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            PrinterConfig printer,
+            int startIndex,
+            PrinterDispatchSupport.Batch batch
+    ) throws Exception {
         Objects.requireNonNull(checkpoint, "checkpoint cannot be null");
+        Objects.requireNonNull(batch, "batch cannot be null");
         if (checkpoint.tasks == null) {
             throw new IllegalArgumentException("Checkpoint tasks cannot be null.");
         }
@@ -124,52 +294,267 @@ final class PrintCheckpointSupport {
             throw new IllegalArgumentException("Task count exceeds max limit: " + maxTasksPerJob);
         }
         Path outDir = Paths.get(checkpoint.outputDirectory);
-        Files.createDirectories(outDir);
-        NetworkPrintService printService = new NetworkPrintService();
+        if (checkpoint.printToFile) {
+            Files.createDirectories(outDir);
+        }
+        NetworkPrintService printService = shipmentService.printService();
         int start = Math.max(0, Math.min(startIndex, checkpoint.tasks.size()));
+        List<Integer> pending = new ArrayList<>(checkpoint.tasks.size() - start);
         for (int i = start; i < checkpoint.tasks.size(); i++) {
-            AdvancedPrintWorkflowService.PrintTask task = checkpoint.tasks.get(i);
-            Path outFile = outDir.resolve(task.fileName);
-            try {
-                Files.writeString(outFile, task.zpl);
-                if (!checkpoint.printToFile) {
-                    if (printer == null) {
-                        throw new IllegalStateException("Printer is required.");
+            if (!checkpoint.tasksDoneAhead.contains(i)) {
+                pending.add(i);
+            }
+        }
+        if (pending.isEmpty()) {
+            synchronized (checkpoint) {
+                markCompleted(checkpoint);
+            }
+            return;
+        }
+
+        List<PrinterConfig> targets = resolveTargets(checkpoint, printer, pending);
+        batch.expect(pending.size());
+        AtomicInteger remaining = new AtomicInteger(pending.size());
+        int chunkStart = 0;
+        int chunkSize = 1;
+        while (chunkStart < pending.size()) {
+            List<Integer> chunk = pending.subList(chunkStart, Math.min(pending.size(), chunkStart + chunkSize));
+            renderChunk(checkpoint, chunk, batch);
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = chunk.get(i);
+                AdvancedPrintWorkflowService.PrintTask task = checkpoint.tasks.get(index);
+                PrinterConfig target = targets.get(chunkStart + i);
+                String laneKey = target == null ? FILE_LANE_PREFIX + outDir : target.getEndpoint();
+                batch.submit(laneKey, () -> {
+                    try {
+                        String zpl = checkpointStore.payload(checkpoint, task);
+                        if (target == null) {
+                            Files.writeString(outDir.resolve(task.fileName), zpl);
+                        } else if (!sendOrHandOff(batch, printService, target, checkpoint, index, zpl, remaining)) {
+                            return;
+                        }
+                        recordDone(checkpoint, index, remaining.decrementAndGet() == 0);
+                    } catch (Exception ex) {
+                        recordFailure(checkpoint, index, ex);
+                        throw ex;
+                    }
+                });
+            }
+            chunkStart += chunk.size();
+            chunkSize = Math.min(chunkSize * 2, MAX_RENDER_CHUNK);
+        }
+    }
+
+    /**
+     * Renders the chunk's unrendered tasks and moves their payloads onto the job spool. When a
+     * task fails to render, the tasks rendered ahead of it are still spooled, and the labels
+     * already queued are cancelled and settled before the failure is recorded.
+     */
+    private void renderChunk(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            List<Integer> chunk,
+            PrinterDispatchSupport.Batch batch
+    ) throws Exception {
+        List<Integer> rendered = new ArrayList<>(chunk.size());
+        try {
+            for (int index : chunk) {
+                try {
+                    if (checkpoint.tasks.get(index).render()) {
+                        rendered.add(index);
                     }
-                    printService.print(printer, task.zpl, task.payloadId);
+                } catch (RuntimeException ex) {
+                    batch.cancel();
+                    batch.awaitQuietly();
+                    recordFailure(checkpoint, index, ex);
+                    throw ex;
+                }
+            }
+        } finally {
+            if (!rendered.isEmpty()) {
+                synchronized (checkpoint) {
+                    checkpointStore.spoolRendered(checkpoint, rendered);
                 }
-                checkpoint.nextTaskIndex = i + 1;
-                checkpoint.updatedAt = LocalDateTime.now();
-                checkpoint.lastError = null;
-                writeCheckpoint(checkpoint);
+            }
+        }
+    }
+
+    AdvancedPrintWorkflowService.JobCheckpoint readCheckpoint(String id) throws Exception {
+        return checkpointStore.read(id);
+    }
+
+    void writeCheckpoint(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) throws Exception {
+        checkpointStore.write(checkpoint);
+    }
+
+    /**
+     * Resolves every pending task's printer up front, so a job naming an unknown printer fails
+     * before any of its labels is sent.
+     *
+     * @return printer per pending task, in the same order; entries are null when printing to file
+     */
+    private List<PrinterConfig> resolveTargets(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            PrinterConfig jobPrinter,
+            List<Integer> pending
+    ) throws Exception {
+        List<PrinterConfig> targets = new ArrayList<>(pending.size());
+        Map<String, PrinterConfig> printersById = new HashMap<>();
+        for (int index : pending) {
+            try {
+                targets.add(checkpoint.printToFile
+                        ? null
+                        : resolveTaskPrinter(checkpoint.tasks.get(index), jobPrinter, printersById));
             } catch (Exception ex) {
-                checkpoint.completed = false;
-                checkpoint.updatedAt = LocalDateTime.now();
-                checkpoint.lastError = ex.getMessage();
-                writeCheckpoint(checkpoint);
+                recordFailure(checkpoint, index, ex);
                 throw ex;
             }
         }
+        return targets;
+    }
+
+    private PrinterConfig resolveTaskPrinter(
+            AdvancedPrintWorkflowService.PrintTask task,
+            PrinterConfig jobPrinter,
+            Map<String, PrinterConfig> printersById
+    ) throws Exception {
+        if (task.printerId == null || (jobPrinter != null && task.printerId.equals(jobPrinter.getId()))) {
+            if (jobPrinter == null) {
+                throw new IllegalStateException("Printer is required.");
+            }
+            return jobPrinter;
+        }
+        PrinterConfig resolved = printersById.get(task.printerId);
+        if (resolved == null) {
+            resolved = shipmentService.resolvePrinter(task.printerId);
+            if (resolved == null) {
+                throw new IllegalArgumentException("Printer not found or disabled: " + task.printerId);
+            }
+            printersById.put(task.printerId, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Sends a task to its printer. When that printer is offline and names a failover printer,
+     * the task moves to the back of the failover printer's lane instead, so it never cuts in
+     * ahead of labels already queued there; the task is journaled as rerouted once it prints.
+     *
+     * @return true if the task was sent, false if it was handed off to the failover lane
+     */
+    private boolean sendOrHandOff(
+            PrinterDispatchSupport.Batch batch,
+            NetworkPrintService printService,
+            PrinterConfig printer,
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            int taskIndex,
+            String zpl,
+            AtomicInteger remaining
+    ) throws Exception {
+        AdvancedPrintWorkflowService.PrintTask task = checkpoint.tasks.get(taskIndex);
+        try {
+            send(printService, printer, checkpoint, task, zpl);
+            return true;
+        } catch (WmsPrinterUnavailableException ex) {
+            PrinterConfig failover = printer.getFailoverPrinterId() == null
+                    ? null
+                    : shipmentService.resolvePrinter(printer.getFailoverPrinterId());
+            if (failover == null) {
+                throw ex;
+            }
+            batch.handOff(failover.getEndpoint(), () -> {
+                try {
+                    send(printService, failover, checkpoint, task, zpl);
+                    synchronized (checkpoint) {
+                        task.printerId = failover.getId();
+                        checkpointStore.appendTaskRerouted(checkpoint, taskIndex);
+                    }
+                    recordDone(checkpoint, taskIndex, remaining.decrementAndGet() == 0);
+                } catch (Exception failoverEx) {
+                    recordFailure(checkpoint, taskIndex, failoverEx);
+                    throw failoverEx;
+                }
+            });
+            return false;
+        }
+    }
+
+    private static void send(
+            NetworkPrintService printService,
+            PrinterConfig printer,
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            AdvancedPrintWorkflowService.PrintTask task,
+            String zpl
+    ) {
+        String downloadZpl = task.recallZpl == null || checkpoint.storedFormats == null
+                ? null
+                : checkpoint.storedFormats.get(task.storedFormatName);
+        if (downloadZpl != null) {
+            printService.printStoredFormat(printer, task.storedFormatName, downloadZpl, task.recallZpl, task.payloadId);
+        } else {
+            printService.print(printer, zpl, task.payloadId);
+        }
+    }
+
+    private void recordDone(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex, boolean lastTask)
+            throws Exception {
+        synchronized (checkpoint) {
+            checkpoint.markTaskDone(taskIndex);
+            checkpoint.updatedAt = LocalDateTime.now();
+            checkpoint.lastError = null;
+            checkpointStore.appendTaskDone(checkpoint, taskIndex);
+            if (lastTask) {
+                markCompleted(checkpoint);
+            }
+        }
+    }
+
+    private void recordFailure(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex, Exception ex)
+            throws Exception {
+        synchronized (checkpoint) {
+            checkpoint.completed = false;
+            checkpoint.updatedAt = LocalDateTime.now();
+            checkpoint.lastError = ex.getMessage();
+            checkpointStore.appendTaskFailed(checkpoint, taskIndex);
+        }
+    }
+
+    private void markCompleted(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) throws Exception {
         checkpoint.completed = true;
         checkpoint.updatedAt = LocalDateTime.now();
         checkpoint.lastError = null;
-        writeCheckpoint(checkpoint);
+        checkpointStore.appendCompleted(checkpoint);
     }
 
-    AdvancedPrintWorkflowService.JobCheckpoint readCheckpoint(String id) throws Exception {
-        return checkpointStore.read(id);
+    /**
+     * Collects the {@code ^DF} download for every stored format referenced by the tasks, so a
+     * resumed job can re-seed a printer that was power-cycled in between.
+     */
+    private static Map<String, String> collectStoredFormats(List<AdvancedPrintWorkflowService.PrintTask> tasks) {
+        Map<String, String> formats = new LinkedHashMap<>();
+        for (AdvancedPrintWorkflowService.PrintTask task : tasks) {
+            if (task.storedFormat != null) {
+                formats.putIfAbsent(task.storedFormatName, task.storedFormat.getDownloadZpl());
+            }
+        }
+        return formats;
     }
 
-    void writeCheckpoint(AdvancedPrintWorkflowService.JobCheckpoint checkpoint) throws Exception {
-        checkpointStore.write(checkpoint);
+    /**
+     * Plans a stopped job's tasks again from its source.
+     */
+    @FunctionalInterface
+    interface TaskReplanner {
+        List<AdvancedPrintWorkflowService.PrintTask> replan(AdvancedPrintWorkflowService.JobCheckpoint checkpoint)
+                throws Exception;
     }
 
-    private String stripJsonExtension(String fileName) {
-        if (fileName == null) {
-            return "";
+    private static String describeRoutedPrinters(List<AdvancedPrintWorkflowService.PrintTask> tasks) {
+        Set<String> printerIds = new LinkedHashSet<>();
+        for (AdvancedPrintWorkflowService.PrintTask task : tasks) {
+            if (task.printerId != null) {
+                printerIds.add(task.printerId);
+            }
         }
-        return fileName.toLowerCase(Locale.ROOT).endsWith(".json")
-                ? fileName.substring(0, fileName.length() - 5)
-                : fileName;
+        return String.join(", ", printerIds);
     }
 }
@@ -9,11 +9,13 @@ import com.tbg.wms.core.model.Shipment;
 import com.tbg.wms.core.template.ZplTemplateEngine;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Plans deterministic print tasks from prepared shipment and carrier-move jobs.
@@ -21,6 +23,11 @@ import java.util.Objects;
  * <p>This helper owns task expansion, subset filtering, info-tag counting, and output artifact
  * naming so the workflow service can stay focused on loading jobs, resolving printers, and
  * executing checkpointed tasks.</p>
+ *
+ * <p>Planning does not render labels. Each task carries its kind, file name, payload ID, and a
+ * {@link TaskRenderer} holding only the shipment it belongs to and its LPN index, so the full
+ * task list (and therefore the job's size and order) is known at once while each label's ZPL
+ * is produced only when {@link PrintCheckpointSupport} runs the job.</p>
  */
 final class PrintTaskPlanner {
     private static final int MAX_LABELS_PER_JOB = 10_000;
@@ -62,51 +69,98 @@ final class PrintTaskPlanner {
         Objects.requireNonNull(batch, "batch cannot be null");
         LabelWorkflowService.PreparedJob job = batch.getShipmentJob();
         List<Lpn> lpnsToPrint = batch.getLpnsToPrint();
-        LabelDataBuilder builder = new LabelDataBuilder(job.getSkuMapping(), job.getSiteConfig(), job.getFootprintBySku());
-        Shipment shipmentForLabels = LabelingSupport.buildShipmentForLabeling(job.getShipment(), lpnsToPrint);
         int labelCount = lpnsToPrint.size();
         if (labelCount > MAX_LABELS_PER_JOB) {
             throw new IllegalArgumentException("Label count exceeds max limit: " + MAX_LABELS_PER_JOB);
         }
+        ShipmentLabelSource source = new ShipmentLabelSource(batch);
         List<AdvancedPrintWorkflowService.PrintTask> tasks =
                 new ArrayList<>(labelCount + (batch.isIncludeShipmentInfoTag() ? 1 : 0));
         String safeShipmentId = ArtifactNameSupport.safeSlug(job.getShipmentId(), "shipment", MAX_ARTIFACT_SLUG_LENGTH);
         String stopSuffix = batch.getStopPosition() == null ? "" : (" stop " + batch.getStopPosition());
         for (int i = 0; i < labelCount; i++) {
             Lpn lpn = lpnsToPrint.get(i);
-            Map<String, String> data = new LinkedHashMap<>(builder.build(shipmentForLabels, lpn, i, LabelType.WALMART_CANADA_GRID));
-            if (batch.getStopSequence() != null) {
-                data.put("stopSequence", String.valueOf(batch.getStopSequence()));
-            }
-            if (job.isUsingVirtualLabels()) {
-                data.put("palletSeq", String.valueOf(i + 1));
-                data.put("palletTotal", String.valueOf(labelCount));
-            }
-            String zpl = ZplTemplateEngine.generate(job.getTemplate(), data);
             String safeLpnId = ArtifactNameSupport.safeSlug(lpn.getLpnId(), "lpn", MAX_ARTIFACT_SLUG_LENGTH);
             String fileName = String.format("%s_%s_%d_of_%d.zpl", safeShipmentId, safeLpnId, i + 1, labelCount);
             String payload = job.getShipmentId() + ":" + lpn.getLpnId() + stopSuffix;
-            tasks.add(new AdvancedPrintWorkflowService.PrintTask(
+            AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
                     AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL,
                     fileName,
-                    zpl,
+                    null,
                     payload
-            ));
+            );
+            task.shipmentId = job.getShipmentId();
+            task.lpnId = lpn.getLpnId();
+            task.renderer = new PalletLabel(source, i);
+            if (job.getStoredFormat() != null) {
+                task.useStoredFormat(job.getStoredFormat(), null);
+            }
+            task.stagingLocation = job.getStagingLocation();
+            tasks.add(task);
         }
 
         if (batch.isIncludeShipmentInfoTag()) {
             String infoFile = "info-shipment-" + safeShipmentId + ".zpl";
-            String infoZpl = InfoTagZplBuilder.buildShipmentInfoTag(job);
-            tasks.add(new AdvancedPrintWorkflowService.PrintTask(
+            AdvancedPrintWorkflowService.PrintTask infoTask = new AdvancedPrintWorkflowService.PrintTask(
                     AdvancedPrintWorkflowService.TaskKind.STOP_INFO_TAG,
                     infoFile,
-                    infoZpl,
+                    null,
                     "INFO-SHIPMENT " + job.getShipmentId()
-            ));
+            );
+            infoTask.renderer = () -> new RenderedLabel(InfoTagZplBuilder.buildShipmentInfoTag(job), null);
+            infoTask.stagingLocation = job.getStagingLocation();
+            tasks.add(infoTask);
         }
         return tasks;
     }
 
+    /**
+     * Plans a stopped job again from freshly loaded source data, selecting the same labels its
+     * pallet tasks record, so tasks it never rendered can be rendered on resume.
+     *
+     * @param checkpoint stopped job
+     * @param job        the job's shipment, loaded again
+     * @return the same plan as the job's, when the shipment has not changed since
+     */
+    static List<AdvancedPrintWorkflowService.PrintTask> replanShipmentTasks(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            LabelWorkflowService.PreparedJob job
+    ) {
+        Set<String> lpnIds = new HashSet<>();
+        boolean includeInfoTags = false;
+        for (AdvancedPrintWorkflowService.PrintTask task : checkpoint.tasks) {
+            if (task.lpnId != null) {
+                lpnIds.add(task.lpnId);
+            }
+            includeInfoTags |= task.kind == AdvancedPrintWorkflowService.TaskKind.STOP_INFO_TAG;
+        }
+        List<Lpn> selected = new ArrayList<>(lpnIds.size());
+        for (Lpn lpn : job.getLpnsForLabels()) {
+            if (lpnIds.contains(lpn.getLpnId())) {
+                selected.add(lpn);
+            }
+        }
+        return buildShipmentTasks(ShipmentPrintBatch.forShipment(job, selected, includeInfoTags));
+    }
+
+    /**
+     * Carrier-move counterpart of {@link #replanShipmentTasks}.
+     */
+    static List<AdvancedPrintWorkflowService.PrintTask> replanCarrierMoveTasks(
+            AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
+            AdvancedPrintWorkflowService.PreparedCarrierMoveJob job
+    ) {
+        List<LabelSelectionRef> selections = new ArrayList<>();
+        boolean includeInfoTags = false;
+        for (AdvancedPrintWorkflowService.PrintTask task : checkpoint.tasks) {
+            if (task.lpnId != null) {
+                selections.add(LabelSelectionRef.forShipment(selections.size() + 1, task.shipmentId, task.lpnId));
+            }
+            includeInfoTags |= task.kind == AdvancedPrintWorkflowService.TaskKind.FINAL_INFO_TAG;
+        }
+        return buildCarrierMoveTasks(job, selections, includeInfoTags);
+    }
+
     static List<AdvancedPrintWorkflowService.PrintTask> buildCarrierMoveTasks(
             AdvancedPrintWorkflowService.PreparedCarrierMoveJob job,
             List<LabelSelectionRef> selectedLabels,
@@ -135,13 +189,14 @@ final class PrintTaskPlanner {
             String finalFile = "info-final-cmid-" +
                     ArtifactNameSupport.safeSlug(job.getCarrierMoveId(), "carrier-move", MAX_ARTIFACT_SLUG_LENGTH) +
                     ".zpl";
-            String finalInfo = InfoTagZplBuilder.buildFinalInfoTag(job);
-            tasks.add(new AdvancedPrintWorkflowService.PrintTask(
+            AdvancedPrintWorkflowService.PrintTask finalTask = new AdvancedPrintWorkflowService.PrintTask(
                     AdvancedPrintWorkflowService.TaskKind.FINAL_INFO_TAG,
                     finalFile,
-                    finalInfo,
+                    null,
                     "INFO-FINAL " + job.getCarrierMoveId()
-            ));
+            );
+            finalTask.renderer = () -> new RenderedLabel(InfoTagZplBuilder.buildFinalInfoTag(job), null);
+            tasks.add(finalTask);
         }
         return tasks;
     }
@@ -205,20 +260,78 @@ final class PrintTaskPlanner {
                 stopBatch.getStop().getStopPosition(),
                 stopBatch.getTotalStops()
         );
-        String stopInfo = InfoTagZplBuilder.buildStopInfoTag(
+        AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
+                AdvancedPrintWorkflowService.TaskKind.STOP_INFO_TAG,
+                stopInfoFile,
+                null,
+                "INFO-STOP " + stopBatch.getStop().getStopPosition()
+        );
+        task.renderer = () -> new RenderedLabel(InfoTagZplBuilder.buildStopInfoTag(
                 job.getCarrierMoveId(),
                 stopBatch.getStop().getStopPosition(),
                 stopBatch.getTotalStops(),
                 stopBatch.getStop().getStopSequence(),
                 shipmentIds,
                 shipmentJobs
-        );
-        return new AdvancedPrintWorkflowService.PrintTask(
-                AdvancedPrintWorkflowService.TaskKind.STOP_INFO_TAG,
-                stopInfoFile,
-                stopInfo,
-                "INFO-STOP " + stopBatch.getStop().getStopPosition()
-        );
+        ), null);
+        return task;
+    }
+
+    /**
+     * Produces one task's payload when the task is dispatched.
+     */
+    @FunctionalInterface
+    interface TaskRenderer {
+        RenderedLabel render();
+    }
+
+    /**
+     * Rendered payload of one task.
+     *
+     * @param zpl       full label ZPL
+     * @param recallZpl compact {@code ^XF} recall form when the job uses a stored format, otherwise null
+     */
+    record RenderedLabel(String zpl, String recallZpl) {
+    }
+
+    /**
+     * What every pallet label of one shipment batch shares; label data is built per LPN on demand.
+     */
+    private static final class ShipmentLabelSource {
+        private final ShipmentPrintBatch batch;
+        private final LabelDataBuilder builder;
+        private final Shipment shipmentForLabels;
+
+        private ShipmentLabelSource(ShipmentPrintBatch batch) {
+            LabelWorkflowService.PreparedJob job = batch.getShipmentJob();
+            this.batch = batch;
+            this.builder = new LabelDataBuilder(job.getSkuMapping(), job.getSiteConfig(), job.getFootprintBySku());
+            this.shipmentForLabels = LabelingSupport.buildShipmentForLabeling(job.getShipment(), batch.getLpnsToPrint());
+        }
+
+        private RenderedLabel render(int lpnIndex) {
+            LabelWorkflowService.PreparedJob job = batch.getShipmentJob();
+            List<Lpn> lpnsToPrint = batch.getLpnsToPrint();
+            Lpn lpn = lpnsToPrint.get(lpnIndex);
+            Map<String, String> data = new LinkedHashMap<>(
+                    builder.build(shipmentForLabels, lpn, lpnIndex, LabelType.WALMART_CANADA_GRID));
+            if (batch.getStopSequence() != null) {
+                data.put("stopSequence", String.valueOf(batch.getStopSequence()));
+            }
+            if (job.isUsingVirtualLabels()) {
+                data.put("palletSeq", String.valueOf(lpnIndex + 1));
+                data.put("palletTotal", String.valueOf(lpnsToPrint.size()));
+            }
+            String zpl = ZplTemplateEngine.generate(job.getTemplate(), data);
+            return new RenderedLabel(zpl, job.getStoredFormat() == null ? null : job.getStoredFormat().recall(data));
+        }
+    }
+
+    private record PalletLabel(ShipmentLabelSource source, int lpnIndex) implements TaskRenderer {
+        @Override
+        public RenderedLabel render() {
+            return source.render(lpnIndex);
+        }
     }
 
     static final class ShipmentPrintBatch {
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drains print work through one FIFO lane per printer endpoint.
+ * <p>
+ * Each lane is a single worker thread, so labels reach a printer in submission order while
+ * printers on different docks are fed at the same time. Lanes are shared by every batch, so two
+ * jobs aimed at the same printer never interleave their labels. A lane's thread exits after it
+ * has been idle for a while and is recreated on the next submission.
+ * <p>
+ * Each lane also keeps its backlog and a smoothed time per step, which
+ * {@link PrinterGroupDispatcher} uses to send new pallets to the printer that will finish first.
+ */
+final class PrinterDispatchSupport {
+
+    private static final long LANE_IDLE_TIMEOUT_MS = 30_000L;
+    private static final double STEP_TIME_SMOOTHING = 0.2;
+
+    private final ConcurrentMap<String, ExecutorService> lanes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LaneLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a batch whose steps are awaited, cancelled, and reported together.
+     *
+     * @param listener receives aggregate progress from lane threads
+     * @return new batch
+     */
+    Batch newBatch(AdvancedPrintWorkflowService.PrintProgressListener listener) {
+        return new Batch(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    /**
+     * @return steps queued or running on the lane, over every batch
+     */
+    int pendingSteps(String laneKey) {
+        LaneLoad load = loads.get(laneKey);
+        return load == null ? 0 : load.pending.get();
+    }
+
+    /**
+     * @return smoothed wall time of the lane's completed steps, or {@code 0} before the first one
+     */
+    double averageStepMillis(String laneKey) {
+        LaneLoad load = loads.get(laneKey);
+        return load == null ? 0 : load.averageMillis();
+    }
+
+    private LaneLoad load(String laneKey) {
+        return loads.computeIfAbsent(laneKey, ignored -> new LaneLoad());
+    }
+
+    private ExecutorService lane(String laneKey) {
+        return lanes.computeIfAbsent(laneKey, key -> {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    LANE_IDLE_TIMEOUT_MS,
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "print-lane-" + key);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
+    }
+
+    /**
+     * One unit of printer work. Runs on its lane's thread.
+     */
+    @FunctionalInterface
+    interface Step {
+        void run() throws Exception;
+    }
+
+    /**
+     * Group of steps, possibly spread over several lanes, that succeeds or fails as a whole.
+     * <p>
+     * The first failing step cancels the batch: steps already on a printer finish, and every
+     * step that has not started yet is skipped, so no printer runs ahead of a failed label.
+     * <p>
+     * A running step may {@link #handOff hand its work off} to another lane, for instance when
+     * its printer is offline and another printer takes over; the handed-off step counts as the
+     * original one for progress.
+     */
+    final class Batch {
+        private final AdvancedPrintWorkflowService.PrintProgressListener listener;
+        private final List<Future<?>> futures = Collections.synchronizedList(new ArrayList<>());
+        private final ThreadLocal<Boolean> handingOff = new ThreadLocal<>();
+        private final Set<String> laneKeys = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final AtomicInteger expected = new AtomicInteger();
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        private Batch(AdvancedPrintWorkflowService.PrintProgressListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Announces steps about to be submitted, so progress is reported against the full count
+         * from the first finished step on instead of against the steps submitted so far.
+         *
+         * @param steps number of steps the caller is about to submit
+         */
+        void expect(int steps) {
+            if (steps < 0) {
+                throw new IllegalArgumentException("steps cannot be negative");
+            }
+            expected.addAndGet(steps);
+        }
+
+        /**
+         * Queues a step behind every earlier step for the same lane.
+         *
+         * @param laneKey printer endpoint, or any stable key for non-network output
+         * @param step    work to run
+         */
+        void submit(String laneKey, Step step) {
+            Objects.requireNonNull(laneKey, "laneKey cannot be null");
+            Objects.requireNonNull(step, "step cannot be null");
+            submitted.incrementAndGet();
+            enqueue(laneKey, step);
+        }
+
+        /**
+         * Queues a step that takes over from the step running on the calling lane thread. The
+         * running step then ends without reporting progress, and the new step reports it in its
+         * place once it runs behind every step already queued on its lane.
+         *
+         * @param laneKey lane to continue on
+         * @param step    remaining work of the running step
+         * @throws IllegalStateException when not called from a running step of this batch
+         */
+        void handOff(String laneKey, Step step) {
+            Objects.requireNonNull(laneKey, "laneKey cannot be null");
+            Objects.requireNonNull(step, "step cannot be null");
+            if (handingOff.get() == null) {
+                throw new IllegalStateException("Only a running step can hand off its work.");
+            }
+            handingOff.set(Boolean.TRUE);
+            enqueue(laneKey, step);
+        }
+
+        private void enqueue(String laneKey, Step step) {
+            laneKeys.add(laneKey);
+            LaneLoad load = load(laneKey);
+            load.pending.incrementAndGet();
+            futures.add(lane(laneKey).submit(() -> {
+                try {
+                    runStep(step, load);
+                } finally {
+                    load.pending.decrementAndGet();
+                }
+            }));
+        }
+
+        /**
+         * Waits for every submitted step to finish or be skipped.
+         *
+         * @throws Exception the first step failure, unchanged
+         */
+        void await() throws Exception {
+            try {
+                // Steps handed off while this waits are appended before their originals finish.
+                for (int i = 0; i < futures.size(); i++) {
+                    futures.get(i).get();
+                }
+            } catch (InterruptedException ex) {
+                cancelled = true;
+                throw ex;
+            } catch (ExecutionException ex) {
+                // runStep catches everything it can; anything left here is an Error.
+                cancelled = true;
+                throw new IllegalStateException("Print lane failed.", ex.getCause());
+            }
+            Exception first = failure.get();
+            if (first != null) {
+                throw first;
+            }
+        }
+
+        /**
+         * Waits like {@link #await()} but swallows step failures, for settling a batch that its
+         * caller has cancelled while already failing for another reason.
+         */
+        void awaitQuietly() {
+            try {
+                await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ignored) {
+                // The caller reports its own failure.
+            }
+        }
+
+        /**
+         * Skips every step that has not started yet; steps already on a printer finish.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+
+        int laneCount() {
+            return laneKeys.size();
+        }
+
+        private void runStep(Step step, LaneLoad load) {
+            if (cancelled) {
+                return;
+            }
+            long started = System.nanoTime();
+            boolean handedOff;
+            handingOff.set(Boolean.FALSE);
+            try {
+                step.run();
+            } catch (Exception ex) {
+                failure.compareAndSet(null, ex);
+                cancelled = true;
+                return;
+            } finally {
+                handedOff = handingOff.get();
+                handingOff.remove();
+            }
+            if (handedOff) {
+                return;
+            }
+            load.recordStep(System.nanoTime() - started);
+            int total = Math.max(expected.get(), submitted.get());
+            listener.onProgress(done.incrementAndGet(), total, laneKeys.size());
+        }
+    }
+
+    private static final class LaneLoad {
+        private final AtomicInteger pending = new AtomicInteger();
+        private double averageMillis;
+
+        private synchronized void recordStep(long elapsedNanos) {
+            double millis = elapsedNanos / 1_000_000.0;
+            averageMillis = averageMillis == 0
+                    ? millis
+                    : averageMillis + STEP_TIME_SMOOTHING * (millis - averageMillis);
+        }
+
+        private synchronized double averageMillis() {
+            return averageMillis;
+        }
+    }
+}
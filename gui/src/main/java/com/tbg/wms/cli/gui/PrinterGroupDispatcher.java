@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.print.PrinterConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Spreads one job's pallets over the members of a printer group.
+ * <p>
+ * Each new pallet goes to the member expected to finish it first: labels already waiting on
+ * that printer's lane plus the labels this job has given it so far, times the printer's
+ * measured time per label. Printers with no measurement yet are assumed to run at the average
+ * of the measured ones. Once a pallet has a printer, every later label for the same pallet
+ * goes there too, so a pallet's labels never split across printers. Members whose circuit is
+ * open are skipped while any other member is available.
+ * <p>
+ * One instance per job; not thread-safe.
+ */
+final class PrinterGroupDispatcher {
+
+    private final LoadSource loadSource;
+    private final Map<String, PrinterConfig> printerByPallet = new HashMap<>();
+    private final Map<String, Integer> assignedByPrinter = new HashMap<>();
+
+    PrinterGroupDispatcher(LoadSource loadSource) {
+        this.loadSource = Objects.requireNonNull(loadSource, "loadSource cannot be null");
+    }
+
+    /**
+     * Picks the printer for one label.
+     *
+     * @param candidates enabled printers the label may go to, in preference order
+     * @param palletKey  identifies the pallet the label belongs to
+     * @return chosen printer
+     */
+    PrinterConfig assign(List<PrinterConfig> candidates, String palletKey) {
+        Objects.requireNonNull(candidates, "candidates cannot be null");
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("candidates cannot be empty");
+        }
+        PrinterConfig chosen = palletKey == null ? null : printerByPallet.get(palletKey);
+        if (chosen == null || !candidates.contains(chosen)) {
+            List<PrinterConfig> available = available(candidates);
+            chosen = available.size() == 1 ? available.get(0) : leastLoaded(available);
+            if (palletKey != null) {
+                printerByPallet.put(palletKey, chosen);
+            }
+        }
+        assignedByPrinter.merge(chosen.getId(), 1, Integer::sum);
+        return chosen;
+    }
+
+    private List<PrinterConfig> available(List<PrinterConfig> candidates) {
+        List<PrinterConfig> available = new ArrayList<>(candidates.size());
+        for (PrinterConfig candidate : candidates) {
+            if (loadSource.isAvailable(candidate)) {
+                available.add(candidate);
+            }
+        }
+        return available.isEmpty() ? candidates : available;
+    }
+
+    private PrinterConfig leastLoaded(List<PrinterConfig> candidates) {
+        double fallbackMillis = averageMeasuredMillis(candidates);
+        PrinterConfig best = null;
+        double bestFinish = Double.MAX_VALUE;
+        int bestAssigned = Integer.MAX_VALUE;
+        for (PrinterConfig candidate : candidates) {
+            int assigned = assignedByPrinter.getOrDefault(candidate.getId(), 0);
+            double millis = loadSource.millisPerLabel(candidate);
+            double finish = (loadSource.pendingLabels(candidate) + assigned + 1)
+                    * (millis > 0 ? millis : fallbackMillis);
+            if (finish < bestFinish || (finish == bestFinish && assigned < bestAssigned)) {
+                best = candidate;
+                bestFinish = finish;
+                bestAssigned = assigned;
+            }
+        }
+        return best;
+    }
+
+    private double averageMeasuredMillis(List<PrinterConfig> candidates) {
+        double total = 0;
+        int measured = 0;
+        for (PrinterConfig candidate : candidates) {
+            double millis = loadSource.millisPerLabel(candidate);
+            if (millis > 0) {
+                total += millis;
+                measured++;
+            }
+        }
+        return measured == 0 ? 1.0 : total / measured;
+    }
+
+    /**
+     * Live load figures for printers, typically read from the print lanes.
+     */
+    interface LoadSource {
+        LoadSource NONE = new LoadSource() {
+            @Override
+            public int pendingLabels(PrinterConfig printer) {
+                return 0;
+            }
+
+            @Override
+            public double millisPerLabel(PrinterConfig printer) {
+                return 0;
+            }
+        };
+
+        /**
+         * @return labels queued or printing on the printer right now, across all jobs
+         */
+        int pendingLabels(PrinterConfig printer);
+
+        /**
+         * @return smoothed time per label on the printer, or {@code 0} when not yet measured
+         */
+        double millisPerLabel(PrinterConfig printer);
+
+        /**
+         * @return false while the printer's circuit breaker keeps it offline
+         */
+        default boolean isAvailable(PrinterConfig printer) {
+            return true;
+        }
+    }
+}
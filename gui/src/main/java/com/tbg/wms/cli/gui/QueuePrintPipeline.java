@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a print queue as two stages so the database work for one item overlaps the printing of
+ * the item before it.
+ * <p>
+ * A loader thread prepares items in queue order and hands them over through a
+ * {@value #PREPARED_AHEAD}-slot buffer; the calling thread plans, checkpoints, and sends each
+ * one while keeping at most {@value #ITEMS_ON_PRINTERS} items on the printer lanes. Both limits
+ * apply backpressure, so loading never runs more than a couple of items ahead of the printers
+ * and prepared jobs do not pile up in memory. Lanes are FIFO per printer, so each printer still
+ * receives the queue's labels in queue order.
+ * <p>
+ * Items succeed or fail on their own: a failed load or print is recorded against that item and
+ * the queue moves on. Cancelling stops the loader after the item it is on, skips every label not
+ * yet sent, and returns what finished; interrupted items keep their checkpoints and can be
+ * resumed. Interrupting the calling thread does the same for the items on the printers and the
+ * loader, then rethrows.
+ */
+final class QueuePrintPipeline {
+
+    static final int PREPARED_AHEAD = 1;
+    static final int ITEMS_ON_PRINTERS = 2;
+    private static final long HANDOFF_POLL_MS = 100L;
+
+    private final Stages stages;
+    private final QueueWorkflowSupport queueWorkflowSupport = new QueueWorkflowSupport();
+
+    QueuePrintPipeline(Stages stages) {
+        this.stages = Objects.requireNonNull(stages, "stages cannot be null");
+    }
+
+    /**
+     * Prepares and prints every request in order.
+     *
+     * @param requests     normalized queue requests
+     * @param listener     receives label progress over every item and item-level progress
+     * @param cancellation cancelled from any thread to stop the queue
+     * @return per-item results and failures
+     */
+    AdvancedPrintWorkflowService.QueuePrintResult run(
+            List<AdvancedPrintWorkflowService.QueueRequestItem> requests,
+            AdvancedPrintWorkflowService.QueueProgressListener listener,
+            AdvancedPrintWorkflowService.QueueCancellation cancellation
+    ) throws InterruptedException {
+        Objects.requireNonNull(requests, "requests cannot be null");
+        Objects.requireNonNull(listener, "listener cannot be null");
+        Objects.requireNonNull(cancellation, "cancellation cannot be null");
+        Progress progress = new Progress(requests.size(), listener);
+        BlockingQueue<Prepared> handoff = new ArrayBlockingQueue<>(PREPARED_AHEAD);
+        Thread loader = new Thread(() -> load(requests, handoff, progress, cancellation), "queue-prepare");
+        loader.setDaemon(true);
+
+        List<AdvancedPrintWorkflowService.PrintResult> results = new ArrayList<>();
+        List<AdvancedPrintWorkflowService.QueueItemFailure> failures = new ArrayList<>();
+        Deque<InFlight> onPrinters = new ArrayDeque<>();
+        Runnable onCancel = () -> {
+            synchronized (onPrinters) {
+                for (InFlight inFlight : onPrinters) {
+                    inFlight.printing().cancel();
+                }
+            }
+        };
+        cancellation.onCancel(onCancel);
+        loader.start();
+        boolean drained = false;
+        try {
+            for (int index = 0; index < requests.size() && !cancellation.isCancelled(); index++) {
+                // Wait for room on the printers before taking the next item, so nothing loaded
+                // sits outside the handoff buffer.
+                while (onPrinters.size() >= ITEMS_ON_PRINTERS) {
+                    finishOldest(onPrinters, results, failures, progress);
+                }
+                Prepared prepared = take(handoff, cancellation);
+                if (prepared == null) {
+                    break;
+                }
+                if (prepared.failure() != null) {
+                    failures.add(failure(prepared.request(), prepared.failure()));
+                    progress.itemFinished();
+                    continue;
+                }
+                try {
+                    Printing printing = stages.print(prepared.item(), progress.forItem());
+                    synchronized (onPrinters) {
+                        onPrinters.add(new InFlight(prepared.request(), printing));
+                        if (cancellation.isCancelled()) {
+                            printing.cancel();
+                        }
+                    }
+                } catch (Exception ex) {
+                    failures.add(failure(prepared.request(), ex));
+                    progress.itemFinished();
+                }
+            }
+            while (!onPrinters.isEmpty()) {
+                finishOldest(onPrinters, results, failures, progress);
+            }
+            drained = true;
+        } finally {
+            cancellation.removeOnCancel(onCancel);
+            if (drained && !cancellation.isCancelled()) {
+                loader.join();
+            } else {
+                // Nothing drains the handoff any more. A load already running is left to finish on
+                // its own; nothing more is started, and unsent labels are skipped.
+                onCancel.run();
+                loader.interrupt();
+            }
+        }
+        return queueWorkflowSupport.summarizeResults(results, failures, cancellation.isCancelled());
+    }
+
+    private void load(
+            List<AdvancedPrintWorkflowService.QueueRequestItem> requests,
+            BlockingQueue<Prepared> handoff,
+            Progress progress,
+            AdvancedPrintWorkflowService.QueueCancellation cancellation
+    ) {
+        for (AdvancedPrintWorkflowService.QueueRequestItem request : requests) {
+            if (cancellation.isCancelled()) {
+                return;
+            }
+            Prepared prepared;
+            try {
+                prepared = new Prepared(request, stages.prepare(request), null);
+            } catch (Exception ex) {
+                prepared = new Prepared(request, null, ex);
+            }
+            progress.itemPrepared();
+            try {
+                while (!handoff.offer(prepared, HANDOFF_POLL_MS, TimeUnit.MILLISECONDS)) {
+                    if (cancellation.isCancelled()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static Prepared take(
+            BlockingQueue<Prepared> handoff,
+            AdvancedPrintWorkflowService.QueueCancellation cancellation
+    ) throws InterruptedException {
+        while (!cancellation.isCancelled()) {
+            Prepared prepared = handoff.poll(HANDOFF_POLL_MS, TimeUnit.MILLISECONDS);
+            if (prepared != null) {
+                return prepared;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the oldest item on the printers and records its outcome. The item stays
+     * cancellable until it is done, and stays on the printers if the wait is interrupted.
+     */
+    private static void finishOldest(
+            Deque<InFlight> onPrinters,
+            List<AdvancedPrintWorkflowService.PrintResult> results,
+            List<AdvancedPrintWorkflowService.QueueItemFailure> failures,
+            Progress progress
+    ) throws InterruptedException {
+        InFlight inFlight;
+        synchronized (onPrinters) {
+            inFlight = onPrinters.peekFirst();
+        }
+        try {
+            AdvancedPrintWorkflowService.PrintResult result = inFlight.printing().await();
+            if (inFlight.printing().isComplete()) {
+                results.add(result);
+            } else {
+                failures.add(new AdvancedPrintWorkflowService.QueueItemFailure(
+                        inFlight.request().getType(), inFlight.request().getId(),
+                        "Cancelled before it finished; resume it from Resume Job."));
+            }
+        } catch (InterruptedException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            failures.add(failure(inFlight.request(), ex));
+        }
+        synchronized (onPrinters) {
+            onPrinters.removeFirst();
+        }
+        progress.itemFinished();
+    }
+
+    private static AdvancedPrintWorkflowService.QueueItemFailure failure(
+            AdvancedPrintWorkflowService.QueueRequestItem request,
+            Throwable throwable
+    ) {
+        return new AdvancedPrintWorkflowService.QueueItemFailure(
+                request.getType(), request.getId(), GuiExceptionMessageSupport.rootMessage(throwable));
+    }
+
+    /**
+     * The two halves of printing one queue item.
+     */
+    interface Stages {
+        /**
+         * Loads an item from the database. Runs on the loader thread, one item at a time, in
+         * queue order.
+         */
+        AdvancedPrintWorkflowService.PreparedQueueItem prepare(AdvancedPrintWorkflowService.QueueRequestItem request)
+                throws Exception;
+
+        /**
+         * Plans, checkpoints, and queues an item's labels on the printer lanes without waiting
+         * for them. Runs on the calling thread.
+         */
+        Printing print(
+                AdvancedPrintWorkflowService.PreparedQueueItem item,
+                AdvancedPrintWorkflowService.PrintProgressListener listener
+        ) throws Exception;
+    }
+
+    /**
+     * Item whose labels are on the printer lanes.
+     */
+    interface Printing {
+        /**
+         * Waits until every label was sent or skipped.
+         *
+         * @throws Exception the item's first send failure
+         */
+        AdvancedPrintWorkflowService.PrintResult await() throws Exception;
+
+        /**
+         * @return true once every label of the item was sent
+         */
+        boolean isComplete();
+
+        /**
+         * Skips the item's labels that have not started yet.
+         */
+        void cancel();
+    }
+
+    private record Prepared(
+            AdvancedPrintWorkflowService.QueueRequestItem request,
+            AdvancedPrintWorkflowService.PreparedQueueItem item,
+            Exception failure
+    ) {
+    }
+
+    private record InFlight(AdvancedPrintWorkflowService.QueueRequestItem request, Printing printing) {
+    }
+
+    /**
+     * Folds per-item label progress into queue totals.
+     */
+    private static final class Progress {
+        private final int itemCount;
+        private final AdvancedPrintWorkflowService.QueueProgressListener listener;
+        private final List<int[]> itemCounts = new ArrayList<>();
+        private int itemsPrepared;
+        private int itemsFinished;
+
+        private Progress(int itemCount, AdvancedPrintWorkflowService.QueueProgressListener listener) {
+            this.itemCount = itemCount;
+            this.listener = listener;
+        }
+
+        private AdvancedPrintWorkflowService.PrintProgressListener forItem() {
+            int[] counts = new int[3];
+            synchronized (this) {
+                itemCounts.add(counts);
+            }
+            return (tasksDone, totalTasks, printers) -> {
+                int done;
+                int total;
+                int maxPrinters;
+                synchronized (this) {
+                    counts[0] = tasksDone;
+                    counts[1] = totalTasks;
+                    counts[2] = printers;
+                    done = 0;
+                    total = 0;
+                    maxPrinters = 0;
+                    for (int[] item : itemCounts) {
+                        done += item[0];
+                        total += item[1];
+                        maxPrinters = Math.max(maxPrinters, item[2]);
+                    }
+                }
+                listener.onProgress(done, total, maxPrinters);
+            };
+        }
+
+        private void itemPrepared() {
+            int prepared;
+            int finished;
+            synchronized (this) {
+                prepared = ++itemsPrepared;
+                finished = itemsFinished;
+            }
+            listener.onQueueProgress(prepared, finished, itemCount);
+        }
+
+        private void itemFinished() {
+            int prepared;
+            int finished;
+            synchronized (this) {
+                prepared = itemsPrepared;
+                finished = ++itemsFinished;
+            }
+            listener.onQueueProgress(prepared, finished, itemCount);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.tbg.wms.cli.gui;
 import javax.swing.*;
 import javax.swing.text.JTextComponent;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -27,7 +28,6 @@ final class QueueResumeDialogSupport {
 
     void openQueueDialog() {
         JDialog dialog = new JDialog(dependencies.ownerFrame(), "Queue Print", Dialog.ModalityType.APPLICATION_MODAL);
-        dialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
         dialog.setLayout(new BorderLayout(8, 8));
 
         JTextArea inputArea = new JTextArea(12, 72);
@@ -52,60 +52,133 @@ final class QueueResumeDialogSupport {
         JButton previewBtn = new JButton("Preview Queue");
         JButton printBtn = new JButton("Print Queue");
         JButton closeBtn = new JButton("Close");
+        JLabel status = new JLabel(" ");
         JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         buttons.add(previewBtn);
         buttons.add(printBtn);
         buttons.add(closeBtn);
+        JPanel bottom = new JPanel(new BorderLayout(4, 4));
+        bottom.add(status, BorderLayout.CENTER);
+        bottom.add(buttons, BorderLayout.EAST);
 
-        final AdvancedPrintWorkflowService.PreparedQueueJob[] prepared = new AdvancedPrintWorkflowService.PreparedQueueJob[1];
+        QueueDialogState state = new QueueDialogState();
 
         previewBtn.addActionListener(e -> {
             try {
-                List<AdvancedPrintWorkflowService.QueueRequestItem> requests = QueueInputParser.parse(
-                        inputArea.getText(),
-                        defaultType.getSelectedIndex() == 0
-                                ? AdvancedPrintWorkflowService.QueueItemType.CARRIER_MOVE
-                                : AdvancedPrintWorkflowService.QueueItemType.SHIPMENT,
-                        maxQueueItems);
-                prepared[0] = dependencies.workflow().prepareQueue(requests);
-                previewArea.setText(dependencies.previewFormatter().buildQueuePreview(prepared[0]));
+                List<AdvancedPrintWorkflowService.QueueRequestItem> requests =
+                        parseRequests(inputArea.getText(), defaultType.getSelectedIndex());
+                state.preview = dependencies.workflow().prepareQueue(requests);
+                state.previewKeys = requestKeys(requests);
+                previewArea.setText(dependencies.previewFormatter().buildQueuePreview(state.preview));
             } catch (Exception ex) {
                 dependencies.showError(dependencies.rootMessage(ex));
             }
         });
 
         printBtn.addActionListener(e -> {
-            if (prepared[0] == null) {
-                dependencies.showError("Preview queue first.");
+            List<AdvancedPrintWorkflowService.QueueRequestItem> requests;
+            try {
+                requests = parseRequests(inputArea.getText(), defaultType.getSelectedIndex());
+            } catch (Exception ex) {
+                dependencies.showError(dependencies.rootMessage(ex));
                 return;
             }
+            // A preview of the same input is printed as previewed; otherwise items load while printing.
+            AdvancedPrintWorkflowService.PreparedQueueJob previewed =
+                    requestKeys(requests).equals(state.previewKeys) ? state.preview : null;
             LabelWorkflowService.PrinterOption selected = dependencies.selectedPrinterOption();
             boolean printToFile = dependencies.isPrintToFileSelected(selected);
             String printerId = printToFile ? null : (selected == null ? null : selected.getId());
-            try {
-                AdvancedPrintWorkflowService.QueuePrintResult result =
-                        dependencies.workflow().printQueue(prepared[0], printerId, printToFile);
-                JOptionPane.showMessageDialog(dialog,
-                        "Queue complete.\nLabels: " + result.getTotalLabelsPrinted() +
-                                "\nInfo Tags: " + result.getTotalInfoTagsPrinted(),
-                        "Queue Complete",
-                        JOptionPane.INFORMATION_MESSAGE);
+            AdvancedPrintWorkflowService.QueueCancellation cancellation = new AdvancedPrintWorkflowService.QueueCancellation();
+            AdvancedPrintWorkflowService.QueueProgressListener listener = new QueueStatusListener(status, executionSupport);
+
+            state.running = cancellation;
+            previewBtn.setEnabled(false);
+            printBtn.setEnabled(false);
+            inputArea.setEditable(false);
+            closeBtn.setText("Cancel");
+            status.setText("Loading queue...");
+            SwingWorker<AdvancedPrintWorkflowService.QueuePrintResult, Void> worker = new SwingWorker<>() {
+                @Override
+                protected AdvancedPrintWorkflowService.QueuePrintResult doInBackground() throws Exception {
+                    if (previewed != null) {
+                        return dependencies.workflow().printQueue(previewed, printerId, printToFile, listener, cancellation);
+                    }
+                    return dependencies.workflow().printQueue(requests, printerId, printToFile, listener, cancellation);
+                }
+
+                @Override
+                protected void done() {
+                    state.running = null;
+                    previewBtn.setEnabled(true);
+                    printBtn.setEnabled(true);
+                    inputArea.setEditable(true);
+                    closeBtn.setText("Close");
+                    closeBtn.setEnabled(true);
+                    status.setText(" ");
+                    try {
+                        AdvancedPrintWorkflowService.QueuePrintResult result = get();
+                        boolean clean = !result.isCancelled() && result.getFailures().isEmpty();
+                        JOptionPane.showMessageDialog(dialog,
+                                executionSupport.buildQueueCompletionMessage(result),
+                                executionSupport.buildQueueCompletionTitle(result),
+                                clean ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+                        if (clean) {
+                            dialog.dispose();
+                        }
+                    } catch (Exception ex) {
+                        Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                        dependencies.showError(executionSupport.buildQueueFailureMessage(cause));
+                    }
+                }
+            };
+            worker.execute();
+        });
+
+        Runnable closeOrCancel = () -> {
+            AdvancedPrintWorkflowService.QueueCancellation cancellation = state.running;
+            if (cancellation == null) {
                 dialog.dispose();
-            } catch (Exception ex) {
-                dependencies.showError("Queue print failed: " + dependencies.rootMessage(ex));
+                return;
+            }
+            cancellation.cancel();
+            closeBtn.setEnabled(false);
+            status.setText("Cancelling; waiting for labels already sent...");
+        };
+        closeBtn.addActionListener(e -> closeOrCancel.run());
+        dialog.setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+        dialog.addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                closeOrCancel.run();
             }
         });
 
-        closeBtn.addActionListener(e -> dialog.dispose());
-
         dialog.add(top, BorderLayout.NORTH);
         dialog.add(new JScrollPane(previewArea), BorderLayout.CENTER);
-        dialog.add(buttons, BorderLayout.SOUTH);
+        dialog.add(bottom, BorderLayout.SOUTH);
         dialog.pack();
         dialog.setLocationRelativeTo(dependencies.ownerFrame());
         dialog.setVisible(true);
     }
 
+    private List<AdvancedPrintWorkflowService.QueueRequestItem> parseRequests(String text, int defaultTypeIndex) {
+        return QueueInputParser.parse(
+                text,
+                defaultTypeIndex == 0
+                        ? AdvancedPrintWorkflowService.QueueItemType.CARRIER_MOVE
+                        : AdvancedPrintWorkflowService.QueueItemType.SHIPMENT,
+                maxQueueItems);
+    }
+
+    private static List<String> requestKeys(List<AdvancedPrintWorkflowService.QueueRequestItem> requests) {
+        List<String> keys = new ArrayList<>(requests.size());
+        for (AdvancedPrintWorkflowService.QueueRequestItem request : requests) {
+            keys.add(request.getType() + ":" + request.getId());
+        }
+        return keys;
+    }
+
     void openResumeDialog() {
         try {
             List<AdvancedPrintWorkflowService.ResumeCandidate> candidates = dependencies.workflow().listIncompleteJobs();
@@ -192,6 +265,54 @@ final class QueueResumeDialogSupport {
         return new QueueResumeExecutionSupport().buildAutoResumePrompt(latest);
     }
 
+    /**
+     * Preview and running-print state of one open queue dialog; touched on the EDT only.
+     */
+    private static final class QueueDialogState {
+        private AdvancedPrintWorkflowService.PreparedQueueJob preview;
+        private List<String> previewKeys;
+        private AdvancedPrintWorkflowService.QueueCancellation running;
+    }
+
+    /**
+     * Shows queue progress in the dialog's status line. Progress arrives from the loader and
+     * printer threads; the latest counts are kept here and painted on the EDT.
+     */
+    private static final class QueueStatusListener implements AdvancedPrintWorkflowService.QueueProgressListener {
+        private final JLabel status;
+        private final QueueResumeExecutionSupport messages;
+        private int itemsPrepared;
+        private int itemsFinished;
+        private int itemCount;
+        private int labelsDone;
+        private int labelsTotal;
+
+        private QueueStatusListener(JLabel status, QueueResumeExecutionSupport messages) {
+            this.status = status;
+            this.messages = messages;
+        }
+
+        @Override
+        public synchronized void onProgress(int tasksDone, int totalTasks, int printers) {
+            labelsDone = tasksDone;
+            labelsTotal = totalTasks;
+            paint();
+        }
+
+        @Override
+        public synchronized void onQueueProgress(int itemsPrepared, int itemsFinished, int itemCount) {
+            this.itemsPrepared = itemsPrepared;
+            this.itemsFinished = itemsFinished;
+            this.itemCount = itemCount;
+            paint();
+        }
+
+        private void paint() {
+            String text = messages.buildQueueProgressStatus(itemsPrepared, itemsFinished, itemCount, labelsDone, labelsTotal);
+            SwingUtilities.invokeLater(() -> status.setText(text));
+        }
+    }
+
     interface Dependencies {
         JFrame ownerFrame();
 
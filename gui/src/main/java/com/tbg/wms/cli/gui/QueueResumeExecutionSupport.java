@@ -66,6 +66,40 @@ final class QueueResumeExecutionSupport {
         return "Resume failed: " + GuiExceptionMessageSupport.rootMessage(throwable);
     }
 
+    String buildQueueProgressStatus(int itemsPrepared, int itemsFinished, int itemCount, int labelsDone, int labelsTotal) {
+        return "Loaded " + itemsPrepared + " of " + itemCount + " | finished " + itemsFinished +
+                " | labels " + labelsDone + " of " + labelsTotal;
+    }
+
+    String buildQueueCompletionTitle(AdvancedPrintWorkflowService.QueuePrintResult result) {
+        Objects.requireNonNull(result, "result cannot be null");
+        if (result.isCancelled()) {
+            return "Queue Cancelled";
+        }
+        return result.getFailures().isEmpty() ? "Queue Complete" : "Queue Finished With Failures";
+    }
+
+    String buildQueueCompletionMessage(AdvancedPrintWorkflowService.QueuePrintResult result) {
+        Objects.requireNonNull(result, "result cannot be null");
+        StringBuilder message = new StringBuilder(result.isCancelled() ? "Queue cancelled." : "Queue complete.")
+                .append("\nItems printed: ").append(result.getItemResults().size())
+                .append("\nLabels: ").append(result.getTotalLabelsPrinted())
+                .append("\nInfo Tags: ").append(result.getTotalInfoTagsPrinted());
+        if (!result.getFailures().isEmpty()) {
+            message.append("\n\nFailed items:");
+            for (AdvancedPrintWorkflowService.QueueItemFailure failure : result.getFailures()) {
+                message.append("\n").append(failure.getType()).append(' ').append(failure.getSourceId())
+                        .append(": ").append(failure.getMessage());
+            }
+        }
+        return message.toString();
+    }
+
+    String buildQueueFailureMessage(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable cannot be null");
+        return "Queue print failed: " + GuiExceptionMessageSupport.rootMessage(throwable);
+    }
+
     boolean shouldResumeNow(int choice) {
         return choice == javax.swing.JOptionPane.YES_OPTION;
     }
@@ -34,12 +34,20 @@ final class QueueWorkflowSupport {
     }
 
     AdvancedPrintWorkflowService.QueuePrintResult summarizeResults(List<AdvancedPrintWorkflowService.PrintResult> results) {
+        return summarizeResults(results, List.of(), false);
+    }
+
+    AdvancedPrintWorkflowService.QueuePrintResult summarizeResults(
+            List<AdvancedPrintWorkflowService.PrintResult> results,
+            List<AdvancedPrintWorkflowService.QueueItemFailure> failures,
+            boolean cancelled
+    ) {
         int labels = 0;
         int infoTags = 0;
         for (AdvancedPrintWorkflowService.PrintResult result : results) {
             labels += result.getLabelsPrinted();
             infoTags += result.getInfoTagsPrinted();
         }
-        return new AdvancedPrintWorkflowService.QueuePrintResult(results, labels, infoTags);
+        return new AdvancedPrintWorkflowService.QueuePrintResult(results, labels, infoTags, failures, cancelled);
     }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes linear barcode field data into bar/space widths for local ZPL preview.
+ *
+ * <p>Widths alternate bar, space, bar, ... starting with a bar and are expressed in printer dots,
+ * so the rasterizer can draw them directly. Code 128 honors the Zebra {@code ^BC} invocation codes
+ * ({@code >9 >: >;} start subsets, {@code >5 >6 >7} switch subsets, {@code >8} FNC1, {@code ><}
+ * literal {@code >}); Code 39 follows {@code ^B3} with an optional Mod 43 check character.</p>
+ */
+final class ZplBarcodeSupport {
+
+    private static final String[] CODE128_PATTERNS = {
+            "212222", "222122", "222221", "121223", "121322", "131222", "122213", "122312", "132212", "221213",
+            "221312", "231212", "112232", "122132", "122231", "113222", "123122", "123221", "223211", "221132",
+            "221231", "213212", "223112", "312131", "311222", "321122", "321221", "312212", "322112", "322211",
+            "212123", "212321", "232121", "111323", "131123", "131321", "112313", "132113", "132311", "211313",
+            "231113", "231311", "112133", "112331", "132131", "113123", "113321", "133121", "313121", "211331",
+            "231131", "213113", "213311", "213131", "311123", "311321", "331121", "312113", "312311", "332111",
+            "314111", "221411", "431111", "111224", "111422", "121124", "121421", "141122", "141221", "112214",
+            "112412", "122114", "122411", "142112", "142211", "241211", "221114", "413111", "241112", "134111",
+            "111242", "121142", "121241", "114212", "124112", "124211", "411212", "421112", "421211", "212141",
+            "214121", "412121", "111143", "111341", "131141", "114113", "114311", "411113", "411311", "113141",
+            "114131", "311141", "411131", "211412", "211214", "211232", "2331112"
+    };
+    private static final int CODE_C = 99;
+    private static final int CODE_B = 100;
+    private static final int CODE_A = 101;
+    private static final int FNC1 = 102;
+    private static final int START_A = 103;
+    private static final int START_B = 104;
+    private static final int START_C = 105;
+    private static final int STOP = 106;
+    private static final int TOKEN_FNC1 = -1;
+
+    private static final String CODE39_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ-. $/+%";
+    private static final String[] CODE39_PATTERNS = {
+            "nnnwwnwnn", "wnnwnnnnw", "nnwwnnnnw", "wnwwnnnnn", "nnnwwnnnw", "wnnwwnnnn", "nnwwwnnnn", "nnnwnnwnw",
+            "wnnwnnwnn", "nnwwnnwnn", "wnnnnwnnw", "nnwnnwnnw", "wnwnnwnnn", "nnnnwwnnw", "wnnnwwnnn", "nnwnwwnnn",
+            "nnnnnwwnw", "wnnnnwwnn", "nnwnnwwnn", "nnnnwwwnn", "wnnnnnnww", "nnwnnnnww", "wnwnnnnwn", "nnnnwnnww",
+            "wnnnwnnwn", "nnwnwnnwn", "nnnnnnwww", "wnnnnnwwn", "nnwnnnwwn", "nnnnwnwwn", "wwnnnnnnw", "nwwnnnnnw",
+            "wwwnnnnnn", "nwnnwnnnw", "wwnnwnnnn", "nwwnwnnnn", "nwnnnnwnw", "wwnnnnwnn", "nwwnnnwnn", "nwnwnwnnn",
+            "nwnwnnnwn", "nwnnnwnwn", "nnnwnwnwn"
+    };
+    private static final String CODE39_START_STOP = "nwnnwnwnn";
+
+    private ZplBarcodeSupport() {
+    }
+
+    /**
+     * Encodes {@code ^BC} field data.
+     *
+     * @param data        field data, possibly containing invocation codes
+     * @param mode        {@code ^BC} mode: {@code N} starts in subset B unless an invocation code says
+     *                    otherwise; {@code A} and {@code D} pick subsets automatically ({@code D} adds
+     *                    a leading FNC1)
+     * @param moduleWidth narrow bar width in dots
+     * @return bar/space widths in dots
+     */
+    static int[] code128(String data, char mode, int moduleWidth) {
+        List<Integer> tokens = new ArrayList<>();
+        int explicitStart = -1;
+        List<Integer> explicitSwitches = new ArrayList<>();
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c == '>' && i + 1 < data.length()) {
+                char code = data.charAt(i + 1);
+                int subset = switch (code) {
+                    case '9' -> START_A;
+                    case ':' -> START_B;
+                    case ';' -> START_C;
+                    case '7' -> CODE_A;
+                    case '6' -> CODE_B;
+                    case '5' -> CODE_C;
+                    default -> 0;
+                };
+                if (subset >= START_A && tokens.isEmpty() && explicitStart < 0) {
+                    explicitStart = subset;
+                    i++;
+                    continue;
+                }
+                if (subset != 0 && subset < START_A) {
+                    explicitSwitches.add(tokens.size());
+                    tokens.add(-subset);
+                    i++;
+                    continue;
+                }
+                if (code == '8') {
+                    tokens.add(TOKEN_FNC1);
+                    i++;
+                    continue;
+                }
+                if (code == '<') {
+                    tokens.add((int) '>');
+                    i++;
+                    continue;
+                }
+            }
+            tokens.add((int) c);
+        }
+        if (mode == 'D' && (tokens.isEmpty() || tokens.get(0) != TOKEN_FNC1)) {
+            tokens.add(0, TOKEN_FNC1);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        int set;
+        boolean automatic = explicitStart < 0 && explicitSwitches.isEmpty() && (mode == 'A' || mode == 'D');
+        if (explicitStart >= 0) {
+            set = explicitStart;
+        } else if (automatic) {
+            set = digitRun(tokens, 0) >= 4 || (digitRun(tokens, 0) >= 2 && digitRun(tokens, 0) == countDigits(tokens))
+                    ? START_C : START_B;
+        } else {
+            set = START_B;
+        }
+        values.add(set);
+        int current = set == START_A ? CODE_A : set == START_B ? CODE_B : CODE_C;
+
+        for (int i = 0; i < tokens.size(); ) {
+            int token = tokens.get(i);
+            if (token < TOKEN_FNC1) {
+                int target = -token;
+                if (target != current) {
+                    values.add(target);
+                    current = target;
+                }
+                i++;
+                continue;
+            }
+            if (token == TOKEN_FNC1) {
+                values.add(FNC1);
+                i++;
+                continue;
+            }
+            if (automatic && current != CODE_C) {
+                int run = digitRun(tokens, i);
+                boolean atEnd = i + run == tokens.size();
+                if (run >= 6 || (run >= 4 && atEnd)) {
+                    if (run % 2 == 1) {
+                        values.add(valueIn(current, token));
+                        i++;
+                    }
+                    values.add(CODE_C);
+                    current = CODE_C;
+                    continue;
+                }
+            }
+            if (current == CODE_C) {
+                if (i + 1 < tokens.size() && isDigit(token) && isDigit(tokens.get(i + 1))) {
+                    values.add((token - '0') * 10 + (tokens.get(i + 1) - '0'));
+                    i += 2;
+                    continue;
+                }
+                current = token < 32 ? CODE_A : CODE_B;
+                values.add(current);
+            }
+            if (current == CODE_B && token < 32) {
+                values.add(CODE_A);
+                current = CODE_A;
+            } else if (current == CODE_A && token >= 96) {
+                values.add(CODE_B);
+                current = CODE_B;
+            }
+            values.add(valueIn(current, token));
+            i++;
+        }
+
+        int checksum = values.get(0);
+        for (int i = 1; i < values.size(); i++) {
+            checksum += i * values.get(i);
+        }
+        values.add(checksum % 103);
+        values.add(STOP);
+
+        List<Integer> widths = new ArrayList<>(values.size() * 6 + 1);
+        for (int value : values) {
+            for (char element : CODE128_PATTERNS[value].toCharArray()) {
+                widths.add((element - '0') * moduleWidth);
+            }
+        }
+        return toArray(widths);
+    }
+
+    /**
+     * Returns the human-readable text for {@code ^BC} data with invocation codes removed.
+     */
+    static String code128Text(String data) {
+        StringBuilder text = new StringBuilder(data.length());
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c == '>' && i + 1 < data.length()) {
+                char code = data.charAt(i + 1);
+                if (code == '<') {
+                    text.append('>');
+                    i++;
+                    continue;
+                }
+                if ("56789:;".indexOf(code) >= 0) {
+                    i++;
+                    continue;
+                }
+            }
+            text.append(c);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Encodes {@code ^B3} field data, wrapped in start/stop characters.
+     *
+     * @param data        field data; lowercase letters are folded to uppercase
+     * @param checkDigit  whether to append the Mod 43 check character
+     * @param moduleWidth narrow element width in dots
+     * @param ratio       wide-to-narrow ratio from {@code ^BY}
+     * @return bar/space widths in dots
+     * @throws IllegalArgumentException if the data contains characters outside Code 39
+     */
+    static int[] code39(String data, boolean checkDigit, int moduleWidth, double ratio) {
+        String normalized = code39Data(data, checkDigit);
+        int wide = Math.max(moduleWidth + 1, (int) Math.round(moduleWidth * ratio));
+        List<Integer> widths = new ArrayList<>();
+        appendCode39(widths, CODE39_START_STOP, moduleWidth, wide);
+        for (char c : normalized.toCharArray()) {
+            widths.add(moduleWidth);
+            appendCode39(widths, CODE39_PATTERNS[CODE39_ALPHABET.indexOf(c)], moduleWidth, wide);
+        }
+        widths.add(moduleWidth);
+        appendCode39(widths, CODE39_START_STOP, moduleWidth, wide);
+        return toArray(widths);
+    }
+
+    /**
+     * Returns the Code 39 payload (uppercase, plus check character when requested) without start/stop.
+     */
+    static String code39Data(String data, boolean checkDigit) {
+        String normalized = data.toUpperCase(java.util.Locale.ROOT);
+        int sum = 0;
+        for (char c : normalized.toCharArray()) {
+            int index = CODE39_ALPHABET.indexOf(c);
+            if (index < 0) {
+                throw new IllegalArgumentException("Character '" + c + "' is not valid in Code 39.");
+            }
+            sum += index;
+        }
+        return checkDigit ? normalized + CODE39_ALPHABET.charAt(sum % 43) : normalized;
+    }
+
+    private static void appendCode39(List<Integer> widths, String pattern, int narrow, int wide) {
+        for (char element : pattern.toCharArray()) {
+            widths.add(element == 'w' ? wide : narrow);
+        }
+    }
+
+    private static int valueIn(int subset, int token) {
+        if (subset == CODE_A) {
+            return token < 32 ? token + 64 : token - 32;
+        }
+        if (token < 32 || token > 127) {
+            throw new IllegalArgumentException("Character code " + token + " is not valid in Code 128.");
+        }
+        return token - 32;
+    }
+
+    private static int digitRun(List<Integer> tokens, int from) {
+        int run = 0;
+        while (from + run < tokens.size() && isDigit(tokens.get(from + run))) {
+            run++;
+        }
+        return run;
+    }
+
+    private static int countDigits(List<Integer> tokens) {
+        int digits = 0;
+        for (int token : tokens) {
+            if (isDigit(token)) {
+                digits++;
+            }
+        }
+        return digits == tokens.size() ? digits : -1;
+    }
+
+    private static boolean isDigit(int token) {
+        return token >= '0' && token <= '9';
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
@@ -19,38 +19,84 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Locale;
+import java.util.Set;
 
 /**
- * Renders ZPL through a remote preview service.
+ * Renders ZPL label previews.
  *
- * <p>Default implementation targets the Labelary API because it renders full ZPL features
- * such as orientation, lines, graphics, and margins to a real image preview.</p>
+ * <p>Previews are rasterized locally by {@link ZplRasterizer}, so the preview tool works offline and
+ * label data never leaves the workstation. Remote rendering through the Labelary API is an opt-in
+ * fallback (system property {@value #REMOTE_FALLBACK_PROPERTY}) used only when the local renderer
+ * reports commands it cannot draw; if the remote call fails, the local image is returned.</p>
  */
 final class ZplPreviewRenderService {
 
+    static final String REMOTE_FALLBACK_PROPERTY = "wms.tags.zplPreviewRemoteFallback";
+    private static final String BASE_URL_PROPERTY = "wms.tags.zplPreviewBaseUrl";
+    private static final String DEFAULT_BASE_URL = "https://api.labelary.com";
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
-    private final HttpClient httpClient;
+    private static final long LOCAL_RENDER_INTERVAL_MS = 100L;
+    private static final long REMOTE_RENDER_INTERVAL_MS = 1000L;
+
+    private final ZplRasterizer rasterizer = new ZplRasterizer();
     private final String baseUrl;
+    private final boolean remoteFallback;
+    private HttpClient httpClient;
 
     ZplPreviewRenderService() {
-        this(HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build(),
-                System.getProperty("wms.tags.zplPreviewBaseUrl", "https://api.labelary.com"));
+        this(null, System.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL), Boolean.getBoolean(REMOTE_FALLBACK_PROPERTY));
     }
 
     ZplPreviewRenderService(HttpClient httpClient, String baseUrl) {
+        this(httpClient, baseUrl, false);
+    }
+
+    ZplPreviewRenderService(HttpClient httpClient, String baseUrl, boolean remoteFallback) {
         this.httpClient = httpClient;
         this.baseUrl = baseUrl;
+        this.remoteFallback = remoteFallback;
     }
 
     BufferedImage render(String zpl, int dpmm, double widthInches, double heightInches, int labelIndex)
             throws IOException, InterruptedException {
+        return renderPreview(zpl, dpmm, widthInches, heightInches, labelIndex).image();
+    }
+
+    /**
+     * Renders one label, falling back to the remote renderer only when enabled and needed.
+     *
+     * @return preview image, whether it came from the remote renderer, and locally ignored commands
+     */
+    Preview renderPreview(String zpl, int dpmm, double widthInches, double heightInches, int labelIndex)
+            throws IOException, InterruptedException {
         validate(zpl, dpmm, widthInches, heightInches, labelIndex);
+        ZplRasterizer.Result local = rasterizer.render(zpl, dpmm, widthInches, heightInches, labelIndex);
+        if (!remoteFallback || local.ignoredCommands().isEmpty()) {
+            return new Preview(local.image(), false, local.ignoredCommands());
+        }
+        try {
+            return new Preview(renderRemote(zpl, dpmm, widthInches, heightInches, labelIndex), true,
+                    local.ignoredCommands());
+        } catch (IOException e) {
+            return new Preview(local.image(), false, local.ignoredCommands());
+        }
+    }
+
+    /**
+     * Minimum spacing between live renders: local rendering is cheap, the remote API is rate limited.
+     */
+    long minRenderIntervalMs() {
+        return remoteFallback ? REMOTE_RENDER_INTERVAL_MS : LOCAL_RENDER_INTERVAL_MS;
+    }
+
+    private BufferedImage renderRemote(String zpl, int dpmm, double widthInches, double heightInches, int labelIndex)
+            throws IOException, InterruptedException {
         HttpRequest request = HttpRequest.newBuilder(buildRenderUri(dpmm, widthInches, heightInches, labelIndex))
                 .timeout(REQUEST_TIMEOUT)
                 .header("Accept", "image/png")
                 .POST(HttpRequest.BodyPublishers.ofString(zpl, StandardCharsets.UTF_8))
                 .build();
-        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> response = httpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
         if (response.statusCode() != 200) {
             String message = new String(response.body(), StandardCharsets.UTF_8);
             throw new IOException("Preview render failed (" + response.statusCode() + "): " + message);
@@ -62,6 +108,13 @@ final class ZplPreviewRenderService {
         return image;
     }
 
+    private synchronized HttpClient httpClient() {
+        if (httpClient == null) {
+            httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        }
+        return httpClient;
+    }
+
     URI buildRenderUri(int dpmm, double widthInches, double heightInches, int labelIndex) {
         validateDimensions(dpmm, widthInches, heightInches, labelIndex);
         String width = normalizeDecimal(widthInches);
@@ -106,4 +159,14 @@ final class ZplPreviewRenderService {
     private static String trimTrailingSlash(String value) {
         return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
     }
+
+    /**
+     * Rendered preview.
+     *
+     * @param image           label image
+     * @param remote          whether the image came from the remote renderer
+     * @param ignoredCommands commands the local renderer could not draw
+     */
+    record Preview(BufferedImage image, boolean remote, Set<String> ignoredCommands) {
+    }
 }
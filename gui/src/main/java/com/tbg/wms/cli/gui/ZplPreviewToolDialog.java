@@ -23,13 +23,13 @@ import java.util.Objects;
 /**
  * Live ZPL preview tool using a real rendered image.
  *
- * <p>The dialog intentionally separates live-edit debounce/throttle behavior from remote render
- * transport so the preview remains operator-friendly without overrunning the external render API.</p>
+ * <p>The dialog intentionally separates live-edit debounce/throttle behavior from render transport.
+ * Previews render locally, so the throttle is short; when the opt-in remote fallback is enabled the
+ * service asks for a longer interval so the preview does not overrun the external render API.</p>
  */
 final class ZplPreviewToolDialog extends JDialog {
     private static final long serialVersionUID = 1L;
     private static final int LIVE_RENDER_DEBOUNCE_MS = 350;
-    private static final int MIN_RENDER_INTERVAL_MS = 1000;
 
     private final JTextArea zplTextArea = new JTextArea(28, 56);
     private final JLabel previewLabel = new JLabel("Paste ZPL or open a .zpl file to preview.", SwingConstants.CENTER);
@@ -47,7 +47,7 @@ final class ZplPreviewToolDialog extends JDialog {
     private final Timer throttleTimer;
     private final transient ZplPreviewRenderService renderService = new ZplPreviewRenderService();
     private final transient List<GuiZplPreviewSupport.PreviewDocument> documents = new ArrayList<>();
-    private transient SwingWorker<BufferedImage, Void> currentWorker;
+    private transient SwingWorker<ZplPreviewRenderService.Preview, Void> currentWorker;
     private int renderGeneration;
     private long lastRenderStartedAtMs;
     private boolean pendingLiveRender;
@@ -91,7 +91,7 @@ final class ZplPreviewToolDialog extends JDialog {
 
         JPanel footer = new JPanel(new BorderLayout());
         footer.add(statusLabel, BorderLayout.CENTER);
-        footer.add(new JLabel("Rendered via Labelary preview API. Network access required."), BorderLayout.EAST);
+        footer.add(new JLabel("Rendered locally. Fonts approximate Zebra font 0."), BorderLayout.EAST);
 
         add(topBar, BorderLayout.NORTH);
         add(splitPane, BorderLayout.CENTER);
@@ -99,7 +99,7 @@ final class ZplPreviewToolDialog extends JDialog {
 
         debounceTimer = new Timer(LIVE_RENDER_DEBOUNCE_MS, e -> scheduleRender(false));
         debounceTimer.setRepeats(false);
-        throttleTimer = new Timer(MIN_RENDER_INTERVAL_MS, null);
+        throttleTimer = new Timer((int) renderService.minRenderIntervalMs(), null);
         throttleTimer.setRepeats(false);
         throttleTimer.addActionListener(e -> {
             throttleTimer.stop();
@@ -229,14 +229,14 @@ final class ZplPreviewToolDialog extends JDialog {
 
         long now = System.currentTimeMillis();
         long elapsed = now - lastRenderStartedAtMs;
-        if (elapsed >= MIN_RENDER_INTERVAL_MS && (currentWorker == null || currentWorker.isDone())) {
+        if (elapsed >= renderService.minRenderIntervalMs() && (currentWorker == null || currentWorker.isDone())) {
             pendingLiveRender = false;
             renderNow();
             return;
         }
 
         pendingLiveRender = true;
-        int delay = (int) Math.max(1L, MIN_RENDER_INTERVAL_MS - Math.max(0L, elapsed));
+        int delay = (int) Math.max(1L, renderService.minRenderIntervalMs() - Math.max(0L, elapsed));
         throttleTimer.setInitialDelay(delay);
         throttleTimer.restart();
         statusLabel.setText("Preview changed. Render queued...");
@@ -365,8 +365,8 @@ final class ZplPreviewToolDialog extends JDialog {
 
         currentWorker = new SwingWorker<>() {
             @Override
-            protected BufferedImage doInBackground() throws Exception {
-                return renderService.render(zpl, dpmm, width, height, index);
+            protected ZplPreviewRenderService.Preview doInBackground() throws Exception {
+                return renderService.renderPreview(zpl, dpmm, width, height, index);
             }
 
             @Override
@@ -375,10 +375,11 @@ final class ZplPreviewToolDialog extends JDialog {
                     return;
                 }
                 try {
-                    BufferedImage image = get();
+                    ZplPreviewRenderService.Preview preview = get();
+                    BufferedImage image = preview.image();
                     previewLabel.setText("");
                     previewLabel.setIcon(new ImageIcon(image));
-                    statusLabel.setText(String.format("Rendered %dx%d preview at %ddpmm", image.getWidth(), image.getHeight(), dpmm));
+                    statusLabel.setText(statusText(preview, dpmm));
                     if (pendingLiveRender) {
                         scheduleRender(false);
                     }
@@ -394,4 +395,14 @@ final class ZplPreviewToolDialog extends JDialog {
         };
         currentWorker.execute();
     }
+
+    private static String statusText(ZplPreviewRenderService.Preview preview, int dpmm) {
+        BufferedImage image = preview.image();
+        String status = String.format("Rendered %dx%d preview at %ddpmm%s", image.getWidth(), image.getHeight(), dpmm,
+                preview.remote() ? " via Labelary" : "");
+        if (!preview.remote() && !preview.ignoredCommands().isEmpty()) {
+            status += " (not drawn: " + String.join(" ", preview.ignoredCommands()) + ")";
+        }
+        return status;
+    }
 }
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes {@code ^BQ} (QR Code model 2) field data into a module matrix for local ZPL preview.
+ *
+ * <p>Data is encoded as a single numeric, alphanumeric, or byte segment, whichever is the most
+ * compact mode that can hold every character, in the smallest version that fits at the requested
+ * error-correction level. The mask is chosen with the standard penalty rules, so output matches what
+ * a scanner expects even if the module layout differs from a printer that picks masks differently.</p>
+ */
+final class ZplQrCodeSupport {
+
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./:";
+    private static final String ECC_LEVELS = "LMQH";
+    private static final int[] ECC_FORMAT_BITS = {1, 0, 3, 2};
+
+    private static final int[][] ECC_CODEWORDS_PER_BLOCK = {
+            {-1, 7, 10, 15, 20, 26, 18, 20, 24, 30, 18, 20, 24, 26, 30, 22, 24, 28, 30, 28, 28,
+                    28, 28, 30, 30, 26, 28, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30},
+            {-1, 10, 16, 26, 18, 24, 16, 18, 22, 22, 26, 30, 22, 22, 24, 24, 28, 28, 26, 26, 26,
+                    26, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28},
+            {-1, 13, 22, 18, 26, 18, 24, 18, 22, 20, 24, 28, 26, 24, 20, 30, 24, 28, 28, 26, 30,
+                    28, 30, 30, 30, 30, 28, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30},
+            {-1, 17, 28, 22, 16, 22, 28, 26, 26, 24, 28, 24, 28, 22, 24, 24, 30, 28, 28, 26, 28,
+                    30, 24, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30}
+    };
+    private static final int[][] NUM_ERROR_CORRECTION_BLOCKS = {
+            {-1, 1, 1, 1, 1, 1, 2, 2, 2, 2, 4, 4, 4, 4, 4, 6, 6, 6, 6, 7, 8,
+                    8, 9, 9, 10, 12, 12, 12, 13, 14, 15, 16, 17, 18, 19, 19, 20, 21, 22, 24, 25},
+            {-1, 1, 1, 1, 2, 2, 4, 4, 4, 5, 5, 5, 8, 9, 9, 10, 10, 11, 13, 14, 16,
+                    17, 17, 18, 20, 21, 23, 25, 26, 28, 29, 31, 33, 35, 37, 38, 40, 43, 45, 47, 49},
+            {-1, 1, 1, 2, 2, 4, 4, 6, 6, 8, 8, 8, 10, 12, 16, 12, 17, 16, 18, 21, 20,
+                    23, 23, 25, 27, 29, 34, 34, 35, 38, 40, 43, 45, 48, 51, 53, 56, 59, 62, 65, 68},
+            {-1, 1, 1, 2, 4, 4, 4, 5, 6, 8, 8, 11, 11, 16, 16, 18, 16, 19, 21, 25, 25,
+                    25, 34, 30, 32, 35, 37, 40, 42, 45, 48, 51, 54, 57, 60, 63, 66, 70, 74, 77, 81}
+    };
+
+    private final int version;
+    private final int size;
+    private final int ecc;
+    private final boolean[][] modules;
+    private final boolean[][] isFunction;
+
+    private ZplQrCodeSupport(int version, int ecc) {
+        this.version = version;
+        this.size = version * 4 + 17;
+        this.ecc = ecc;
+        this.modules = new boolean[size][size];
+        this.isFunction = new boolean[size][size];
+    }
+
+    /**
+     * Encodes text as a QR Code.
+     *
+     * @param text     data to encode
+     * @param eccLevel error-correction level letter ({@code L}, {@code M}, {@code Q}, {@code H})
+     * @return module matrix indexed {@code [y][x]}; {@code true} is dark, quiet zone excluded
+     * @throws IllegalArgumentException if the level is unknown or the data does not fit version 40
+     */
+    static boolean[][] encode(String text, char eccLevel) {
+        int ecc = ECC_LEVELS.indexOf(Character.toUpperCase(eccLevel));
+        if (ecc < 0) {
+            throw new IllegalArgumentException("Unknown QR error-correction level: " + eccLevel);
+        }
+        Segment segment = Segment.of(text);
+        for (int version = 1; version <= 40; version++) {
+            int capacityBits = numDataCodewords(version, ecc) * 8;
+            int usedBits = 4 + segment.countBits(version) + segment.bitLength;
+            if (segment.charCount < (1 << segment.countBits(version)) && usedBits <= capacityBits) {
+                ZplQrCodeSupport symbol = new ZplQrCodeSupport(version, ecc);
+                symbol.build(segment.codewords(version, capacityBits));
+                return symbol.modules;
+            }
+        }
+        throw new IllegalArgumentException("QR data is too long (" + text.length() + " characters).");
+    }
+
+    private void build(byte[] dataCodewords) {
+        drawFunctionPatterns();
+        drawCodewords(addEccAndInterleave(dataCodewords));
+        int bestMask = 0;
+        int minPenalty = Integer.MAX_VALUE;
+        for (int mask = 0; mask < 8; mask++) {
+            applyMask(mask);
+            drawFormatBits(mask);
+            int penalty = penaltyScore();
+            if (penalty < minPenalty) {
+                bestMask = mask;
+                minPenalty = penalty;
+            }
+            applyMask(mask);
+        }
+        applyMask(bestMask);
+        drawFormatBits(bestMask);
+    }
+
+    private void drawFunctionPatterns() {
+        for (int i = 0; i < size; i++) {
+            setFunction(6, i, i % 2 == 0);
+            setFunction(i, 6, i % 2 == 0);
+        }
+        drawFinderPattern(3, 3);
+        drawFinderPattern(size - 4, 3);
+        drawFinderPattern(3, size - 4);
+        int[] alignment = alignmentPositions();
+        int count = alignment.length;
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < count; j++) {
+                boolean finderCorner = (i == 0 && j == 0) || (i == 0 && j == count - 1) || (i == count - 1 && j == 0);
+                if (!finderCorner) {
+                    drawAlignmentPattern(alignment[i], alignment[j]);
+                }
+            }
+        }
+        drawFormatBits(0);
+        drawVersion();
+    }
+
+    private void drawFinderPattern(int x, int y) {
+        for (int dy = -4; dy <= 4; dy++) {
+            for (int dx = -4; dx <= 4; dx++) {
+                int distance = Math.max(Math.abs(dx), Math.abs(dy));
+                int xx = x + dx;
+                int yy = y + dy;
+                if (xx >= 0 && xx < size && yy >= 0 && yy < size) {
+                    setFunction(xx, yy, distance != 2 && distance != 4);
+                }
+            }
+        }
+    }
+
+    private void drawAlignmentPattern(int x, int y) {
+        for (int dy = -2; dy <= 2; dy++) {
+            for (int dx = -2; dx <= 2; dx++) {
+                setFunction(x + dx, y + dy, Math.max(Math.abs(dx), Math.abs(dy)) != 1);
+            }
+        }
+    }
+
+    private void drawFormatBits(int mask) {
+        int data = ECC_FORMAT_BITS[ecc] << 3 | mask;
+        int remainder = data;
+        for (int i = 0; i < 10; i++) {
+            remainder = (remainder << 1) ^ ((remainder >>> 9) * 0x537);
+        }
+        int bits = (data << 10 | remainder) ^ 0x5412;
+        for (int i = 0; i <= 5; i++) {
+            setFunction(8, i, bit(bits, i));
+        }
+        setFunction(8, 7, bit(bits, 6));
+        setFunction(8, 8, bit(bits, 7));
+        setFunction(7, 8, bit(bits, 8));
+        for (int i = 9; i < 15; i++) {
+            setFunction(14 - i, 8, bit(bits, i));
+        }
+        for (int i = 0; i < 8; i++) {
+            setFunction(size - 1 - i, 8, bit(bits, i));
+        }
+        for (int i = 8; i < 15; i++) {
+            setFunction(8, size - 15 + i, bit(bits, i));
+        }
+        setFunction(8, size - 8, true);
+    }
+
+    private void drawVersion() {
+        if (version < 7) {
+            return;
+        }
+        int remainder = version;
+        for (int i = 0; i < 12; i++) {
+            remainder = (remainder << 1) ^ ((remainder >>> 11) * 0x1F25);
+        }
+        int bits = version << 12 | remainder;
+        for (int i = 0; i < 18; i++) {
+            boolean dark = bit(bits, i);
+            int a = size - 11 + i % 3;
+            int b = i / 3;
+            setFunction(a, b, dark);
+            setFunction(b, a, dark);
+        }
+    }
+
+    private void drawCodewords(byte[] codewords) {
+        int bitIndex = 0;
+        for (int right = size - 1; right >= 1; right -= 2) {
+            if (right == 6) {
+                right = 5;
+            }
+            for (int vertical = 0; vertical < size; vertical++) {
+                for (int j = 0; j < 2; j++) {
+                    int x = right - j;
+                    boolean upward = ((right + 1) & 2) == 0;
+                    int y = upward ? size - 1 - vertical : vertical;
+                    if (!isFunction[y][x] && bitIndex < codewords.length * 8) {
+                        modules[y][x] = bit(codewords[bitIndex >>> 3], 7 - (bitIndex & 7));
+                        bitIndex++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void applyMask(int mask) {
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean invert = switch (mask) {
+                    case 0 -> (x + y) % 2 == 0;
+                    case 1 -> y % 2 == 0;
+                    case 2 -> x % 3 == 0;
+                    case 3 -> (x + y) % 3 == 0;
+                    case 4 -> (x / 3 + y / 2) % 2 == 0;
+                    case 5 -> x * y % 2 + x * y % 3 == 0;
+                    case 6 -> (x * y % 2 + x * y % 3) % 2 == 0;
+                    default -> ((x + y) % 2 + x * y % 3) % 2 == 0;
+                };
+                modules[y][x] ^= invert && !isFunction[y][x];
+            }
+        }
+    }
+
+    private int penaltyScore() {
+        int penalty = 0;
+        int dark = 0;
+        for (int a = 0; a < size; a++) {
+            penalty += linePenalty(a, true) + linePenalty(a, false);
+        }
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (modules[y][x]) {
+                    dark++;
+                }
+                if (x < size - 1 && y < size - 1) {
+                    boolean color = modules[y][x];
+                    if (color == modules[y][x + 1] && color == modules[y + 1][x] && color == modules[y + 1][x + 1]) {
+                        penalty += 3;
+                    }
+                }
+            }
+        }
+        int total = size * size;
+        int k = (Math.abs(dark * 20 - total * 10) + total - 1) / total - 1;
+        return penalty + k * 10;
+    }
+
+    private int linePenalty(int index, boolean row) {
+        int penalty = 0;
+        int run = 0;
+        boolean previous = false;
+        StringBuilder line = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            boolean color = row ? modules[index][i] : modules[i][index];
+            line.append(color ? '1' : '0');
+            if (i > 0 && color == previous) {
+                run++;
+            } else {
+                if (run >= 5) {
+                    penalty += run - 2;
+                }
+                run = 1;
+            }
+            previous = color;
+        }
+        if (run >= 5) {
+            penalty += run - 2;
+        }
+        String text = line.toString();
+        for (String pattern : new String[]{"10111010000", "00001011101"}) {
+            for (int at = text.indexOf(pattern); at >= 0; at = text.indexOf(pattern, at + 1)) {
+                penalty += 40;
+            }
+        }
+        return penalty;
+    }
+
+    private byte[] addEccAndInterleave(byte[] data) {
+        int numBlocks = NUM_ERROR_CORRECTION_BLOCKS[ecc][version];
+        int blockEccLength = ECC_CODEWORDS_PER_BLOCK[ecc][version];
+        int rawCodewords = numRawDataModules(version) / 8;
+        int numShortBlocks = numBlocks - rawCodewords % numBlocks;
+        int shortBlockLength = rawCodewords / numBlocks;
+
+        byte[][] blocks = new byte[numBlocks][];
+        byte[] divisor = reedSolomonDivisor(blockEccLength);
+        for (int i = 0, k = 0; i < numBlocks; i++) {
+            int dataLength = shortBlockLength - blockEccLength + (i < numShortBlocks ? 0 : 1);
+            byte[] block = new byte[shortBlockLength + 1];
+            System.arraycopy(data, k, block, 0, dataLength);
+            k += dataLength;
+            byte[] eccBytes = reedSolomonRemainder(data, k - dataLength, dataLength, divisor);
+            System.arraycopy(eccBytes, 0, block, block.length - blockEccLength, blockEccLength);
+            blocks[i] = block;
+        }
+
+        byte[] result = new byte[rawCodewords];
+        int position = 0;
+        for (int i = 0; i < shortBlockLength + 1; i++) {
+            for (int j = 0; j < numBlocks; j++) {
+                if (i != shortBlockLength - blockEccLength || j >= numShortBlocks) {
+                    result[position++] = blocks[j][i];
+                }
+            }
+        }
+        return result;
+    }
+
+    private static byte[] reedSolomonDivisor(int degree) {
+        byte[] result = new byte[degree];
+        result[degree - 1] = 1;
+        int root = 1;
+        for (int i = 0; i < degree; i++) {
+            for (int j = 0; j < result.length; j++) {
+                result[j] = (byte) gfMultiply(result[j] & 0xFF, root);
+                if (j + 1 < result.length) {
+                    result[j] ^= result[j + 1];
+                }
+            }
+            root = gfMultiply(root, 0x02);
+        }
+        return result;
+    }
+
+    private static byte[] reedSolomonRemainder(byte[] data, int offset, int length, byte[] divisor) {
+        byte[] result = new byte[divisor.length];
+        for (int i = offset; i < offset + length; i++) {
+            int factor = (data[i] ^ result[0]) & 0xFF;
+            System.arraycopy(result, 1, result, 0, result.length - 1);
+            result[result.length - 1] = 0;
+            for (int j = 0; j < result.length; j++) {
+                result[j] ^= (byte) gfMultiply(divisor[j] & 0xFF, factor);
+            }
+        }
+        return result;
+    }
+
+    private static int gfMultiply(int x, int y) {
+        int z = 0;
+        for (int i = 7; i >= 0; i--) {
+            z = (z << 1) ^ ((z >>> 7) * 0x11D);
+            z ^= ((y >>> i) & 1) * x;
+        }
+        return z;
+    }
+
+    private int[] alignmentPositions() {
+        if (version == 1) {
+            return new int[0];
+        }
+        int count = version / 7 + 2;
+        int step = version == 32 ? 26 : (version * 4 + count * 2 + 1) / (count * 2 - 2) * 2;
+        int[] result = new int[count];
+        result[0] = 6;
+        for (int i = count - 1, position = size - 7; i >= 1; i--, position -= step) {
+            result[i] = position;
+        }
+        return result;
+    }
+
+    private static int numRawDataModules(int version) {
+        int result = (16 * version + 128) * version + 64;
+        if (version >= 2) {
+            int alignment = version / 7 + 2;
+            result -= (25 * alignment - 10) * alignment - 55;
+            if (version >= 7) {
+                result -= 36;
+            }
+        }
+        return result;
+    }
+
+    private static int numDataCodewords(int version, int ecc) {
+        return numRawDataModules(version) / 8
+                - ECC_CODEWORDS_PER_BLOCK[ecc][version] * NUM_ERROR_CORRECTION_BLOCKS[ecc][version];
+    }
+
+    private void setFunction(int x, int y, boolean dark) {
+        modules[y][x] = dark;
+        isFunction[y][x] = true;
+    }
+
+    private static boolean bit(int value, int index) {
+        return ((value >>> index) & 1) != 0;
+    }
+
+    /**
+     * One encoded data segment plus its mode indicator and character-count widths.
+     */
+    private static final class Segment {
+        private final int mode;
+        private final int[] countBitsByRange;
+        private final int charCount;
+        private final List<int[]> chunks;
+        private final int bitLength;
+
+        private Segment(int mode, int[] countBitsByRange, int charCount, List<int[]> chunks) {
+            this.mode = mode;
+            this.countBitsByRange = countBitsByRange;
+            this.charCount = charCount;
+            this.chunks = chunks;
+            int bits = 0;
+            for (int[] chunk : chunks) {
+                bits += chunk[1];
+            }
+            this.bitLength = bits;
+        }
+
+        static Segment of(String text) {
+            List<int[]> chunks = new ArrayList<>();
+            if (!text.isEmpty() && text.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                for (int i = 0; i < text.length(); i += 3) {
+                    int n = Math.min(3, text.length() - i);
+                    chunks.add(new int[]{Integer.parseInt(text.substring(i, i + n)), n * 3 + 1});
+                }
+                return new Segment(0x1, new int[]{10, 12, 14}, text.length(), chunks);
+            }
+            if (text.chars().allMatch(c -> ALPHANUMERIC.indexOf(c) >= 0)) {
+                for (int i = 0; i < text.length(); i += 2) {
+                    if (i + 1 < text.length()) {
+                        chunks.add(new int[]{ALPHANUMERIC.indexOf(text.charAt(i)) * 45
+                                + ALPHANUMERIC.indexOf(text.charAt(i + 1)), 11});
+                    } else {
+                        chunks.add(new int[]{ALPHANUMERIC.indexOf(text.charAt(i)), 6});
+                    }
+                }
+                return new Segment(0x2, new int[]{9, 11, 13}, text.length(), chunks);
+            }
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            for (byte b : bytes) {
+                chunks.add(new int[]{b & 0xFF, 8});
+            }
+            return new Segment(0x4, new int[]{8, 16, 16}, bytes.length, chunks);
+        }
+
+        int countBits(int version) {
+            return countBitsByRange[version <= 9 ? 0 : version <= 26 ? 1 : 2];
+        }
+
+        byte[] codewords(int version, int capacityBits) {
+            BitBuffer buffer = new BitBuffer();
+            buffer.append(mode, 4);
+            buffer.append(charCount, countBits(version));
+            for (int[] chunk : chunks) {
+                buffer.append(chunk[0], chunk[1]);
+            }
+            buffer.append(0, Math.min(4, capacityBits - buffer.length));
+            buffer.append(0, (8 - buffer.length % 8) % 8);
+            for (int pad = 0xEC; buffer.length < capacityBits; pad ^= 0xEC ^ 0x11) {
+                buffer.append(pad, 8);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    private static final class BitBuffer {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int current;
+        private int length;
+
+        void append(int value, int bits) {
+            for (int i = bits - 1; i >= 0; i--) {
+                current = current << 1 | ((value >>> i) & 1);
+                length++;
+                if (length % 8 == 0) {
+                    bytes.write(current);
+                    current = 0;
+                }
+            }
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,713 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Renders ZPL to a monochrome image locally, without a network round trip.
+ *
+ * <p>Supports the ZPL subset emitted by our label templates, {@code InfoTagZplBuilder}, and
+ * {@code BarcodeZplBuilder}: label setup ({@code ^PW ^LL ^LH ^PO ^LR ^CI ^CF ^FW ^BY}), field
+ * placement and options ({@code ^FO ^FT ^A ^FB ^FR ^FH ^FD ^FV ^FS}), boxes ({@code ^GB}), the
+ * Code 128, Code 39, and QR Code barcodes ({@code ^BC ^B3 ^BQ}), and stored formats
+ * ({@code ^DF ^XF ^FN}). Text is drawn with the bold sans-serif system font scaled to the requested
+ * cell size, so glyphs approximate Zebra font 0 rather than matching it pixel for pixel; geometry,
+ * boxes, and barcodes are exact.</p>
+ *
+ * <p>Commands that affect the image but are not supported are skipped and reported in
+ * {@link Result#ignoredCommands()}, so callers can tell when a preview may be incomplete.</p>
+ */
+final class ZplRasterizer {
+
+    private static final Map<Integer, Integer> DPI_BY_DPMM = Map.of(6, 152, 8, 203, 12, 300, 24, 600);
+    private static final Set<String> NON_VISUAL_COMMANDS = Set.of(
+            "XA", "XZ", "FX", "PR", "PQ", "MD", "MN", "MM", "MT", "JM", "LT", "PM", "SZ", "JU", "PA", "JZ", "MF", "ML"
+    );
+    private static final double TEXT_BASELINE = 0.78d;
+    private static final double TEXT_WIDTH_SCALE = 0.75d;
+    private static final FontRenderContext FONT_CONTEXT = new FontRenderContext(null, false, false);
+    private static final Font BASE_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 1);
+
+    /**
+     * Rendered label plus any visual commands that were skipped.
+     *
+     * @param image           monochrome label image
+     * @param ignoredCommands unsupported commands in the rendered label, such as {@code ^GC}
+     */
+    record Result(BufferedImage image, Set<String> ignoredCommands) {
+    }
+
+    /**
+     * Renders one label.
+     *
+     * @param zpl          ZPL document, possibly holding several {@code ^XA...^XZ} labels
+     * @param dpmm         print density in dots per millimeter
+     * @param widthInches  label width
+     * @param heightInches label height
+     * @param labelIndex   zero-based index of the label to render; {@code ^DF} format downloads
+     *                     are not counted
+     * @return rendered image and ignored commands
+     * @throws IllegalArgumentException if the document has no label at the given index
+     */
+    Result render(String zpl, int dpmm, double widthInches, double heightInches, int labelIndex) {
+        int dpi = dpi(dpmm);
+        int width = Math.max(1, (int) Math.round(widthInches * dpi));
+        int height = Math.max(1, (int) Math.round(heightInches * dpi));
+        List<List<Command>> labels = printableLabels(tokenize(zpl));
+        if (labelIndex < 0 || labelIndex >= labels.size()) {
+            throw new IllegalArgumentException("Label index " + labelIndex + " is out of range; the ZPL contains "
+                    + labels.size() + " label(s).");
+        }
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            LabelPainter painter = new LabelPainter(g, dpi, width, height);
+            for (Command command : labels.get(labelIndex)) {
+                painter.apply(command);
+            }
+            painter.finishField();
+            BufferedImage result = painter.invert ? rotate180(image) : image;
+            return new Result(result, Collections.unmodifiableSet(painter.ignored));
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Maps a print density to the nominal printer resolution (8 dpmm is a 203 dpi printer).
+     */
+    static int dpi(int dpmm) {
+        Integer dpi = DPI_BY_DPMM.get(dpmm);
+        return dpi != null ? dpi : (int) Math.round(dpmm * 25.4d);
+    }
+
+    /**
+     * Splits ZPL into commands. Field data ({@code ^FD}, {@code ^FV}, {@code ^FX}) runs to the next
+     * caret; other parameters stop at the next caret or tilde. Line breaks are dropped as the
+     * printer drops them.
+     */
+    static List<Command> tokenize(String zpl) {
+        List<Command> commands = new ArrayList<>();
+        String text = zpl.replace("\r", "").replace("\n", "");
+        int i = 0;
+        while (i < text.length()) {
+            char prefix = text.charAt(i);
+            if ((prefix != '^' && prefix != '~') || i + 1 >= text.length()) {
+                i++;
+                continue;
+            }
+            int nameLength = text.charAt(i + 1) == 'A' && prefix == '^' ? 1 : Math.min(2, text.length() - i - 1);
+            String name = text.substring(i + 1, i + 1 + nameLength).toUpperCase(Locale.ROOT);
+            int start = i + 1 + nameLength;
+            boolean fieldData = prefix == '^' && (name.equals("FD") || name.equals("FV") || name.equals("FX"));
+            int end = start;
+            while (end < text.length()) {
+                char c = text.charAt(end);
+                if (c == '^' || (!fieldData && c == '~')) {
+                    break;
+                }
+                end++;
+            }
+            commands.add(new Command(prefix, name, text.substring(start, end)));
+            i = end;
+        }
+        return commands;
+    }
+
+    /**
+     * Groups commands into labels, storing {@code ^DF} formats and expanding {@code ^XF} recalls.
+     */
+    private static List<List<Command>> printableLabels(List<Command> commands) {
+        List<List<Command>> blocks = new ArrayList<>();
+        List<Command> current = null;
+        for (Command command : commands) {
+            if (command.is('^', "XA")) {
+                current = new ArrayList<>();
+            } else if (command.is('^', "XZ")) {
+                if (current != null) {
+                    blocks.add(current);
+                }
+                current = null;
+            } else if (current != null) {
+                current.add(command);
+            }
+        }
+
+        Map<String, List<Command>> formats = new HashMap<>();
+        List<List<Command>> labels = new ArrayList<>();
+        for (List<Command> block : blocks) {
+            Command download = find(block, "DF");
+            if (download != null) {
+                formats.put(download.params().trim(), block.subList(block.indexOf(download) + 1, block.size()));
+                continue;
+            }
+            Command recall = find(block, "XF");
+            List<Command> format = recall == null ? null : formats.get(recall.params().trim());
+            labels.add(format == null ? block : expandRecall(format, block));
+        }
+        return labels;
+    }
+
+    private static List<Command> expandRecall(List<Command> format, List<Command> recall) {
+        Map<String, String> fieldData = new HashMap<>();
+        List<Command> extra = new ArrayList<>();
+        String fieldNumber = null;
+        for (Command command : recall) {
+            if (command.is('^', "XF")) {
+                continue;
+            }
+            if (command.is('^', "FN")) {
+                fieldNumber = command.params().trim();
+            } else if (fieldNumber != null && (command.is('^', "FD") || command.is('^', "FV"))) {
+                fieldData.put(fieldNumber, command.params());
+            } else if (fieldNumber != null && command.is('^', "FS")) {
+                fieldNumber = null;
+            } else if (fieldNumber == null) {
+                extra.add(command);
+            }
+        }
+
+        List<Command> expanded = new ArrayList<>(format.size() + extra.size());
+        String pendingNumber = null;
+        for (Command command : format) {
+            if (command.is('^', "FN")) {
+                pendingNumber = command.params().trim();
+                continue;
+            }
+            if (pendingNumber != null && (command.is('^', "FD") || command.is('^', "FV"))) {
+                continue;
+            }
+            if (pendingNumber != null && command.is('^', "FS")) {
+                String data = fieldData.get(pendingNumber);
+                if (data != null) {
+                    expanded.add(new Command('^', "FD", data));
+                }
+                pendingNumber = null;
+            }
+            expanded.add(command);
+        }
+        expanded.addAll(extra);
+        return expanded;
+    }
+
+    private static Command find(List<Command> block, String name) {
+        for (Command command : block) {
+            if (command.is('^', name)) {
+                return command;
+            }
+        }
+        return null;
+    }
+
+    private static BufferedImage rotate180(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage rotated = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                rotated.setRGB(width - 1 - x, height - 1 - y, image.getRGB(x, y));
+            }
+        }
+        return rotated;
+    }
+
+    /**
+     * One ZPL command: prefix ({@code ^} or {@code ~}), upper-case name, and raw parameters.
+     */
+    record Command(char prefix, String name, String params) {
+        boolean is(char expectedPrefix, String expectedName) {
+            return prefix == expectedPrefix && name.equals(expectedName);
+        }
+    }
+
+    /**
+     * Applies one label's commands to the image, holding label-wide and per-field state.
+     */
+    private static final class LabelPainter {
+        private final Graphics2D g;
+        private final int dpi;
+        private final Set<String> ignored = new TreeSet<>();
+
+        private int homeX;
+        private int homeY;
+        private boolean invert;
+        private boolean reverseLabel;
+        private boolean utf8 = true;
+        private char defaultFont = 'A';
+        private int defaultFontHeight = 9;
+        private int defaultFontWidth = 5;
+        private char defaultOrientation = 'N';
+        private int moduleWidth = 2;
+        private double moduleRatio = 3.0d;
+        private int barHeight = 10;
+
+        private Field field = new Field();
+
+        LabelPainter(Graphics2D g, int dpi, int width, int height) {
+            this.g = g;
+            this.dpi = dpi;
+            g.setClip(0, 0, width, height);
+        }
+
+        void apply(Command command) {
+            if (command.prefix() == '~') {
+                return;
+            }
+            String[] p = command.params().split(",", -1);
+            switch (command.name()) {
+                case "LH" -> {
+                    homeX = intParam(p, 0, homeX);
+                    homeY = intParam(p, 1, homeY);
+                }
+                case "PW" -> clip(intParam(p, 0, Integer.MAX_VALUE), Integer.MAX_VALUE);
+                case "LL" -> clip(Integer.MAX_VALUE, intParam(p, 0, Integer.MAX_VALUE));
+                case "PO" -> invert = command.params().trim().toUpperCase(Locale.ROOT).startsWith("I");
+                case "LR" -> reverseLabel = command.params().trim().toUpperCase(Locale.ROOT).startsWith("Y");
+                case "CI" -> utf8 = intParam(p, 0, 28) >= 28;
+                case "CF" -> {
+                    defaultFont = charParam(p, 0, defaultFont);
+                    int h = intParam(p, 1, -1);
+                    int w = intParam(p, 2, -1);
+                    defaultFontHeight = h > 0 ? h : w > 0 ? w : defaultFontHeight;
+                    defaultFontWidth = w > 0 ? w : h > 0 ? h : defaultFontWidth;
+                }
+                case "FW" -> defaultOrientation = orientation(charParam(p, 0, defaultOrientation), defaultOrientation);
+                case "BY" -> {
+                    moduleWidth = Math.max(1, intParam(p, 0, moduleWidth));
+                    moduleRatio = doubleParam(p, 1, moduleRatio);
+                    barHeight = Math.max(1, intParam(p, 2, barHeight));
+                }
+                case "FO", "FT" -> {
+                    if (field.positioned) {
+                        finishField();
+                    }
+                    field.x = intParam(p, 0, 0);
+                    field.y = intParam(p, 1, 0);
+                    field.typeset = command.name().equals("FT");
+                    field.positioned = true;
+                }
+                case "A" -> {
+                    String params = command.params();
+                    field.fontSet = true;
+                    field.font = params.isEmpty() ? defaultFont : params.charAt(0);
+                    String[] rest = params.length() > 1 ? params.substring(1).split(",", -1) : new String[0];
+                    field.orientation = orientation(charParam(rest, 0, ' '), 0);
+                    int h = intParam(rest, 1, -1);
+                    int w = intParam(rest, 2, -1);
+                    field.fontHeight = h > 0 ? h : w > 0 ? w : defaultFontHeight;
+                    field.fontWidth = w > 0 ? w : h > 0 ? h : defaultFontWidth;
+                }
+                case "FB" -> {
+                    field.blockWidth = Math.max(0, intParam(p, 0, 0));
+                    field.blockLines = Math.max(1, intParam(p, 1, 1));
+                    field.blockSpacing = intParam(p, 2, 0);
+                    field.blockJustify = Character.toUpperCase(charParam(p, 3, 'L'));
+                    field.blockIndent = Math.max(0, intParam(p, 4, 0));
+                }
+                case "FR" -> field.reverse = true;
+                case "FH" -> field.hexIndicator = command.params().isEmpty() ? '_' : command.params().charAt(0);
+                case "FD", "FV" -> field.data = command.params();
+                case "GB" -> field.graphic = p;
+                case "BC", "B3", "BQ" -> {
+                    field.barcode = command.name();
+                    field.barcodeParams = p;
+                }
+                case "FS" -> finishField();
+                case "FN", "XF", "DF" -> {
+                    // Stored-format plumbing is resolved before painting; an unmatched recall
+                    // renders whatever literal fields the label carries.
+                }
+                default -> {
+                    if (!NON_VISUAL_COMMANDS.contains(command.name())) {
+                        ignored.add("^" + command.name());
+                    }
+                }
+            }
+        }
+
+        void finishField() {
+            Field current = field;
+            field = new Field();
+            if (!current.positioned && current.graphic == null && current.barcode == null) {
+                return;
+            }
+            Drawn drawn;
+            if (current.graphic != null) {
+                drawn = box(current.graphic);
+            } else if (current.data == null) {
+                return;
+            } else if (current.barcode != null) {
+                drawn = barcode(current, decode(current));
+            } else {
+                drawn = text(current, decode(current));
+            }
+            if (drawn == null) {
+                return;
+            }
+            char orientation = current.orientation != 0 ? current.orientation : defaultOrientation;
+            AffineTransform transform = AffineTransform.getTranslateInstance(
+                    homeX + current.x, homeY + current.y);
+            double theta = switch (orientation) {
+                case 'R' -> Math.PI / 2d;
+                case 'I' -> Math.PI;
+                case 'B' -> -Math.PI / 2d;
+                default -> 0d;
+            };
+            if (current.typeset) {
+                transform.rotate(theta);
+                transform.translate(0, -drawn.anchorY);
+            } else {
+                switch (orientation) {
+                    case 'R' -> transform.translate(drawn.height, 0);
+                    case 'I' -> transform.translate(drawn.width, drawn.height);
+                    case 'B' -> transform.translate(0, drawn.width);
+                    default -> {
+                    }
+                }
+                transform.rotate(theta);
+            }
+            Shape shape = transform.createTransformedShape(drawn.shape);
+            if (current.reverse || reverseLabel) {
+                g.setXORMode(Color.WHITE);
+                g.setColor(Color.BLACK);
+                g.fill(shape);
+                g.setPaintMode();
+            } else {
+                g.setColor(drawn.white ? Color.WHITE : Color.BLACK);
+                g.fill(shape);
+            }
+        }
+
+        private void clip(int printWidth, int labelLength) {
+            Rectangle2D current = g.getClipBounds();
+            g.setClip(0, 0,
+                    (int) Math.min(current.getWidth(), printWidth),
+                    (int) Math.min(current.getHeight(), labelLength));
+        }
+
+        private Drawn box(String[] p) {
+            int thickness = Math.max(1, intParam(p, 2, 1));
+            int width = Math.max(thickness, intParam(p, 0, thickness));
+            int height = Math.max(thickness, intParam(p, 1, thickness));
+            boolean white = Character.toUpperCase(charParam(p, 3, 'B')) == 'W';
+            int rounding = Math.max(0, Math.min(8, intParam(p, 4, 0)));
+            double radius = Math.min(width, height) / 2d * rounding / 8d;
+            Shape outer = rounding == 0
+                    ? new Rectangle2D.Double(0, 0, width, height)
+                    : new RoundRectangle2D.Double(0, 0, width, height, radius * 2, radius * 2);
+            Area area = new Area(outer);
+            if (thickness * 2 < width && thickness * 2 < height) {
+                double innerRadius = Math.max(0d, radius - thickness);
+                area.subtract(new Area(rounding == 0
+                        ? new Rectangle2D.Double(thickness, thickness, width - 2d * thickness, height - 2d * thickness)
+                        : new RoundRectangle2D.Double(thickness, thickness, width - 2d * thickness,
+                        height - 2d * thickness, innerRadius * 2, innerRadius * 2)));
+            }
+            return new Drawn(area, width, height, height, white);
+        }
+
+        private Drawn text(Field current, String data) {
+            char font = current.fontSet ? current.font : defaultFont;
+            int h = current.fontSet ? current.fontHeight : defaultFontHeight;
+            int w = current.fontSet ? current.fontWidth : defaultFontWidth;
+            if (h <= 0 || data.isEmpty()) {
+                return null;
+            }
+            TextStyle style = new TextStyle(font, h, w);
+            if (current.blockWidth <= 0) {
+                Shape line = style.outline(data, 0, style.baseline());
+                double width = style.width(data);
+                return new Drawn(line, width, h, style.baseline(), false);
+            }
+
+            List<String> lines = wrap(style, data, current.blockWidth, current.blockIndent);
+            int lineHeight = h + current.blockSpacing;
+            Path2D.Double path = new Path2D.Double();
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                int row = Math.min(i, current.blockLines - 1);
+                double width = style.width(line);
+                double x = switch (current.blockJustify) {
+                    case 'C' -> (current.blockWidth - width) / 2d;
+                    case 'R' -> current.blockWidth - width;
+                    default -> i > 0 ? current.blockIndent : 0d;
+                };
+                path.append(style.outline(line, x, row * lineHeight + style.baseline()), false);
+            }
+            int blockHeight = current.blockLines * lineHeight - current.blockSpacing;
+            return new Drawn(path, current.blockWidth, blockHeight, blockHeight - h + style.baseline(), false);
+        }
+
+        private List<String> wrap(TextStyle style, String data, int blockWidth, int indent) {
+            List<String> lines = new ArrayList<>();
+            for (String paragraph : data.split("\\\\&", -1)) {
+                StringBuilder line = new StringBuilder();
+                for (String word : paragraph.split(" ", -1)) {
+                    String candidate = line.length() == 0 ? word : line + " " + word;
+                    double available = blockWidth - (lines.isEmpty() ? 0 : indent);
+                    if (line.length() > 0 && style.width(candidate) > available) {
+                        lines.add(line.toString());
+                        line.setLength(0);
+                        line.append(word);
+                    } else {
+                        line.setLength(0);
+                        line.append(candidate);
+                    }
+                }
+                lines.add(line.toString());
+            }
+            return lines;
+        }
+
+        private Drawn barcode(Field current, String data) {
+            String[] p = current.barcodeParams;
+            if (current.orientation == 0) {
+                current.orientation = orientation(charParam(p, 0, ' '), 0);
+            }
+            return switch (current.barcode) {
+                case "BC" -> linear(
+                        ZplBarcodeSupport.code128(data, Character.toUpperCase(charParam(p, 5, 'N')), moduleWidth),
+                        intParam(p, 1, barHeight), yes(p, 2, true), yes(p, 3, false),
+                        ZplBarcodeSupport.code128Text(data));
+                case "B3" -> {
+                    boolean check = yes(p, 1, false);
+                    yield linear(ZplBarcodeSupport.code39(data, check, moduleWidth, moduleRatio),
+                            intParam(p, 2, barHeight), yes(p, 3, true), yes(p, 4, false),
+                            "*" + ZplBarcodeSupport.code39Data(data, check) + "*");
+                }
+                default -> qrCode(p, data);
+            };
+        }
+
+        private Drawn linear(int[] widths, int height, boolean interpretation, boolean above, String text) {
+            int total = 0;
+            for (int width : widths) {
+                total += width;
+            }
+            int textHeight = interpretation ? Math.max(10, moduleWidth * 9) : 0;
+            int gap = interpretation ? Math.max(2, moduleWidth) : 0;
+            int barTop = above ? textHeight + gap : 0;
+            Path2D.Double path = new Path2D.Double();
+            int x = 0;
+            for (int i = 0; i < widths.length; i++) {
+                if (i % 2 == 0) {
+                    path.append(new Rectangle2D.Double(x, barTop, widths[i], height), false);
+                }
+                x += widths[i];
+            }
+            if (interpretation) {
+                TextStyle style = new TextStyle('0', textHeight, (int) Math.round(textHeight * 0.8d));
+                double textX = (total - style.width(text)) / 2d;
+                double textTop = above ? 0 : height + gap;
+                path.append(style.outline(text, textX, textTop + style.baseline()), false);
+            }
+            int totalHeight = height + textHeight + gap;
+            return new Drawn(path, total, totalHeight, above ? totalHeight : height, false);
+        }
+
+        private Drawn qrCode(String[] p, String data) {
+            int magnification = intParam(p, 2, defaultQrMagnification());
+            char ecc = Character.toUpperCase(charParam(p, 3, 'Q'));
+            String payload = data;
+            if (data.length() >= 3 && data.charAt(2) == ',' && "HQML".indexOf(Character.toUpperCase(data.charAt(0))) >= 0) {
+                ecc = Character.toUpperCase(data.charAt(0));
+                payload = data.substring(3);
+                if (Character.toUpperCase(data.charAt(1)) == 'M' && !payload.isEmpty()) {
+                    char mode = Character.toUpperCase(payload.charAt(0));
+                    payload = mode == 'B' && payload.length() >= 5 ? payload.substring(5) : payload.substring(1);
+                }
+            }
+            boolean[][] modules = ZplQrCodeSupport.encode(payload, ecc);
+            Path2D.Double path = new Path2D.Double();
+            for (int y = 0; y < modules.length; y++) {
+                for (int x = 0; x < modules.length; x++) {
+                    if (modules[y][x]) {
+                        path.append(new Rectangle2D.Double(
+                                x * magnification, y * magnification, magnification, magnification), false);
+                    }
+                }
+            }
+            int size = modules.length * magnification;
+            return new Drawn(path, size, size, size, false);
+        }
+
+        private int defaultQrMagnification() {
+            if (dpi <= 152) {
+                return 1;
+            }
+            if (dpi <= 203) {
+                return 2;
+            }
+            return dpi <= 300 ? 3 : 6;
+        }
+
+        private String decode(Field current) {
+            if (current.hexIndicator == 0) {
+                return current.data;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            String data = current.data;
+            for (int i = 0; i < data.length(); i++) {
+                char c = data.charAt(i);
+                if (c == current.hexIndicator && isHex(data, i + 1)) {
+                    bytes.write(Integer.parseInt(data.substring(i + 1, i + 3), 16));
+                    i += 2;
+                } else {
+                    byte[] encoded = String.valueOf(c).getBytes(utf8 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+                    bytes.writeBytes(encoded);
+                }
+            }
+            return bytes.toString(utf8 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+        }
+
+        private static boolean isHex(String data, int index) {
+            return index + 1 < data.length()
+                    && Character.digit(data.charAt(index), 16) >= 0
+                    && Character.digit(data.charAt(index + 1), 16) >= 0;
+        }
+
+        private static char orientation(char value, int fallback) {
+            char upper = Character.toUpperCase(value);
+            return "NRIB".indexOf(upper) >= 0 ? upper : (char) fallback;
+        }
+
+        private static boolean yes(String[] p, int index, boolean fallback) {
+            char value = Character.toUpperCase(charParam(p, index, fallback ? 'Y' : 'N'));
+            return value == 'Y';
+        }
+
+        private static char charParam(String[] p, int index, char fallback) {
+            if (index >= p.length || p[index].isBlank()) {
+                return fallback;
+            }
+            return p[index].trim().charAt(0);
+        }
+
+        private static int intParam(String[] p, int index, int fallback) {
+            if (index >= p.length || p[index].isBlank()) {
+                return fallback;
+            }
+            try {
+                return (int) Math.round(Double.parseDouble(p[index].trim()));
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+
+        private static double doubleParam(String[] p, int index, double fallback) {
+            if (index >= p.length || p[index].isBlank()) {
+                return fallback;
+            }
+            try {
+                return Double.parseDouble(p[index].trim());
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+    }
+
+    /**
+     * Scaled outline font standing in for a Zebra font at a given cell height and width.
+     */
+    private static final class TextStyle {
+        private final Font font;
+        private final double scaleX;
+        private final int height;
+
+        TextStyle(char zebraFont, int height, int width) {
+            this.height = height;
+            this.font = BASE_FONT.deriveFont((float) height);
+            double widthScale = zebraFont == '0' ? TEXT_WIDTH_SCALE : 0.6d;
+            this.scaleX = widthScale * width / (double) height;
+        }
+
+        double baseline() {
+            return height * TEXT_BASELINE;
+        }
+
+        double width(String text) {
+            if (text.isEmpty()) {
+                return 0d;
+            }
+            return font.createGlyphVector(FONT_CONTEXT, text).getLogicalBounds().getWidth() * scaleX;
+        }
+
+        Shape outline(String text, double x, double baseline) {
+            if (text.isEmpty()) {
+                return new Path2D.Double();
+            }
+            GlyphVector glyphs = font.createGlyphVector(FONT_CONTEXT, text);
+            AffineTransform transform = AffineTransform.getTranslateInstance(x, baseline);
+            transform.scale(scaleX, 1d);
+            return transform.createTransformedShape(glyphs.getOutline());
+        }
+    }
+
+    /**
+     * Field geometry in local, unrotated coordinates with its top-left corner at the origin.
+     *
+     * @param anchorY distance from the top to the {@code ^FT} anchor (text baseline or barcode bottom)
+     */
+    private record Drawn(Shape shape, double width, double height, double anchorY, boolean white) {
+    }
+
+    /**
+     * Per-field state collected between {@code ^FO}/{@code ^FT} and {@code ^FS}.
+     */
+    private static final class Field {
+        private boolean positioned;
+        private int x;
+        private int y;
+        private boolean typeset;
+        private boolean fontSet;
+        private char font;
+        private int fontHeight;
+        private int fontWidth;
+        private char orientation;
+        private int blockWidth;
+        private int blockLines = 1;
+        private int blockSpacing;
+        private char blockJustify = 'L';
+        private int blockIndent;
+        private boolean reverse;
+        private char hexIndicator;
+        private String data;
+        private String[] graphic;
+        private String barcode;
+        private String[] barcodeParams;
+    }
+}
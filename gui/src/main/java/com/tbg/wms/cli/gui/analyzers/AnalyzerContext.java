@@ -7,10 +7,20 @@ import java.util.Objects;
 
 public record AnalyzerContext(
         AppConfig config,
-        Clock clock
+        Clock clock,
+        AnalyzerQueryScope queries
 ) {
     public AnalyzerContext {
         Objects.requireNonNull(config, "config cannot be null");
         Objects.requireNonNull(clock, "clock cannot be null");
+        Objects.requireNonNull(queries, "queries cannot be null");
+    }
+
+    public AnalyzerContext(AppConfig config, Clock clock) {
+        this(config, clock, AnalyzerQueryScope.unmanaged());
+    }
+
+    public AnalyzerContext forLoad(AnalyzerQueryScope queries) {
+        return new AnalyzerContext(config, clock, queries);
     }
 }
@@ -16,6 +16,10 @@ public interface AnalyzerDefinition<R> {
 
     AnalyzerRowStyler<R> rowStyler();
 
+    default AnalyzerRowKey<R> rowKey() {
+        return AnalyzerRowKey.none();
+    }
+
     default AnalyzerPresentation<R> presentation() {
         return TableAnalyzerPresentation.of(columns(), rowStyler());
     }
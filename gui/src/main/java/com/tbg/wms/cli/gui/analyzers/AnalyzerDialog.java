@@ -18,14 +18,20 @@ import java.awt.CardLayout;
 import java.awt.Component;
 import java.awt.Frame;
 import java.awt.FlowLayout;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.Serial;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardPanel;
 import com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSnapshot;
@@ -48,14 +54,18 @@ public final class AnalyzerDialog extends JDialog {
     private final AnalyzerDashboardPanel dashboardPanel = new AnalyzerDashboardPanel();
     private final CardLayout contentLayout = new CardLayout();
     private final JPanel contentPanel = new JPanel(contentLayout);
-    private final AnalyzerRefreshScheduler refreshScheduler = new AnalyzerRefreshScheduler(this::loadSelectedAnalyzer);
+    private final AnalyzerRefreshScheduler refreshScheduler =
+            new AnalyzerRefreshScheduler(this::loadSelectedAnalyzer, this::selectedAnalyzerLoading);
     private final Executor loaderExecutor;
     private final ExecutorService ownedExecutorService;
     private final Map<String, AnalyzerLoadSessionState<?>> sessionStates = new HashMap<>();
+    private final AnalyzerLoadCoordinator loadCoordinator = new AnalyzerLoadCoordinator();
     private String activePresentationId = "table";
-    private long requestSequence;
     private long activeRequestId;
     private String activeAnalyzerId = "";
+    private AnalyzerTableModel<?> tableModel;
+    private String tableModelAnalyzerId = "";
+    private boolean forceNextLoad;
 
     public AnalyzerDialog(Frame owner, AnalyzerRegistry registry, AnalyzerContext context) {
         this(owner, registry, context,
@@ -146,6 +156,7 @@ public final class AnalyzerDialog extends JDialog {
         add(toolbar, BorderLayout.NORTH);
         add(contentPanel, BorderLayout.CENTER);
         add(statusLabel, BorderLayout.SOUTH);
+        watchShowing(owner);
     }
 
     void openForTest() {
@@ -198,12 +209,60 @@ public final class AnalyzerDialog extends JDialog {
 
     @Override
     public void dispose() {
+        loadCoordinator.cancelAll();
+        refreshScheduler.setEnabled(false);
         if (ownedExecutorService != null) {
             ownedExecutorService.shutdownNow();
         }
         super.dispose();
     }
 
+    // Auto refresh pauses while this dialog or its owner is minimized or hidden; coming back, or
+    // being brought to the front, runs a refresh that came due in the meantime.
+    private void watchShowing(Frame owner) {
+        WindowAdapter showingListener = new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                updateShowing();
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                updateShowing();
+            }
+
+            @Override
+            public void windowActivated(WindowEvent e) {
+                updateShowing();
+            }
+        };
+        addWindowListener(showingListener);
+        if (owner != null) {
+            owner.addWindowListener(showingListener);
+        }
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent e) {
+                updateShowing();
+            }
+
+            @Override
+            public void componentHidden(ComponentEvent e) {
+                updateShowing();
+            }
+        });
+    }
+
+    private void updateShowing() {
+        boolean ownerIconified = getOwner() instanceof Frame frame && (frame.getExtendedState() & Frame.ICONIFIED) != 0;
+        refreshScheduler.setShowing(isShowing() && !ownerIconified);
+    }
+
+    private boolean selectedAnalyzerLoading() {
+        AnalyzerDefinition<?> definition = (AnalyzerDefinition<?>) analyzerCombo.getSelectedItem();
+        return definition != null && definition.id().equals(activeAnalyzerId) && sessionState(definition).loading();
+    }
+
     private void loadSelectedAnalyzer() {
         AnalyzerDefinition<?> definition = (AnalyzerDefinition<?>) analyzerCombo.getSelectedItem();
         if (definition == null) {
@@ -219,12 +278,35 @@ public final class AnalyzerDialog extends JDialog {
         if (state.hasSnapshot()) {
             renderSnapshot(definition, state.lastSuccessfulSnapshot());
         }
-        long requestId = state.beginLoad(++requestSequence);
+        long requestId = state.beginLoad(loadCoordinator.beginLoad());
+        AnalyzerQueryScope queries = new AnalyzerQueryScope(
+                loadCoordinator,
+                requestId,
+                context.config().analyzerQueryTimeoutSeconds(definition.id()),
+                AnalyzerResultCache.shared(),
+                Duration.ofSeconds(context.config().analyzerResultCacheTtlSeconds()),
+                forceNextLoad
+        );
+        AnalyzerContext loadContext = context.forLoad(queries);
         activeRequestId = requestId;
         activeAnalyzerId = definition.id();
+        if (!state.hasSnapshot() && definition.presentation() instanceof DashboardAnalyzerPresentation<R>) {
+            dashboardPanel.clear();
+        }
+        // Partial rows queued behind the final render must not overwrite it.
+        AtomicBoolean finished = new AtomicBoolean();
+        Instant startedAt = Instant.now(context.clock());
         loaderExecutor.execute(() -> {
             try {
-                AnalyzerResult<R> result = definition.createProvider(context).load(context);
+                AnalyzerDataProvider<R> provider = definition.createProvider(loadContext);
+                AnalyzerResult<R> result = provider instanceof ProgressiveAnalyzerDataProvider<R> progressive
+                        ? progressive.load(loadContext, row -> SwingUtilities.invokeLater(() -> {
+                            if (!finished.get() && shouldApplyCompletion(definition, state, requestId)) {
+                                renderPartialRow(definition, row);
+                            }
+                        }))
+                        : provider.load(loadContext);
+                finished.set(true);
                 AnalyzerLoadSnapshot<R> snapshot = AnalyzerLoadSnapshot.fromResult(result);
                 state.recordSuccess(requestId, snapshot);
                 if (!shouldApplyCompletion(definition, state, requestId)) {
@@ -235,9 +317,12 @@ public final class AnalyzerDialog extends JDialog {
                         return;
                     }
                     renderSnapshot(definition, snapshot);
-                    statusLabel.setText("Loaded " + definition.displayName() + ".");
+                    refreshScheduler.markRefreshCompleted(
+                            snapshot.fetchedAt(), Duration.between(startedAt, snapshot.fetchedAt()));
+                    statusLabel.setText(loadedStatus(definition, queries));
                 });
             } catch (Exception ex) {
+                finished.set(true);
                 state.recordFailure(requestId);
                 if (!shouldApplyCompletion(definition, state, requestId)) {
                     return;
@@ -245,6 +330,8 @@ public final class AnalyzerDialog extends JDialog {
                 runOnUiThread(() -> {
                     if (shouldApplyCompletion(definition, state, requestId)) {
                         statusLabel.setText("Load failed: " + ex.getMessage());
+                        Instant failedAt = Instant.now(context.clock());
+                        refreshScheduler.markRefreshCompleted(failedAt, Duration.between(startedAt, failedAt));
                     }
                 });
             }
@@ -266,17 +353,45 @@ public final class AnalyzerDialog extends JDialog {
                     (java.util.List<com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSectionSnapshot>) snapshot.rows();
             dashboardPanel.showSnapshot(new AnalyzerDashboardSnapshot(sections));
         } else {
-            AnalyzerTableModel<R> model = new AnalyzerTableModel<>(definition.columns());
-            model.setRows(snapshot.rows());
-            table.setModel(model);
-            table.setDefaultRenderer(Object.class, new AnalyzerTableCellRenderer<>(model, definition.rowStyler()));
+            AnalyzerTableSelection.setRows(table, tableModel(definition), snapshot.rows());
             activePresentationId = "table";
             contentLayout.show(contentPanel, "table");
         }
-        refreshScheduler.markRefreshCompleted(snapshot.fetchedAt());
         lastUpdatedLabel.setText("Last updated: " + snapshot.fetchedAt());
     }
 
+    // Refreshes of the same analyzer reuse its model so row diffs keep selection and scroll position.
+    @SuppressWarnings("unchecked")
+    private <R> AnalyzerTableModel<R> tableModel(AnalyzerDefinition<R> definition) {
+        if (tableModel == null || !tableModelAnalyzerId.equals(definition.id())) {
+            AnalyzerTableModel<R> model = new AnalyzerTableModel<>(definition.columns(), definition.rowKey());
+            table.setModel(model);
+            table.setDefaultRenderer(Object.class, new AnalyzerTableCellRenderer<>(model, definition.rowStyler()));
+            tableModel = model;
+            tableModelAnalyzerId = definition.id();
+        }
+        return (AnalyzerTableModel<R>) tableModel;
+    }
+
+    private <R> void renderPartialRow(AnalyzerDefinition<R> definition, R row) {
+        if (definition.presentation() instanceof DashboardAnalyzerPresentation<R>
+                && row instanceof com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSectionSnapshot section) {
+            activePresentationId = "dashboard";
+            contentLayout.show(contentPanel, "dashboard");
+            dashboardPanel.showSection(section);
+            statusLabel.setText("Loading... " + section.title() + (section.failed() ? " failed." : " loaded."));
+        }
+    }
+
+    private String loadedStatus(AnalyzerDefinition<?> definition, AnalyzerQueryScope queries) {
+        return queries.oldestCachedResult()
+                .map(cachedAt -> {
+                    long ageSeconds = Math.max(0, Duration.between(cachedAt, Instant.now(context.clock())).toSeconds());
+                    return "Loaded " + definition.displayName() + " from cache (data " + ageSeconds + " s old).";
+                })
+                .orElse("Loaded " + definition.displayName() + ".");
+    }
+
     private <R> boolean shouldApplyCompletion(AnalyzerDefinition<R> definition, AnalyzerLoadSessionState<R> state, long requestId) {
         return state.isLatestRequest(requestId)
                 && activeRequestId == requestId
@@ -295,7 +410,13 @@ public final class AnalyzerDialog extends JDialog {
         }
     }
 
+    // A manual refresh goes to the database even when another dialog fetched the same data moments ago.
     private void requestRefresh() {
-        refreshScheduler.requestImmediateRefresh();
+        forceNextLoad = true;
+        try {
+            refreshScheduler.requestImmediateRefresh();
+        } finally {
+            forceNextLoad = false;
+        }
     }
 }
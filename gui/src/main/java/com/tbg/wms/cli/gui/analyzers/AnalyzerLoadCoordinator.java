@@ -1,15 +1,76 @@
 package com.tbg.wms.cli.gui.analyzers;
 
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
 public final class AnalyzerLoadCoordinator {
 
     private long currentToken;
+    private final List<Statement> liveStatements = new ArrayList<>();
 
-    public synchronized long beginLoad() {
-        currentToken++;
-        return currentToken;
+    // Starting a load supersedes every earlier one, so their queries are cancelled on the server
+    // instead of running to completion for results nobody will see.
+    public long beginLoad() {
+        List<Statement> superseded;
+        long token;
+        synchronized (this) {
+            token = ++currentToken;
+            superseded = drainLiveStatements();
+        }
+        cancel(superseded);
+        return token;
     }
 
     public synchronized boolean isCurrent(long token) {
         return currentToken == token;
     }
+
+    // Called when the dialog closes: no load in flight is current any more.
+    public void cancelAll() {
+        List<Statement> running;
+        synchronized (this) {
+            currentToken++;
+            running = drainLiveStatements();
+        }
+        cancel(running);
+    }
+
+    public void track(long token, Statement statement) {
+        synchronized (this) {
+            if (currentToken == token) {
+                liveStatements.add(statement);
+                return;
+            }
+        }
+        throw new CancellationException("Analyzer load was superseded before its query started.");
+    }
+
+    public synchronized void untrack(long token, Statement statement) {
+        if (currentToken == token) {
+            liveStatements.remove(statement);
+        }
+    }
+
+    synchronized int liveStatementCount() {
+        return liveStatements.size();
+    }
+
+    private List<Statement> drainLiveStatements() {
+        List<Statement> statements = List.copyOf(liveStatements);
+        liveStatements.clear();
+        return statements;
+    }
+
+    private static void cancel(List<Statement> statements) {
+        for (Statement statement : statements) {
+            try {
+                statement.cancel();
+            } catch (SQLException ignored) {
+                // The query finished or its statement closed while we were cancelling it.
+            }
+        }
+    }
 }
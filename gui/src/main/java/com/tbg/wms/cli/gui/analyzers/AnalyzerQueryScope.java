@@ -0,0 +1,142 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+public final class AnalyzerQueryScope {
+
+    private final AnalyzerLoadCoordinator coordinator;
+    private final long token;
+    private final int timeoutSeconds;
+    private final AnalyzerResultCache cache;
+    private final Duration cacheTtl;
+    private final boolean forceRefresh;
+    private Instant oldestCachedResult;
+
+    // Runs every query itself: nothing is reused from or shared with other loads.
+    public AnalyzerQueryScope(AnalyzerLoadCoordinator coordinator, long token, int timeoutSeconds) {
+        this(coordinator, token, timeoutSeconds, new AnalyzerResultCache(Clock.systemUTC()), Duration.ZERO, false);
+    }
+
+    public AnalyzerQueryScope(
+            AnalyzerLoadCoordinator coordinator,
+            long token,
+            int timeoutSeconds,
+            AnalyzerResultCache cache,
+            Duration cacheTtl,
+            boolean forceRefresh
+    ) {
+        this.coordinator = Objects.requireNonNull(coordinator, "coordinator cannot be null");
+        this.cache = Objects.requireNonNull(cache, "cache cannot be null");
+        this.cacheTtl = Objects.requireNonNull(cacheTtl, "cacheTtl cannot be null");
+        if (timeoutSeconds < 0) {
+            throw new IllegalArgumentException("timeoutSeconds cannot be negative");
+        }
+        if (cacheTtl.isNegative()) {
+            throw new IllegalArgumentException("cacheTtl cannot be negative");
+        }
+        this.token = token;
+        this.timeoutSeconds = timeoutSeconds;
+        this.forceRefresh = forceRefresh;
+    }
+
+    // For loads outside the dialog: nothing supersedes them and no timeout applies.
+    public static AnalyzerQueryScope unmanaged() {
+        AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
+        return new AnalyzerQueryScope(coordinator, coordinator.beginLoad(), 0);
+    }
+
+    // Reuses a result another load fetched within the TTL, or joins that load's query while it is
+    // still running. The reader's result is handed to every load that shares it, so it must not
+    // be modified afterwards.
+    public <T> T query(DataSource dataSource, String sql, List<?> parameters, ResultSetReader<T> reader)
+            throws Exception {
+        Objects.requireNonNull(dataSource, "dataSource cannot be null");
+        AnalyzerResultCache.Key key = new AnalyzerResultCache.Key(dataSource, sql, List.copyOf(parameters));
+        AnalyzerResultCache.Cached<T> cached = cache.get(key, cacheTtl, forceRefresh, () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return query(connection, sql, statement -> bind(statement, key.parameters()), reader);
+            } catch (Exception ex) {
+                // Loads sharing this query retry it themselves instead of failing with this one.
+                if (ex instanceof CancellationException || coordinator.isCurrent(token)) {
+                    throw ex;
+                }
+                CancellationException superseded =
+                        new CancellationException("Analyzer load was superseded while its query ran.");
+                superseded.initCause(ex);
+                throw superseded;
+            }
+        });
+        if (cached.fromCache()) {
+            recordCachedResult(cached.fetchedAt());
+        }
+        return cached.value();
+    }
+
+    public <T> T query(Connection connection, String sql, ResultSetReader<T> reader) throws Exception {
+        return query(connection, sql, statement -> {
+        }, reader);
+    }
+
+    // Runs one query that a newer load or closing the dialog can cancel while it executes.
+    public <T> T query(
+            Connection connection,
+            String sql,
+            ParameterBinder binder,
+            ResultSetReader<T> reader
+    ) throws Exception {
+        Objects.requireNonNull(binder, "binder cannot be null");
+        Objects.requireNonNull(reader, "reader cannot be null");
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            binder.bind(statement);
+            if (timeoutSeconds > 0) {
+                statement.setQueryTimeout(timeoutSeconds);
+            }
+            coordinator.track(token, statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return reader.read(resultSet);
+            } finally {
+                coordinator.untrack(token, statement);
+            }
+        }
+    }
+
+    // When the oldest result this load reused from the cache was fetched; empty if every query ran.
+    public synchronized Optional<Instant> oldestCachedResult() {
+        return Optional.ofNullable(oldestCachedResult);
+    }
+
+    private synchronized void recordCachedResult(Instant fetchedAt) {
+        if (oldestCachedResult == null || fetchedAt.isBefore(oldestCachedResult)) {
+            oldestCachedResult = fetchedAt;
+        }
+    }
+
+    private static void bind(PreparedStatement statement, List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+    @FunctionalInterface
+    public interface ParameterBinder {
+
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface ResultSetReader<T> {
+
+        T read(ResultSet resultSet) throws Exception;
+    }
+}
@@ -1,27 +1,58 @@
 package com.tbg.wms.cli.gui.analyzers;
 
 import javax.swing.Timer;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
 
 public final class AnalyzerRefreshScheduler {
 
+    // The interval is stretched so a load takes at most a third of it.
+    static final int INTERVAL_PER_LOAD_TIME = 3;
+    static final double MAX_JITTER_FRACTION = 0.2;
+
     private final Runnable refreshAction;
+    private final BooleanSupplier loadInFlight;
+    private final Clock clock;
+    private final double jitterFraction;
     private final Timer timer;
     private boolean enabled;
+    private boolean showing = true;
     private Duration interval = Duration.ZERO;
+    private Duration loadTime;
     private Instant lastRefreshBaseline;
+    private Instant lastRefreshStarted;
+    private Instant nextRefreshAt;
 
+    // Without a load to watch there is no shared database pressure to spread out, so no jitter.
     public AnalyzerRefreshScheduler(Runnable refreshAction) {
+        this(refreshAction, () -> false, Clock.systemUTC(), 0);
+    }
+
+    // Each client waits its own fraction of the interval longer, so workstations that refreshed
+    // together at shift change drift apart instead of hitting the database at the same moment.
+    public AnalyzerRefreshScheduler(Runnable refreshAction, BooleanSupplier loadInFlight) {
+        this(refreshAction, loadInFlight, Clock.systemUTC(), ThreadLocalRandom.current().nextDouble(MAX_JITTER_FRACTION));
+    }
+
+    AnalyzerRefreshScheduler(Runnable refreshAction, BooleanSupplier loadInFlight, Clock clock, double jitterFraction) {
         this.refreshAction = Objects.requireNonNull(refreshAction, "refreshAction cannot be null");
-        this.timer = new Timer(0, e -> refreshAction.run());
-        this.timer.setRepeats(true);
+        this.loadInFlight = Objects.requireNonNull(loadInFlight, "loadInFlight cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        if (jitterFraction < 0 || jitterFraction > MAX_JITTER_FRACTION) {
+            throw new IllegalArgumentException("jitterFraction must be between 0 and " + MAX_JITTER_FRACTION);
+        }
+        this.jitterFraction = jitterFraction;
+        this.timer = new Timer(0, e -> timerElapsed());
+        this.timer.setRepeats(false);
     }
 
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
-        restartTimerIfNeeded();
+        reschedule();
     }
 
     public boolean isEnabled() {
@@ -30,7 +61,7 @@ public final class AnalyzerRefreshScheduler {
 
     public void setInterval(Duration interval) {
         this.interval = Objects.requireNonNull(interval, "interval cannot be null");
-        restartTimerIfNeeded();
+        reschedule();
     }
 
     public Duration interval() {
@@ -39,7 +70,15 @@ public final class AnalyzerRefreshScheduler {
 
     public void markRefreshCompleted(Instant completedAt) {
         lastRefreshBaseline = Objects.requireNonNull(completedAt, "completedAt cannot be null");
-        restartTimerIfNeeded();
+        reschedule();
+    }
+
+    // Slow loads stretch the interval; averaging with the previous load keeps one outlier from
+    // doubling it and lets it shrink back gradually.
+    public void markRefreshCompleted(Instant completedAt, Duration took) {
+        Objects.requireNonNull(took, "took cannot be null");
+        loadTime = loadTime == null ? took : loadTime.plus(took).dividedBy(2);
+        markRefreshCompleted(completedAt);
     }
 
     public Instant lastRefreshBaseline() {
@@ -47,18 +86,91 @@ public final class AnalyzerRefreshScheduler {
     }
 
     public void requestImmediateRefresh() {
+        runRefresh();
+        reschedule();
+    }
+
+    // While the dialog is not showing nothing refreshes; once it shows again a refresh that came
+    // due in the meantime runs at once.
+    public void setShowing(boolean showing) {
+        if (this.showing == showing) {
+            return;
+        }
+        this.showing = showing;
+        if (showing && nextRefreshAt != null && !clock.instant().isBefore(nextRefreshAt)) {
+            timerElapsed();
+            return;
+        }
+        reschedule();
+    }
+
+    public boolean isShowing() {
+        return showing;
+    }
+
+    // The interval in use after stretching for slow loads, before this client's jitter.
+    public Duration effectiveInterval() {
+        Duration stretched = loadTime == null ? Duration.ZERO : loadTime.multipliedBy(INTERVAL_PER_LOAD_TIME);
+        return stretched.compareTo(interval) > 0 ? stretched : interval;
+    }
+
+    public Instant nextRefreshAt() {
+        return nextRefreshAt;
+    }
+
+    // A new load cancels the one in flight, so a timer tick during a slow load must not start one
+    // or that load would never finish; manual refreshes still supersede it.
+    void timerElapsed() {
+        if (!enabled || !showing || nextRefreshAt == null) {
+            return;
+        }
+        if (clock.instant().isBefore(nextRefreshAt)) {
+            reschedule();
+            return;
+        }
+        if (loadInFlight.getAsBoolean()) {
+            // Check again a full interval from now; finishing the load reschedules sooner.
+            lastRefreshStarted = clock.instant();
+        } else {
+            runRefresh();
+        }
+        reschedule();
+    }
+
+    private void runRefresh() {
+        lastRefreshStarted = clock.instant();
         refreshAction.run();
-        restartTimerIfNeeded();
     }
 
-    private void restartTimerIfNeeded() {
+    private void reschedule() {
         timer.stop();
         if (!enabled || interval.isZero() || interval.isNegative()) {
+            nextRefreshAt = null;
+            return;
+        }
+        Duration effective = effectiveInterval();
+        Duration jitter = Duration.ofMillis(Math.round(effective.toMillis() * jitterFraction));
+        Instant now = clock.instant();
+        nextRefreshAt = latest(lastRefreshBaseline, lastRefreshStarted, now).plus(effective).plus(jitter);
+        // A baseline older than the interval would arm a 0 ms timer that refreshes again behind
+        // whatever caller just reported it; the next refresh is due a full interval from now.
+        if (!nextRefreshAt.isAfter(now)) {
+            nextRefreshAt = now.plus(effective).plus(jitter);
+        }
+        if (!showing) {
             return;
         }
-        int delayMs = Math.toIntExact(interval.toMillis());
-        timer.setInitialDelay(delayMs);
-        timer.setDelay(delayMs);
+        long delayMs = Duration.between(now, nextRefreshAt).toMillis();
+        timer.setInitialDelay(Math.toIntExact(Math.min(delayMs, Integer.MAX_VALUE)));
         timer.start();
     }
+
+    // Before anything has loaded, the schedule starts from when auto refresh was turned on.
+    private static Instant latest(Instant baseline, Instant started, Instant now) {
+        Instant latest = baseline;
+        if (started != null && (latest == null || started.isAfter(latest))) {
+            latest = started;
+        }
+        return latest == null ? now : latest;
+    }
 }
@@ -0,0 +1,119 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public final class AnalyzerResultCache {
+
+    private static final AnalyzerResultCache SHARED = new AnalyzerResultCache(Clock.systemUTC());
+
+    private final Clock clock;
+    private final Map<Key, Flight<?>> flights = new HashMap<>();
+
+    public AnalyzerResultCache(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    // Every dialog and dashboard panel uses this one, so they share each other's queries.
+    public static AnalyzerResultCache shared() {
+        return SHARED;
+    }
+
+    // Returns a result fetched within the TTL, joins the query if another caller is already running
+    // it, or runs it here. A forced refresh always runs the query; callers arriving after it join it.
+    public <T> Cached<T> get(Key key, Duration ttl, boolean forceRefresh, Loader<T> loader) throws Exception {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(ttl, "ttl cannot be null");
+        Objects.requireNonNull(loader, "loader cannot be null");
+        while (true) {
+            Flight<T> flight;
+            boolean leader;
+            boolean finished;
+            synchronized (this) {
+                pruneExpired(ttl);
+                @SuppressWarnings("unchecked")
+                Flight<T> existing = (Flight<T>) flights.get(key);
+                leader = forceRefresh || existing == null;
+                flight = leader ? new Flight<>() : existing;
+                finished = !leader && existing.fetchedAt != null;
+                if (leader) {
+                    flights.put(key, flight);
+                }
+            }
+            if (leader) {
+                return run(key, flight, loader);
+            }
+            try {
+                Cached<T> shared = flight.result.get();
+                return new Cached<>(shared.value(), shared.fetchedAt(), finished);
+            } catch (CancellationException abandoned) {
+                // The caller running the query was superseded; take over from it.
+            } catch (ExecutionException ex) {
+                throw ex.getCause() instanceof Exception cause ? cause : ex;
+            }
+        }
+    }
+
+    synchronized int size() {
+        return flights.size();
+    }
+
+    private <T> Cached<T> run(Key key, Flight<T> flight, Loader<T> loader) throws Exception {
+        Cached<T> loaded;
+        try {
+            loaded = new Cached<>(loader.load(), clock.instant(), false);
+        } catch (Exception | Error ex) {
+            // Failures are not cached: whoever asks next runs the query again.
+            synchronized (this) {
+                flights.remove(key, flight);
+            }
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+        synchronized (this) {
+            flight.fetchedAt = loaded.fetchedAt();
+        }
+        flight.result.complete(loaded);
+        return loaded;
+    }
+
+    // Joined waiters have already returned, so only finished results past the TTL are dropped.
+    private void pruneExpired(Duration ttl) {
+        Instant oldestFresh = clock.instant().minus(ttl);
+        flights.values().removeIf(flight -> flight.fetchedAt != null && !flight.fetchedAt.isAfter(oldestFresh));
+    }
+
+    // The data source is part of the key so a site switch never serves the old site's rows.
+    public record Key(Object source, String sql, List<Object> parameters) {
+        public Key {
+            Objects.requireNonNull(source, "source cannot be null");
+            Objects.requireNonNull(sql, "sql cannot be null");
+            parameters = List.copyOf(Objects.requireNonNull(parameters, "parameters cannot be null"));
+        }
+    }
+
+    public record Cached<T>(T value, Instant fetchedAt, boolean fromCache) {
+        public Cached {
+            Objects.requireNonNull(fetchedAt, "fetchedAt cannot be null");
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        T load() throws Exception;
+    }
+
+    private static final class Flight<T> {
+        private final CompletableFuture<Cached<T>> result = new CompletableFuture<>();
+        private Instant fetchedAt;
+    }
+}
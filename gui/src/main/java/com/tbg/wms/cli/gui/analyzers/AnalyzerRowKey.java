@@ -0,0 +1,12 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+@FunctionalInterface
+public interface AnalyzerRowKey<R> {
+
+    // Identity of a row across refreshes; rows without one are always redrawn as a full reset.
+    Object keyFor(R row);
+
+    static <R> AnalyzerRowKey<R> none() {
+        return row -> null;
+    }
+}
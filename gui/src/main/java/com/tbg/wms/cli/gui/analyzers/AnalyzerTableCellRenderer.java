@@ -3,6 +3,7 @@ package com.tbg.wms.cli.gui.analyzers;
 import javax.swing.JTable;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.Component;
+import java.awt.Font;
 import java.io.Serial;
 import java.util.Objects;
 
@@ -13,6 +14,8 @@ public final class AnalyzerTableCellRenderer<R> extends DefaultTableCellRenderer
 
     private final AnalyzerTableModel<R> model;
     private final AnalyzerRowStyler<R> styler;
+    private Font baseFont;
+    private Font changedFont;
 
     public AnalyzerTableCellRenderer(AnalyzerTableModel<R> model, AnalyzerRowStyler<R> styler) {
         this.model = Objects.requireNonNull(model, "model cannot be null");
@@ -29,10 +32,22 @@ public final class AnalyzerTableCellRenderer<R> extends DefaultTableCellRenderer
             int column
     ) {
         Component component = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
-        R modelRow = model.rowAt(table.convertRowIndexToModel(row));
-        AnalyzerRowStyle style = styler.styleFor(modelRow);
+        int modelIndex = table.convertRowIndexToModel(row);
+        AnalyzerRowStyle style = styler.styleFor(model.rowAt(modelIndex));
         component.setBackground(style.background());
         component.setForeground(style.foreground());
+        // Bold rather than a color so the styler's row colors keep their meaning.
+        if (model.isRowChanged(modelIndex)) {
+            component.setFont(changedFont(component.getFont()));
+        }
         return component;
     }
+
+    private Font changedFont(Font font) {
+        if (!font.equals(baseFont)) {
+            baseFont = font;
+            changedFont = font.deriveFont(Font.BOLD);
+        }
+        return changedFont;
+    }
 }
@@ -3,9 +3,14 @@ package com.tbg.wms.cli.gui.analyzers;
 import javax.swing.table.AbstractTableModel;
 import java.io.Serial;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 @SuppressWarnings("serial")
 public final class AnalyzerTableModel<R> extends AbstractTableModel {
@@ -13,28 +18,68 @@ public final class AnalyzerTableModel<R> extends AbstractTableModel {
     private static final long serialVersionUID = 1L;
 
     private final List<AnalyzerColumnSet.Column<R>> columns;
-    private List<R> rows = List.of();
+    private final AnalyzerRowKey<R> rowKey;
+    private List<R> rows = new ArrayList<>();
+    private List<Object> keys;
+    private Set<Object> changedKeys = Set.of();
 
     public AnalyzerTableModel(Function<R, Object> valueAccessor, List<String> columnNames) {
         Objects.requireNonNull(valueAccessor, "valueAccessor cannot be null");
         this.columns = List.copyOf(Objects.requireNonNull(columnNames, "columnNames cannot be null").stream()
                 .map(name -> new AnalyzerColumnSet.Column<R>(name, valueAccessor))
                 .toList());
+        this.rowKey = AnalyzerRowKey.none();
     }
 
     public AnalyzerTableModel(AnalyzerColumnSet<R> columnSet) {
+        this(columnSet, AnalyzerRowKey.none());
+    }
+
+    public AnalyzerTableModel(AnalyzerColumnSet<R> columnSet, AnalyzerRowKey<R> rowKey) {
         this.columns = List.copyOf(Objects.requireNonNull(columnSet, "columnSet cannot be null").columns());
+        this.rowKey = Objects.requireNonNull(rowKey, "rowKey cannot be null");
     }
 
+    // Keyed rows are diffed against the current ones so selection and sorting survive a refresh and
+    // only rows that changed are repainted; anything else falls back to a full reset.
     public void setRows(List<R> rows) {
-        this.rows = List.copyOf(new ArrayList<>(Objects.requireNonNull(rows, "rows cannot be null")));
-        fireTableDataChanged();
+        List<R> next = List.copyOf(Objects.requireNonNull(rows, "rows cannot be null"));
+        List<Object> nextKeys = keysOf(next);
+        if (!this.rows.isEmpty() && keys != null && keys.equals(nextKeys)) {
+            // Same rows in the same order, the usual refresh: only values can have changed.
+            this.changedKeys = insertAndUpdate(next, nextKeys);
+            return;
+        }
+        Map<Object, Integer> nextIndex = nextKeys == null ? null : indexOf(nextKeys);
+        if (this.rows.isEmpty() || keys == null || nextIndex == null) {
+            this.rows = new ArrayList<>(next);
+            this.keys = nextIndex == null ? null : new ArrayList<>(nextKeys);
+            this.changedKeys = Set.of();
+            fireTableDataChanged();
+            return;
+        }
+        boolean[] keep = inNextOrder(nextIndex);
+        removeRows(index -> !keep[index]);
+        this.changedKeys = insertAndUpdate(next, nextKeys);
     }
 
     public R rowAt(int rowIndex) {
         return rows.get(rowIndex);
     }
 
+    public Object keyAt(int rowIndex) {
+        return keys == null ? null : keys.get(rowIndex);
+    }
+
+    public int indexOfKey(Object key) {
+        return keys == null || key == null ? -1 : keys.indexOf(key);
+    }
+
+    // True when the row was added or had a visible value change in the last refresh.
+    public boolean isRowChanged(int rowIndex) {
+        return keys != null && changedKeys.contains(keys.get(rowIndex));
+    }
+
     @Override
     public int getRowCount() {
         return rows.size();
@@ -54,4 +99,140 @@ public final class AnalyzerTableModel<R> extends AbstractTableModel {
     public Object getValueAt(int rowIndex, int columnIndex) {
         return columns.get(columnIndex).valueAccessor().apply(rows.get(rowIndex));
     }
+
+    private List<Object> keysOf(List<R> rows) {
+        List<Object> rowKeys = new ArrayList<>(rows.size());
+        for (R row : rows) {
+            Object key = rowKey.keyFor(row);
+            if (key == null) {
+                return null;
+            }
+            rowKeys.add(key);
+        }
+        return rowKeys;
+    }
+
+    private static Map<Object, Integer> indexOf(List<Object> rowKeys) {
+        Map<Object, Integer> index = new HashMap<>(rowKeys.size() * 2);
+        for (int i = 0; i < rowKeys.size(); i++) {
+            if (index.put(rowKeys.get(i), i) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    private void removeRows(IntPredicate remove) {
+        int runEnd = -1;
+        for (int i = rows.size() - 1; i >= -1; i--) {
+            if (i >= 0 && remove.test(i)) {
+                if (runEnd < 0) {
+                    runEnd = i;
+                }
+                continue;
+            }
+            if (runEnd >= 0) {
+                rows.subList(i + 1, runEnd + 1).clear();
+                keys.subList(i + 1, runEnd + 1).clear();
+                fireTableRowsDeleted(i + 1, runEnd);
+                runEnd = -1;
+            }
+        }
+    }
+
+    // Keeps the largest set of current rows that are still present and already in the new order;
+    // rows that moved are removed here and re-inserted at their new position.
+    private boolean[] inNextOrder(Map<Object, Integer> nextIndex) {
+        int size = rows.size();
+        int[] positions = new int[size];
+        boolean sorted = true;
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            Integer position = nextIndex.get(keys.get(i));
+            positions[i] = position == null ? -1 : position;
+            if (positions[i] >= 0) {
+                sorted &= positions[i] > last;
+                last = positions[i];
+            }
+        }
+        boolean[] keep = new boolean[size];
+        if (sorted) {
+            for (int i = 0; i < size; i++) {
+                keep[i] = positions[i] >= 0;
+            }
+            return keep;
+        }
+        int[] tails = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            if (positions[i] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[tails[mid]] < positions[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            length = Math.max(length, low + 1);
+        }
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+
+    // Updated rows keep their index through later inserts, which only happen further down, so they
+    // are reported as one span at the end; Swing merges their repaints into that area anyway.
+    private Set<Object> insertAndUpdate(List<R> next, List<Object> nextKeys) {
+        Set<Object> changed = new HashSet<>();
+        int firstUpdated = -1;
+        int lastUpdated = -1;
+        int i = 0;
+        while (i < next.size()) {
+            if (i < rows.size() && keys.get(i).equals(nextKeys.get(i))) {
+                R previous = rows.get(i);
+                R row = next.get(i);
+                if (!previous.equals(row)) {
+                    rows.set(i, row);
+                    if (!sameValues(previous, row)) {
+                        changed.add(nextKeys.get(i));
+                    }
+                    firstUpdated = firstUpdated < 0 ? i : firstUpdated;
+                    lastUpdated = i;
+                }
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < next.size() && (i >= rows.size() || !nextKeys.get(end).equals(keys.get(i)))) {
+                end++;
+            }
+            rows.addAll(i, next.subList(i, end));
+            keys.addAll(i, nextKeys.subList(i, end));
+            changed.addAll(nextKeys.subList(i, end));
+            fireTableRowsInserted(i, end - 1);
+            i = end;
+        }
+        if (firstUpdated >= 0) {
+            fireTableRowsUpdated(firstUpdated, lastUpdated);
+        }
+        return changed;
+    }
+
+    private boolean sameValues(R previous, R row) {
+        for (AnalyzerColumnSet.Column<R> column : columns) {
+            if (!Objects.equals(column.valueAccessor().apply(previous), column.valueAccessor().apply(row))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
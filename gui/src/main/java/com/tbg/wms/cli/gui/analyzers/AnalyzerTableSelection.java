@@ -0,0 +1,35 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+import javax.swing.JTable;
+import java.util.ArrayList;
+import java.util.List;
+
+final class AnalyzerTableSelection {
+
+    private AnalyzerTableSelection() {
+    }
+
+    // Swing extends a selection over rows inserted right at it, so the selected rows are
+    // reselected by key once the new rows are in.
+    static <R> void setRows(JTable table, AnalyzerTableModel<R> model, List<R> rows) {
+        List<Object> selectedKeys = new ArrayList<>();
+        for (int viewRow : table.getSelectedRows()) {
+            Object key = model.keyAt(table.convertRowIndexToModel(viewRow));
+            if (key != null) {
+                selectedKeys.add(key);
+            }
+        }
+        model.setRows(rows);
+        if (selectedKeys.isEmpty()) {
+            return;
+        }
+        table.clearSelection();
+        for (Object key : selectedKeys) {
+            int modelRow = model.indexOfKey(key);
+            int viewRow = modelRow < 0 ? -1 : table.convertRowIndexToView(modelRow);
+            if (viewRow >= 0) {
+                table.addRowSelectionInterval(viewRow, viewRow);
+            }
+        }
+    }
+}
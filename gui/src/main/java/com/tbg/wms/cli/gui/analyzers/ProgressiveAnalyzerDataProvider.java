@@ -0,0 +1,15 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+import java.util.function.Consumer;
+
+public interface ProgressiveAnalyzerDataProvider<R> extends AnalyzerDataProvider<R> {
+
+    // onRowReady runs on loader threads in completion order; the result keeps presentation order.
+    AnalyzerResult<R> load(AnalyzerContext context, Consumer<R> onRowReady) throws Exception;
+
+    @Override
+    default AnalyzerResult<R> load(AnalyzerContext context) throws Exception {
+        return load(context, row -> {
+        });
+    }
+}
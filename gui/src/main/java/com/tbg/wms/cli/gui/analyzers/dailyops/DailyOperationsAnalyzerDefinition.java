@@ -38,6 +38,9 @@ public final class DailyOperationsAnalyzerDefinition implements AnalyzerDefiniti
 
     @Override
     public AnalyzerDataProvider<AnalyzerDashboardSectionSnapshot> createProvider(AnalyzerContext context) {
+        // Leave one pooled connection for the rest of the application while sections load.
+        int parallelism = Math.max(1, Math.min(
+                DailyOperationsDataProvider.DEFAULT_PARALLELISM, context.config().dbPoolMaxSize() - 1));
         return new DailyOperationsDataProvider(List.of(
                 new CasePickSummarySectionLoader(),
                 new CasePickShiftThroughputSectionLoader(),
@@ -45,7 +48,7 @@ public final class DailyOperationsAnalyzerDefinition implements AnalyzerDefiniti
                 new UnloadLoadActivitySectionLoader(),
                 new ProductionSnapshotSectionLoader(),
                 new StorageCapacitySectionLoader()
-        ));
+        ), Duration.ofSeconds(context.config().analyzerSectionTimeoutSeconds()), parallelism);
     }
 
     @Override
@@ -1,33 +1,177 @@
 package com.tbg.wms.cli.gui.analyzers.dailyops;
 
 import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
-import com.tbg.wms.cli.gui.analyzers.AnalyzerDataProvider;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerResult;
+import com.tbg.wms.cli.gui.analyzers.ProgressiveAnalyzerDataProvider;
 import com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSectionSnapshot;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
 
-public final class DailyOperationsDataProvider implements AnalyzerDataProvider<AnalyzerDashboardSectionSnapshot> {
+public final class DailyOperationsDataProvider implements ProgressiveAnalyzerDataProvider<AnalyzerDashboardSectionSnapshot> {
+
+    static final Duration DEFAULT_SECTION_TIMEOUT = Duration.ofSeconds(90);
+    static final int DEFAULT_PARALLELISM = 4;
+    private static final long NOT_STARTED = Long.MIN_VALUE;
 
     private final List<DailyOperationsSectionLoader> sectionLoaders;
+    private final Duration sectionTimeout;
+    private final int parallelism;
 
     public DailyOperationsDataProvider(List<DailyOperationsSectionLoader> sectionLoaders) {
+        this(sectionLoaders, DEFAULT_SECTION_TIMEOUT, DEFAULT_PARALLELISM);
+    }
+
+    public DailyOperationsDataProvider(
+            List<DailyOperationsSectionLoader> sectionLoaders,
+            Duration sectionTimeout,
+            int parallelism
+    ) {
         this.sectionLoaders = List.copyOf(Objects.requireNonNull(sectionLoaders, "sectionLoaders cannot be null"));
+        this.sectionTimeout = Objects.requireNonNull(sectionTimeout, "sectionTimeout cannot be null");
+        if (sectionTimeout.isZero() || sectionTimeout.isNegative()) {
+            throw new IllegalArgumentException("sectionTimeout must be positive");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
     }
 
     @Override
-    public AnalyzerResult<AnalyzerDashboardSectionSnapshot> load(AnalyzerContext context) {
-        List<AnalyzerDashboardSectionSnapshot> sections = new ArrayList<>();
-        for (DailyOperationsSectionLoader loader : sectionLoaders) {
+    public AnalyzerResult<AnalyzerDashboardSectionSnapshot> load(
+            AnalyzerContext context,
+            Consumer<AnalyzerDashboardSectionSnapshot> onSectionReady
+    ) throws InterruptedException {
+        Objects.requireNonNull(onSectionReady, "onSectionReady cannot be null");
+        int count = sectionLoaders.size();
+        AnalyzerDashboardSectionSnapshot[] sections = new AnalyzerDashboardSectionSnapshot[count];
+        if (count == 0) {
+            return new AnalyzerResult<>(List.of(), Instant.now(context.clock()));
+        }
+        int threads = Math.min(parallelism, count);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "daily-ops-section-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<LoadedSection> completion = new ExecutorCompletionService<>(executor);
+        AtomicLongArray startedAt = new AtomicLongArray(count);
+        List<Future<LoadedSection>> futures = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                startedAt.set(index, NOT_STARTED);
+                futures.add(completion.submit(() -> {
+                    startedAt.set(index, System.nanoTime());
+                    return new LoadedSection(index, loadSection(sectionLoaders.get(index), context));
+                }));
+            }
+            awaitSections(completion, futures, startedAt, sections, threads, onSectionReady);
+        } finally {
+            // Timed-out sections are interrupted; their results are no longer wanted.
+            executor.shutdownNow();
+        }
+        return new AnalyzerResult<>(Arrays.asList(sections), Instant.now(context.clock()));
+    }
+
+    // Each section's timeout runs from when it starts. Sections still queued behind hung ones are
+    // bounded by the time every wave of sections could have taken.
+    private void awaitSections(
+            CompletionService<LoadedSection> completion,
+            List<Future<LoadedSection>> futures,
+            AtomicLongArray startedAt,
+            AnalyzerDashboardSectionSnapshot[] sections,
+            int threads,
+            Consumer<AnalyzerDashboardSectionSnapshot> onSectionReady
+    ) throws InterruptedException {
+        long timeoutNanos = sectionTimeout.toNanos();
+        int waves = (sections.length + threads - 1) / threads;
+        long refreshDeadline = System.nanoTime() + timeoutNanos * waves;
+        Set<Integer> pending = new LinkedHashSet<>();
+        for (int i = 0; i < sections.length; i++) {
+            pending.add(i);
+        }
+        while (!pending.isEmpty()) {
+            long now = System.nanoTime();
+            long nextDeadline = refreshDeadline;
+            for (Integer index : List.copyOf(pending)) {
+                long started = startedAt.get(index);
+                if (now - refreshDeadline >= 0 || (started != NOT_STARTED && now - started >= timeoutNanos)) {
+                    futures.get(index).cancel(true);
+                    pending.remove(index);
+                    publish(index, timedOut(sectionLoaders.get(index)), sections, onSectionReady);
+                } else if (started != NOT_STARTED && started + timeoutNanos - nextDeadline < 0) {
+                    nextDeadline = started + timeoutNanos;
+                }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            Future<LoadedSection> done = completion.poll(Math.max(0, nextDeadline - now), TimeUnit.NANOSECONDS);
+            if (done == null || done.isCancelled()) {
+                continue;
+            }
+            LoadedSection loaded;
             try {
-                sections.add(loader.loadSection(context));
-            } catch (Exception ex) {
-                sections.add(AnalyzerDashboardSectionSnapshot.failure(loader.title(), ex.getMessage()));
+                loaded = done.get();
+            } catch (ExecutionException ex) {
+                // loadSection turns exceptions into failed sections, so only Errors get here.
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(ex.getCause());
+            }
+            if (pending.remove(loaded.index())) {
+                publish(loaded.index(), loaded.section(), sections, onSectionReady);
             }
         }
-        return new AnalyzerResult<>(sections, Instant.now(context.clock()));
+    }
+
+    private static void publish(
+            int index,
+            AnalyzerDashboardSectionSnapshot section,
+            AnalyzerDashboardSectionSnapshot[] sections,
+            Consumer<AnalyzerDashboardSectionSnapshot> onSectionReady
+    ) {
+        sections[index] = section;
+        onSectionReady.accept(section);
+    }
+
+    private static AnalyzerDashboardSectionSnapshot loadSection(DailyOperationsSectionLoader loader, AnalyzerContext context) {
+        try {
+            return loader.loadSection(context);
+        } catch (Exception ex) {
+            return AnalyzerDashboardSectionSnapshot.failure(loader.title(), ex.getMessage() == null
+                    ? ex.getClass().getSimpleName()
+                    : ex.getMessage());
+        }
+    }
+
+    private AnalyzerDashboardSectionSnapshot timedOut(DailyOperationsSectionLoader loader) {
+        String limit = sectionTimeout.toMillis() < 1000
+                ? sectionTimeout.toMillis() + " ms"
+                : sectionTimeout.toSeconds() + " s";
+        return AnalyzerDashboardSectionSnapshot.failure(loader.title(), "Timed out after " + limit + ".");
+    }
+
+    private record LoadedSection(int index, AnalyzerDashboardSectionSnapshot section) {
     }
 }
@@ -3,15 +3,11 @@ package com.tbg.wms.cli.gui.analyzers.dailyops.sections;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.cli.gui.analyzers.dailyops.DailyOperationsSectionLoader;
 import com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSectionSnapshot;
-import com.tbg.wms.core.AppConfig;
-import com.tbg.wms.core.db.DataSourceFactory;
-import com.zaxxer.hikari.HikariDataSource;
+import com.tbg.wms.db.DbConnectionPoolManager;
 
 import javax.sql.DataSource;
 import javax.swing.JTable;
 import javax.swing.table.DefaultTableModel;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -37,7 +33,7 @@ public final class CasePickShiftThroughputSectionLoader implements DailyOperatio
 
     @Override
     public AnalyzerDashboardSectionSnapshot loadSection(AnalyzerContext context) throws Exception {
-        List<CasePickShiftThroughputRow> rows = queryService.fetchRows(context.config()).stream().map(this::mapRow).toList();
+        List<CasePickShiftThroughputRow> rows = queryService.fetchRows(context).stream().map(this::mapRow).toList();
         return AnalyzerDashboardSectionSnapshot.success(title(), buildTable(rows));
     }
 
@@ -87,29 +83,21 @@ public final class CasePickShiftThroughputSectionLoader implements DailyOperatio
                 order by 1
                 """;
 
-        List<QueryRow> fetchRows(AppConfig config) throws Exception {
-            DataSource dataSource = new DataSourceFactory(config).create();
-            try {
-                try (Connection connection = dataSource.getConnection();
-                     PreparedStatement statement = connection.prepareStatement(SQL);
-                     ResultSet resultSet = statement.executeQuery()) {
-                    List<QueryRow> rows = new ArrayList<>();
-                    while (resultSet.next()) {
-                        rows.add(new QueryRow(
-                                toLocalDate(resultSet, "casepicks"),
-                                integerValue(resultSet, "thirda"),
-                                integerValue(resultSet, "first"),
-                                integerValue(resultSet, "second"),
-                                integerValue(resultSet, "thirdb")
-                        ));
-                    }
-                    return rows;
+        List<QueryRow> fetchRows(AnalyzerContext context) throws Exception {
+            DataSource dataSource = DbConnectionPoolManager.application().dataSource(context.config());
+            return context.queries().query(dataSource, SQL, List.of(), resultSet -> {
+                List<QueryRow> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    rows.add(new QueryRow(
+                            toLocalDate(resultSet, "casepicks"),
+                            integerValue(resultSet, "thirda"),
+                            integerValue(resultSet, "first"),
+                            integerValue(resultSet, "second"),
+                            integerValue(resultSet, "thirdb")
+                    ));
                 }
-            } finally {
-                if (dataSource instanceof HikariDataSource hikariDataSource) {
-                    hikariDataSource.close();
-                }
-            }
+                return rows;
+            });
         }
 
         private Integer integerValue(ResultSet resultSet, String column) throws Exception {
@@ -3,15 +3,11 @@ package com.tbg.wms.cli.gui.analyzers.dailyops.sections;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.cli.gui.analyzers.dailyops.DailyOperationsSectionLoader;
 import com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSectionSnapshot;
-import com.tbg.wms.core.AppConfig;
-import com.tbg.wms.core.db.DataSourceFactory;
-import com.zaxxer.hikari.HikariDataSource;
+import com.tbg.wms.db.DbConnectionPoolManager;
 
 import javax.sql.DataSource;
 import javax.swing.JTable;
 import javax.swing.table.DefaultTableModel;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -37,7 +33,7 @@ public final class ProductionSnapshotSectionLoader implements DailyOperationsSec
 
     @Override
     public AnalyzerDashboardSectionSnapshot loadSection(AnalyzerContext context) throws Exception {
-        List<ProductionSnapshotRow> rows = queryService.fetchRows(context.config()).stream().map(this::mapRow).toList();
+        List<ProductionSnapshotRow> rows = queryService.fetchRows(context).stream().map(this::mapRow).toList();
         return AnalyzerDashboardSectionSnapshot.success(title(), buildTable(rows));
     }
 
@@ -71,28 +67,20 @@ public final class ProductionSnapshotSectionLoader implements DailyOperationsSec
                 group by frstol,prtnum)
                 """;
 
-        List<QueryRow> fetchRows(AppConfig config) throws Exception {
-            DataSource dataSource = new DataSourceFactory(config).create();
-            try {
-                try (Connection connection = dataSource.getConnection();
-                     PreparedStatement statement = connection.prepareStatement(SQL);
-                     ResultSet resultSet = statement.executeQuery()) {
-                    List<QueryRow> rows = new ArrayList<>();
-                    while (resultSet.next()) {
-                        rows.add(new QueryRow(
-                                resultSet.getString("work_order"),
-                                resultSet.getString("item_num"),
-                                toLocalDateTime(resultSet, "last_rcvd_time"),
-                                integerValue(resultSet, "pallets_produced")
-                        ));
-                    }
-                    return rows;
+        List<QueryRow> fetchRows(AnalyzerContext context) throws Exception {
+            DataSource dataSource = DbConnectionPoolManager.application().dataSource(context.config());
+            return context.queries().query(dataSource, SQL, List.of(), resultSet -> {
+                List<QueryRow> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    rows.add(new QueryRow(
+                            resultSet.getString("work_order"),
+                            resultSet.getString("item_num"),
+                            toLocalDateTime(resultSet, "last_rcvd_time"),
+                            integerValue(resultSet, "pallets_produced")
+                    ));
                 }
-            } finally {
-                if (dataSource instanceof HikariDataSource hikariDataSource) {
-                    hikariDataSource.close();
-                }
-            }
+                return rows;
+            });
         }
 
         private Integer integerValue(ResultSet resultSet, String column) throws Exception {
@@ -3,15 +3,11 @@ package com.tbg.wms.cli.gui.analyzers.dailyops.sections;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.cli.gui.analyzers.dailyops.DailyOperationsSectionLoader;
 import com.tbg.wms.cli.gui.analyzers.dashboard.AnalyzerDashboardSectionSnapshot;
-import com.tbg.wms.core.AppConfig;
-import com.tbg.wms.core.db.DataSourceFactory;
-import com.zaxxer.hikari.HikariDataSource;
+import com.tbg.wms.db.DbConnectionPoolManager;
 
 import javax.sql.DataSource;
 import javax.swing.JTable;
 import javax.swing.table.DefaultTableModel;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -38,10 +34,10 @@ public final class UnloadLoadActivitySectionLoader implements DailyOperationsSec
     @Override
     public AnalyzerDashboardSectionSnapshot loadSection(AnalyzerContext context) throws Exception {
         List<UnloadLoadActivityRow> rows = new ArrayList<>();
-        rows.addAll(mapMetricRows("Unloads", queryService.fetchUnloads(context.config())));
-        rows.addAll(mapMetricRows("Rail Unloads", queryService.fetchRailUnloads(context.config())));
-        rows.addAll(mapMetricRows("Rail Loads", queryService.fetchRailLoads(context.config())));
-        rows.addAll(mapMetricRows("Truck Loads", queryService.fetchTruckLoads(context.config())));
+        rows.addAll(mapMetricRows("Unloads", queryService.fetchUnloads(context)));
+        rows.addAll(mapMetricRows("Rail Unloads", queryService.fetchRailUnloads(context)));
+        rows.addAll(mapMetricRows("Rail Loads", queryService.fetchRailLoads(context)));
+        rows.addAll(mapMetricRows("Truck Loads", queryService.fetchTruckLoads(context)));
         return AnalyzerDashboardSectionSnapshot.success(title(), buildTable(rows));
     }
 
@@ -165,45 +161,37 @@ public final class UnloadLoadActivitySectionLoader implements DailyOperationsSec
                 order by 1
                 """;
 
-        List<QueryRow> fetchUnloads(AppConfig config) throws Exception {
-            return fetchRows(config, UNLOADS_SQL, "unloads");
+        List<QueryRow> fetchUnloads(AnalyzerContext context) throws Exception {
+            return fetchRows(context, UNLOADS_SQL, "unloads");
         }
 
-        List<QueryRow> fetchRailUnloads(AppConfig config) throws Exception {
-            return fetchRows(config, RAIL_UNLOADS_SQL, "unloads");
+        List<QueryRow> fetchRailUnloads(AnalyzerContext context) throws Exception {
+            return fetchRows(context, RAIL_UNLOADS_SQL, "unloads");
         }
 
-        List<QueryRow> fetchRailLoads(AppConfig config) throws Exception {
-            return fetchRows(config, RAIL_LOADS_SQL, "railloads");
+        List<QueryRow> fetchRailLoads(AnalyzerContext context) throws Exception {
+            return fetchRows(context, RAIL_LOADS_SQL, "railloads");
         }
 
-        List<QueryRow> fetchTruckLoads(AppConfig config) throws Exception {
-            return fetchRows(config, TRUCK_LOADS_SQL, "truckloads");
+        List<QueryRow> fetchTruckLoads(AnalyzerContext context) throws Exception {
+            return fetchRows(context, TRUCK_LOADS_SQL, "truckloads");
         }
 
-        private List<QueryRow> fetchRows(AppConfig config, String sql, String dateColumn) throws Exception {
-            DataSource dataSource = new DataSourceFactory(config).create();
-            try {
-                try (Connection connection = dataSource.getConnection();
-                     PreparedStatement statement = connection.prepareStatement(sql);
-                     ResultSet resultSet = statement.executeQuery()) {
-                    List<QueryRow> rows = new ArrayList<>();
-                    while (resultSet.next()) {
-                        rows.add(new QueryRow(
-                                toLocalDate(resultSet, dateColumn),
-                                integerValue(resultSet, "thirda"),
-                                integerValue(resultSet, "first"),
-                                integerValue(resultSet, "second"),
-                                integerValue(resultSet, "thirdb")
-                        ));
-                    }
-                    return rows;
+        private List<QueryRow> fetchRows(AnalyzerContext context, String sql, String dateColumn) throws Exception {
+            DataSource dataSource = DbConnectionPoolManager.application().dataSource(context.config());
+            return context.queries().query(dataSource, sql, List.of(), resultSet -> {
+                List<QueryRow> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    rows.add(new QueryRow(
+                            toLocalDate(resultSet, dateColumn),
+                            integerValue(resultSet, "thirda"),
+                            integerValue(resultSet, "first"),
+                            integerValue(resultSet, "second"),
+                            integerValue(resultSet, "thirdb")
+                    ));
                 }
-            } finally {
-                if (dataSource instanceof HikariDataSource hikariDataSource) {
-                    hikariDataSource.close();
-                }
-            }
+                return rows;
+            });
         }
 
         private Integer integerValue(ResultSet resultSet, String column) throws Exception {
@@ -3,43 +3,70 @@ package com.tbg.wms.cli.gui.analyzers.dashboard;
 import javax.swing.BoxLayout;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
-import java.awt.BorderLayout;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("serial")
 public final class AnalyzerDashboardPanel extends JScrollPane {
 
     private final JPanel sectionsPanel = new JPanel();
-    private final List<AnalyzerDashboardSectionPanel> sectionPanels = new ArrayList<>();
+    private final Map<String, AnalyzerDashboardSectionPanel> sectionPanels = new LinkedHashMap<>();
 
     public AnalyzerDashboardPanel() {
         sectionsPanel.setLayout(new BoxLayout(sectionsPanel, BoxLayout.Y_AXIS));
         setViewportView(sectionsPanel);
     }
 
+    // Sections are matched by title, so a section that fails this time keeps its previous content.
     public void showSnapshot(AnalyzerDashboardSnapshot snapshot) {
-        sectionsPanel.removeAll();
+        Map<String, AnalyzerDashboardSectionPanel> previous = new LinkedHashMap<>(sectionPanels);
         sectionPanels.clear();
+        sectionsPanel.removeAll();
         for (AnalyzerDashboardSectionSnapshot section : snapshot.sections()) {
-            AnalyzerDashboardSectionPanel panel = new AnalyzerDashboardSectionPanel();
+            AnalyzerDashboardSectionPanel panel = previous.containsKey(section.title())
+                    ? previous.get(section.title())
+                    : new AnalyzerDashboardSectionPanel();
             panel.showSection(section);
-            sectionPanels.add(panel);
+            sectionPanels.put(section.title(), panel);
+            sectionsPanel.add(panel);
+        }
+        sectionsPanel.revalidate();
+        sectionsPanel.repaint();
+    }
+
+    // Replaces one section as soon as it has loaded; a section not shown yet is appended.
+    public void showSection(AnalyzerDashboardSectionSnapshot section) {
+        AnalyzerDashboardSectionPanel panel = sectionPanels.get(section.title());
+        if (panel == null) {
+            panel = new AnalyzerDashboardSectionPanel();
+            sectionPanels.put(section.title(), panel);
             sectionsPanel.add(panel);
         }
+        panel.showSection(section);
+        sectionsPanel.revalidate();
+        sectionsPanel.repaint();
+    }
+
+    public void clear() {
+        sectionPanels.clear();
+        sectionsPanel.removeAll();
         sectionsPanel.revalidate();
         sectionsPanel.repaint();
     }
 
     List<String> sectionTitlesForTest() {
-        return sectionPanels.stream().map(AnalyzerDashboardSectionPanel::titleForTest).toList();
+        return new ArrayList<>(sectionPanels.keySet());
     }
 
     String sectionErrorTextForTest(String title) {
-        return sectionPanels.stream()
-                .filter(panel -> panel.titleForTest().equals(title))
-                .map(AnalyzerDashboardSectionPanel::errorTextForTest)
-                .findFirst()
-                .orElse("");
+        AnalyzerDashboardSectionPanel panel = sectionPanels.get(title);
+        return panel == null ? "" : panel.errorTextForTest();
+    }
+
+    boolean sectionShowsContentForTest(String title) {
+        AnalyzerDashboardSectionPanel panel = sectionPanels.get(title);
+        return panel != null && panel.showsContentForTest();
     }
 }
@@ -28,17 +28,22 @@ public final class AnalyzerDashboardSectionPanel extends JPanel {
 
     void showSection(AnalyzerDashboardSectionSnapshot snapshot) {
         titleLabel.setText(snapshot.title());
-        contentPanel.removeAll();
         if (snapshot.failed()) {
-            errorLabel.setText(snapshot.errorText());
+            // Keep the last good table on screen and mark it stale rather than blanking it.
+            errorLabel.setText(contentPanel.getComponentCount() > 0
+                    ? "Showing previous data. Refresh failed: " + snapshot.errorText()
+                    : snapshot.errorText());
             errorLabel.setVisible(true);
         } else {
+            contentPanel.removeAll();
             errorLabel.setVisible(false);
             JComponent content = snapshot.content();
             if (content != null) {
                 contentPanel.add(content, BorderLayout.CENTER);
             }
         }
+        contentPanel.revalidate();
+        contentPanel.repaint();
     }
 
     String titleForTest() {
@@ -46,6 +51,10 @@ public final class AnalyzerDashboardSectionPanel extends JPanel {
     }
 
     String errorTextForTest() {
-        return errorLabel.getText();
+        return errorLabel.isVisible() ? errorLabel.getText() : "";
+    }
+
+    boolean showsContentForTest() {
+        return contentPanel.getComponentCount() > 0;
     }
 }
@@ -4,6 +4,7 @@ import com.tbg.wms.cli.gui.analyzers.AnalyzerColumnSet;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerDataProvider;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerDefinition;
+import com.tbg.wms.cli.gui.analyzers.AnalyzerRowKey;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerRowStyler;
 
 import java.time.Duration;
@@ -39,4 +40,12 @@ public final class AllDockDoorsAnalyzerDefinition implements AnalyzerDefinition<
     public AnalyzerRowStyler<AllDockDoorsRow> rowStyler() {
         return new AllDockDoorsRowStyler();
     }
+
+    @Override
+    public AnalyzerRowKey<AllDockDoorsRow> rowKey() {
+        return row -> new RowKey(row.door(), row.trailerId());
+    }
+
+    private record RowKey(String door, String trailerId) {
+    }
 }
@@ -20,6 +20,6 @@ public final class AllDockDoorsDataProvider implements AnalyzerDataProvider<AllD
 
     @Override
     public AnalyzerResult<AllDockDoorsRow> load(AnalyzerContext context) throws Exception {
-        return new AnalyzerResult<>(queryService.fetchRows(context.config()), Instant.now(clock));
+        return new AnalyzerResult<>(queryService.fetchRows(context), Instant.now(clock));
     }
 }
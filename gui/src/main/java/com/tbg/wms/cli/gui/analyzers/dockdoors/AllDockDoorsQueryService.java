@@ -1,12 +1,9 @@
 package com.tbg.wms.cli.gui.analyzers.dockdoors;
 
-import com.tbg.wms.core.AppConfig;
-import com.tbg.wms.core.db.DataSourceFactory;
-import com.zaxxer.hikari.HikariDataSource;
+import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
+import com.tbg.wms.db.DbConnectionPoolManager;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -186,43 +183,35 @@ public final class AllDockDoorsQueryService {
             order by 1
             """;
 
-    List<AllDockDoorsRow> fetchRows(AppConfig config) throws Exception {
-        DataSource dataSource = new DataSourceFactory(config).create();
-        try {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement statement = connection.prepareStatement(SQL);
-                 ResultSet resultSet = statement.executeQuery()) {
-                List<AllDockDoorsRow> rows = new ArrayList<>();
-                while (resultSet.next()) {
-                    rows.add(mapRow(new QueryRow(
-                            resultSet.getString("door"),
-                            resultSet.getString("d_l"),
-                            resultSet.getString("inb"),
-                            resultSet.getString("trailer_id"),
-                            resultSet.getString("mst_ship_num"),
-                            toLocalDateTime(resultSet, "appt_time"),
-                            toLocalDateTime(resultSet, "chkin"),
-                            toLocalDateTime(resultSet, "move_to_door"),
-                            integerValue(resultSet, "mins_at_door"),
-                            doubleValue(resultSet, "shp_perc_cmpl"),
-                            doubleValue(resultSet, "appt_over"),
-                            doubleValue(resultSet, "stops"),
-                            resultSet.getString("short"),
-                            resultSet.getString("customer"),
-                            resultSet.getString("soldto_nbr"),
-                            resultSet.getString("soldto_match_key"),
-                            resultSet.getString("airbag_flag"),
-                            doubleValue(resultSet, "rossi_pals"),
-                            doubleValue(resultSet, "rossi_cmpcks")
-                    )));
-                }
-                return rows;
+    List<AllDockDoorsRow> fetchRows(AnalyzerContext context) throws Exception {
+        DataSource dataSource = DbConnectionPoolManager.application().dataSource(context.config());
+        return context.queries().query(dataSource, SQL, List.of(), resultSet -> {
+            List<AllDockDoorsRow> rows = new ArrayList<>();
+            while (resultSet.next()) {
+                rows.add(mapRow(new QueryRow(
+                        resultSet.getString("door"),
+                        resultSet.getString("d_l"),
+                        resultSet.getString("inb"),
+                        resultSet.getString("trailer_id"),
+                        resultSet.getString("mst_ship_num"),
+                        toLocalDateTime(resultSet, "appt_time"),
+                        toLocalDateTime(resultSet, "chkin"),
+                        toLocalDateTime(resultSet, "move_to_door"),
+                        integerValue(resultSet, "mins_at_door"),
+                        doubleValue(resultSet, "shp_perc_cmpl"),
+                        doubleValue(resultSet, "appt_over"),
+                        doubleValue(resultSet, "stops"),
+                        resultSet.getString("short"),
+                        resultSet.getString("customer"),
+                        resultSet.getString("soldto_nbr"),
+                        resultSet.getString("soldto_match_key"),
+                        resultSet.getString("airbag_flag"),
+                        doubleValue(resultSet, "rossi_pals"),
+                        doubleValue(resultSet, "rossi_cmpcks")
+                )));
             }
-        } finally {
-            if (dataSource instanceof HikariDataSource hikariDataSource) {
-                hikariDataSource.close();
-            }
-        }
+            return rows;
+        });
     }
 
     AllDockDoorsRow mapRow(QueryRow row) {
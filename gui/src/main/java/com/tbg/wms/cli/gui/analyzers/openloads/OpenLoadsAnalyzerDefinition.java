@@ -4,6 +4,7 @@ import com.tbg.wms.cli.gui.analyzers.AnalyzerColumnSet;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerDataProvider;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerDefinition;
+import com.tbg.wms.cli.gui.analyzers.AnalyzerRowKey;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerRowStyler;
 
 import java.time.Duration;
@@ -39,4 +40,12 @@ public final class OpenLoadsAnalyzerDefinition implements AnalyzerDefinition<Ope
     public AnalyzerRowStyler<OpenLoadsRow> rowStyler() {
         return new OpenLoadsRowStyler();
     }
+
+    @Override
+    public AnalyzerRowKey<OpenLoadsRow> rowKey() {
+        return row -> new RowKey(row.warehouseId(), row.shipmentId(), row.orderNumber());
+    }
+
+    private record RowKey(String warehouseId, String shipmentId, String orderNumber) {
+    }
 }
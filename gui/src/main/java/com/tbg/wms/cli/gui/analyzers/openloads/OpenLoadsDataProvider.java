@@ -20,6 +20,6 @@ public final class OpenLoadsDataProvider implements AnalyzerDataProvider<OpenLoa
 
     @Override
     public AnalyzerResult<OpenLoadsRow> load(AnalyzerContext context) throws Exception {
-        return new AnalyzerResult<>(queryService.fetchRows(context.config()), Instant.now(clock));
+        return new AnalyzerResult<>(queryService.fetchRows(context), Instant.now(clock));
     }
 }
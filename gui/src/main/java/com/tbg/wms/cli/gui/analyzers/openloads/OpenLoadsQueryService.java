@@ -1,12 +1,9 @@
 package com.tbg.wms.cli.gui.analyzers.openloads;
 
-import com.tbg.wms.core.AppConfig;
-import com.tbg.wms.core.db.DataSourceFactory;
-import com.zaxxer.hikari.HikariDataSource;
+import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
+import com.tbg.wms.db.DbConnectionPoolManager;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -87,47 +84,39 @@ public final class OpenLoadsQueryService {
             order by appt,car_move_id,stop_seq
             """;
 
-    List<OpenLoadsRow> fetchRows(AppConfig config) throws Exception {
-        DataSource dataSource = new DataSourceFactory(config).create();
-        try {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement statement = connection.prepareStatement(SQL);
-                 ResultSet resultSet = statement.executeQuery()) {
-                List<OpenLoadsRow> rows = new ArrayList<>();
-                while (resultSet.next()) {
-                    rows.add(mapRow(new QueryRow(
-                            resultSet.getString("wh_id"),
-                            resultSet.getString("car_move_id"),
-                            resultSet.getString("ordnum"),
-                            resultSet.getString("ship_id"),
-                            resultSet.getString("d_l"),
-                            resultSet.getString("carcod"),
-                            resultSet.getString("trlr_num"),
-                            resultSet.getString("yard_loc"),
-                            resultSet.getString("shpsts"),
-                            toLocalDateTime(resultSet, "appt"),
-                            resultSet.getString("dstloc"),
-                            resultSet.getString("customer"),
-                            resultSet.getString("carnam"),
-                            integerValue(resultSet, "casepicks"),
-                            integerValue(resultSet, "case_picks_comp"),
-                            integerValue(resultSet, "picks_rem"),
-                            resultSet.getString("platform"),
-                            resultSet.getString("shp_dck_flg"),
-                            resultSet.getString("trlr_cod"),
-                            resultSet.getString("nottxt"),
-                            integerValue(resultSet, "staged"),
-                            integerValue(resultSet, "stop_seq"),
-                            resultSet.getString("short")
-                    )));
-                }
-                return rows;
+    List<OpenLoadsRow> fetchRows(AnalyzerContext context) throws Exception {
+        DataSource dataSource = DbConnectionPoolManager.application().dataSource(context.config());
+        return context.queries().query(dataSource, SQL, List.of(), resultSet -> {
+            List<OpenLoadsRow> rows = new ArrayList<>();
+            while (resultSet.next()) {
+                rows.add(mapRow(new QueryRow(
+                        resultSet.getString("wh_id"),
+                        resultSet.getString("car_move_id"),
+                        resultSet.getString("ordnum"),
+                        resultSet.getString("ship_id"),
+                        resultSet.getString("d_l"),
+                        resultSet.getString("carcod"),
+                        resultSet.getString("trlr_num"),
+                        resultSet.getString("yard_loc"),
+                        resultSet.getString("shpsts"),
+                        toLocalDateTime(resultSet, "appt"),
+                        resultSet.getString("dstloc"),
+                        resultSet.getString("customer"),
+                        resultSet.getString("carnam"),
+                        integerValue(resultSet, "casepicks"),
+                        integerValue(resultSet, "case_picks_comp"),
+                        integerValue(resultSet, "picks_rem"),
+                        resultSet.getString("platform"),
+                        resultSet.getString("shp_dck_flg"),
+                        resultSet.getString("trlr_cod"),
+                        resultSet.getString("nottxt"),
+                        integerValue(resultSet, "staged"),
+                        integerValue(resultSet, "stop_seq"),
+                        resultSet.getString("short")
+                )));
             }
-        } finally {
-            if (dataSource instanceof HikariDataSource hikariDataSource) {
-                hikariDataSource.close();
-            }
-        }
+            return rows;
+        });
     }
 
     OpenLoadsRow mapRow(QueryRow row) {
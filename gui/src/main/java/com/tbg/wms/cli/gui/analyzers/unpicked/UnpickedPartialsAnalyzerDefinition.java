@@ -5,6 +5,7 @@ import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerDataProvider;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerDefinition;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerResult;
+import com.tbg.wms.cli.gui.analyzers.AnalyzerRowKey;
 import com.tbg.wms.cli.gui.analyzers.AnalyzerRowStyler;
 
 import java.time.Duration;
@@ -45,4 +46,12 @@ public final class UnpickedPartialsAnalyzerDefinition implements AnalyzerDefinit
     public AnalyzerRowStyler<UnpickedPartialsRow> rowStyler() {
         return new UnpickedPartialsRowStyler();
     }
+
+    @Override
+    public AnalyzerRowKey<UnpickedPartialsRow> rowKey() {
+        return row -> new RowKey(row.warehouseId(), row.orderNumber());
+    }
+
+    private record RowKey(String warehouseId, String orderNumber) {
+    }
 }
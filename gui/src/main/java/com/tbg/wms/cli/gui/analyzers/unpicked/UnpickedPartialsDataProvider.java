@@ -27,7 +27,7 @@ public final class UnpickedPartialsDataProvider implements AnalyzerDataProvider<
 
     @Override
     public AnalyzerResult<UnpickedPartialsRow> load(AnalyzerContext context) throws Exception {
-        List<UnpickedPartialsRow> rows = queryService.fetchRows(context.config()).stream()
+        List<UnpickedPartialsRow> rows = queryService.fetchRows(context).stream()
                 .map(row -> new UnpickedPartialsRow(
                         row.warehouseId(),
                         row.appointment(),
@@ -1,12 +1,10 @@
 package com.tbg.wms.cli.gui.analyzers.unpicked;
 
+import com.tbg.wms.cli.gui.analyzers.AnalyzerContext;
 import com.tbg.wms.core.AppConfig;
-import com.tbg.wms.core.db.DataSourceFactory;
-import com.zaxxer.hikari.HikariDataSource;
+import com.tbg.wms.db.DbConnectionPoolManager;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -135,13 +133,12 @@ class UnpickedPartialsQueryService {
                 2
             """;
 
-    List<QueryRow> fetchRows(AppConfig config) throws Exception {
-        DataSource dataSource = new DataSourceFactory(config).create();
-        try {
-            try (Connection connection = dataSource.getConnection();
-                 PreparedStatement statement = connection.prepareStatement(SQL)) {
-                statement.setString(1, warehouseId(config.activeSiteCode()));
-                try (ResultSet resultSet = statement.executeQuery()) {
+    List<QueryRow> fetchRows(AnalyzerContext context) throws Exception {
+        AppConfig config = context.config();
+        DataSource dataSource = DbConnectionPoolManager.application().dataSource(config);
+        return context.queries().query(dataSource, SQL,
+                List.of(warehouseId(config.activeSiteCode())),
+                resultSet -> {
                     List<QueryRow> rows = new ArrayList<>();
                     while (resultSet.next()) {
                         rows.add(new QueryRow(
@@ -162,13 +159,7 @@ class UnpickedPartialsQueryService {
                         ));
                     }
                     return rows;
-                }
-            }
-        } finally {
-            if (dataSource instanceof HikariDataSource hikariDataSource) {
-                hikariDataSource.close();
-            }
-        }
+                });
     }
 
     private String warehouseId(String siteCode) {
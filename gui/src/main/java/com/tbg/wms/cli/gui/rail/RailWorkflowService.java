@@ -13,7 +13,7 @@ import com.tbg.wms.core.rail.RailCarCard;
 import com.tbg.wms.core.rail.RailCardRenderer;
 import com.tbg.wms.core.rail.RailDbRepository;
 import com.tbg.wms.core.rail.RailPrintService;
-import com.tbg.wms.db.DbConnectionPool;
+import com.tbg.wms.db.DbConnectionPoolManager;
 import com.tbg.wms.db.OracleDbQueryRepository;
 import com.tbg.wms.db.WmsRailDbRepository;
 
@@ -45,13 +45,12 @@ public final class RailWorkflowService {
      * @return prepared immutable preview payload
      */
     public PreparedRailJob prepareRailJob(String trainId) throws Exception {
-        try (DbConnectionPool pool = new DbConnectionPool(config)) {
-            RailDbRepository repository = new WmsRailDbRepository(new OracleDbQueryRepository(pool.getDataSource()));
-            com.tbg.wms.core.rail.RailWorkflowService workflow =
-                    new com.tbg.wms.core.rail.RailWorkflowService(repository);
-            com.tbg.wms.core.rail.RailWorkflowService.RailWorkflowResult result = workflow.prepare(trainId);
-            return new PreparedRailJob(result);
-        }
+        RailDbRepository repository = new WmsRailDbRepository(
+                new OracleDbQueryRepository(DbConnectionPoolManager.application().dataSource(config)));
+        com.tbg.wms.core.rail.RailWorkflowService workflow =
+                new com.tbg.wms.core.rail.RailWorkflowService(repository);
+        com.tbg.wms.core.rail.RailWorkflowService.RailWorkflowResult result = workflow.prepare(trainId);
+        return new PreparedRailJob(result);
     }
 
     public List<LabelWorkflowService.PrinterOption> loadRailPrinters() throws Exception {
@@ -163,7 +163,8 @@ class AdvancedPrintExecutionSupportTest {
         public void executeTasks(
                 AdvancedPrintWorkflowService.JobCheckpoint checkpoint,
                 PrinterConfig printer,
-                int startIndex
+                int startIndex,
+                AdvancedPrintWorkflowService.PrintProgressListener listener
         ) {
             this.executedCheckpoint = checkpoint;
             this.executedPrinter = printer;
@@ -4,7 +4,9 @@
 package com.tbg.wms.cli.gui;
 
 import com.tbg.wms.core.print.PrinterConfig;
+import com.tbg.wms.core.print.PrinterGroup;
 import com.tbg.wms.core.print.PrinterRoutingService;
+import com.tbg.wms.core.print.RoutingRule;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AdvancedPrintResultSupportTest {
     private final AdvancedPrintResultSupport support = new AdvancedPrintResultSupport();
@@ -28,6 +31,80 @@ class AdvancedPrintResultSupportTest {
         assertThrows(IllegalArgumentException.class, () -> support.resolvePrinterForPrint(routing, "", false));
     }
 
+    @Test
+    void assignRoutedPrinters_shouldRouteByStagingLocationAndKeepInfoTagsWithTheirLabels() {
+        PrinterConfig dock1 = new PrinterConfig("DOCK1", "Dock 1", "10.0.0.1", 9100, List.of(), List.of("ZPL"), "", true);
+        PrinterConfig dock2 = new PrinterConfig("DOCK2", "Dock 2", "10.0.0.2", 9100, List.of(), List.of("ZPL"), "", true);
+        PrinterRoutingService routing = new PrinterRoutingService(
+                Map.of("DOCK1", dock1, "DOCK2", dock2),
+                List.of(new RoutingRule("rossi", true, "stagingLocation", "STARTS_WITH", "ROSSI", "DOCK2")),
+                "DOCK1",
+                "TBG3002"
+        );
+        AdvancedPrintWorkflowService.PrintTask stopInfoFirst = task("INFO-STOP 0", null);
+        AdvancedPrintWorkflowService.PrintTask label1 = task("L1", "STAGE-A");
+        AdvancedPrintWorkflowService.PrintTask label2 = task("L2", "ROSSI-3");
+        AdvancedPrintWorkflowService.PrintTask stopInfo = task("INFO-STOP 1", null);
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = List.of(stopInfoFirst, label1, label2, stopInfo);
+
+        assertTrue(support.isRoutedPrint(" ROUTED ", false));
+        support.assignRoutedPrinters(routing, tasks);
+
+        assertEquals("DOCK1", stopInfoFirst.printerId);
+        assertEquals("DOCK1", label1.printerId);
+        assertEquals("DOCK2", label2.printerId);
+        assertEquals("DOCK2", stopInfo.printerId);
+    }
+
+    @Test
+    void assignRoutedPrinters_shouldFanGroupRoutedPalletsOutAcrossMembers() {
+        PrinterConfig office = new PrinterConfig("OFFICE", "Office", "10.0.0.9", 9100, List.of(), List.of("ZPL"), "", true);
+        PrinterConfig dock1 = new PrinterConfig("DOCK1", "Dock 1", "10.0.0.1", 9100, List.of(), List.of("ZPL"), "", true);
+        PrinterConfig dock2 = new PrinterConfig("DOCK2", "Dock 2", "10.0.0.2", 9100, List.of(), List.of("ZPL"), "", true);
+        PrinterRoutingService routing = new PrinterRoutingService(
+                Map.of("OFFICE", office, "DOCK1", dock1, "DOCK2", dock2),
+                Map.of("DOCKS", new PrinterGroup("DOCKS", List.of("DOCK1", "DOCK2"))),
+                List.of(RoutingRule.toGroup("doors", true, "stagingLocation", "STARTS_WITH", "DOOR", "DOCKS")),
+                "OFFICE",
+                "TBG3002"
+        );
+        AdvancedPrintWorkflowService.PrintTask label1 = task("SHIP1:L1", "DOOR-4");
+        AdvancedPrintWorkflowService.PrintTask label2 = task("SHIP1:L2", "DOOR-4");
+        AdvancedPrintWorkflowService.PrintTask label3 = task("SHIP1:L3", "DOOR-4");
+        AdvancedPrintWorkflowService.PrintTask shipmentInfo = task("INFO-SHIPMENT SHIP1", "DOOR-4");
+        shipmentInfo.kind = AdvancedPrintWorkflowService.TaskKind.STOP_INFO_TAG;
+        AdvancedPrintWorkflowService.PrintTask reprint = task("SHIP1:L2", "DOOR-4");
+
+        new AdvancedPrintResultSupport().assignRoutedPrinters(
+                routing, List.of(label1, label2, label3, shipmentInfo, reprint));
+
+        assertEquals("DOCK1", label1.printerId);
+        assertEquals("DOCK2", label2.printerId);
+        assertEquals("DOCK1", label3.printerId);
+        assertEquals("DOCK1", shipmentInfo.printerId);
+        assertEquals("DOCK2", reprint.printerId);
+    }
+
+    @Test
+    void toResult_shouldCountLabelsPerRoutedPrinter() {
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = new AdvancedPrintWorkflowService.JobCheckpoint();
+        checkpoint.outputDirectory = "out";
+        checkpoint.printerId = GuiPrinterTargetSupport.ROUTED_PRINTER_ID;
+        checkpoint.printerEndpoint = "DOCK1, DOCK2";
+        AdvancedPrintWorkflowService.PrintTask label1 = task("L1", "DOOR-4");
+        label1.printerId = "DOCK1";
+        AdvancedPrintWorkflowService.PrintTask label2 = task("L2", "DOOR-4");
+        label2.printerId = "DOCK2";
+        AdvancedPrintWorkflowService.PrintTask label3 = task("L3", "DOOR-4");
+        label3.printerId = "DOCK1";
+        checkpoint.tasks = List.of(label1, label2, label3);
+
+        AdvancedPrintWorkflowService.PrintResult result = support.toResult(checkpoint);
+
+        assertEquals(Map.of("DOCK1", 2, "DOCK2", 1), result.getLabelsByPrinter());
+        assertEquals(List.of("DOCK1", "DOCK2"), List.copyOf(result.getLabelsByPrinter().keySet()));
+    }
+
     @Test
     void toResult_shouldCountLabelAndInfoTasks() {
         AdvancedPrintWorkflowService.JobCheckpoint checkpoint = new AdvancedPrintWorkflowService.JobCheckpoint();
@@ -51,5 +128,13 @@ class AdvancedPrintResultSupportTest {
         assertEquals(1, result.getLabelsPrinted());
         assertEquals(2, result.getInfoTagsPrinted());
         assertEquals("P1", result.getPrinterId());
+        assertEquals(Map.of("P1", 1), result.getLabelsByPrinter());
+    }
+
+    private static AdvancedPrintWorkflowService.PrintTask task(String payloadId, String stagingLocation) {
+        AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
+                AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL, payloadId + ".zpl", "^XA^XZ", payloadId);
+        task.stagingLocation = stagingLocation;
+        return task;
     }
 }
@@ -144,6 +144,12 @@ class GuiPrintExecutionSupportTest {
         assertEquals("root cause", failure.errorMessage());
     }
 
+    @Test
+    void buildProgressStatus_shouldNamePrinterCountOnlyWhenSpread() {
+        assertEquals("Printing... 3 of 10", support.buildProgressStatus(3, 10, 1));
+        assertEquals("Printing... 7 of 12 on 3 printers", support.buildProgressStatus(7, 12, 3));
+    }
+
     private static AdvancedPrintWorkflowService.PrintResult printResult(
             int labels,
             int infoTags,
@@ -5,7 +5,9 @@ import com.tbg.wms.core.model.Lpn;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -109,6 +111,20 @@ class GuiPrintFlowSupportTest {
         assertEquals("Saved 2 labels and 1 info tags.\nOutput: out", support.buildCompletionDialogMessage(printToFile));
     }
 
+    @Test
+    void buildCompletionMessages_shouldListLabelCountsPerPrinterForFannedOutJobs() {
+        Map<String, Integer> labelsByPrinter = new LinkedHashMap<>();
+        labelsByPrinter.put("DOCK1", 3);
+        labelsByPrinter.put("DOCK2", 2);
+        AdvancedPrintWorkflowService.PrintResult fannedOut = new AdvancedPrintWorkflowService.PrintResult(
+                5, 2, Path.of("out"), "ROUTED", "DOCK1, DOCK2", false, labelsByPrinter);
+
+        assertEquals("Printed 5 labels and 2 info tags on 2 printers: DOCK1 3, DOCK2 2",
+                support.buildCompletionStatus(fannedOut));
+        assertEquals("Printed 5 labels and 2 info tags.\nLabels per printer: DOCK1 3, DOCK2 2\nOutput: out",
+                support.buildCompletionDialogMessage(fannedOut));
+    }
+
     private static AdvancedPrintWorkflowService.PrintResult printResult(
             int labels,
             int infoTags,
@@ -0,0 +1,39 @@
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.print.PrinterCircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuiPrinterHealthSupportTest {
+
+    private final GuiPrinterHealthSupport support = new GuiPrinterHealthSupport();
+
+    @Test
+    void statusShouldBeEmptyWhileEveryPrinterIsHealthy() {
+        assertTrue(support.status(Map.of()).isEmpty());
+    }
+
+    @Test
+    void statusShouldNameASingleOfflinePrinter() {
+        GuiDbStatusSupport.StatusState state =
+                support.status(Map.of("DOCK1", PrinterCircuitBreaker.State.OPEN)).orElseThrow();
+
+        assertEquals("Printer DOCK1 offline", state.text());
+        assertTrue(state.tooltip().contains("DOCK1: offline"));
+    }
+
+    @Test
+    void statusShouldCountSeveralPrintersAndListEachInTooltip() {
+        GuiDbStatusSupport.StatusState state = support.status(Map.of(
+                "DOCK1", PrinterCircuitBreaker.State.HALF_OPEN,
+                "DOCK2", PrinterCircuitBreaker.State.OPEN
+        )).orElseThrow();
+
+        assertEquals("2 printers offline", state.text());
+        assertTrue(state.tooltip().contains("DOCK1: trying a test send<br/>DOCK2: offline"));
+    }
+}
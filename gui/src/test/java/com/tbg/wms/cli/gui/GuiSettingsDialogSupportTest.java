@@ -62,7 +62,8 @@ class GuiSettingsDialogSupportTest {
 
                 assertEquals(configuredPath.toString(), preferences.get("printToFile.defaultOutputDir", ""));
                 assertEquals(21, dependencies.runtimeSettings.outRetentionDays(7));
-                assertEquals(3, dependencies.lastModel.getSize());
+                assertEquals(4, dependencies.lastModel.getSize());
+                assertEquals(GuiPrinterTargetSupport.ROUTED_PRINTER_ID, dependencies.lastModel.getElementAt(2).getId());
                 assertEquals("P2", dependencies.restoredSelection.getId());
                 assertTrue(dependencies.applyTopRowSizingCalled);
                 assertEquals("Settings saved.", dependencies.readyMessage);
@@ -0,0 +1,358 @@
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.AppConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobCheckpointStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void appendTaskDone_shouldLeaveManifestUntouchedAndKeepRecordsCompact() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("compact", 200, tempDir.resolve("out"));
+        store.write(checkpoint);
+        Path manifest = tempDir.resolve("checkpoints").resolve("compact.json");
+        byte[] manifestBefore = Files.readAllBytes(manifest);
+
+        for (int i = 0; i < 200; i++) {
+            markDone(checkpoint, i);
+            store.appendTaskDone(checkpoint, i);
+        }
+
+        assertTrue(Arrays.equals(manifestBefore, Files.readAllBytes(manifest)));
+        long journalBytes = Files.size(store.journalFile("compact"));
+        assertTrue(journalBytes < 200 * 48, "journal bytes " + journalBytes);
+        assertTrue(journalBytes * 5 < manifestBefore.length, "journal should be far smaller than the task list");
+
+        AdvancedPrintWorkflowService.JobCheckpoint replayed = new JobCheckpointStore(tempDir.resolve("checkpoints")).read("compact");
+        assertEquals(200, replayed.nextTaskIndex);
+        assertFalse(replayed.completed);
+        assertEquals(200, replayed.tasks.size());
+    }
+
+    @Test
+    void read_shouldIgnoreRecordTornAtAnyByteAndAppendAfterIt() throws Exception {
+        Path directory = tempDir.resolve("checkpoints");
+        JobCheckpointStore writer = new JobCheckpointStore(directory);
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("torn", 10, tempDir.resolve("out"));
+        writer.write(checkpoint);
+        for (int i = 0; i < 5; i++) {
+            markDone(checkpoint, i);
+            writer.appendTaskDone(checkpoint, i);
+        }
+        Path journal = writer.journalFile("torn");
+        long intactLength = Files.size(journal);
+        markDone(checkpoint, 5);
+        writer.appendTaskDone(checkpoint, 5);
+        byte[] full = Files.readAllBytes(journal);
+
+        for (long cut = intactLength; cut < full.length; cut++) {
+            Files.write(journal, Arrays.copyOf(full, (int) cut));
+            AdvancedPrintWorkflowService.JobCheckpoint replayed = new JobCheckpointStore(directory).read("torn");
+            assertEquals(5, replayed.nextTaskIndex, "cut at byte " + cut);
+        }
+
+        JobCheckpointStore restarted = new JobCheckpointStore(directory);
+        AdvancedPrintWorkflowService.JobCheckpoint resumed = restarted.read("torn");
+        markDone(resumed, 5);
+        restarted.appendTaskDone(resumed, 5);
+        assertEquals(6, new JobCheckpointStore(directory).read("torn").nextTaskIndex);
+    }
+
+    @Test
+    void resumeJob_shouldContinueFromLastIntactRecordAfterWriterDiedMidRecord() throws Exception {
+        Path directory = tempDir.resolve("checkpoints");
+        Path outDir = tempDir.resolve("out");
+        JobCheckpointStore crashedWriter = new JobCheckpointStore(directory);
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("crash", 5, outDir);
+        crashedWriter.write(checkpoint);
+        for (int i = 0; i < 3; i++) {
+            markDone(checkpoint, i);
+            crashedWriter.appendTaskDone(checkpoint, i);
+        }
+        killMidRecord(crashedWriter.journalFile("crash"), JobCheckpointJournal.taskDone(3, LocalDateTime.now()));
+
+        JobCheckpointStore store = new JobCheckpointStore(directory);
+        PrintCheckpointSupport support = new PrintCheckpointSupport(store, new LabelWorkflowService(new AppConfig()), 10, 100);
+        assertEquals(3, support.listIncompleteJobs().get(0).nextTaskIndex());
+
+        AdvancedPrintWorkflowService.JobCheckpoint resumed = support.resumeJob("crash");
+
+        assertFalse(Files.exists(outDir.resolve("label-0.zpl")));
+        assertFalse(Files.exists(outDir.resolve("label-1.zpl")));
+        for (int i = 2; i < 5; i++) {
+            assertTrue(Files.exists(outDir.resolve("label-" + i + ".zpl")), "task " + i + " should run on resume");
+        }
+        assertTrue(resumed.completed);
+        AdvancedPrintWorkflowService.JobCheckpoint persisted = store.read("crash");
+        assertTrue(persisted.completed);
+        assertEquals(5, persisted.nextTaskIndex);
+        assertFalse(Files.exists(store.journalFile("crash")), "completion should compact the journal");
+    }
+
+    @Test
+    void appendTaskFailed_shouldReplayLastError() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("failed", 3, tempDir.resolve("out"));
+        store.write(checkpoint);
+        markDone(checkpoint, 0);
+        store.appendTaskDone(checkpoint, 0);
+        checkpoint.lastError = "Printer offline, 10.0.0.5:9100 \u2013 retry later";
+        store.appendTaskFailed(checkpoint, 1);
+
+        AdvancedPrintWorkflowService.JobCheckpoint replayed = new JobCheckpointStore(tempDir.resolve("checkpoints")).read("failed");
+
+        assertEquals(1, replayed.nextTaskIndex);
+        assertEquals("Printer offline, 10.0.0.5:9100 \u2013 retry later", replayed.lastError);
+        assertFalse(replayed.completed);
+    }
+
+    @Test
+    void appendTaskRerouted_shouldReplayThePrinterThatTookTheTask() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("rerouted", 3, tempDir.resolve("out"));
+        store.write(checkpoint);
+        checkpoint.tasks.get(1).printerId = "DOCK2";
+        store.appendTaskRerouted(checkpoint, 1);
+        markDone(checkpoint, 0);
+        store.appendTaskDone(checkpoint, 0);
+
+        AdvancedPrintWorkflowService.JobCheckpoint replayed = new JobCheckpointStore(tempDir.resolve("checkpoints")).read("rerouted");
+
+        assertNull(replayed.tasks.get(0).printerId);
+        assertEquals("DOCK2", replayed.tasks.get(1).printerId);
+        assertEquals(1, replayed.nextTaskIndex);
+    }
+
+    @Test
+    void append_shouldCompactJournalIntoManifestPeriodically() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("periodic", 2000, tempDir.resolve("out"));
+        store.write(checkpoint);
+
+        for (int i = 0; i < 2000; i++) {
+            markDone(checkpoint, i);
+            store.appendTaskDone(checkpoint, i);
+            if (i == 1998) {
+                assertTrue(Files.exists(store.journalFile("periodic")));
+            }
+        }
+
+        assertFalse(Files.exists(store.journalFile("periodic")), "journal should fold into the manifest");
+        AdvancedPrintWorkflowService.JobCheckpoint replayed = new JobCheckpointStore(tempDir.resolve("checkpoints")).read("periodic");
+        assertEquals(2000, replayed.nextTaskIndex);
+        assertNull(replayed.lastError);
+    }
+
+    @Test
+    void read_shouldHoldTasksFinishedAheadUntilEarlierTasksCatchUp() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("lanes", 6, tempDir.resolve("out"));
+        store.write(checkpoint);
+        // Two printers: tasks 0-2 on one dock, 3-5 on another that runs ahead.
+        for (int taskIndex : new int[]{3, 0, 4}) {
+            checkpoint.markTaskDone(taskIndex);
+            checkpoint.updatedAt = LocalDateTime.now();
+            store.appendTaskDone(checkpoint, taskIndex);
+        }
+
+        AdvancedPrintWorkflowService.JobCheckpoint replayed = new JobCheckpointStore(tempDir.resolve("checkpoints")).read("lanes");
+
+        assertEquals(1, replayed.nextTaskIndex);
+        assertEquals(List.of(3, 4), new ArrayList<>(replayed.tasksDoneAhead));
+
+        replayed.markTaskDone(1);
+        replayed.markTaskDone(2);
+        assertEquals(5, replayed.nextTaskIndex);
+        assertTrue(replayed.tasksDoneAhead.isEmpty());
+    }
+
+    @Test
+    void listSummaries_shouldServeIndexedJobsWithoutParsingTheirManifests() throws Exception {
+        Path directory = tempDir.resolve("checkpoints");
+        JobCheckpointStore store = new JobCheckpointStore(directory);
+        store.write(checkpoint("indexed", 50, tempDir.resolve("out")));
+        Path manifest = directory.resolve("indexed.json");
+        FileTime modified = Files.getLastModifiedTime(manifest);
+        byte[] garbage = new byte[(int) Files.size(manifest)];
+        Arrays.fill(garbage, (byte) '#');
+        Files.write(manifest, garbage);
+        Files.setLastModifiedTime(manifest, modified);
+
+        List<JobCheckpointIndex.Entry> summaries = new JobCheckpointStore(directory).listSummaries(100);
+
+        assertEquals(1, summaries.size());
+        assertEquals("SRC-indexed", summaries.get(0).sourceId);
+        assertEquals(50, summaries.get(0).totalTasks);
+        assertFalse(summaries.get(0).completed);
+    }
+
+    @Test
+    void listSummaries_shouldRebuildMissingIndexAndFoldJournaledProgress() throws Exception {
+        Path directory = tempDir.resolve("checkpoints");
+        JobCheckpointStore store = new JobCheckpointStore(directory);
+        AdvancedPrintWorkflowService.JobCheckpoint running = checkpoint("running", 10, tempDir.resolve("out"));
+        AdvancedPrintWorkflowService.JobCheckpoint finished = checkpoint("finished", 2, tempDir.resolve("out"));
+        store.write(running);
+        store.write(finished);
+        for (int i = 0; i < 4; i++) {
+            markDone(running, i);
+            store.appendTaskDone(running, i);
+        }
+        finished.completed = true;
+        store.appendCompleted(finished);
+        Files.delete(directory.resolve(JobCheckpointIndex.FILE_NAME));
+
+        Map<String, JobCheckpointIndex.Entry> summaries = new HashMap<>();
+        for (JobCheckpointIndex.Entry entry : new JobCheckpointStore(directory).listSummaries(100)) {
+            summaries.put(entry.id, entry);
+        }
+
+        assertEquals(4, summaries.get("running").nextTaskIndex);
+        assertEquals(10, summaries.get("running").totalTasks);
+        assertTrue(summaries.get("finished").completed);
+        assertTrue(Files.exists(directory.resolve(JobCheckpointIndex.FILE_NAME)));
+        assertEquals(Set.of("running", "finished"), new JobCheckpointIndex(directory).entries().keySet());
+        assertEquals(0, new JobCheckpointIndex(directory).entries().get("running").nextTaskIndex,
+                "the index holds manifest state; journaled progress is folded in at listing time");
+    }
+
+    @Test
+    void write_shouldKeepZplOutOfTheManifestAndReadItBackFromTheSpool() throws Exception {
+        Path directory = tempDir.resolve("checkpoints");
+        JobCheckpointStore store = new JobCheckpointStore(directory);
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("spooled", 3, tempDir.resolve("out"));
+        List<String> payloads = checkpoint.tasks.stream().map(task -> task.zpl).toList();
+
+        store.write(checkpoint);
+        store.write(checkpoint);
+
+        assertFalse(Files.readString(directory.resolve("spooled.json")).contains("^XA"));
+        long spoolSize = payloads.stream().mapToLong(zpl -> zpl.getBytes(StandardCharsets.UTF_8).length).sum();
+        assertEquals(spoolSize, Files.size(store.spoolFile("spooled")), "a rewrite must not spool payloads twice");
+        AdvancedPrintWorkflowService.JobCheckpoint reread = new JobCheckpointStore(directory).read("spooled");
+        for (int i = 0; i < payloads.size(); i++) {
+            AdvancedPrintWorkflowService.PrintTask task = reread.tasks.get(i);
+            assertNull(task.zpl);
+            assertEquals(payloads.get(i), store.payload(reread, task));
+        }
+    }
+
+    @Test
+    void read_shouldMoveInlinePayloadsOfAnOlderManifestOntoASpool() throws Exception {
+        Path directory = Files.createDirectories(tempDir.resolve("checkpoints"));
+        Files.writeString(directory.resolve("legacy.json"), String.join("\n",
+                "{",
+                "  \"id\" : \"legacy\",",
+                "  \"mode\" : \"SHIPMENT\",",
+                "  \"sourceId\" : \"SHIP1\",",
+                "  \"outputDirectory\" : \"out\",",
+                "  \"printToFile\" : true,",
+                "  \"completed\" : false,",
+                "  \"nextTaskIndex\" : 1,",
+                "  \"tasks\" : [",
+                "    { \"kind\" : \"PALLET_LABEL\", \"fileName\" : \"a.zpl\", \"zpl\" : \"^XA^FDA^FS^XZ\", \"payloadId\" : \"A\" },",
+                "    { \"kind\" : \"PALLET_LABEL\", \"fileName\" : \"b.zpl\", \"zpl\" : \"^XA^FDB^FS^XZ\", \"payloadId\" : \"B\" }",
+                "  ]",
+                "}"
+        ), StandardCharsets.UTF_8);
+
+        JobCheckpointStore store = new JobCheckpointStore(directory);
+        store.read("legacy");
+
+        assertFalse(Files.readString(directory.resolve("legacy.json")).contains("^FDB"));
+        AdvancedPrintWorkflowService.JobCheckpoint migrated = new JobCheckpointStore(directory).read("legacy");
+        assertEquals(1, migrated.nextTaskIndex);
+        assertTrue(migrated.tasks.get(1).isSpooled());
+        assertEquals("^XA^FDB^FS^XZ", store.payload(migrated, migrated.tasks.get(1)));
+    }
+
+    @Test
+    void read_shouldRecoverSpoolPositionsOfRenderedTasksFromTheJournal() throws Exception {
+        Path directory = tempDir.resolve("checkpoints");
+        JobCheckpointStore store = new JobCheckpointStore(directory);
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = checkpoint("lazy", 3, tempDir.resolve("out"));
+        for (AdvancedPrintWorkflowService.PrintTask task : checkpoint.tasks) {
+            String zpl = task.zpl;
+            task.zpl = null;
+            task.renderer = () -> new PrintTaskPlanner.RenderedLabel(zpl, null);
+        }
+        store.write(checkpoint);
+        assertFalse(Files.exists(store.spoolFile("lazy")), "nothing is rendered before dispatch");
+
+        checkpoint.tasks.get(0).render();
+        checkpoint.tasks.get(1).render();
+        store.spoolRendered(checkpoint, List.of(0, 1));
+
+        assertNull(checkpoint.tasks.get(0).zpl);
+        AdvancedPrintWorkflowService.JobCheckpoint reread = new JobCheckpointStore(directory).read("lazy");
+        assertTrue(store.payload(reread, reread.tasks.get(1)).contains("^FDLABEL 1^FS"));
+        assertFalse(reread.tasks.get(2).isSpooled());
+        IllegalStateException unrendered = assertThrows(IllegalStateException.class,
+                () -> store.payload(reread, reread.tasks.get(2)));
+        assertTrue(unrendered.getMessage().contains("never rendered"));
+    }
+
+    private static void markDone(AdvancedPrintWorkflowService.JobCheckpoint checkpoint, int taskIndex) {
+        checkpoint.nextTaskIndex = taskIndex + 1;
+        checkpoint.updatedAt = LocalDateTime.now();
+        checkpoint.lastError = null;
+    }
+
+    /**
+     * Simulates the process dying part-way through an append: only a prefix of the record reaches disk.
+     */
+    private static void killMidRecord(Path journal, byte[] record) throws Exception {
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(record, 0, record.length / 2));
+        }
+    }
+
+    private static AdvancedPrintWorkflowService.JobCheckpoint checkpoint(String id, int taskCount, Path outputDir) {
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = new AdvancedPrintWorkflowService.JobCheckpoint();
+        checkpoint.id = id;
+        checkpoint.mode = AdvancedPrintWorkflowService.InputMode.SHIPMENT;
+        checkpoint.sourceId = "SRC-" + id;
+        checkpoint.outputDirectory = outputDir.toString();
+        checkpoint.printToFile = true;
+        checkpoint.printerId = "FILE";
+        checkpoint.printerEndpoint = "FILE";
+        checkpoint.createdAt = LocalDateTime.now();
+        checkpoint.updatedAt = checkpoint.createdAt;
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new AdvancedPrintWorkflowService.PrintTask(
+                    AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL,
+                    "label-" + i + ".zpl",
+                    "^XA^FO20,20^A0N,40,40^FDLABEL " + i + "^FS^FO20,80^BCN,100,Y,N,N^FD00012345678900000" + i + "^FS^XZ",
+                    "P" + i
+            ));
+        }
+        checkpoint.tasks = tasks;
+        return checkpoint;
+    }
+}
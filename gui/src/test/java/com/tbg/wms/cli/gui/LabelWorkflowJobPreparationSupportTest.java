@@ -55,6 +55,43 @@ class LabelWorkflowJobPreparationSupportTest {
         assertEquals(1, loaded.footprintBySku().size());
     }
 
+    @Test
+    void loadShipmentDataBatch_shouldKeyByTrimmedIdInInputOrder() {
+        Shipment shipment = new Shipment(
+                "SHIP-1", "EXT-1", "ORDER-1", "3002",
+                "Ship To", "123 Any St", null, null,
+                "City", "ST", "12345", "USA", null,
+                "CARRIER", "TL", null, null, "STAGE",
+                null, "6080", null, null, 1, "CM1", null, null,
+                "R", LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now(), List.of()
+        );
+        ShipmentSkuFootprint footprint = new ShipmentSkuFootprint("SKU1", "Desc", 120, 60, 10, 20.0, 30.0, 40.0);
+
+        Map<String, LabelWorkflowJobPreparationSupport.LoadedShipmentData> loaded = support.loadShipmentData(
+                new StubRepository(shipment, List.of(footprint)),
+                List.of("SHIP-2", " SHIP-1 ", "SHIP-2"),
+                new LabelWorkflowPlanningSupport()
+        );
+
+        assertEquals(List.of("SHIP-2", "SHIP-1"), List.copyOf(loaded.keySet()));
+        assertEquals("SHIP-1", loaded.get("SHIP-1").shipmentId());
+        assertEquals(1, loaded.get("SHIP-2").footprintBySku().size());
+    }
+
+    @Test
+    void loadShipmentDataBatch_shouldRejectMissingShipment() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> support.loadShipmentData(
+                        new StubRepository(null, List.of()),
+                        List.of("SHIP-1", "SHIP-2"),
+                        new LabelWorkflowPlanningSupport()
+                )
+        );
+
+        assertEquals("Shipment not found: SHIP-1", ex.getMessage());
+    }
+
     private static final class StubRepository implements DbQueryRepository {
         private final Shipment shipment;
         private final List<ShipmentSkuFootprint> footprints;
@@ -9,6 +9,7 @@ import com.tbg.wms.core.print.PrinterConfig;
 import com.tbg.wms.core.print.PrinterRoutingService;
 import com.tbg.wms.core.sku.SkuMappingService;
 import com.tbg.wms.core.template.LabelTemplate;
+import com.tbg.wms.core.template.ZplStoredFormat;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -25,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LabelWorkflowPrintSupportTest {
 
+    private static final String TEMPLATE = "^XA^FD{lpnId}^FS^FD{ssccBarcode}^FS^FD{palletSeq}/{palletTotal}^FS^XZ";
+
     @Test
     void print_shouldWriteZplArtifactsForPrintToFile(@TempDir Path tempDir) throws Exception {
         RecordingPrintDispatcher dispatcher = new RecordingPrintDispatcher();
@@ -78,17 +81,45 @@ class LabelWorkflowPrintSupportTest {
         assertTrue(second.contains("^FD2/2^FS"));
     }
 
+    @Test
+    void print_shouldSendRecallPayloadWhenJobHasStoredFormat(@TempDir Path tempDir) throws Exception {
+        RecordingPrintDispatcher dispatcher = new RecordingPrintDispatcher();
+        LabelWorkflowPrintSupport support = new LabelWorkflowPrintSupport(dispatcher);
+        ZplStoredFormat format = ZplStoredFormat.compile(new LabelTemplate("TEST", TEMPLATE));
+        LabelWorkflowService.PreparedJob job = printableJob(tempDir, "SHIP4", List.of(lpn("LPN-4", "SSCC-4")), false, format);
+        PrinterConfig printer = new PrinterConfig("P1", "Printer 1", "10.0.0.1", 9100, List.of(), List.of(), "Office", true);
+
+        support.print(job, printer, tempDir.resolve("out"), false);
+
+        assertEquals(0, dispatcher.invocationCount);
+        assertEquals(1, dispatcher.storedFormatInvocationCount);
+        assertEquals(format.getFormatName(), dispatcher.lastFormatName);
+        assertTrue(dispatcher.lastRecallZpl.contains("^FN1^FDLPN-4^FS^FN2^FDSSCC-4^FS"));
+        String zpl = Files.readString(tempDir.resolve("out").resolve("SHIP4_LPN-4_1_of_1.zpl"));
+        assertTrue(zpl.contains("^FDLPN-4^FS"), "file artifact stays a full standalone label");
+    }
+
     private static LabelWorkflowService.PreparedJob printableJob(
             Path tempDir,
             String shipmentId,
             List<Lpn> lpns,
             boolean usingVirtualLabels
+    ) throws Exception {
+        return printableJob(tempDir, shipmentId, lpns, usingVirtualLabels, null);
+    }
+
+    private static LabelWorkflowService.PreparedJob printableJob(
+            Path tempDir,
+            String shipmentId,
+            List<Lpn> lpns,
+            boolean usingVirtualLabels,
+            ZplStoredFormat storedFormat
     ) throws Exception {
         Path csv = tempDir.resolve("sku.csv");
         Files.writeString(csv, "TBG SKU#,WALMART ITEM#,Item Description,check based on TBG SKU\n", StandardCharsets.UTF_8);
         SkuMappingService skuMapping = new SkuMappingService(csv);
         SiteConfig siteConfig = new SiteConfig("Ship From", "1 Main", "City, ST 12345");
-        LabelTemplate template = new LabelTemplate("TEST", "^XA^FD{lpnId}^FS^FD{ssccBarcode}^FS^FD{palletSeq}/{palletTotal}^FS^XZ");
+        LabelTemplate template = new LabelTemplate("TEST", TEMPLATE);
 
         Constructor<LabelWorkflowService.PreparedJob> ctor = LabelWorkflowService.PreparedJob.class.getDeclaredConstructor(
                 String.class,
@@ -102,7 +133,8 @@ class LabelWorkflowPrintSupportTest {
                 List.class,
                 List.class,
                 boolean.class,
-                String.class
+                String.class,
+                ZplStoredFormat.class
         );
         ctor.setAccessible(true);
         return ctor.newInstance(
@@ -117,7 +149,8 @@ class LabelWorkflowPrintSupportTest {
                 lpns,
                 List.of(),
                 usingVirtualLabels,
-                "STAGE"
+                "STAGE",
+                storedFormat
         );
     }
 
@@ -181,6 +214,9 @@ class LabelWorkflowPrintSupportTest {
         private int invocationCount;
         private String lastLabelId;
         private String lastZpl;
+        private int storedFormatInvocationCount;
+        private String lastFormatName;
+        private String lastRecallZpl;
 
         @Override
         public void print(PrinterConfig printer, String zpl, String labelId) {
@@ -188,5 +224,13 @@ class LabelWorkflowPrintSupportTest {
             lastLabelId = labelId;
             lastZpl = zpl;
         }
+
+        @Override
+        public void printStoredFormat(PrinterConfig printer, String formatName, String downloadZpl, String recallZpl, String labelId) {
+            storedFormatInvocationCount++;
+            lastLabelId = labelId;
+            lastFormatName = formatName;
+            lastRecallZpl = recallZpl;
+        }
     }
 }
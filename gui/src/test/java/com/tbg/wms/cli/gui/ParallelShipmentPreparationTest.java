@@ -0,0 +1,214 @@
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.model.CarrierMoveStopRef;
+import com.tbg.wms.core.model.Shipment;
+import com.tbg.wms.core.model.ShipmentSkuFootprint;
+import com.tbg.wms.core.rail.RailFootprintCandidate;
+import com.tbg.wms.core.rail.RailStopRecord;
+import com.tbg.wms.db.DbQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelShipmentPreparationTest {
+
+    private static final long MILLIS_PER_SHIPMENT = 25L;
+
+    private final LabelWorkflowJobPreparationSupport loader = new LabelWorkflowJobPreparationSupport();
+    private final LabelWorkflowPlanningSupport planning = new LabelWorkflowPlanningSupport();
+
+    @Test
+    void prepare_shouldOverlapChunksForNearLinearSpeedup() throws Exception {
+        List<String> ids = shipmentIds(12);
+        SlowRepository repo = new SlowRepository(Set.of());
+
+        long sequentialStart = System.nanoTime();
+        Map<String, LabelWorkflowJobPreparationSupport.LoadedShipmentData> sequential = load(repo, ids, 1);
+        long sequentialNanos = System.nanoTime() - sequentialStart;
+        assertEquals(1, repo.maxInFlight.get());
+
+        repo.maxInFlight.set(0);
+        long parallelStart = System.nanoTime();
+        Map<String, LabelWorkflowJobPreparationSupport.LoadedShipmentData> parallel = load(repo, ids, 4);
+        long parallelNanos = System.nanoTime() - parallelStart;
+
+        assertEquals(4, repo.maxInFlight.get());
+        assertEquals(ids, List.copyOf(parallel.keySet()));
+        assertEquals(List.copyOf(sequential.keySet()), List.copyOf(parallel.keySet()));
+        // Ideal is 4x; leave room for scheduler noise on a busy build machine.
+        assertTrue(sequentialNanos > parallelNanos * 2.5,
+                "expected near-linear speedup, sequential " + sequentialNanos / 1_000_000 + " ms vs parallel "
+                        + parallelNanos / 1_000_000 + " ms");
+    }
+
+    @Test
+    void prepare_shouldListEveryFailedShipmentInInputOrder() {
+        SlowRepository repo = new SlowRepository(Set.of("S07", "S02"));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> load(repo, shipmentIds(9), 3));
+
+        assertEquals("Could not prepare 2 of 9 shipments: S02 (Shipment not found: S02); "
+                + "S07 (Shipment not found: S07)", ex.getMessage());
+        assertEquals(2, ex.getSuppressed().length);
+    }
+
+    @Test
+    void prepare_shouldFailEveryShipmentOfAChunkWhoseQueryFails() {
+        RuntimeException outage = new IllegalStateException("ORA-03113: end-of-file on communication channel");
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
+                ParallelShipmentPreparation.prepare(shipmentIds(4), 2, (chunk, failures) -> {
+                    if (chunk.contains("S01")) {
+                        throw outage;
+                    }
+                    Map<String, String> prepared = new LinkedHashMap<>();
+                    chunk.forEach(id -> prepared.put(id, id));
+                    return prepared;
+                }));
+
+        assertTrue(ex.getMessage().startsWith("Could not prepare 2 of 4 shipments: S01 (ORA-03113"));
+        assertSame(outage, ex.getSuppressed()[0]);
+    }
+
+    @Test
+    void prepare_shouldRethrowASingleFailureUnchanged() {
+        SlowRepository repo = new SlowRepository(Set.of("S03"));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> load(repo, shipmentIds(4), 2));
+
+        assertEquals("Shipment not found: S03", ex.getMessage());
+    }
+
+    @Test
+    void chunks_shouldSplitContiguouslyWithSizesWithinOne() {
+        List<List<String>> chunks = ParallelShipmentPreparation.chunks(shipmentIds(7), 3);
+
+        assertEquals(List.of(List.of("S01", "S02", "S03"), List.of("S04", "S05"), List.of("S06", "S07")), chunks);
+        assertEquals(2, ParallelShipmentPreparation.chunks(shipmentIds(2), 5).size());
+    }
+
+    private Map<String, LabelWorkflowJobPreparationSupport.LoadedShipmentData> load(
+            DbQueryRepository repo,
+            List<String> ids,
+            int concurrency
+    ) throws Exception {
+        return ParallelShipmentPreparation.prepare(ids, concurrency,
+                (chunk, failures) -> loader.loadShipmentData(repo, chunk, planning, failures));
+    }
+
+    private static List<String> shipmentIds(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            ids.add(String.format("S%02d", i));
+        }
+        return ids;
+    }
+
+    /**
+     * Repository whose set-based queries take longer the more shipments they cover, like the
+     * real ones, and that records how many calls overlap.
+     */
+    private static final class SlowRepository implements DbQueryRepository {
+        private final Set<String> missing;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private SlowRepository(Set<String> missing) {
+            this.missing = missing;
+        }
+
+        @Override
+        public Map<String, Shipment> findShipmentsWithLpnsAndLineItems(Collection<String> shipmentIds) {
+            simulateQuery(shipmentIds.size());
+            Map<String, Shipment> shipments = new LinkedHashMap<>();
+            for (String id : shipmentIds) {
+                if (!missing.contains(id)) {
+                    shipments.put(id, shipment(id));
+                }
+            }
+            return shipments;
+        }
+
+        @Override
+        public Map<String, List<ShipmentSkuFootprint>> findShipmentSkuFootprints(Collection<String> shipmentIds) {
+            Map<String, List<ShipmentSkuFootprint>> rows = new LinkedHashMap<>();
+            for (String id : shipmentIds) {
+                rows.put(id, List.of(new ShipmentSkuFootprint("SKU1", "Desc", 120, 60, 10, 20.0, 30.0, 40.0)));
+            }
+            return rows;
+        }
+
+        private void simulateQuery(int shipments) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(MILLIS_PER_SHIPMENT * shipments);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private static Shipment shipment(String id) {
+            return new Shipment(
+                    id, "EXT-" + id, "ORDER-" + id, "3002",
+                    "Ship To", "123 Any St", null, null,
+                    "City", "ST", "12345", "USA", null,
+                    "CARRIER", "TL", null, null, "STAGE",
+                    null, "6080", null, null, 1, "CM1", null, null,
+                    "R", LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now(), List.of()
+            );
+        }
+
+        @Override
+        public Shipment findShipmentWithLpnsAndLineItems(String shipmentId) {
+            return findShipmentsWithLpnsAndLineItems(List.of(shipmentId)).get(shipmentId);
+        }
+
+        @Override
+        public boolean shipmentExists(String shipmentId) {
+            return !missing.contains(shipmentId);
+        }
+
+        @Override
+        public String getStagingLocation(String shipmentId) {
+            return "STAGE";
+        }
+
+        @Override
+        public List<ShipmentSkuFootprint> findShipmentSkuFootprints(String shipmentId) {
+            return findShipmentSkuFootprints(List.of(shipmentId)).get(shipmentId);
+        }
+
+        @Override
+        public List<CarrierMoveStopRef> findCarrierMoveStops(String carrierMoveId) {
+            return List.of();
+        }
+
+        @Override
+        public List<RailStopRecord> findRailStopsByTrainId(String trainId) {
+            return List.of();
+        }
+
+        @Override
+        public Map<String, List<RailFootprintCandidate>> findRailFootprintsByShortCode(List<String> shortCodes) {
+            return Map.of();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
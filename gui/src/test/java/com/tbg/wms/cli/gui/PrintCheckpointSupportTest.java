@@ -1,17 +1,33 @@
 package com.tbg.wms.cli.gui;
 
 import com.tbg.wms.core.AppConfig;
+import com.tbg.wms.core.print.PrinterConfig;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PrintCheckpointSupportTest {
@@ -19,6 +35,15 @@ class PrintCheckpointSupportTest {
     @TempDir
     Path tempDir;
 
+    private final List<FakeZebra> printers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (FakeZebra printer : printers) {
+            printer.close();
+        }
+    }
+
     @Test
     void listIncompleteJobs_shouldReturnNewestIncompleteJobsFirst() throws Exception {
         JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
@@ -69,6 +94,326 @@ class PrintCheckpointSupportTest {
                 .anyMatch(candidate -> candidate.checkpointId().equals("resume-me")));
     }
 
+    @Test
+    void executeTasks_shouldRenderPlannedTasksOnceAsTheyAreDispatched() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(store, new LabelWorkflowService(new AppConfig()), 100, 100);
+        Path outDir = tempDir.resolve("out");
+        AtomicInteger renders = new AtomicInteger();
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String zpl = "^XA^FD" + i + "^FS^XZ";
+            AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
+                    AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL, "label-" + i + ".zpl", null, "P" + i);
+            task.renderer = () -> {
+                renders.incrementAndGet();
+                return new PrintTaskPlanner.RenderedLabel(zpl, null);
+            };
+            tasks.add(task);
+        }
+
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                "lazy", AdvancedPrintWorkflowService.InputMode.SHIPMENT, "SHIP1", outDir, true, null, tasks);
+        assertEquals(0, renders.get(), "creating the checkpoint must not render labels");
+
+        support.executeTasks(checkpoint, null, 0);
+
+        assertEquals(40, renders.get());
+        for (int i = 0; i < 40; i++) {
+            assertEquals("^XA^FD" + i + "^FS^XZ", Files.readString(outDir.resolve("label-" + i + ".zpl")));
+            assertNull(checkpoint.tasks.get(i).zpl, "rendered payloads live on the spool, not the heap");
+        }
+        AdvancedPrintWorkflowService.JobCheckpoint persisted = store.read("lazy");
+        assertTrue(persisted.completed);
+        assertEquals("^XA^FD39^FS^XZ", store.payload(persisted, persisted.tasks.get(39)));
+    }
+
+    @Test
+    void executeTasks_shouldStopAtALabelThatFailsToRenderAndRenderTheRestOnResume() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(store, new LabelWorkflowService(new AppConfig()), 100, 100);
+        Path outDir = tempDir.resolve("out");
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                "broken", AdvancedPrintWorkflowService.InputMode.SHIPMENT, "SHIP1", outDir, true, null,
+                renderedTasks(3));
+
+        assertThrows(IllegalStateException.class, () -> support.executeTasks(checkpoint, null, 0));
+
+        assertFalse(Files.exists(outDir.resolve("label-3.zpl")));
+        assertFalse(Files.exists(outDir.resolve("label-4.zpl")));
+        AdvancedPrintWorkflowService.JobCheckpoint persisted = store.read("broken");
+        assertEquals("Missing SKU mapping for P3", persisted.lastError);
+        IllegalStateException unrendered = assertThrows(IllegalStateException.class,
+                () -> store.payload(persisted, persisted.tasks.get(4)));
+        assertTrue(unrendered.getMessage().contains("never rendered"));
+
+        AdvancedPrintWorkflowService.JobCheckpoint resumed = support.resumeJob("broken", stopped -> renderedTasks(-1));
+
+        assertTrue(resumed.completed);
+        for (int i = 0; i < 5; i++) {
+            assertEquals("^XA^FD" + i + "^FS^XZ", Files.readString(outDir.resolve("label-" + i + ".zpl")));
+        }
+    }
+
+    @Test
+    void resumeJob_shouldRefuseToRenderLabelsWhenTheSourceChanged() throws Exception {
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(store, new LabelWorkflowService(new AppConfig()), 100, 100);
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                "changed", AdvancedPrintWorkflowService.InputMode.SHIPMENT, "SHIP1", tempDir.resolve("out"), true, null,
+                renderedTasks(3));
+        assertThrows(IllegalStateException.class, () -> support.executeTasks(checkpoint, null, 0));
+
+        IllegalStateException changed = assertThrows(IllegalStateException.class,
+                () -> support.resumeJob("changed", stopped -> renderedTasks(-1).subList(0, 4)));
+
+        assertTrue(changed.getMessage().contains("has changed since it was started"));
+    }
+
+    private static List<AdvancedPrintWorkflowService.PrintTask> renderedTasks(int brokenIndex) {
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String zpl = "^XA^FD" + i + "^FS^XZ";
+            AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
+                    AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL, "label-" + i + ".zpl", null, "P" + i);
+            boolean broken = i == brokenIndex;
+            task.renderer = () -> {
+                if (broken) {
+                    throw new IllegalStateException("Missing SKU mapping for P3");
+                }
+                return new PrintTaskPlanner.RenderedLabel(zpl, null);
+            };
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    @Test
+    void executeTasks_shouldFeedEachDockInOrderWithoutWaitingOnAStalledPrinter() throws Exception {
+        // Dock 1 holds its first label in a full buffer until docks 2 and 3 have everything;
+        // a serial drain would stall on dock 1 and never reach the others.
+        CountDownLatch otherDocksDone = new CountDownLatch(8);
+        FakeZebra dock1 = start(new FakeZebra(otherDocksDone));
+        FakeZebra dock2 = start(new FakeZebra(null));
+        FakeZebra dock3 = start(new FakeZebra(null));
+        dock2.onLabel = otherDocksDone::countDown;
+        dock3.onLabel = otherDocksDone::countDown;
+        Path configDir = writePrinterConfig(dock1, dock2, dock3);
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(
+                store, new LabelWorkflowService(new AppConfig(), configDir), 100, 100);
+
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>();
+        for (String dock : List.of("DOCK1", "DOCK2", "DOCK3")) {
+            for (int i = 1; i <= 4; i++) {
+                String payload = dock + "-" + i;
+                String padding = payload.equals("DOCK1-1") ? "^FX" + "0".repeat(6 * 1024 * 1024) + "^FS" : "";
+                AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
+                        AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL,
+                        payload + ".zpl",
+                        "^XA^FD" + payload + "^FS" + padding + "^XZ",
+                        payload
+                );
+                task.printerId = dock;
+                tasks.add(task);
+            }
+        }
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                "routed", AdvancedPrintWorkflowService.InputMode.CARRIER_MOVE, "CM1",
+                tempDir.resolve("out"), false, null, tasks);
+        List<int[]> progress = new CopyOnWriteArrayList<>();
+
+        support.executeTasks(checkpoint, null, 0, (done, total, printerCount) -> progress.add(new int[]{done, total, printerCount}));
+
+        assertEquals(List.of("DOCK1-1", "DOCK1-2", "DOCK1-3", "DOCK1-4"), dock1.awaitLabels(4));
+        assertEquals(List.of("DOCK2-1", "DOCK2-2", "DOCK2-3", "DOCK2-4"), dock2.awaitLabels(4));
+        assertEquals(List.of("DOCK3-1", "DOCK3-2", "DOCK3-3", "DOCK3-4"), dock3.awaitLabels(4));
+        assertTrue(dock1.releasedByOtherDocks, "docks 2 and 3 should finish while dock 1 is stalled");
+        assertTrue(dock2.lastArrivalNanos() < dock1.firstArrivalNanos());
+        assertTrue(dock3.lastArrivalNanos() < dock1.firstArrivalNanos());
+        assertEquals(12, progress.size());
+        assertTrue(progress.stream().allMatch(update -> update[1] == 12), "the total is known from the first label");
+        assertEquals(3, progress.get(progress.size() - 1)[2]);
+        assertEquals("ROUTED", checkpoint.printerId);
+        assertEquals("DOCK1, DOCK2, DOCK3", checkpoint.printerEndpoint);
+
+        AdvancedPrintWorkflowService.JobCheckpoint persisted = store.read("routed");
+        assertTrue(persisted.completed);
+        assertEquals(12, persisted.nextTaskIndex);
+        assertTrue(persisted.tasksDoneAhead.isEmpty());
+    }
+
+    @Test
+    void executeTasks_shouldFailOverToTheAlternateOnceAPrinterIsOffline() throws Exception {
+        FakeZebra dock2 = start(new FakeZebra(null));
+        LabelWorkflowService shipmentService = new LabelWorkflowService(new AppConfig(), writeFailoverConfig(dock2));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(
+                new JobCheckpointStore(tempDir.resolve("checkpoints")), shipmentService, 10, 100);
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            tasks.add(new AdvancedPrintWorkflowService.PrintTask(
+                    AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL, "L" + i + ".zpl", "^XA^FDL" + i + "^FS^XZ", "L" + i));
+        }
+        PrinterConfig dock1 = shipmentService.resolvePrinter("DOCK1");
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                "failover", AdvancedPrintWorkflowService.InputMode.SHIPMENT, "S1",
+                tempDir.resolve("out"), false, dock1, tasks);
+
+        support.executeTasks(checkpoint, dock1, 0);
+
+        assertEquals(List.of("L1", "L2"), dock2.awaitLabels(2));
+        assertTrue(checkpoint.completed);
+        assertFalse(shipmentService.printService().circuitBreaker().unhealthyPrinters().isEmpty());
+    }
+
+    @Test
+    void executeTasks_shouldQueueFailedOverLabelsBehindTheFailoverPrintersOwnJob() throws Exception {
+        // Dock 2 holds its first label until job B has failed over, so job A is still printing
+        // when B's labels arrive at dock 2 and must wait behind it.
+        CountDownLatch release = new CountDownLatch(1);
+        FakeZebra dock2 = start(new FakeZebra(release));
+        LabelWorkflowService shipmentService = new LabelWorkflowService(new AppConfig(), writeFailoverConfig(dock2));
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(store, shipmentService, 10, 100);
+        PrinterConfig dock1 = shipmentService.resolvePrinter("DOCK1");
+        PrinterConfig dock2Config = shipmentService.resolvePrinter("DOCK2");
+        AdvancedPrintWorkflowService.JobCheckpoint jobA = support.createCheckpoint(
+                "job-a", AdvancedPrintWorkflowService.InputMode.SHIPMENT, "A",
+                tempDir.resolve("out-a"), false, dock2Config, labels("A", 3, true));
+        AdvancedPrintWorkflowService.JobCheckpoint jobB = support.createCheckpoint(
+                "job-b", AdvancedPrintWorkflowService.InputMode.SHIPMENT, "B",
+                tempDir.resolve("out-b"), false, dock1, labels("B", 3, false));
+        PrinterDispatchSupport.Batch batchA = support.newBatch(AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+        List<int[]> progressB = new CopyOnWriteArrayList<>();
+
+        support.submitTasks(jobA, dock2Config, 0, batchA);
+        CompletableFuture<Void> runB = CompletableFuture.runAsync(() -> {
+            try {
+                support.executeTasks(jobB, dock1, 0, (done, total, printerCount) -> progressB.add(new int[]{done, total}));
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (support.printerLoad().pendingLabels(dock2Config) < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        batchA.await();
+        runB.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("A1", "A2", "A3", "B1", "B2", "B3"), dock2.awaitLabels(6));
+        assertTrue(jobB.completed);
+        assertEquals(3, progressB.size());
+        assertEquals(3, progressB.get(2)[0]);
+        AdvancedPrintWorkflowService.JobCheckpoint persistedB = store.read("job-b");
+        assertEquals(List.of("DOCK2", "DOCK2", "DOCK2"), persistedB.tasks.stream().map(task -> task.printerId).toList());
+    }
+
+    @Test
+    void executeTasks_shouldSendNothingWhenARoutedPrinterDoesNotExist() throws Exception {
+        FakeZebra dock1 = start(new FakeZebra(null));
+        Path configDir = writePrinterConfig(dock1);
+        JobCheckpointStore store = new JobCheckpointStore(tempDir.resolve("checkpoints"));
+        PrintCheckpointSupport support = new PrintCheckpointSupport(
+                store, new LabelWorkflowService(new AppConfig(), configDir), 100, 100);
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>();
+        for (String payload : List.of("DOCK1-1", "DOCK1-2", "DOCK9-1")) {
+            AdvancedPrintWorkflowService.PrintTask task = new AdvancedPrintWorkflowService.PrintTask(
+                    AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL, payload + ".zpl", "^XA^FD" + payload + "^FS^XZ", payload);
+            task.printerId = payload.substring(0, payload.indexOf('-'));
+            tasks.add(task);
+        }
+        AdvancedPrintWorkflowService.JobCheckpoint checkpoint = support.createCheckpoint(
+                "missing", AdvancedPrintWorkflowService.InputMode.CARRIER_MOVE, "CM1",
+                tempDir.resolve("out"), false, null, tasks);
+
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> support.executeTasks(checkpoint, null, 0));
+
+        assertEquals("Printer not found or disabled: DOCK9", failure.getMessage());
+        Thread.sleep(200);
+        assertEquals(List.of(), dock1.awaitLabels(0));
+        AdvancedPrintWorkflowService.JobCheckpoint persisted = store.read("missing");
+        assertFalse(persisted.completed);
+        assertEquals(0, persisted.nextTaskIndex);
+        assertEquals("Printer not found or disabled: DOCK9", persisted.lastError);
+    }
+
+    private FakeZebra start(FakeZebra printer) {
+        printers.add(printer);
+        return printer;
+    }
+
+    private static List<AdvancedPrintWorkflowService.PrintTask> labels(String prefix, int count, boolean padFirst) {
+        List<AdvancedPrintWorkflowService.PrintTask> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            String payload = prefix + i;
+            String padding = padFirst && i == 1 ? "^FX" + "0".repeat(6 * 1024 * 1024) + "^FS" : "";
+            tasks.add(new AdvancedPrintWorkflowService.PrintTask(
+                    AdvancedPrintWorkflowService.TaskKind.PALLET_LABEL, payload + ".zpl",
+                    "^XA^FD" + payload + "^FS" + padding + "^XZ", payload));
+        }
+        return tasks;
+    }
+
+    /**
+     * Writes a site where DOCK1 is a closed port that fails over to {@code dock2}.
+     */
+    private Path writeFailoverConfig(FakeZebra dock2) throws IOException {
+        int deadPort;
+        try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            deadPort = closed.getLocalPort();
+        }
+        Path configDir = tempDir.resolve("config");
+        Path siteDir = Files.createDirectories(configDir.resolve("TBG3002"));
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n",
+                "version: 1",
+                "siteCode: TBG3002",
+                "printers:",
+                "  - id: DOCK1",
+                "    name: Dock 1",
+                "    ip: 127.0.0.1",
+                "    port: " + deadPort,
+                "    failoverPrinterId: DOCK2",
+                "  - id: DOCK2",
+                "    name: Dock 2",
+                "    ip: 127.0.0.1",
+                "    port: " + dock2.port(),
+                ""
+        ), StandardCharsets.UTF_8);
+        Files.writeString(siteDir.resolve("printer-routing.yaml"), String.join("\n",
+                "version: 1",
+                "siteCode: TBG3002",
+                "defaultPrinterId: DOCK1",
+                "rules: []",
+                ""
+        ), StandardCharsets.UTF_8);
+        return configDir;
+    }
+
+    private Path writePrinterConfig(FakeZebra... docks) throws IOException {
+        Path configDir = tempDir.resolve("config");
+        Path siteDir = Files.createDirectories(configDir.resolve("TBG3002"));
+        List<String> printersYaml = new ArrayList<>(List.of("version: 1", "siteCode: TBG3002", "printers:"));
+        for (int i = 0; i < docks.length; i++) {
+            printersYaml.add("  - id: DOCK" + (i + 1));
+            printersYaml.add("    name: Dock " + (i + 1));
+            printersYaml.add("    ip: 127.0.0.1");
+            printersYaml.add("    port: " + docks[i].port());
+        }
+        printersYaml.add("");
+        Files.writeString(siteDir.resolve("printers.yaml"), String.join("\n", printersYaml), StandardCharsets.UTF_8);
+        Files.writeString(siteDir.resolve("printer-routing.yaml"), String.join("\n",
+                "version: 1",
+                "siteCode: TBG3002",
+                "defaultPrinterId: DOCK1",
+                "rules: []",
+                ""
+        ), StandardCharsets.UTF_8);
+        return configDir;
+    }
+
     private static AdvancedPrintWorkflowService.JobCheckpoint checkpoint(
             String id,
             Path outputDir,
@@ -93,4 +438,104 @@ class PrintCheckpointSupportTest {
         );
         return checkpoint;
     }
+
+    /**
+     * Loopback 9100 listener that splits the pooled RAW stream into labels at {@code ^XZ} and
+     * records each label's payload and arrival time. With a hold latch it reads nothing until
+     * the latch opens, and its tiny receive buffer makes the sender block like a busy printer.
+     */
+    private static final class FakeZebra implements AutoCloseable {
+        private final ServerSocket server;
+        private final CountDownLatch hold;
+        private final List<String> labels = new CopyOnWriteArrayList<>();
+        private final List<Long> arrivals = new CopyOnWriteArrayList<>();
+        private final Thread acceptor;
+        private volatile Socket current;
+        private volatile Runnable onLabel = () -> {
+        };
+        private volatile boolean releasedByOtherDocks;
+
+        FakeZebra(CountDownLatch hold) throws IOException {
+            this.hold = hold;
+            server = new ServerSocket();
+            if (hold != null) {
+                server.setReceiveBufferSize(4096);
+            }
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 50);
+            acceptor = new Thread(this::acceptLoop, "fake-zebra-" + server.getLocalPort());
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        List<String> awaitLabels(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (labels.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return List.copyOf(labels);
+        }
+
+        long firstArrivalNanos() {
+            return arrivals.get(0);
+        }
+
+        long lastArrivalNanos() {
+            return arrivals.get(arrivals.size() - 1);
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept(); InputStream in = socket.getInputStream()) {
+                    current = socket;
+                    if (hold != null && !releasedByOtherDocks) {
+                        releasedByOtherDocks = hold.await(10, TimeUnit.SECONDS);
+                    }
+                    readLabels(in);
+                } catch (IOException ignored) {
+                    // Closed during shutdown.
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void readLabels(InputStream in) throws IOException {
+            StringBuilder pending = new StringBuilder();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) >= 0) {
+                int searchFrom = Math.max(0, pending.length() - 2);
+                pending.append(new String(chunk, 0, read, StandardCharsets.US_ASCII));
+                int end;
+                while ((end = pending.indexOf("^XZ", searchFrom)) >= 0) {
+                    String label = pending.substring(0, end);
+                    int start = label.indexOf("^FD") + 3;
+                    labels.add(label.substring(start, label.indexOf("^FS", start)));
+                    arrivals.add(System.nanoTime());
+                    onLabel.run();
+                    pending.delete(0, end + 3);
+                    searchFrom = 0;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            Socket socket = current;
+            if (socket != null) {
+                socket.close();
+            }
+            try {
+                acceptor.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package com.tbg.wms.cli.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrinterDispatchSupportTest {
+
+    @Test
+    void batch_shouldDrainLanesConcurrentlyAndKeepOrderWithinEachLane() throws Exception {
+        PrinterDispatchSupport dispatch = new PrinterDispatchSupport();
+        List<String> dockA = Collections.synchronizedList(new ArrayList<>());
+        List<String> dockB = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch dockBStarted = new CountDownLatch(1);
+        boolean[] dockAWaitedForDockB = new boolean[1];
+        List<int[]> progress = Collections.synchronizedList(new ArrayList<>());
+        PrinterDispatchSupport.Batch batch =
+                dispatch.newBatch((done, total, printers) -> progress.add(new int[]{done, total, printers}));
+
+        // Dock A's first label cannot finish until dock B has started, which a serial drain would never allow.
+        batch.submit("10.0.0.1:9100", () -> {
+            dockAWaitedForDockB[0] = dockBStarted.await(5, TimeUnit.SECONDS);
+            dockA.add("A1");
+        });
+        batch.submit("10.0.0.1:9100", () -> dockA.add("A2"));
+        batch.submit("10.0.0.1:9100", () -> dockA.add("A3"));
+        batch.submit("10.0.0.2:9100", () -> {
+            dockBStarted.countDown();
+            dockB.add("B1");
+        });
+        batch.submit("10.0.0.2:9100", () -> dockB.add("B2"));
+        batch.await();
+
+        assertTrue(dockAWaitedForDockB[0], "dock B should print while dock A is still busy");
+        assertEquals(List.of("A1", "A2", "A3"), dockA);
+        assertEquals(List.of("B1", "B2"), dockB);
+        assertEquals(2, batch.laneCount());
+        assertEquals(5, progress.size());
+        int[] last = progress.get(progress.size() - 1);
+        assertEquals(5, last[0]);
+        assertEquals(5, last[1]);
+        assertEquals(2, last[2]);
+    }
+
+    @Test
+    void await_shouldRethrowFirstFailureAndSkipStepsNotYetStarted() throws Exception {
+        PrinterDispatchSupport dispatch = new PrinterDispatchSupport();
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        IllegalStateException offline = new IllegalStateException("Printer offline");
+        PrinterDispatchSupport.Batch batch = dispatch.newBatch(AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+
+        batch.submit("10.0.0.1:9100", () -> sent.add("A1"));
+        batch.submit("10.0.0.1:9100", () -> {
+            throw offline;
+        });
+        batch.submit("10.0.0.1:9100", () -> sent.add("A3"));
+
+        Exception thrown = assertThrows(Exception.class, batch::await);
+
+        assertSame(offline, thrown);
+        assertEquals(List.of("A1"), sent);
+    }
+
+    @Test
+    void handOff_shouldFinishTheStepOnTheOtherLaneAndReportItOnce() throws Exception {
+        PrinterDispatchSupport dispatch = new PrinterDispatchSupport();
+        List<String> dockB = Collections.synchronizedList(new ArrayList<>());
+        List<int[]> progress = Collections.synchronizedList(new ArrayList<>());
+        PrinterDispatchSupport.Batch batch =
+                dispatch.newBatch((done, total, printers) -> progress.add(new int[]{done, total, printers}));
+
+        batch.submit("10.0.0.2:9100", () -> dockB.add("B1"));
+        batch.submit("10.0.0.1:9100", () -> batch.handOff("10.0.0.2:9100", () -> dockB.add("A1")));
+        batch.submit("10.0.0.2:9100", () -> dockB.add("B2"));
+        batch.await();
+
+        assertTrue(dockB.containsAll(List.of("B1", "B2", "A1")));
+        assertEquals(3, dockB.size());
+        assertEquals(3, progress.size());
+        assertEquals(3, progress.get(2)[0]);
+        assertEquals(2, batch.laneCount());
+        assertThrows(IllegalStateException.class, () -> batch.handOff("10.0.0.2:9100", () -> dockB.add("late")));
+    }
+
+    @Test
+    void lanes_shouldNotInterleaveTwoBatchesForTheSamePrinter() throws Exception {
+        PrinterDispatchSupport dispatch = new PrinterDispatchSupport();
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        PrinterDispatchSupport.Batch first = dispatch.newBatch(AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+        PrinterDispatchSupport.Batch second = dispatch.newBatch(AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+
+        first.submit("10.0.0.1:9100", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            received.add("job1-label1");
+        });
+        first.submit("10.0.0.1:9100", () -> received.add("job1-label2"));
+        second.submit("10.0.0.1:9100", () -> received.add("job2-label1"));
+        release.countDown();
+        first.await();
+        second.await();
+
+        assertEquals(List.of("job1-label1", "job1-label2", "job2-label1"), received);
+    }
+
+    @Test
+    void lanes_shouldReportBacklogAndMeasuredStepTime() throws Exception {
+        PrinterDispatchSupport dispatch = new PrinterDispatchSupport();
+        CountDownLatch release = new CountDownLatch(1);
+        PrinterDispatchSupport.Batch batch = dispatch.newBatch(AdvancedPrintWorkflowService.PrintProgressListener.NONE);
+
+        batch.submit("10.0.0.1:9100", () -> release.await(5, TimeUnit.SECONDS));
+        batch.submit("10.0.0.1:9100", () -> Thread.sleep(20));
+        batch.submit("10.0.0.1:9100", () -> Thread.sleep(20));
+
+        assertEquals(3, dispatch.pendingSteps("10.0.0.1:9100"));
+        assertEquals(0, dispatch.pendingSteps("10.0.0.2:9100"));
+        assertEquals(0.0, dispatch.averageStepMillis("10.0.0.1:9100"));
+        release.countDown();
+        batch.await();
+
+        assertEquals(0, dispatch.pendingSteps("10.0.0.1:9100"));
+        assertTrue(dispatch.averageStepMillis("10.0.0.1:9100") > 0.0);
+    }
+}
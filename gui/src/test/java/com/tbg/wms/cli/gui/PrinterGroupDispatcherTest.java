@@ -0,0 +1,107 @@
+package com.tbg.wms.cli.gui;
+
+import com.tbg.wms.core.print.PrinterConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PrinterGroupDispatcherTest {
+
+    private static final PrinterConfig DOCK1 = printer("DOCK1", "10.0.0.1");
+    private static final PrinterConfig DOCK2 = printer("DOCK2", "10.0.0.2");
+    private static final PrinterConfig DOCK3 = printer("DOCK3", "10.0.0.3");
+
+    @Test
+    void assign_shouldSpreadPalletsEvenlyWhenNothingIsMeasured() {
+        PrinterGroupDispatcher dispatcher = new PrinterGroupDispatcher(PrinterGroupDispatcher.LoadSource.NONE);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < 300; i++) {
+            counts.merge(dispatcher.assign(List.of(DOCK1, DOCK2, DOCK3), "P" + i).getId(), 1, Integer::sum);
+        }
+
+        assertEquals(Map.of("DOCK1", 100, "DOCK2", 100, "DOCK3", 100), counts);
+    }
+
+    @Test
+    void assign_shouldFavorIdleAndFasterPrinters() {
+        FakeLoad load = new FakeLoad();
+        load.pending.put("DOCK1", 40);
+        load.millis.put("DOCK1", 100.0);
+        load.millis.put("DOCK2", 100.0);
+        load.millis.put("DOCK3", 50.0);
+        PrinterGroupDispatcher dispatcher = new PrinterGroupDispatcher(load);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < 60; i++) {
+            counts.merge(dispatcher.assign(List.of(DOCK1, DOCK2, DOCK3), "P" + i).getId(), 1, Integer::sum);
+        }
+
+        // DOCK1 has 4 s queued already; DOCK3 prints twice as fast as DOCK2.
+        assertNull(counts.get("DOCK1"));
+        assertEquals(20, (int) counts.get("DOCK2"));
+        assertEquals(40, (int) counts.get("DOCK3"));
+    }
+
+    @Test
+    void assign_shouldKeepEveryLabelOfAPalletOnOnePrinter() {
+        PrinterGroupDispatcher dispatcher = new PrinterGroupDispatcher(PrinterGroupDispatcher.LoadSource.NONE);
+        List<PrinterConfig> group = List.of(DOCK1, DOCK2);
+
+        PrinterConfig first = dispatcher.assign(group, "SHIP1:LPN1");
+        dispatcher.assign(group, "SHIP1:LPN2");
+        dispatcher.assign(group, "SHIP1:LPN3");
+        PrinterConfig again = dispatcher.assign(group, "SHIP1:LPN1");
+
+        assertSame(first, again);
+        assertSame(DOCK2, dispatcher.assign(List.of(DOCK2), "SHIP1:LPN1"));
+    }
+
+    @Test
+    void assign_shouldSkipOfflineMembersUnlessEveryMemberIsOffline() {
+        FakeLoad load = new FakeLoad();
+        load.offline.add("DOCK1");
+        PrinterGroupDispatcher dispatcher = new PrinterGroupDispatcher(load);
+
+        for (int i = 0; i < 10; i++) {
+            assertNotEquals("DOCK1", dispatcher.assign(List.of(DOCK1, DOCK2, DOCK3), "P" + i).getId());
+        }
+
+        load.offline.add("DOCK2");
+        assertSame(DOCK1, dispatcher.assign(List.of(DOCK1, DOCK2), "P-ALL-DOWN"));
+    }
+
+    private static PrinterConfig printer(String id, String ip) {
+        return new PrinterConfig(id, id, ip, 9100, List.of(), List.of("ZPL"), "", true);
+    }
+
+    private static final class FakeLoad implements PrinterGroupDispatcher.LoadSource {
+        private final Map<String, Integer> pending = new HashMap<>();
+        private final Map<String, Double> millis = new HashMap<>();
+        private final Set<String> offline = new HashSet<>();
+
+        @Override
+        public int pendingLabels(PrinterConfig printer) {
+            return pending.getOrDefault(printer.getId(), 0);
+        }
+
+        @Override
+        public double millisPerLabel(PrinterConfig printer) {
+            return millis.getOrDefault(printer.getId(), 0.0);
+        }
+
+        @Override
+        public boolean isAvailable(PrinterConfig printer) {
+            return !offline.contains(printer.getId());
+        }
+    }
+}
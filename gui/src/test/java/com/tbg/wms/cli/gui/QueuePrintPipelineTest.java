@@ -0,0 +1,233 @@
+package com.tbg.wms.cli.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueuePrintPipelineTest {
+
+    @Test
+    void run_shouldPrepareTheNextItemWhileTheCurrentOnePrints() throws Exception {
+        FakeStages stages = new FakeStages();
+        CountDownLatch secondPrepared = new CountDownLatch(1);
+        stages.onPrepare = id -> {
+            if (id.equals("S2")) {
+                secondPrepared.countDown();
+            }
+        };
+        stages.beforeFinish = id -> {
+            if (id.equals("S1")) {
+                assertTrue(secondPrepared.await(5, TimeUnit.SECONDS), "S2 should load while S1 prints");
+            }
+        };
+
+        AdvancedPrintWorkflowService.QueuePrintResult result = run(stages, new AdvancedPrintWorkflowService.QueueCancellation(),
+                "S1", "S2", "S3");
+
+        assertEquals(3, result.getItemResults().size());
+        assertEquals(3, result.getTotalLabelsPrinted());
+        assertTrue(result.getFailures().isEmpty());
+        assertFalse(result.isCancelled());
+        assertEquals(List.of("S1", "S2", "S3"), stages.printed);
+    }
+
+    @Test
+    void run_shouldRecordFailedItemsAndKeepPrintingTheRest() throws Exception {
+        FakeStages stages = new FakeStages();
+        stages.failPrepare = "S2";
+        stages.failPrint = "S3";
+
+        AdvancedPrintWorkflowService.QueuePrintResult result = run(stages, new AdvancedPrintWorkflowService.QueueCancellation(),
+                "S1", "S2", "S3", "S4");
+
+        assertEquals(2, result.getItemResults().size());
+        assertEquals(List.of("S1", "S4"), stages.printed);
+        assertEquals(2, result.getFailures().size());
+        assertEquals("S2", result.getFailures().get(0).getSourceId());
+        assertEquals("cannot load S2", result.getFailures().get(0).getMessage());
+        assertEquals("S3", result.getFailures().get(1).getSourceId());
+        assertEquals("printer offline", result.getFailures().get(1).getMessage());
+    }
+
+    @Test
+    void run_shouldKeepLoadingAndPrintingBoundedByThePrinters() throws Exception {
+        FakeStages stages = new FakeStages();
+        CountDownLatch release = new CountDownLatch(1);
+        stages.beforeFinish = id -> release.await(5, TimeUnit.SECONDS);
+        List<String> requested = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            requested.add("S" + i);
+        }
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            // Nothing has finished yet: two items on the printers, one handed off, one loaded.
+            stages.loadedWhileBlocked.set(stages.prepared.get());
+            stages.printingWhileBlocked.set(stages.printed.size());
+            release.countDown();
+        });
+        releaser.start();
+        AdvancedPrintWorkflowService.QueuePrintResult result = run(stages, new AdvancedPrintWorkflowService.QueueCancellation(),
+                requested.toArray(new String[0]));
+        releaser.join();
+
+        assertEquals(10, result.getItemResults().size());
+        assertEquals(QueuePrintPipeline.ITEMS_ON_PRINTERS, stages.printingWhileBlocked.get());
+        assertEquals(QueuePrintPipeline.ITEMS_ON_PRINTERS + QueuePrintPipeline.PREPARED_AHEAD + 1,
+                stages.loadedWhileBlocked.get());
+    }
+
+    @Test
+    void run_shouldStopLoadingAndSkipUnsentLabelsWhenCancelled() throws Exception {
+        FakeStages stages = new FakeStages();
+        AdvancedPrintWorkflowService.QueueCancellation cancellation = new AdvancedPrintWorkflowService.QueueCancellation();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        stages.beforeFinish = id -> {
+            if (id.equals("S1")) {
+                cancellation.cancel();
+                cancelled.countDown();
+            }
+            cancelled.await(5, TimeUnit.SECONDS);
+        };
+
+        AdvancedPrintWorkflowService.QueuePrintResult result = run(stages, cancellation,
+                "S1", "S2", "S3", "S4", "S5", "S6");
+
+        assertTrue(result.isCancelled());
+        assertTrue(result.getItemResults().isEmpty());
+        assertEquals(List.of("S1", "S2"), stages.printed);
+        assertEquals(List.of("S1", "S2"), stages.cancelledItems);
+        assertEquals(2, result.getFailures().size());
+        assertTrue(stages.prepared.get() < 6, "loading should stop after cancel");
+    }
+
+    @Test
+    void run_shouldCancelItemsOnThePrintersAndStopTheLoaderWhenInterrupted() throws Exception {
+        FakeStages stages = new FakeStages();
+        CountDownLatch printing = new CountDownLatch(1);
+        stages.beforeFinish = id -> {
+            printing.countDown();
+            new CountDownLatch(1).await();
+        };
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                run(stages, new AdvancedPrintWorkflowService.QueueCancellation(), "S1", "S2", "S3", "S4", "S5", "S6");
+            } catch (Throwable ex) {
+                thrown.set(ex);
+            }
+        });
+        caller.start();
+        assertTrue(printing.await(5, TimeUnit.SECONDS));
+        // Let the loader fill the handoff and block offering the next item.
+        Thread.sleep(200);
+
+        caller.interrupt();
+        caller.join(5_000);
+
+        assertFalse(caller.isAlive(), "run should return instead of waiting for the loader");
+        assertInstanceOf(InterruptedException.class, thrown.get());
+        assertEquals(List.of("S1", "S2"), stages.cancelledItems);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loaderAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(loaderAlive(), "the loader should stop once nothing drains the handoff");
+    }
+
+    private static boolean loaderAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("queue-prepare") && thread.isAlive());
+    }
+
+    private static AdvancedPrintWorkflowService.QueuePrintResult run(
+            FakeStages stages,
+            AdvancedPrintWorkflowService.QueueCancellation cancellation,
+            String... ids
+    ) throws Exception {
+        List<AdvancedPrintWorkflowService.QueueRequestItem> requests = new ArrayList<>();
+        for (String id : ids) {
+            requests.add(new AdvancedPrintWorkflowService.QueueRequestItem(AdvancedPrintWorkflowService.QueueItemType.SHIPMENT, id));
+        }
+        return new QueuePrintPipeline(stages).run(requests, AdvancedPrintWorkflowService.QueueProgressListener.NONE, cancellation);
+    }
+
+    @FunctionalInterface
+    private interface Hook {
+        void run(String id) throws Exception;
+    }
+
+    private static final class FakeStages implements QueuePrintPipeline.Stages {
+        private final AtomicInteger prepared = new AtomicInteger();
+        private final AtomicInteger loadedWhileBlocked = new AtomicInteger();
+        private final AtomicInteger printingWhileBlocked = new AtomicInteger();
+        private final List<String> printed = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> cancelledItems = Collections.synchronizedList(new ArrayList<>());
+        private Hook onPrepare = id -> {
+        };
+        private Hook beforeFinish = id -> {
+        };
+        private String failPrepare;
+        private String failPrint;
+
+        @Override
+        public AdvancedPrintWorkflowService.PreparedQueueItem prepare(AdvancedPrintWorkflowService.QueueRequestItem request)
+                throws Exception {
+            prepared.incrementAndGet();
+            if (request.getId().equals(failPrepare)) {
+                throw new IllegalStateException("cannot load " + request.getId());
+            }
+            onPrepare.run(request.getId());
+            return AdvancedPrintWorkflowService.PreparedQueueItem.forShipment(request.getId(), null);
+        }
+
+        @Override
+        public QueuePrintPipeline.Printing print(
+                AdvancedPrintWorkflowService.PreparedQueueItem item,
+                AdvancedPrintWorkflowService.PrintProgressListener listener
+        ) throws Exception {
+            String id = item.getSourceId();
+            if (id.equals(failPrint)) {
+                throw new IllegalStateException("wrapped", new IllegalStateException("printer offline"));
+            }
+            printed.add(id);
+            return new QueuePrintPipeline.Printing() {
+                private volatile boolean cancelled;
+
+                @Override
+                public AdvancedPrintWorkflowService.PrintResult await() throws Exception {
+                    beforeFinish.run(id);
+                    return new AdvancedPrintWorkflowService.PrintResult(cancelled ? 0 : 1, 0, Path.of("out", id),
+                            "FILE", "FILE", true);
+                }
+
+                @Override
+                public boolean isComplete() {
+                    return !cancelled;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                    cancelledItems.add(id);
+                }
+            };
+        }
+    }
+}
@@ -62,6 +62,24 @@ class QueueResumeExecutionSupportTest {
         );
     }
 
+    @Test
+    void queueMessages_shouldListFailedItemsAndCancellation() {
+        AdvancedPrintWorkflowService.QueuePrintResult result = new QueueWorkflowSupport().summarizeResults(
+                List.of(printResult(4, 2, Path.of("out"))),
+                List.of(new AdvancedPrintWorkflowService.QueueItemFailure(
+                        AdvancedPrintWorkflowService.QueueItemType.SHIPMENT, "8001", "printer offline")),
+                true
+        );
+
+        assertEquals("Queue Cancelled", support.buildQueueCompletionTitle(result));
+        assertEquals(
+                "Queue cancelled.\nItems printed: 1\nLabels: 4\nInfo Tags: 2\n\nFailed items:\nSHIPMENT 8001: printer offline",
+                support.buildQueueCompletionMessage(result)
+        );
+        assertEquals("Loaded 3 of 5 | finished 1 | labels 7 of 20",
+                support.buildQueueProgressStatus(3, 1, 5, 7, 20));
+    }
+
     private static AdvancedPrintWorkflowService.ResumeCandidate resumeCandidate(
             String checkpointId,
             AdvancedPrintWorkflowService.InputMode mode,
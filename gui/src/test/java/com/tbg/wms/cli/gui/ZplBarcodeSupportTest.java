@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.oned.Code128Writer;
+import com.google.zxing.oned.Code39Writer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests linear barcode encoding used by the local ZPL preview.
+ */
+final class ZplBarcodeSupportTest {
+
+    @Test
+    void code128MatchesReferenceEncoder() {
+        assertEquals(reference(new Code128Writer().encode("TS-ABC123", BarcodeFormat.CODE_128, 0, 0)),
+                modules(ZplBarcodeSupport.code128("TS-ABC123", 'N', 1)));
+        assertEquals(reference(new Code128Writer().encode("12345678", BarcodeFormat.CODE_128, 0, 0)),
+                modules(ZplBarcodeSupport.code128("12345678", 'A', 1)));
+        assertEquals(reference(new Code128Writer().encode("12345678", BarcodeFormat.CODE_128, 0, 0)),
+                modules(ZplBarcodeSupport.code128(">;12345678", 'N', 1)));
+    }
+
+    @Test
+    void code128ScalesModulesAndStripsInvocationCodesFromText() {
+        int[] widths = ZplBarcodeSupport.code128("A", 'N', 3);
+
+        assertEquals((11 * 3 + 13) * 3, sum(widths));
+        assertEquals("00123>X", ZplBarcodeSupport.code128Text(">;00123><>:X"));
+    }
+
+    @Test
+    void code39MatchesReferenceEncoderAndAppendsCheckCharacter() {
+        assertEquals(reference(new Code39Writer().encode("PALLET-42", BarcodeFormat.CODE_39, 0, 0)),
+                modules(ZplBarcodeSupport.code39("pallet-42", false, 1, 2.0d)));
+        assertEquals("CODE39W", ZplBarcodeSupport.code39Data("CODE39", true));
+        assertThrows(IllegalArgumentException.class, () -> ZplBarcodeSupport.code39("a#b", false, 1, 2.0d));
+    }
+
+    private static String reference(BitMatrix matrix) {
+        StringBuilder bits = new StringBuilder();
+        for (int x = 0; x < matrix.getWidth(); x++) {
+            bits.append(matrix.get(x, 0) ? '1' : '0');
+        }
+        String text = bits.toString();
+        return text.substring(text.indexOf('1'), text.lastIndexOf('1') + 1);
+    }
+
+    private static String modules(int[] widths) {
+        StringBuilder bits = new StringBuilder();
+        for (int i = 0; i < widths.length; i++) {
+            bits.append(String.valueOf(i % 2 == 0 ? '1' : '0').repeat(widths[i]));
+        }
+        return bits.toString();
+    }
+
+    private static int sum(int[] widths) {
+        int total = 0;
+        for (int width : widths) {
+            total += width;
+        }
+        return total;
+    }
+}
@@ -3,9 +3,12 @@ package com.tbg.wms.cli.gui;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ZplPreviewRenderServiceTest {
 
@@ -25,4 +28,30 @@ class ZplPreviewRenderServiceTest {
         assertThrows(IllegalArgumentException.class, () -> service.render(" ", 8, 4.0d, 6.0d, 0));
         assertThrows(IllegalArgumentException.class, () -> service.buildRenderUri(8, 4.0d, 6.0d, -1));
     }
+
+    @Test
+    void renderPreviewRendersLocallyWithoutHttpClient() throws Exception {
+        ZplPreviewRenderService service = new ZplPreviewRenderService(null, "https://api.labelary.com");
+
+        ZplPreviewRenderService.Preview preview = service.renderPreview(
+                "^XA^FO20,20^GB100,100,4^FS^XZ", 8, 4.0d, 6.0d, 0);
+
+        assertFalse(preview.remote());
+        assertEquals(812, preview.image().getWidth());
+        assertTrue(preview.ignoredCommands().isEmpty());
+        assertTrue(service.minRenderIntervalMs() < new ZplPreviewRenderService(null, "http://127.0.0.1:1", true)
+                .minRenderIntervalMs());
+    }
+
+    @Test
+    void renderPreviewKeepsLocalImageWhenRemoteFallbackFails() throws Exception {
+        ZplPreviewRenderService service = new ZplPreviewRenderService(null, "http://127.0.0.1:1", true);
+
+        ZplPreviewRenderService.Preview preview = service.renderPreview(
+                "^XA^FO20,20^GC100,3,B^FS^XZ", 8, 4.0d, 6.0d, 0);
+
+        assertFalse(preview.remote());
+        assertEquals(Set.of("^GC"), preview.ignoredCommands());
+        assertEquals(1218, preview.image().getHeight());
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Tropicana Brands Group
+ *
+ * @author Zeyad Rashed
+ * @email zeyad.rashed@tropicana.com
+ * @since 1.7.7
+ */
+package com.tbg.wms.cli.gui;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.MultiFormatReader;
+import com.google.zxing.NotFoundException;
+import com.google.zxing.RGBLuminanceSource;
+import com.google.zxing.Result;
+import com.google.zxing.common.HybridBinarizer;
+import com.tbg.wms.core.barcode.BarcodeZplBuilder;
+import com.tbg.wms.core.template.LabelTemplate;
+import com.tbg.wms.core.template.ZplStoredFormat;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests local ZPL rasterization against committed reference images and a barcode decoder.
+ *
+ * <p>Regenerate the reference PNGs with {@code -Dzpl.preview.updateReferences=true} after an
+ * intentional rendering change.</p>
+ */
+final class ZplRasterizerTest {
+
+    private static final String REFERENCE_DIR = "zpl-preview/";
+    private static final Path REFERENCE_SOURCE_DIR = Path.of("src/test/resources/com/tbg/wms/cli/gui/zpl-preview");
+    private static final int CELL = 8;
+    private static final double CELL_DENSITY_TOLERANCE = 0.5d;
+    private static final double TEXT_CELL_MISMATCH_LIMIT = 0.02d;
+
+    private final ZplRasterizer rasterizer = new ZplRasterizer();
+
+    @Test
+    void renderSizesImageFromDensityAndLabelDimensions() {
+        assertEquals(812, rasterizer.render("^XA^XZ", 8, 4.0d, 6.0d, 0).image().getWidth());
+        assertEquals(1218, rasterizer.render("^XA^XZ", 8, 4.0d, 6.0d, 0).image().getHeight());
+        assertEquals(1200, rasterizer.render("^XA^XZ", 12, 4.0d, 6.0d, 0).image().getWidth());
+        assertEquals(1800, rasterizer.render("^XA^XZ", 12, 4.0d, 6.0d, 0).image().getHeight());
+    }
+
+    @Test
+    void walmartLabelMatchesReferenceAt203Dpi() throws Exception {
+        ZplRasterizer.Result result = rasterizer.render(resource("walmart-canada-label.zpl"), 8, 4.0d, 6.0d, 0);
+
+        assertMatchesReference("walmart-canada-label-8dpmm", result.image(), false);
+    }
+
+    @Test
+    void stopInfoTagMatchesReferenceAt300Dpi() throws Exception {
+        String zpl = InfoTagZplBuilder.buildStopInfoTag("CM1234", 2, 5, 70,
+                List.of("8000001", "8000002", "8000003", "8000004", "8000005", "8000006", "8000007"), List.of());
+
+        ZplRasterizer.Result result = rasterizer.render(zpl, 12, 4.0d, 6.0d, 0);
+
+        assertTrue(result.ignoredCommands().isEmpty(), result.ignoredCommands().toString());
+        assertMatchesReference("stop-info-tag-12dpmm", result.image(), false);
+    }
+
+    @Test
+    void graphicsOnlyLabelMatchesReferenceExactly() throws Exception {
+        String zpl = "^XA^PW812^LL1218^LH10,10"
+                + "^FO20,20^GB772,250,3^FS"
+                + "^FO40,300^GB300,200,200^FS"
+                + "^FO60,320^GB100,100,100,W^FS"
+                + "^FO400,300^GB300,200,10,B,4^FS"
+                + "^FO200,350^FR^GB300,60,60^FS"
+                + "^BY3^FO60,600^BCN,150,N,N,N^FD>;00012345678901234567^FS"
+                + "^FO60,850^B3N,N,120,N,N^FDPALLET-42^FS"
+                + "^FO660,850^BQN,2,5^FDQA,WMS-PREVIEW^FS"
+                + "^XZ";
+
+        ZplRasterizer.Result result = rasterizer.render(zpl, 8, 4.0d, 6.0d, 0);
+
+        assertTrue(result.ignoredCommands().isEmpty(), result.ignoredCommands().toString());
+        assertMatchesReference("graphics-only-8dpmm", result.image(), true);
+    }
+
+    @Test
+    void referenceDiffDetectsMovedContent() throws Exception {
+        String zpl = resource("walmart-canada-label.zpl").replace("^XZ", "^FO100,1080^GB300,150,150^FS^XZ");
+
+        BufferedImage changed = rasterizer.render(zpl, 8, 4.0d, 6.0d, 0).image();
+
+        assertTrue(mismatchedCellRatio(reference("walmart-canada-label-8dpmm"), changed) > TEXT_CELL_MISMATCH_LIMIT);
+    }
+
+    @Test
+    void renderDrawsDecodableCode128FromBarcodeBuilder() throws Exception {
+        String portrait = BarcodeZplBuilder.build(new BarcodeZplBuilder.BarcodeRequest("TS-ABC123",
+                BarcodeZplBuilder.Symbology.CODE128, BarcodeZplBuilder.Orientation.PORTRAIT,
+                812, 1218, 0, 0, 3, 3, 200, true, 1));
+        String landscape = BarcodeZplBuilder.build(new BarcodeZplBuilder.BarcodeRequest("00012345678901234567",
+                BarcodeZplBuilder.Symbology.GS1_128, BarcodeZplBuilder.Orientation.LANDSCAPE,
+                812, 1218, 0, 0, 3, 3, 200, false, 1));
+
+        assertEquals("TS-ABC123", decode(rasterizer.render(portrait, 8, 4.0d, 6.0d, 0).image(), BarcodeFormat.CODE_128));
+        assertEquals("00012345678901234567",
+                decode(rotateCounterClockwise(rasterizer.render(landscape, 8, 4.0d, 6.0d, 0).image()),
+                        BarcodeFormat.CODE_128));
+    }
+
+    @Test
+    void renderDrawsDecodableCode39AndQrCodes() throws Exception {
+        String longText = "CARRIER MOVE CM1234 STOP 2 OF 5 SHIPMENTS 8000001 8000002 8000003 8000004 - "
+                + "PALLET 3 OF 12 - LOCATION 7087R - WAL-MART CANADA - MISSISSAUGA ON - caf\u00e9 cr\u00e8me";
+        String zpl = "^XA"
+                + "^BY2,3.0^FO60,60^B3N,Y,120,Y,N^FDPallet-42^FS"
+                + "^FO60,300^BQN,2,4^FDMA,0123456789012^FS"
+                + "^FO300,300^BQN,2,4^FDHA," + longText + "^FS"
+                + "^XZ";
+        BufferedImage image = rasterizer.render(zpl, 8, 4.0d, 6.0d, 0).image();
+
+        assertEquals("PALLET-42", decode(image.getSubimage(0, 0, 812, 280), BarcodeFormat.CODE_39).substring(0, 9));
+        assertEquals("0123456789012", decode(image.getSubimage(0, 260, 290, 300), BarcodeFormat.QR_CODE));
+        assertEquals(longText, decode(image.getSubimage(280, 280, 532, 538), BarcodeFormat.QR_CODE));
+    }
+
+    @Test
+    void storedFormatRecallRendersLikeTheInlineLabel() throws Exception {
+        String template = "^XA^PW812^LL1218^FO40,40^GB700,200,4^FS"
+                + "^FO60,60^A0N,40,40^FD{shipToName}^FS"
+                + "^BY3^FO60,300^BCN,120,Y,N,N^FD{lpn}^FS^XZ";
+        ZplStoredFormat format = ZplStoredFormat.compile(new LabelTemplate("preview", template));
+        Map<String, String> fields = Map.of("shipToName", "WAL-MART CANADA", "lpn", "LPN0001234");
+        String inline = template.replace("{shipToName}", "WAL-MART CANADA").replace("{lpn}", "LPN0001234");
+
+        BufferedImage expected = rasterizer.render(inline, 8, 4.0d, 6.0d, 0).image();
+        BufferedImage recalled = rasterizer.render(
+                format.getDownloadZpl() + format.recall(fields), 8, 4.0d, 6.0d, 0).image();
+
+        assertEquals(0, differingPixels(expected, recalled));
+    }
+
+    @Test
+    void reverseFieldAndInvertedOrientationTogglePixels() {
+        BufferedImage reversed = rasterizer.render(
+                "^XA^FO0,0^GB100,100,100^FS^FO0,0^FR^GB50,50,50^FS^XZ", 8, 1.0d, 1.0d, 0).image();
+        BufferedImage inverted = rasterizer.render("^XA^POI^FO0,0^GB10,10,10^FS^XZ", 8, 1.0d, 1.0d, 0).image();
+
+        assertTrue(isWhite(reversed, 10, 10));
+        assertTrue(!isWhite(reversed, 75, 75));
+        assertTrue(isWhite(inverted, 0, 0));
+        assertTrue(!isWhite(inverted, 200, 200));
+    }
+
+    @Test
+    void renderReportsUnsupportedVisualCommandsAndRejectsMissingLabels() {
+        ZplRasterizer.Result result = rasterizer.render(
+                "^XA^PR3^PQ2^FO10,10^GC100,3,B^FS^FO10,10^GB50,50,2^FS^XZ", 8, 4.0d, 6.0d, 0);
+
+        assertEquals(Set.of("^GC"), result.ignoredCommands());
+        assertThrows(IllegalArgumentException.class, () -> rasterizer.render("^XA^XZ", 8, 4.0d, 6.0d, 1));
+    }
+
+    private static String decode(BufferedImage image, BarcodeFormat format) throws NotFoundException {
+        int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(
+                new RGBLuminanceSource(image.getWidth(), image.getHeight(), pixels)));
+        Result result = new MultiFormatReader().decode(bitmap, Map.of(
+                DecodeHintType.POSSIBLE_FORMATS, List.of(format),
+                DecodeHintType.TRY_HARDER, Boolean.TRUE,
+                DecodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name()));
+        return result.getText();
+    }
+
+    private static BufferedImage rotateCounterClockwise(BufferedImage image) {
+        BufferedImage rotated = new BufferedImage(image.getHeight(), image.getWidth(), BufferedImage.TYPE_BYTE_BINARY);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                rotated.setRGB(y, image.getWidth() - 1 - x, image.getRGB(x, y));
+            }
+        }
+        return rotated;
+    }
+
+    private static void assertMatchesReference(String name, BufferedImage actual, boolean exact) throws IOException {
+        if (Boolean.getBoolean("zpl.preview.updateReferences")) {
+            Files.createDirectories(REFERENCE_SOURCE_DIR);
+            ImageIO.write(actual, "png", REFERENCE_SOURCE_DIR.resolve(name + ".png").toFile());
+            return;
+        }
+        BufferedImage expected = reference(name);
+        assertEquals(expected.getWidth(), actual.getWidth(), name + " width");
+        assertEquals(expected.getHeight(), actual.getHeight(), name + " height");
+        if (exact) {
+            assertEquals(0, differingPixels(expected, actual), name + " differing pixels");
+        } else {
+            double ratio = mismatchedCellRatio(expected, actual);
+            assertTrue(ratio <= TEXT_CELL_MISMATCH_LIMIT, name + " mismatched cell ratio " + ratio);
+        }
+    }
+
+    private static BufferedImage reference(String name) throws IOException {
+        try (InputStream in = ZplRasterizerTest.class.getResourceAsStream(REFERENCE_DIR + name + ".png")) {
+            assertNotNull(in, "Missing reference " + name + ".png; run with -Dzpl.preview.updateReferences=true");
+            return ImageIO.read(in);
+        }
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = ZplRasterizerTest.class.getResourceAsStream(REFERENCE_DIR + name)) {
+            assertNotNull(in, "Missing resource " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Compares ink density over coarse cells so glyph differences between platform fonts do not
+     * fail the comparison while moved, missing, or extra content does.
+     */
+    private static double mismatchedCellRatio(BufferedImage expected, BufferedImage actual) {
+        int columns = (expected.getWidth() + CELL - 1) / CELL;
+        int rows = (expected.getHeight() + CELL - 1) / CELL;
+        int mismatched = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                double difference = Math.abs(density(expected, column, row) - density(actual, column, row));
+                if (difference > CELL_DENSITY_TOLERANCE) {
+                    mismatched++;
+                }
+            }
+        }
+        return mismatched / (double) (columns * rows);
+    }
+
+    private static double density(BufferedImage image, int column, int row) {
+        int dark = 0;
+        int total = 0;
+        for (int y = row * CELL; y < Math.min(image.getHeight(), (row + 1) * CELL); y++) {
+            for (int x = column * CELL; x < Math.min(image.getWidth(), (column + 1) * CELL); x++) {
+                total++;
+                if (!isWhite(image, x, y)) {
+                    dark++;
+                }
+            }
+        }
+        return dark / (double) total;
+    }
+
+    private static int differingPixels(BufferedImage expected, BufferedImage actual) {
+        int differing = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (isWhite(expected, x, y) != isWhite(actual, x, y)) {
+                    differing++;
+                }
+            }
+        }
+        return differing;
+    }
+
+    private static boolean isWhite(BufferedImage image, int x, int y) {
+        return (image.getRGB(x, y) & 0xFFFFFF) == 0xFFFFFF;
+    }
+}
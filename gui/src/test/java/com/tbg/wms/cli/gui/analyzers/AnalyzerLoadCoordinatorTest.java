@@ -1,12 +1,46 @@
 package com.tbg.wms.cli.gui.analyzers;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AnalyzerLoadCoordinatorTest {
 
+    // Sleeps a millisecond per row, so the whole query would take over a minute.
+    private static final String SLOW_SQL = "select x from system_range(1, 100000) where pause(1) = 1";
+
+    private Connection connection;
+
+    @BeforeEach
+    void openDatabase() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:analyzer-cancel;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create alias if not exists pause for '" + SlowFunctions.class.getName() + ".pause'");
+        }
+        SlowFunctions.calls.set(0);
+    }
+
+    @AfterEach
+    void closeDatabase() throws SQLException {
+        connection.close();
+    }
+
     @Test
     void beginLoad_shouldInvalidateEarlierTokens() {
         AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
@@ -17,4 +51,96 @@ class AnalyzerLoadCoordinatorTest {
         assertFalse(coordinator.isCurrent(first));
         assertTrue(coordinator.isCurrent(second));
     }
+
+    @Test
+    void beginLoad_shouldCancelTheQueryOfTheLoadItSupersedes() throws Exception {
+        AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
+        CompletableFuture<Integer> load = startSlowQuery(new AnalyzerQueryScope(coordinator, coordinator.beginLoad(), 0));
+        awaitRunning(coordinator);
+
+        long cancelStart = System.nanoTime();
+        coordinator.beginLoad();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> load.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SQLException.class, ex.getCause());
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - cancelStart) < 5);
+        assertEquals(0, coordinator.liveStatementCount());
+    }
+
+    @Test
+    void cancelAll_shouldCancelTheRunningQueryWhenTheDialogCloses() throws Exception {
+        AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
+        CompletableFuture<Integer> load = startSlowQuery(new AnalyzerQueryScope(coordinator, coordinator.beginLoad(), 0));
+        awaitRunning(coordinator);
+
+        coordinator.cancelAll();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> load.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SQLException.class, ex.getCause());
+    }
+
+    @Test
+    void query_shouldNotStartForALoadThatWasAlreadySuperseded() {
+        AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
+        AnalyzerQueryScope stale = new AnalyzerQueryScope(coordinator, coordinator.beginLoad(), 0);
+        coordinator.beginLoad();
+
+        assertThrows(CancellationException.class, () -> stale.query(connection, SLOW_SQL, AnalyzerLoadCoordinatorTest::count));
+        assertEquals(0, SlowFunctions.calls.get());
+    }
+
+    @Test
+    void query_shouldApplyTheAnalyzerQueryTimeout() {
+        AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
+        AnalyzerQueryScope scope = new AnalyzerQueryScope(coordinator, coordinator.beginLoad(), 1);
+
+        long start = System.nanoTime();
+        assertThrows(SQLException.class, () -> scope.query(connection, SLOW_SQL, AnalyzerLoadCoordinatorTest::count));
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+        assertEquals(0, coordinator.liveStatementCount());
+    }
+
+    private CompletableFuture<Integer> startSlowQuery(AnalyzerQueryScope scope) {
+        CompletableFuture<Integer> load = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                load.complete(scope.query(connection, SLOW_SQL, AnalyzerLoadCoordinatorTest::count));
+            } catch (Exception ex) {
+                load.completeExceptionally(ex);
+            }
+        }, "analyzer-load-test");
+        thread.setDaemon(true);
+        thread.start();
+        return load;
+    }
+
+    private static void awaitRunning(AnalyzerLoadCoordinator coordinator) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (coordinator.liveStatementCount() == 0 || SlowFunctions.calls.get() == 0) {
+            assertTrue(System.nanoTime() < deadline, "query did not start");
+            Thread.sleep(10);
+        }
+    }
+
+    private static int count(java.sql.ResultSet resultSet) throws SQLException {
+        int rows = 0;
+        while (resultSet.next()) {
+            rows++;
+        }
+        return rows;
+    }
+
+    public static final class SlowFunctions {
+        private static final AtomicInteger calls = new AtomicInteger();
+
+        private SlowFunctions() {
+        }
+
+        public static int pause(int millis) throws InterruptedException {
+            calls.incrementAndGet();
+            Thread.sleep(millis);
+            return 1;
+        }
+    }
 }
@@ -4,11 +4,15 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AnalyzerRefreshSchedulerTest {
 
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-23T10:00:00Z"));
+
     @Test
     void manualRefresh_shouldResetTimerBaseline() {
         FakeRefreshTarget target = new FakeRefreshTarget();
@@ -23,6 +27,128 @@ class AnalyzerRefreshSchedulerTest {
         assertEquals(Instant.parse("2026-03-23T10:00:00Z"), scheduler.lastRefreshBaseline());
     }
 
+    @Test
+    void manualRefresh_shouldScheduleTheNextRefreshFromTheRefreshJustRequested() {
+        FakeRefreshTarget target = new FakeRefreshTarget();
+        AnalyzerRefreshScheduler scheduler = scheduler(target, () -> false, 0.1);
+        scheduler.setEnabled(true);
+        scheduler.setInterval(Duration.ofSeconds(30));
+        scheduler.markRefreshCompleted(clock.instant().minus(Duration.ofHours(1)));
+        assertEquals(clock.instant().plusSeconds(33), scheduler.nextRefreshAt());
+
+        clock.advance(Duration.ofSeconds(10));
+        scheduler.requestImmediateRefresh();
+
+        assertEquals(1, target.invocations);
+        assertEquals(clock.instant().plusSeconds(33), scheduler.nextRefreshAt());
+    }
+
+    @Test
+    void timerTick_shouldNotSupersedeALoadStillInFlight() {
+        FakeRefreshTarget target = new FakeRefreshTarget();
+        boolean[] loading = {true};
+        AnalyzerRefreshScheduler scheduler = scheduler(target, () -> loading[0], 0);
+        scheduler.setEnabled(true);
+        scheduler.setInterval(Duration.ofMinutes(1));
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.timerElapsed();
+        scheduler.requestImmediateRefresh();
+        loading[0] = false;
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.timerElapsed();
+
+        assertEquals(2, target.invocations);
+    }
+
+    @Test
+    void timerTick_shouldWaitUntilTheIntervalHasPassedSinceTheLastRefresh() {
+        FakeRefreshTarget target = new FakeRefreshTarget();
+        AnalyzerRefreshScheduler scheduler = scheduler(target, () -> false, 0);
+        scheduler.setEnabled(true);
+        scheduler.setInterval(Duration.ofMinutes(1));
+        scheduler.markRefreshCompleted(clock.instant(), Duration.ofSeconds(2));
+
+        clock.advance(Duration.ofSeconds(59));
+        scheduler.timerElapsed();
+        assertEquals(0, target.invocations);
+
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.timerElapsed();
+        assertEquals(1, target.invocations);
+    }
+
+    @Test
+    void slowLoads_shouldStretchTheIntervalAndShrinkItBackWhenTheyGetFaster() {
+        AnalyzerRefreshScheduler scheduler = scheduler(new FakeRefreshTarget(), () -> false, 0);
+        scheduler.setEnabled(true);
+        scheduler.setInterval(Duration.ofMinutes(1));
+
+        scheduler.markRefreshCompleted(clock.instant(), Duration.ofSeconds(15));
+        assertEquals(Duration.ofMinutes(1), scheduler.effectiveInterval());
+
+        scheduler.markRefreshCompleted(clock.instant(), Duration.ofSeconds(45));
+        assertEquals(Duration.ofSeconds(90), scheduler.effectiveInterval());
+        assertEquals(clock.instant().plusSeconds(90), scheduler.nextRefreshAt());
+
+        scheduler.markRefreshCompleted(clock.instant(), Duration.ofSeconds(2));
+        scheduler.markRefreshCompleted(clock.instant(), Duration.ofSeconds(2));
+        assertEquals(Duration.ofMinutes(1), scheduler.effectiveInterval());
+    }
+
+    @Test
+    void jitter_shouldDelayEachClientByItsOwnShareOfTheInterval() {
+        AnalyzerRefreshScheduler early = scheduler(new FakeRefreshTarget(), () -> false, 0);
+        AnalyzerRefreshScheduler late = scheduler(new FakeRefreshTarget(), () -> false, 0.1);
+        for (AnalyzerRefreshScheduler scheduler : new AnalyzerRefreshScheduler[]{early, late}) {
+            scheduler.setEnabled(true);
+            scheduler.setInterval(Duration.ofMinutes(5));
+            scheduler.markRefreshCompleted(clock.instant());
+        }
+
+        assertEquals(clock.instant().plus(Duration.ofMinutes(5)), early.nextRefreshAt());
+        assertEquals(clock.instant().plus(Duration.ofMinutes(5)).plusSeconds(30), late.nextRefreshAt());
+        assertThrows(IllegalArgumentException.class, () -> scheduler(new FakeRefreshTarget(), () -> false, 0.5));
+    }
+
+    @Test
+    void hiddenDialog_shouldPauseAndRefreshAtOnceWhenShownIfARefreshCameDue() {
+        FakeRefreshTarget target = new FakeRefreshTarget();
+        AnalyzerRefreshScheduler scheduler = scheduler(target, () -> false, 0);
+        scheduler.setEnabled(true);
+        scheduler.setInterval(Duration.ofMinutes(1));
+        scheduler.markRefreshCompleted(clock.instant());
+
+        scheduler.setShowing(false);
+        clock.advance(Duration.ofMinutes(10));
+        scheduler.timerElapsed();
+        assertEquals(0, target.invocations);
+
+        scheduler.setShowing(true);
+        assertEquals(1, target.invocations);
+    }
+
+    @Test
+    void hiddenDialog_shouldKeepItsScheduleWhenShownBeforeARefreshCameDue() {
+        FakeRefreshTarget target = new FakeRefreshTarget();
+        AnalyzerRefreshScheduler scheduler = scheduler(target, () -> false, 0);
+        scheduler.setEnabled(true);
+        scheduler.setInterval(Duration.ofMinutes(1));
+        scheduler.markRefreshCompleted(clock.instant());
+        Instant due = scheduler.nextRefreshAt();
+
+        scheduler.setShowing(false);
+        clock.advance(Duration.ofSeconds(20));
+        scheduler.setShowing(true);
+
+        assertEquals(0, target.invocations);
+        assertEquals(due, scheduler.nextRefreshAt());
+    }
+
+    private AnalyzerRefreshScheduler scheduler(FakeRefreshTarget target, BooleanSupplier loading, double jitter) {
+        return new AnalyzerRefreshScheduler(target::refreshNow, loading, clock, jitter);
+    }
+
     private static final class FakeRefreshTarget {
         private int invocations;
 
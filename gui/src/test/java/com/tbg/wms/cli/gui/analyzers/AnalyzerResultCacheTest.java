@@ -0,0 +1,185 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalyzerResultCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final AnalyzerResultCache.Key KEY = new AnalyzerResultCache.Key("db", "select 1", List.of("3002"));
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-23T10:15:00Z"));
+    private final AnalyzerResultCache cache = new AnalyzerResultCache(clock);
+
+    @Test
+    void get_shouldReuseAResultUntilItsTtlRunsOut() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        AnalyzerResultCache.Cached<Integer> first = cache.get(KEY, TTL, false, loads::incrementAndGet);
+        clock.advance(Duration.ofSeconds(29));
+        AnalyzerResultCache.Cached<Integer> reused = cache.get(KEY, TTL, false, loads::incrementAndGet);
+        clock.advance(Duration.ofSeconds(1));
+        AnalyzerResultCache.Cached<Integer> expired = cache.get(KEY, TTL, false, loads::incrementAndGet);
+
+        assertFalse(first.fromCache());
+        assertTrue(reused.fromCache());
+        assertEquals(1, (int) reused.value());
+        assertEquals(first.fetchedAt(), reused.fetchedAt());
+        assertFalse(expired.fromCache());
+        assertEquals(2, (int) expired.value());
+    }
+
+    @Test
+    void get_shouldKeepResultsForDifferentParametersApart() throws Exception {
+        AnalyzerResultCache.Key otherSite = new AnalyzerResultCache.Key("db", "select 1", List.of("3003"));
+
+        cache.get(KEY, TTL, false, () -> "3002 rows");
+
+        assertEquals("3003 rows", cache.get(otherSite, TTL, false, () -> "3003 rows").value());
+    }
+
+    @Test
+    void get_shouldRunTheQueryWhenForcedAndServeItsResultAfterwards() throws Exception {
+        cache.get(KEY, TTL, false, () -> "old");
+
+        AnalyzerResultCache.Cached<String> forced = cache.get(KEY, TTL, true, () -> "new");
+
+        assertFalse(forced.fromCache());
+        assertEquals("new", cache.get(KEY, TTL, false, () -> "unused").value());
+    }
+
+    @Test
+    void get_shouldLetConcurrentCallersJoinOneRunningQuery() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<AnalyzerResultCache.Cached<Integer>> leader = CompletableFuture.supplyAsync(() -> get(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return loads.incrementAndGet();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<AnalyzerResultCache.Cached<Integer>> joiner =
+                CompletableFuture.supplyAsync(() -> get(loads::incrementAndGet));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals(1, (int) leader.get(5, TimeUnit.SECONDS).value());
+        assertEquals(1, (int) joiner.get(5, TimeUnit.SECONDS).value());
+        assertFalse(joiner.get().fromCache(), "a joined query is as fresh as the leader's");
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldShareAFailureWithJoinedCallersButNotCacheIt() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException outage = new IllegalStateException("ORA-03113");
+        CompletableFuture<AnalyzerResultCache.Cached<Integer>> leader = CompletableFuture.supplyAsync(() -> get(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw outage;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<AnalyzerResultCache.Cached<Integer>> joiner = CompletableFuture.supplyAsync(() -> get(() -> 2));
+        Thread.sleep(100);
+        release.countDown();
+
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception joinerFailure = assertThrows(Exception.class, () -> joiner.get(5, TimeUnit.SECONDS));
+        assertSame(outage, leaderFailure.getCause().getCause());
+        assertSame(outage, joinerFailure.getCause().getCause());
+        assertEquals(3, (int) cache.get(KEY, TTL, false, () -> 3).value());
+    }
+
+    @Test
+    void get_shouldRunTheQueryAgainForJoinedCallersWhenTheLeaderIsSuperseded() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<AnalyzerResultCache.Cached<Integer>> leader = CompletableFuture.supplyAsync(() -> get(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new CancellationException("superseded");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<AnalyzerResultCache.Cached<Integer>> joiner = CompletableFuture.supplyAsync(() -> get(() -> 7));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals(7, (int) joiner.get(5, TimeUnit.SECONDS).value());
+    }
+
+    @Test
+    void get_shouldDropExpiredResults() throws Exception {
+        cache.get(KEY, TTL, false, () -> 1);
+        clock.advance(TTL);
+
+        cache.get(new AnalyzerResultCache.Key("db", "select 2", List.of()), TTL, false, () -> 2);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void query_shouldServeASecondLoadFromTheCacheAndReportItsAge() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:analyzer-cache;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create sequence if not exists query_runs");
+        }
+        String sql = "select next value for query_runs where ? = '3002'";
+        AnalyzerQueryScope firstLoad = scope(false);
+        AnalyzerQueryScope secondLoad = scope(false);
+        AnalyzerQueryScope refresh = scope(true);
+
+        long first = firstLoad.query(dataSource, sql, List.of("3002"), AnalyzerResultCacheTest::firstLong);
+        Instant fetchedAt = clock.instant();
+        clock.advance(Duration.ofSeconds(12));
+        long second = secondLoad.query(dataSource, sql, List.of("3002"), AnalyzerResultCacheTest::firstLong);
+        long refreshed = refresh.query(dataSource, sql, List.of("3002"), AnalyzerResultCacheTest::firstLong);
+
+        assertEquals(first, second);
+        assertEquals(first + 1, refreshed);
+        assertEquals(Optional.empty(), firstLoad.oldestCachedResult());
+        assertEquals(Optional.of(fetchedAt), secondLoad.oldestCachedResult());
+        assertEquals(Optional.empty(), refresh.oldestCachedResult());
+    }
+
+    // Each load comes from its own dialog, so none supersedes another.
+    private AnalyzerQueryScope scope(boolean forceRefresh) {
+        AnalyzerLoadCoordinator coordinator = new AnalyzerLoadCoordinator();
+        return new AnalyzerQueryScope(coordinator, coordinator.beginLoad(), 0, cache, TTL, forceRefresh);
+    }
+
+    private <T> AnalyzerResultCache.Cached<T> get(AnalyzerResultCache.Loader<T> loader) {
+        try {
+            return cache.get(KEY, TTL, false, loader);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long firstLong(java.sql.ResultSet resultSet) throws Exception {
+        resultSet.next();
+        return resultSet.getLong(1);
+    }
+}
@@ -0,0 +1,211 @@
+package com.tbg.wms.cli.gui.analyzers;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalyzerTableModelTest {
+
+    private static final AnalyzerColumnSet<Row> COLUMNS = () -> List.of(
+            new AnalyzerColumnSet.Column<>("Order", Row::order),
+            new AnalyzerColumnSet.Column<>("Qty", Row::qty)
+    );
+
+    @Test
+    void setRows_shouldRepaintOnlyTheRowWhoseValuesChanged() {
+        AnalyzerTableModel<Row> model = keyedModel();
+        model.setRows(rows("A:1", "B:2", "C:3"));
+        List<String> events = record(model);
+
+        model.setRows(rows("A:1", "B:5", "C:3"));
+
+        assertEquals(List.of("update 1-1"), events);
+        assertEquals(5, (int) (Integer) model.getValueAt(1, 1));
+        assertTrue(model.isRowChanged(1));
+        assertFalse(model.isRowChanged(2));
+        assertFalse(model.isRowChanged(0));
+    }
+
+    @Test
+    void setRows_shouldReportScatteredUpdatesAsOneSpanAfterInserts() {
+        AnalyzerTableModel<Row> model = keyedModel();
+        model.setRows(rows("A:1", "B:2", "C:3", "D:4"));
+        List<String> events = record(model);
+
+        model.setRows(rows("A:7", "B:2", "X:1", "C:3", "D:8"));
+
+        assertEquals(List.of("insert 2-2", "update 0-4"), events);
+        assertFalse(model.isRowChanged(1));
+        assertFalse(model.isRowChanged(3));
+        assertTrue(model.isRowChanged(4));
+    }
+
+    @Test
+    void setRows_shouldInsertAndDeleteWithoutResettingTheTable() {
+        AnalyzerTableModel<Row> model = keyedModel();
+        model.setRows(rows("A:1", "B:2", "C:3", "D:4"));
+        List<String> events = record(model);
+
+        model.setRows(rows("A:1", "X:9", "Y:9", "C:3"));
+
+        assertEquals(List.of("delete 3-3", "delete 1-1", "insert 1-2"), events);
+        assertEquals(List.of("A", "X", "Y", "C"), orders(model));
+        assertTrue(model.isRowChanged(1));
+        assertTrue(model.isRowChanged(2));
+        assertFalse(model.isRowChanged(3));
+    }
+
+    @Test
+    void setRows_shouldNotHighlightRowsWhoseHiddenFieldsChanged() {
+        AnalyzerTableModel<Row> model = keyedModel();
+        model.setRows(List.of(new Row("A", 1, "10:00")));
+        List<String> events = record(model);
+
+        model.setRows(List.of(new Row("A", 1, "10:05")));
+
+        assertEquals(List.of("update 0-0"), events);
+        assertEquals("10:05", model.rowAt(0).fetchedAt());
+        assertFalse(model.isRowChanged(0));
+    }
+
+    @Test
+    void setRows_shouldKeepOnlyTheSelectedRowWhenRowsAroundItChange() {
+        AnalyzerTableModel<Row> model = keyedModel();
+        JTable table = new JTable(model);
+        model.setRows(rows("A:1", "B:2", "C:3", "D:4"));
+        table.setRowSelectionInterval(2, 2);
+
+        AnalyzerTableSelection.setRows(table, model, rows("B:2", "Z:1", "Q:7", "C:4", "D:4"));
+
+        assertEquals(1, table.getSelectedRowCount());
+        assertEquals(3, table.getSelectedRow());
+        assertEquals("C", model.rowAt(table.getSelectedRow()).order());
+    }
+
+    @Test
+    void setRows_shouldResetTheTableWithoutRowKeysOrWithDuplicateKeys() {
+        AnalyzerTableModel<Row> unkeyed = new AnalyzerTableModel<>(COLUMNS);
+        unkeyed.setRows(rows("A:1", "B:2"));
+        List<String> unkeyedEvents = record(unkeyed);
+        unkeyed.setRows(rows("A:1", "B:3"));
+
+        AnalyzerTableModel<Row> keyed = keyedModel();
+        keyed.setRows(rows("A:1", "B:2"));
+        List<String> duplicateEvents = record(keyed);
+        keyed.setRows(rows("A:1", "A:2"));
+
+        assertEquals(List.of("reset"), unkeyedEvents);
+        assertEquals(List.of("reset"), duplicateEvents);
+        assertFalse(unkeyed.isRowChanged(1));
+    }
+
+    @Test
+    void setRows_shouldProduceEventsThatReplayToTheNewRows() {
+        Random random = new Random(22);
+        AnalyzerTableModel<Row> model = keyedModel();
+        List<Row> current = randomRows(random);
+        model.setRows(current);
+        List<Row> replayed = new ArrayList<>(current);
+        model.addTableModelListener(event -> replay(event, model, replayed));
+
+        for (int refresh = 0; refresh < 200; refresh++) {
+            List<Row> next = randomRows(random);
+            model.setRows(next);
+
+            assertEquals(next, replayed, "refresh " + refresh);
+            assertEquals(next, rowsOf(model), "refresh " + refresh);
+        }
+    }
+
+    private static AnalyzerTableModel<Row> keyedModel() {
+        return new AnalyzerTableModel<>(COLUMNS, Row::order);
+    }
+
+    private static void replay(TableModelEvent event, AnalyzerTableModel<Row> model, List<Row> replayed) {
+        int first = event.getFirstRow();
+        int last = event.getLastRow();
+        switch (event.getType()) {
+            case TableModelEvent.DELETE -> replayed.subList(first, last + 1).clear();
+            case TableModelEvent.INSERT -> {
+                for (int i = first; i <= last; i++) {
+                    replayed.add(i, model.rowAt(i));
+                }
+            }
+            default -> {
+                if (last == Integer.MAX_VALUE) {
+                    replayed.clear();
+                    replayed.addAll(rowsOf(model));
+                } else {
+                    for (int i = first; i <= last; i++) {
+                        replayed.set(i, model.rowAt(i));
+                    }
+                }
+            }
+        }
+        assertEquals(model.getRowCount(), replayed.size());
+    }
+
+    private static List<Row> randomRows(Random random) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            if (random.nextInt(4) != 0) {
+                rows.add(new Row("O" + i, random.nextInt(3), ""));
+            }
+        }
+        // Occasionally reorder a few rows, as a changed appointment would.
+        for (int swaps = random.nextInt(3); swaps > 0 && rows.size() > 1; swaps--) {
+            int from = random.nextInt(rows.size());
+            rows.add(random.nextInt(rows.size()), rows.remove(from));
+        }
+        return rows;
+    }
+
+    private static List<String> record(AnalyzerTableModel<Row> model) {
+        List<String> events = new ArrayList<>();
+        model.addTableModelListener(event -> {
+            if (event.getLastRow() == Integer.MAX_VALUE) {
+                events.add("reset");
+                return;
+            }
+            String type = switch (event.getType()) {
+                case TableModelEvent.INSERT -> "insert";
+                case TableModelEvent.DELETE -> "delete";
+                default -> "update";
+            };
+            events.add(type + " " + event.getFirstRow() + "-" + event.getLastRow());
+        });
+        return events;
+    }
+
+    private static List<Row> rows(String... values) {
+        List<Row> rows = new ArrayList<>();
+        for (String value : values) {
+            String[] parts = value.split(":");
+            rows.add(new Row(parts[0], Integer.parseInt(parts[1]), ""));
+        }
+        return rows;
+    }
+
+    private static List<Row> rowsOf(AnalyzerTableModel<Row> model) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < model.getRowCount(); i++) {
+            rows.add(model.rowAt(i));
+        }
+        return rows;
+    }
+
+    private static List<String> orders(AnalyzerTableModel<Row> model) {
+        return rowsOf(model).stream().map(Row::order).toList();
+    }
+
+    private record Row(String order, int qty, String fetchedAt) {
+    }
+}
@@ -7,9 +7,13 @@ import org.junit.jupiter.api.Test;
 
 import javax.swing.JLabel;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -44,6 +48,93 @@ class DailyOperationsDataProviderTest {
         assertEquals("boom", result.rows().get(1).errorText());
     }
 
+    @Test
+    void load_shouldPushEachSectionAsItCompletesWithBoundedConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        DailyOperationsDataProvider provider = new DailyOperationsDataProvider(List.of(
+                slowSection("Appointments", 500, running, maxRunning),
+                slowSection("Case Pick Summary", 50, running, maxRunning),
+                slowSection("Production Snapshot", 150, running, maxRunning),
+                slowSection("Storage Capacity", 150, running, maxRunning)
+        ), Duration.ofSeconds(5), 2);
+        List<String> pushed = new CopyOnWriteArrayList<>();
+
+        long start = System.nanoTime();
+        AnalyzerResult<AnalyzerDashboardSectionSnapshot> result = provider.load(context(), section -> pushed.add(section.title()));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(2, maxRunning.get());
+        assertEquals("Case Pick Summary", pushed.get(0));
+        assertEquals("Appointments", pushed.get(pushed.size() - 1));
+        assertEquals(List.of("Appointments", "Case Pick Summary", "Production Snapshot", "Storage Capacity"),
+                result.rows().stream().map(AnalyzerDashboardSectionSnapshot::title).toList());
+        // Sequential loading would take 850 ms; two lanes take about 500 ms.
+        assertTrue(elapsedMs < 800, "took " + elapsedMs + " ms");
+    }
+
+    @Test
+    void load_shouldTimeOutASlowSectionWithoutHoldingBackTheOthers() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        DailyOperationsDataProvider provider = new DailyOperationsDataProvider(List.of(
+                section("Case Pick Summary"),
+                blockingSection("Unload and Load Activity", never),
+                section("Storage Capacity")
+        ), Duration.ofMillis(200), 3);
+        List<String> pushed = new CopyOnWriteArrayList<>();
+
+        long start = System.nanoTime();
+        AnalyzerResult<AnalyzerDashboardSectionSnapshot> result = provider.load(context(), section -> pushed.add(section.title()));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("Unload and Load Activity", pushed.get(2));
+        assertFalse(result.rows().get(0).failed());
+        assertTrue(result.rows().get(1).failed());
+        assertEquals("Timed out after 200 ms.", result.rows().get(1).errorText());
+        assertFalse(result.rows().get(2).failed());
+        assertTrue(elapsedMs < 2_000, "took " + elapsedMs + " ms");
+    }
+
+    private static DailyOperationsSectionLoader slowSection(
+            String title,
+            long millis,
+            AtomicInteger running,
+            AtomicInteger maxRunning
+    ) {
+        return new DailyOperationsSectionLoader() {
+            @Override
+            public String title() {
+                return title;
+            }
+
+            @Override
+            public AnalyzerDashboardSectionSnapshot loadSection(AnalyzerContext context) throws Exception {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(millis);
+                } finally {
+                    running.decrementAndGet();
+                }
+                return AnalyzerDashboardSectionSnapshot.success(title, new JLabel(title));
+            }
+        };
+    }
+
+    private static DailyOperationsSectionLoader blockingSection(String title, CountDownLatch latch) {
+        return new DailyOperationsSectionLoader() {
+            @Override
+            public String title() {
+                return title;
+            }
+
+            @Override
+            public AnalyzerDashboardSectionSnapshot loadSection(AnalyzerContext context) throws Exception {
+                latch.await();
+                return AnalyzerDashboardSectionSnapshot.success(title, new JLabel(title));
+            }
+        };
+    }
+
     private static DailyOperationsSectionLoader section(String title) {
         return new DailyOperationsSectionLoader() {
             @Override
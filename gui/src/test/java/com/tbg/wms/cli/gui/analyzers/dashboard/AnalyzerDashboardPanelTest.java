@@ -23,4 +23,25 @@ class AnalyzerDashboardPanelTest {
         assertEquals(List.of("Case Pick Summary", "Unload and Load Activity"), panel.sectionTitlesForTest());
         assertTrue(panel.sectionErrorTextForTest("Unload and Load Activity").contains("ORA-00942"));
     }
+
+    @Test
+    void dashboardPanel_shouldKeepPreviousContentWhenASectionRefreshFails() {
+        AnalyzerDashboardPanel panel = new AnalyzerDashboardPanel();
+        panel.showSnapshot(new AnalyzerDashboardSnapshot(List.of(
+                AnalyzerDashboardSectionSnapshot.success("Case Pick Summary", new JLabel("summary")),
+                AnalyzerDashboardSectionSnapshot.success("Storage Capacity", new JLabel("storage"))
+        )));
+
+        panel.showSection(AnalyzerDashboardSectionSnapshot.failure("Storage Capacity", "Timed out after 90 s."));
+        panel.showSection(AnalyzerDashboardSectionSnapshot.success("Appointments", new JLabel("appointments")));
+
+        assertEquals(List.of("Case Pick Summary", "Storage Capacity", "Appointments"), panel.sectionTitlesForTest());
+        assertTrue(panel.sectionShowsContentForTest("Storage Capacity"));
+        assertEquals("Showing previous data. Refresh failed: Timed out after 90 s.",
+                panel.sectionErrorTextForTest("Storage Capacity"));
+        assertEquals("", panel.sectionErrorTextForTest("Case Pick Summary"));
+
+        panel.showSection(AnalyzerDashboardSectionSnapshot.success("Storage Capacity", new JLabel("storage")));
+        assertEquals("", panel.sectionErrorTextForTest("Storage Capacity"));
+    }
 }
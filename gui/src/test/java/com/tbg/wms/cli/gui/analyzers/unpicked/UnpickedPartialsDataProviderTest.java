@@ -55,7 +55,7 @@ class UnpickedPartialsDataProviderTest {
         }
 
         @Override
-        List<QueryRow> fetchRows(AppConfig config) {
+        List<QueryRow> fetchRows(AnalyzerContext context) {
             return rows;
         }
     }